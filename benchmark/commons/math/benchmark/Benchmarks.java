@@ -0,0 +1,51 @@
+/*
+ * File:    Benchmarks.java
+ * Package: commons.math.benchmark
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so that the allocation rate of each operation is reported alongside its time.<br>
+ * The arguments are the standard JMH command line options, for example a regular expression selecting the benchmarks to run.
+ */
+public final class Benchmarks {
+    
+    //Constructors
+    
+    /**
+     * The private constructor for Benchmarks.
+     */
+    private Benchmarks() {
+    }
+    
+    
+    //Main Method
+    
+    /**
+     * The main method for Benchmarks.
+     *
+     * @param args The JMH command line options.
+     * @throws Exception When the benchmarks could not be run.
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            options.include(Benchmarks.class.getPackage().getName() + ".*");
+        }
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+    
+}
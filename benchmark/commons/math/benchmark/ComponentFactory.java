@@ -0,0 +1,179 @@
+/*
+ * File:    ComponentFactory.java
+ * Package: commons.math.benchmark
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import commons.math.component.matrix.BigMatrix;
+import commons.math.component.matrix.DoubleMatrix;
+import commons.math.component.matrix.IntMatrix;
+import commons.math.component.matrix.Matrix;
+import commons.math.component.matrix.Matrix2;
+import commons.math.component.matrix.Matrix3;
+import commons.math.component.matrix.Matrix4;
+import commons.math.component.matrix.MatrixInterface;
+import commons.math.component.matrix.RawMatrix;
+import commons.math.component.vector.BigVector;
+import commons.math.component.vector.DoubleVector;
+import commons.math.component.vector.IntVector;
+import commons.math.component.vector.RawVector;
+import commons.math.component.vector.Vector;
+import commons.math.component.vector.Vector2;
+import commons.math.component.vector.Vector3;
+import commons.math.component.vector.Vector4;
+import commons.math.component.vector.VectorInterface;
+
+/**
+ * Creates the Vectors and Matrices used by the benchmarks, for each component handler.
+ */
+public final class ComponentFactory {
+    
+    //Constants
+    
+    /**
+     * The seed of the random values of the created components, so that every run benchmarks the same values.
+     */
+    public static final long SEED = 0x5EEDL;
+    
+    
+    //Enums
+    
+    /**
+     * An enumeration of the component handlers that can be benchmarked.
+     */
+    public enum Handler {
+        
+        /**
+         * Components of boxed Doubles, using the dimension specific classes where they exist.
+         */
+        DOUBLE,
+        
+        /**
+         * Components of boxed Integers.
+         */
+        INT,
+        
+        /**
+         * Components of boxed Numbers.
+         */
+        RAW,
+        
+        /**
+         * Components of BigDecimals.
+         */
+        BIG,
+        
+        /**
+         * Components of primitive doubles.
+         */
+        PRIMITIVE
+        
+    }
+    
+    
+    //Constructors
+    
+    /**
+     * The private constructor for the Component Factory.
+     */
+    private ComponentFactory() {
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Creates a Vector of random values.
+     *
+     * @param handler The component handler of the Vector.
+     * @param dim     The dimensionality of the Vector.
+     * @param random  The source of the random values.
+     * @return The Vector.
+     */
+    @SuppressWarnings("rawtypes")
+    public static VectorInterface vector(Handler handler, int dim, Random random) {
+        double[] values = values(dim, random);
+        switch (handler) {
+            case DOUBLE:
+                switch (dim) {
+                    case 2:
+                        return new Vector2(values[0], values[1]);
+                    case 3:
+                        return new Vector3(values[0], values[1], values[2]);
+                    case 4:
+                        return new Vector4(values[0], values[1], values[2], values[3]);
+                    default:
+                        return new Vector(values);
+                }
+            case INT:
+                return new IntVector(Arrays.stream(values).mapToInt(e -> (int) e).toArray());
+            case RAW:
+                return new RawVector(Arrays.stream(values).boxed().toArray(Number[]::new));
+            case BIG:
+                return new BigVector(values);
+            case PRIMITIVE:
+                return new DoubleVector(values);
+            default:
+                throw new IllegalArgumentException(handler.name());
+        }
+    }
+    
+    /**
+     * Creates an invertible Matrix of random values.<br>
+     * The Matrix is diagonally dominant, so that its determinant is never zero.
+     *
+     * @param handler The component handler of the Matrix.
+     * @param dim     The dimensionality of the Matrix.
+     * @param random  The source of the random values.
+     * @return The Matrix.
+     */
+    @SuppressWarnings("rawtypes")
+    public static MatrixInterface matrix(Handler handler, int dim, Random random) {
+        double[] values = values(dim * dim, random);
+        for (int i = 0; i < dim; i++) {
+            values[(i * dim) + i] += dim * 100;
+        }
+        
+        switch (handler) {
+            case DOUBLE:
+                switch (dim) {
+                    case 2:
+                        return new Matrix2(values);
+                    case 3:
+                        return new Matrix3(values);
+                    case 4:
+                        return new Matrix4(values);
+                    default:
+                        return new Matrix(values);
+                }
+            case INT:
+                return new IntMatrix(Arrays.stream(values).mapToInt(e -> (int) e).toArray());
+            case RAW:
+                return new RawMatrix(Arrays.stream(values).boxed().toArray(Number[]::new));
+            case BIG:
+                return new BigMatrix(values);
+            case PRIMITIVE:
+                return new DoubleMatrix(values);
+            default:
+                throw new IllegalArgumentException(handler.name());
+        }
+    }
+    
+    /**
+     * Creates random values between -100 and 100.
+     *
+     * @param count  The number of values.
+     * @param random The source of the random values.
+     * @return The values.
+     */
+    private static double[] values(int count, Random random) {
+        return random.doubles(count, -100, 100).toArray();
+    }
+    
+}
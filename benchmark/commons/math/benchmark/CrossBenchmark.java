@@ -0,0 +1,101 @@
+/*
+ * File:    CrossBenchmark.java
+ * Package: commons.math.benchmark
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import commons.math.component.vector.DoubleVector;
+import commons.math.component.vector.Vector;
+import commons.math.component.vector.Vector3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the cross product of Vectors.<br>
+ * The cross product is only defined for three dimensional Vectors, which only the Double and primitive handlers provide.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrossBenchmark {
+    
+    //Fields
+    
+    /**
+     * The component handler of the Vectors.
+     */
+    @Param({"DOUBLE", "PRIMITIVE"})
+    public ComponentFactory.Handler handler;
+    
+    /**
+     * The first Vector.
+     */
+    private Object vector1;
+    
+    /**
+     * The second Vector.
+     */
+    private Object vector2;
+    
+    /**
+     * The Vector to store the result in.
+     */
+    private Object dest;
+    
+    
+    //Methods
+    
+    /**
+     * Creates the Vectors.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(ComponentFactory.SEED);
+        vector1 = ComponentFactory.vector(handler, 3, random);
+        vector2 = ComponentFactory.vector(handler, 3, random);
+        dest = ComponentFactory.vector(handler, 3, random);
+    }
+    
+    /**
+     * Benchmarks the cross product of two Vectors.
+     *
+     * @return The cross product.
+     */
+    @Benchmark
+    public Object cross() {
+        return (handler == ComponentFactory.Handler.PRIMITIVE) ?
+               ((DoubleVector) vector1).cross((DoubleVector) vector2) :
+               ((Vector3) vector1).cross((Vector) vector2);
+    }
+    
+    /**
+     * Benchmarks the cross product of two Vectors into an existing Vector.
+     *
+     * @return The cross product.
+     */
+    @Benchmark
+    public Object crossInto() {
+        return (handler == ComponentFactory.Handler.PRIMITIVE) ?
+               ((DoubleVector) vector1).crossInto((DoubleVector) vector2, (DoubleVector) dest) :
+               ((Vector3) vector1).crossInto((Vector) vector2, (Vector) dest);
+    }
+    
+}
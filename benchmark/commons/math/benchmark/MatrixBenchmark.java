@@ -0,0 +1,143 @@
+/*
+ * File:    MatrixBenchmark.java
+ * Package: commons.math.benchmark
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import commons.math.component.matrix.MatrixInterface;
+import commons.math.component.vector.VectorInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the operations of Matrices, by dimensionality and component handler.<br>
+ * The determinant is calculated by cofactor expansion, so the dimensionalities are kept small.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class MatrixBenchmark {
+    
+    //Fields
+    
+    /**
+     * The dimensionality of the Matrices.
+     */
+    @Param({"2", "3", "4", "5"})
+    public int dim;
+    
+    /**
+     * The component handler of the Matrices.
+     */
+    @Param({"DOUBLE", "INT", "RAW", "BIG", "PRIMITIVE"})
+    public ComponentFactory.Handler handler;
+    
+    /**
+     * The first Matrix.
+     */
+    private MatrixInterface matrix1;
+    
+    /**
+     * The second Matrix.
+     */
+    private MatrixInterface matrix2;
+    
+    /**
+     * The Vector to transform.
+     */
+    private VectorInterface vector;
+    
+    
+    //Methods
+    
+    /**
+     * Creates the Matrices and the Vector.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(ComponentFactory.SEED);
+        matrix1 = ComponentFactory.matrix(handler, dim, random);
+        matrix2 = ComponentFactory.matrix(handler, dim, random);
+        vector = ComponentFactory.vector(handler, dim, random);
+    }
+    
+    /**
+     * Benchmarks the sum of two Matrices.
+     *
+     * @return The sum.
+     */
+    @Benchmark
+    public Object plus() {
+        return matrix1.plus(matrix2);
+    }
+    
+    /**
+     * Benchmarks the product of two Matrices.
+     *
+     * @return The product.
+     */
+    @Benchmark
+    public Object times() {
+        return matrix1.times(matrix2);
+    }
+    
+    /**
+     * Benchmarks the transformation of a Vector by a Matrix.
+     *
+     * @return The transformed Vector.
+     */
+    @Benchmark
+    public Object transform() {
+        return matrix1.transform(vector);
+    }
+    
+    /**
+     * Benchmarks the determinant of a Matrix.
+     *
+     * @return The determinant.
+     */
+    @Benchmark
+    public Object determinant() {
+        return matrix1.determinant();
+    }
+    
+    /**
+     * Benchmarks the inverse of a Matrix.
+     *
+     * @return The inverse.
+     */
+    @Benchmark
+    public Object inverse() {
+        return matrix1.inverse();
+    }
+    
+    /**
+     * Benchmarks solving a Matrix as a system of equations.
+     *
+     * @return The solution.
+     */
+    @Benchmark
+    public Object solveSystem() {
+        return matrix1.solveSystem(vector);
+    }
+    
+}
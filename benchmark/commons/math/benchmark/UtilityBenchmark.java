@@ -0,0 +1,181 @@
+/*
+ * File:    UtilityBenchmark.java
+ * Package: commons.math.benchmark
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import commons.math.CoordinateUtility;
+import commons.math.RotationUtility;
+import commons.math.component.matrix.DoubleMatrix;
+import commons.math.component.matrix.Matrix3;
+import commons.math.component.vector.DoubleVector;
+import commons.math.component.vector.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the rotation and coordinate conversion utilities.<br>
+ * Rotations are provided for the Double and primitive handlers, and coordinate conversions only for the Double handler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilityBenchmark {
+    
+    //Fields
+    
+    /**
+     * The component handler of the rotations.
+     */
+    @Param({"DOUBLE", "PRIMITIVE"})
+    public ComponentFactory.Handler handler;
+    
+    /**
+     * The roll, pitch and yaw angles of the rotation.
+     */
+    private double roll, pitch, yaw;
+    
+    /**
+     * The rotation Matrix.
+     */
+    private Matrix3 rotationMatrix;
+    
+    /**
+     * The primitive rotation Matrix.
+     */
+    private DoubleMatrix doubleRotationMatrix;
+    
+    /**
+     * The Vector to rotate and convert.
+     */
+    private Vector vector;
+    
+    /**
+     * The center to rotate about.
+     */
+    private Vector center;
+    
+    /**
+     * The primitive Vector to rotate.
+     */
+    private DoubleVector doubleVector;
+    
+    /**
+     * The primitive center to rotate about.
+     */
+    private DoubleVector doubleCenter;
+    
+    
+    //Methods
+    
+    /**
+     * Creates the angles and Vectors.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(ComponentFactory.SEED);
+        roll = random.nextDouble() * Math.PI * 2;
+        pitch = random.nextDouble() * Math.PI * 2;
+        yaw = random.nextDouble() * Math.PI * 2;
+        rotationMatrix = RotationUtility.getRotationMatrix(roll, pitch, yaw);
+        doubleRotationMatrix = RotationUtility.getDoubleRotationMatrix(roll, pitch, yaw);
+        
+        vector = (Vector) ComponentFactory.vector(ComponentFactory.Handler.DOUBLE, 3, random);
+        center = (Vector) ComponentFactory.vector(ComponentFactory.Handler.DOUBLE, 3, random);
+        doubleVector = new DoubleVector(vector);
+        doubleCenter = new DoubleVector(center);
+    }
+    
+    /**
+     * Benchmarks the calculation of a rotation Matrix.
+     *
+     * @return The rotation Matrix.
+     */
+    @Benchmark
+    public Object getRotationMatrix() {
+        return (handler == ComponentFactory.Handler.PRIMITIVE) ?
+               RotationUtility.getDoubleRotationMatrix(roll, pitch, yaw) :
+               RotationUtility.getRotationMatrix(roll, pitch, yaw);
+    }
+    
+    /**
+     * Benchmarks the rotation of a Vector about a center.
+     *
+     * @return The rotated Vector.
+     */
+    @Benchmark
+    public Object performRotation() {
+        return (handler == ComponentFactory.Handler.PRIMITIVE) ?
+               RotationUtility.performRotation(doubleVector, doubleRotationMatrix, doubleCenter) :
+               RotationUtility.performRotation(vector, rotationMatrix, center);
+    }
+    
+    /**
+     * Benchmarks the conversion of a Vector from cartesian to spherical coordinates.
+     *
+     * @return The Vector in spherical coordinates.
+     */
+    @Benchmark
+    public Object cartesianToSpherical() {
+        return CoordinateUtility.cartesianToSpherical(vector);
+    }
+    
+    /**
+     * Benchmarks the conversion of a Vector from spherical to cartesian coordinates.
+     *
+     * @return The Vector in cartesian coordinates.
+     */
+    @Benchmark
+    public Object sphericalToCartesian() {
+        return CoordinateUtility.sphericalToCartesian(vector);
+    }
+    
+    /**
+     * Benchmarks the conversion of a Vector from cartesian to cylindrical coordinates.
+     *
+     * @return The Vector in cylindrical coordinates.
+     */
+    @Benchmark
+    public Object cartesianToCylindrical() {
+        return CoordinateUtility.cartesianToCylindrical(vector);
+    }
+    
+    /**
+     * Benchmarks the conversion of a Vector from cylindrical to cartesian coordinates.
+     *
+     * @return The Vector in cartesian coordinates.
+     */
+    @Benchmark
+    public Object cylindricalToCartesian() {
+        return CoordinateUtility.cylindricalToCartesian(vector);
+    }
+    
+    /**
+     * Benchmarks the conversion of a Vector between coordinate systems through the generic conversion.
+     *
+     * @return The converted Vector.
+     */
+    @Benchmark
+    public Object convert() {
+        return CoordinateUtility.convert(CoordinateUtility.CoordinateSystem.CARTESIAN, CoordinateUtility.CoordinateSystem.SPHERICAL, vector);
+    }
+    
+}
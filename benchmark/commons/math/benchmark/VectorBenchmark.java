@@ -0,0 +1,105 @@
+/*
+ * File:    VectorBenchmark.java
+ * Package: commons.math.benchmark
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import commons.math.component.vector.VectorInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the operations of Vectors, by dimensionality and component handler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class VectorBenchmark {
+    
+    //Fields
+    
+    /**
+     * The dimensionality of the Vectors.
+     */
+    @Param({"2", "3", "4", "16"})
+    public int dim;
+    
+    /**
+     * The component handler of the Vectors.
+     */
+    @Param({"DOUBLE", "INT", "RAW", "BIG", "PRIMITIVE"})
+    public ComponentFactory.Handler handler;
+    
+    /**
+     * The first Vector.
+     */
+    private VectorInterface vector1;
+    
+    /**
+     * The second Vector.
+     */
+    private VectorInterface vector2;
+    
+    
+    //Methods
+    
+    /**
+     * Creates the Vectors.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(ComponentFactory.SEED);
+        vector1 = ComponentFactory.vector(handler, dim, random);
+        vector2 = ComponentFactory.vector(handler, dim, random);
+    }
+    
+    /**
+     * Benchmarks the sum of two Vectors.
+     *
+     * @return The sum.
+     */
+    @Benchmark
+    public Object plus() {
+        return vector1.plus(vector2);
+    }
+    
+    /**
+     * Benchmarks the dot product of two Vectors.
+     *
+     * @return The dot product.
+     */
+    @Benchmark
+    public Object dot() {
+        return vector1.dot(vector2);
+    }
+    
+    /**
+     * Benchmarks the normalization of a Vector.
+     *
+     * @return The normalized Vector.
+     */
+    @Benchmark
+    public Object normalize() {
+        return vector1.normalize();
+    }
+    
+}
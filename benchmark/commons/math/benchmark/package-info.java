@@ -0,0 +1,10 @@
+/*
+ * File:    package-info.java
+ * Package: commons.math.benchmark
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ *
+ * Contains JMH benchmarks of the math component classes.
+ */
+
+package commons.math.benchmark;
@@ -0,0 +1,559 @@
+/*
+ * File:    FrameBenchmark.java
+ * Package: graphy.benchmark
+ * Author:  Zachary Gill
+ */
+
+package graphy.benchmark;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import graphy.camera.Camera;
+import graphy.main.Environment;
+import graphy.main.Environment2D;
+import graphy.main.EnvironmentBase;
+import graphy.main.FrameMetrics;
+import graphy.object.base.Drawing;
+import graphy.object.base.Scene;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+/**
+ * Renders the stock Scenes and Drawings headlessly for a fixed number of frames and reports their frame rate, phase times and allocation per frame.<br>
+ * Each Scene or Drawing is run in its own Java Virtual Machine, since only one Environment can exist per Java Virtual Machine,
+ * with a fixed random seed, a fixed simulated timestep and, for Scenes, a fixed orbit of the Camera, so that runs are comparable.
+ * The results are written as JSON, and can be compared against the results of an earlier run to detect regressions.
+ * <p>
+ * Usage: FrameBenchmark [--frames N] [--warmup N] [--seed N] [--timestep MS] [--size WxH] [--output FILE] [--baseline FILE] [--tolerance PERCENT] [CLASS...]
+ */
+public final class FrameBenchmark {
+    
+    //Constants
+    
+    /**
+     * The Scenes that are benchmarked by default.
+     */
+    public static final List<String> SCENES = Arrays.asList(
+            "graphy.main.scene.CubeField",
+            "graphy.main.scene.SphereField",
+            "graphy.main.scene.PolyhedraExplosion",
+            "graphy.main.scene.MapPanningDemo",
+            "graphy.main.scene.RubiksCube",
+            "graphy.main.scene.CubeFractal");
+    
+    /**
+     * The Drawings that are benchmarked by default.
+     */
+    public static final List<String> DRAWINGS = Arrays.asList(
+            "graphy.main.drawing.Mandelbrot",
+            "graphy.main.drawing.MandelbrotOld",
+            "graphy.main.drawing.PrimordialParticleSystem",
+            "graphy.main.drawing.Spirograph");
+    
+    /**
+     * The default number of measured frames.
+     */
+    public static final int DEFAULT_FRAMES = 300;
+    
+    /**
+     * The default number of warmup frames, which are rendered before measuring.
+     */
+    public static final int DEFAULT_WARMUP = 60;
+    
+    /**
+     * The default random seed.
+     */
+    public static final long DEFAULT_SEED = 1L;
+    
+    /**
+     * The default simulated timestep between frames in milliseconds.
+     */
+    public static final long DEFAULT_TIMESTEP = 1000L / EnvironmentBase.MAX_FPS;
+    
+    /**
+     * The default width of the rendered frames.
+     */
+    public static final int DEFAULT_WIDTH = 1280;
+    
+    /**
+     * The default height of the rendered frames.
+     */
+    public static final int DEFAULT_HEIGHT = 720;
+    
+    /**
+     * The default file to write the results to.
+     */
+    public static final File DEFAULT_OUTPUT = new File(FrameMetrics.METRICS_DIR, "benchmark.json");
+    
+    /**
+     * The default percentage by which a result may be worse than the baseline before it is reported as a regression.
+     */
+    public static final double DEFAULT_TOLERANCE = 10.0;
+    
+    /**
+     * The maximum time to wait for a single Scene or Drawing to be benchmarked in minutes.
+     */
+    public static final long TIMEOUT = 10;
+    
+    
+    //Fields
+    
+    /**
+     * The number of measured frames.
+     */
+    private int frames = DEFAULT_FRAMES;
+    
+    /**
+     * The number of warmup frames.
+     */
+    private int warmup = DEFAULT_WARMUP;
+    
+    /**
+     * The random seed.
+     */
+    private long seed = DEFAULT_SEED;
+    
+    /**
+     * The simulated timestep between frames in milliseconds.
+     */
+    private long timestep = DEFAULT_TIMESTEP;
+    
+    /**
+     * The width of the rendered frames.
+     */
+    private int width = DEFAULT_WIDTH;
+    
+    /**
+     * The height of the rendered frames.
+     */
+    private int height = DEFAULT_HEIGHT;
+    
+    /**
+     * The file to write the results to.
+     */
+    private File output = DEFAULT_OUTPUT;
+    
+    /**
+     * The file containing the baseline results to compare against, or null if the results are not compared.
+     */
+    private File baseline = null;
+    
+    /**
+     * The percentage by which a result may be worse than the baseline before it is reported as a regression.
+     */
+    private double tolerance = DEFAULT_TOLERANCE;
+    
+    /**
+     * The classes of the Scenes and Drawings to benchmark.
+     */
+    private final List<String> classes = new ArrayList<>();
+    
+    
+    //Main Method
+    
+    /**
+     * The main method for the Frame Benchmark.
+     *
+     * @param args The arguments to the main method.
+     * @throws Exception When the benchmark could not be run.
+     */
+    public static void main(String[] args) throws Exception {
+        if ((args.length >= 3) && args[0].equals("--child")) {
+            FrameBenchmark benchmark = new FrameBenchmark(Arrays.copyOfRange(args, 3, args.length));
+            benchmark.runChild(args[1], new File(args[2]));
+            System.exit(0);
+        }
+        
+        FrameBenchmark benchmark = new FrameBenchmark(args);
+        System.exit(benchmark.run() ? 0 : 1);
+    }
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Frame Benchmark.
+     *
+     * @param args The command line arguments.
+     * @throws IllegalArgumentException When an argument is invalid.
+     */
+    private FrameBenchmark(String[] args) throws IllegalArgumentException {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--frames":
+                    frames = Integer.parseInt(args[++i]);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--timestep":
+                    timestep = Long.parseLong(args[++i]);
+                    break;
+                case "--size":
+                    String[] size = args[++i].split("x");
+                    width = Integer.parseInt(size[0]);
+                    height = Integer.parseInt(size[1]);
+                    break;
+                case "--output":
+                    output = new File(args[++i]);
+                    break;
+                case "--baseline":
+                    baseline = new File(args[++i]);
+                    break;
+                case "--tolerance":
+                    tolerance = Double.parseDouble(args[++i]);
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    classes.add(args[i].contains(".") ? args[i] : resolveClass(args[i]));
+            }
+        }
+        
+        if (classes.isEmpty()) {
+            classes.addAll(SCENES);
+            classes.addAll(DRAWINGS);
+        }
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Benchmarks each of the Scenes and Drawings in its own Java Virtual Machine, writes the results, and compares them against the baseline.
+     *
+     * @return Whether every Scene and Drawing was benchmarked without regressing from the baseline or not.
+     * @throws Exception When the results could not be written or the baseline could not be read.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean run() throws Exception {
+        JSONObject results = new JSONObject();
+        boolean success = true;
+        
+        for (String clazz : classes) {
+            String name = clazz.substring(clazz.lastIndexOf('.') + 1);
+            System.out.println("Benchmarking " + name + "...");
+            
+            JSONObject result = fork(clazz);
+            if (result == null) {
+                System.out.println("    FAILED");
+                success = false;
+                continue;
+            }
+            results.put(name, result);
+            System.out.println(String.format(Locale.ROOT, "    %8.2f fps  frame p50 %7.2f ms  p99 %7.2f ms  %10d bytes/frame",
+                    number(result, "fps"), number(metric(result, FrameMetrics.Metric.FRAME), "p50") / 1000000.0,
+                    number(metric(result, FrameMetrics.Metric.FRAME), "p99") / 1000000.0, (long) number(metric(result, FrameMetrics.Metric.ALLOCATED), "p50")));
+        }
+        
+        JSONObject report = new JSONObject();
+        report.put("java", System.getProperty("java.version"));
+        report.put("frames", frames);
+        report.put("warmup", warmup);
+        report.put("seed", seed);
+        report.put("timestep", timestep);
+        report.put("width", width);
+        report.put("height", height);
+        report.put("results", results);
+        
+        File dir = output.getAbsoluteFile().getParentFile();
+        if ((dir != null) && !dir.exists() && !dir.mkdirs()) {
+            throw new IllegalStateException("Could not create the directory: " + dir);
+        }
+        Files.write(output.toPath(), report.toJSONString().getBytes(StandardCharsets.UTF_8));
+        System.out.println("Results written to " + output.getPath());
+        
+        if (baseline != null) {
+            success &= compare(results, (JSONObject) ((JSONObject) parse(baseline)).get("results"));
+        }
+        return success;
+    }
+    
+    /**
+     * Benchmarks a Scene or Drawing in a new Java Virtual Machine.
+     *
+     * @param clazz The class of the Scene or Drawing.
+     * @return The result of the benchmark, or null if it failed.
+     * @throws Exception When the Java Virtual Machine could not be started.
+     */
+    private JSONObject fork(String clazz) throws Exception {
+        File resultFile = File.createTempFile("frame-benchmark", ".json");
+        resultFile.deleteOnExit();
+        
+        List<String> command = new ArrayList<>();
+        command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+        command.add("-Djava.awt.headless=true");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(FrameBenchmark.class.getName());
+        command.addAll(Arrays.asList("--child", clazz, resultFile.getPath()));
+        command.addAll(Arrays.asList("--frames", String.valueOf(frames), "--warmup", String.valueOf(warmup), "--seed", String.valueOf(seed),
+                "--timestep", String.valueOf(timestep), "--size", width + "x" + height));
+        
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        if (!process.waitFor(TIMEOUT, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            return null;
+        }
+        if ((process.exitValue() != 0) || (resultFile.length() == 0)) {
+            return null;
+        }
+        return (JSONObject) parse(resultFile);
+    }
+    
+    /**
+     * Benchmarks a Scene or Drawing in the current Java Virtual Machine and writes the result.
+     *
+     * @param clazz      The class of the Scene or Drawing.
+     * @param resultFile The file to write the result to.
+     * @throws Exception When the Scene or Drawing could not be benchmarked.
+     */
+    @SuppressWarnings("unchecked")
+    private void runChild(String clazz, File resultFile) throws Exception {
+        EnvironmentBase.setRandomSeed(seed);
+        EnvironmentBase.enableFrameMetrics = true;
+        
+        Class<?> type = Class.forName(clazz);
+        EnvironmentBase environment;
+        Camera camera = null;
+        
+        if (Scene.class.isAssignableFrom(type)) {
+            Environment environment3D = new Environment();
+            environment3D.setup();
+            environment3D.setSize(width, height);
+            Scene.loadScene(type.asSubclass(Scene.class), environment3D);
+            
+            environment = environment3D;
+            camera = Camera.getActiveCameraView(environment3D.perspective);
+            
+        } else if (Drawing.class.isAssignableFrom(type)) {
+            Environment2D environment2D = new Environment2D();
+            environment2D.setup();
+            environment2D.setSize(width, height);
+            Drawing.loadDrawing(type.asSubclass(Drawing.class), environment2D);
+            
+            environment = environment2D;
+            
+        } else {
+            throw new IllegalArgumentException(clazz + " is not a Scene or a Drawing");
+        }
+        
+        CameraPath cameraPath = (camera == null) ? null : new CameraPath(camera, warmup + frames);
+        for (int frame = 0; frame < warmup; frame++) {
+            renderFrame(environment, cameraPath, frame);
+        }
+        
+        FrameMetrics.reset();
+        long start = System.nanoTime();
+        for (int frame = warmup; frame < (warmup + frames); frame++) {
+            renderFrame(environment, cameraPath, frame);
+        }
+        long elapsed = System.nanoTime() - start;
+        EnvironmentBase.enableFrameMetrics = false; //the result is written below rather than exported on shutdown
+        
+        JSONObject metrics = new JSONObject();
+        for (FrameMetrics.Metric metric : FrameMetrics.Metric.values()) {
+            FrameMetrics.Summary summary = FrameMetrics.summarize(metric);
+            JSONObject entry = new JSONObject();
+            entry.put("p50", summary.p50);
+            entry.put("p99", summary.p99);
+            entry.put("max", summary.max);
+            entry.put("mean", summary.mean);
+            metrics.put(metric.getName(), entry);
+        }
+        
+        JSONObject result = new JSONObject();
+        result.put("class", clazz);
+        result.put("frames", frames);
+        result.put("fps", frames / (elapsed / 1000000000.0));
+        result.put("metrics", metrics);
+        Files.write(resultFile.toPath(), result.toJSONString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Renders a frame of the Environment at the simulated time of the frame.
+     *
+     * @param environment The Environment.
+     * @param cameraPath  The path of the Camera, or null if the Camera is not moved.
+     * @param frame       The index of the frame.
+     */
+    private void renderFrame(EnvironmentBase environment, CameraPath cameraPath, int frame) {
+        if (cameraPath != null) {
+            cameraPath.move(frame);
+        }
+        environment.renderFrame(frame * timestep);
+    }
+    
+    /**
+     * Compares results against baseline results and prints the differences.<br>
+     * A result regresses when its frame rate is lower, or its 99th percentile frame time is higher, than the baseline by more than the tolerance.
+     *
+     * @param results  The results.
+     * @param baseline The baseline results.
+     * @return Whether none of the results regressed or not.
+     */
+    private boolean compare(JSONObject results, JSONObject baseline) {
+        System.out.println(String.format(Locale.ROOT, "Comparing against baseline (tolerance %.1f%%)", tolerance));
+        boolean success = true;
+        
+        for (Object key : results.keySet()) {
+            JSONObject result = (JSONObject) results.get(key);
+            JSONObject base = (baseline == null) ? null : (JSONObject) baseline.get(key);
+            if (base == null) {
+                System.out.println("    " + key + ": no baseline");
+                continue;
+            }
+            
+            double fpsChange = change(number(base, "fps"), number(result, "fps"));
+            double p99Change = change(number(metric(base, FrameMetrics.Metric.FRAME), "p99"), number(metric(result, FrameMetrics.Metric.FRAME), "p99"));
+            double allocationChange = change(number(metric(base, FrameMetrics.Metric.ALLOCATED), "p50"), number(metric(result, FrameMetrics.Metric.ALLOCATED), "p50"));
+            boolean regressed = (fpsChange < -tolerance) || (p99Change > tolerance);
+            success &= !regressed;
+            
+            System.out.println(String.format(Locale.ROOT, "    %-26s fps %+7.1f%%  frame p99 %+7.1f%%  bytes/frame %+7.1f%%%s",
+                    key + ":", fpsChange, p99Change, allocationChange, regressed ? "  REGRESSION" : ""));
+        }
+        return success;
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Resolves the simple name of a Scene or Drawing to its class.
+     *
+     * @param name The simple name.
+     * @return The class name.
+     * @throws IllegalArgumentException When there is no stock Scene or Drawing with that name.
+     */
+    private static String resolveClass(String name) throws IllegalArgumentException {
+        for (String prefix : Arrays.asList("graphy.main.scene.", "graphy.main.drawing.")) {
+            try {
+                Class.forName(prefix + name, false, FrameBenchmark.class.getClassLoader());
+                return prefix + name;
+            } catch (ClassNotFoundException ignored) {
+            }
+        }
+        throw new IllegalArgumentException("Unknown Scene or Drawing: " + name);
+    }
+    
+    /**
+     * Parses a JSON file.
+     *
+     * @param file The file.
+     * @return The parsed JSON.
+     * @throws Exception When the file could not be read or parsed.
+     */
+    private static Object parse(File file) throws Exception {
+        try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+            return new JSONParser().parse(reader);
+        }
+    }
+    
+    /**
+     * Returns the summary of a Metric from a result.
+     *
+     * @param result The result.
+     * @param metric The Metric.
+     * @return The summary of the Metric.
+     */
+    private static JSONObject metric(JSONObject result, FrameMetrics.Metric metric) {
+        return (JSONObject) ((JSONObject) result.get("metrics")).get(metric.getName());
+    }
+    
+    /**
+     * Returns a number from a JSON object.
+     *
+     * @param json The JSON object.
+     * @param key  The key of the number.
+     * @return The number, or 0 if the JSON object does not contain a number with that key.
+     */
+    private static double number(JSONObject json, String key) {
+        Object value = (json == null) ? null : json.get(key);
+        return (value instanceof Number) ? ((Number) value).doubleValue() : 0.0;
+    }
+    
+    /**
+     * Calculates the percentage change from a baseline value to a value.
+     *
+     * @param base  The baseline value.
+     * @param value The value.
+     * @return The percentage change.
+     */
+    private static double change(double base, double value) {
+        return (base == 0) ? 0.0 : (((value - base) / base) * 100.0);
+    }
+    
+    
+    //Inner Classes
+    
+    /**
+     * Defines a fixed path of the Camera, which orbits the Camera once around its starting location over the frames of the benchmark.
+     */
+    private static class CameraPath {
+        
+        //Fields
+        
+        /**
+         * The Camera.
+         */
+        private final Camera camera;
+        
+        /**
+         * The starting rho, theta and phi of the Camera.
+         */
+        private final double rho, theta, phi;
+        
+        /**
+         * The number of frames of the Camera Path.
+         */
+        private final int frames;
+        
+        
+        //Constructors
+        
+        /**
+         * The constructor for a Camera Path.
+         *
+         * @param camera The Camera.
+         * @param frames The number of frames of the Camera Path.
+         */
+        CameraPath(Camera camera, int frames) {
+            this.camera = camera;
+            this.rho = camera.getLocation().getRawX();
+            this.theta = camera.getLocation().getRawY();
+            this.phi = camera.getLocation().getRawZ();
+            this.frames = Math.max(1, frames);
+        }
+        
+        
+        //Methods
+        
+        /**
+         * Moves the Camera to its location for a frame.
+         *
+         * @param frame The index of the frame.
+         */
+        void move(int frame) {
+            camera.setLocation(rho, theta + ((2 * Math.PI * frame) / frames), phi);
+        }
+        
+    }
+    
+}
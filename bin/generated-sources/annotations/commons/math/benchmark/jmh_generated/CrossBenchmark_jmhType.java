@@ -0,0 +1,4 @@
+package commons.math.benchmark.jmh_generated;
+public class CrossBenchmark_jmhType extends CrossBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package commons.math.benchmark.jmh_generated;
+public class MatrixBenchmark_jmhType extends MatrixBenchmark_jmhType_B3 {
+}
+
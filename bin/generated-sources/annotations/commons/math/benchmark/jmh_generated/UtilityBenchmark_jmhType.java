@@ -0,0 +1,4 @@
+package commons.math.benchmark.jmh_generated;
+public class UtilityBenchmark_jmhType extends UtilityBenchmark_jmhType_B3 {
+}
+
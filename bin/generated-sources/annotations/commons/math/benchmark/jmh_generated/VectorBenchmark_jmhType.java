@@ -0,0 +1,4 @@
+package commons.math.benchmark.jmh_generated;
+public class VectorBenchmark_jmhType extends VectorBenchmark_jmhType_B3 {
+}
+
@@ -7,22 +7,16 @@
 
 package commons.graphics;
 
-import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.Point;
-import java.awt.Shape;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.Stack;
+import java.util.stream.IntStream;
 
-import commons.math.BoundUtility;
 import commons.math.component.matrix.Matrix;
 import commons.math.component.matrix.Matrix3;
-import commons.math.component.vector.IntVector;
 import commons.math.component.vector.Vector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +34,22 @@ public class ImageTransformationUtility {
     private static final Logger logger = LoggerFactory.getLogger(ImageTransformationUtility.class);
     
     
+    //Constants
+    
+    /**
+     * The number of pixels along a row between calculations of the footprint of a pixel in a mipmapped source.
+     */
+    private static final int FOOTPRINT_SPACING = 8;
+    
+    
+    //Static Fields
+    
+    /**
+     * The image used by each thread to hold the result of a transformation before it is drawn to a destination graphics.
+     */
+    private static final ThreadLocal<BufferedImage> patch = new ThreadLocal<>();
+    
+    
     //Functions
     
     /**
@@ -49,11 +59,12 @@ public class ImageTransformationUtility {
      * @param srcBounds  The bounds from the source image of the quad to transform.
      * @param dest       The destination image.
      * @param destBounds The bounds from the destination image of the quad to place the result of the transformation.
+     * @see #transformImage(Texture, List, BufferedImage, List, Texture.Filter)
      */
     public static void transformImage(BufferedImage src, List<Vector> srcBounds, BufferedImage dest, List<Vector> destBounds) {
-        Graphics2D destGraphics = dest.createGraphics();
-        transformImage(src, srcBounds, destGraphics, dest.getWidth(), dest.getHeight(), destBounds);
-        DrawUtility.dispose(destGraphics);
+        if (src != null) {
+            transformImage(new Texture(src, false, false), srcBounds, dest, destBounds, Texture.Filter.NEAREST);
+        }
     }
     
     /**
@@ -65,72 +76,254 @@ public class ImageTransformationUtility {
      * @param destWidth  The width of the destination graphics.
      * @param destHeight The height of the destination graphics.
      * @param destBounds The bounds from the destination graphics of the quad to place the result of the transformation.
+     * @see #transformImage(Texture, List, Graphics2D, int, int, List, Texture.Filter)
      */
-    @SuppressWarnings("IntegerDivisionInFloatingPointContext")
     public static void transformImage(BufferedImage src, List<Vector> srcBounds, Graphics2D dest, int destWidth, int destHeight, List<Vector> destBounds) {
-        if ((src == null) || (srcBounds == null) || (dest == null) || (destBounds == null) ||
-                (srcBounds.size() != 4) || (destBounds.size() != 4)) {
+        if (src != null) {
+            transformImage(new Texture(src, false, false), srcBounds, dest, destWidth, destHeight, destBounds, Texture.Filter.NEAREST);
+        }
+    }
+    
+    /**
+     * Performs a quad to quad image transformation.<br>
+     * If the destination image has an integer RGB raster the result is written directly into it.
+     *
+     * @param src        The source Texture.
+     * @param srcBounds  The bounds from the source Texture of the quad to transform.
+     * @param dest       The destination image.
+     * @param destBounds The bounds from the destination image of the quad to place the result of the transformation.
+     * @param filter     The Filter to sample the source Texture with.
+     */
+    public static void transformImage(Texture src, List<Vector> srcBounds, BufferedImage dest, List<Vector> destBounds, Texture.Filter filter) {
+        if (dest == null) {
+            return;
+        }
+        if ((dest.getType() != BufferedImage.TYPE_INT_RGB) && (dest.getType() != BufferedImage.TYPE_INT_ARGB)) {
+            Graphics2D destGraphics = dest.createGraphics();
+            transformImage(src, srcBounds, destGraphics, dest.getWidth(), dest.getHeight(), destBounds, filter);
+            DrawUtility.dispose(destGraphics);
             return;
         }
         
-        Matrix projectiveMatrix = calculateProjectiveMatrix(srcBounds, destBounds);
-        if (projectiveMatrix == null) {
+        Matrix projectiveMatrix = calculateTransformation(src, srcBounds, destBounds);
+        int[] area = calculateArea(destBounds, dest.getWidth(), dest.getHeight());
+        if ((projectiveMatrix == null) || (area == null)) {
             return;
         }
         
-        final int filterColor = new Color(0, 255, 0).getRGB();
+        int[] destData = ((DataBufferInt) dest.getRaster().getDataBuffer()).getData();
+        mapQuad(src, filter, projectiveMatrix, destBounds, destData, dest.getWidth(), 0, 0, area);
+    }
+    
+    /**
+     * Performs a quad to quad image transformation.<br>
+     * The result is written to an image the size of the destination quad, which is then drawn to the destination graphics.
+     *
+     * @param src        The source Texture.
+     * @param srcBounds  The bounds from the source Texture of the quad to transform.
+     * @param dest       The destination graphics.
+     * @param destWidth  The width of the destination graphics.
+     * @param destHeight The height of the destination graphics.
+     * @param destBounds The bounds from the destination graphics of the quad to place the result of the transformation.
+     * @param filter     The Filter to sample the source Texture with.
+     */
+    public static void transformImage(Texture src, List<Vector> srcBounds, Graphics2D dest, int destWidth, int destHeight, List<Vector> destBounds, Texture.Filter filter) {
+        Matrix projectiveMatrix = calculateTransformation(src, srcBounds, destBounds);
+        int[] area = calculateArea(destBounds, destWidth, destHeight);
+        if ((dest == null) || (projectiveMatrix == null) || (area == null)) {
+            return;
+        }
+        
+        int width = area[2] - area[0] + 1;
+        int height = area[3] - area[1] + 1;
+        BufferedImage patchImage = patch.get();
+        if ((patchImage == null) || (patchImage.getWidth() < width) || (patchImage.getHeight() < height)) {
+            patchImage = new BufferedImage(Math.max(width, (patchImage == null) ? 0 : patchImage.getWidth()),
+                    Math.max(height, (patchImage == null) ? 0 : patchImage.getHeight()), BufferedImage.TYPE_INT_ARGB);
+            patch.set(patchImage);
+        }
+        
+        int[] patchData = ((DataBufferInt) patchImage.getRaster().getDataBuffer()).getData();
+        int patchWidth = patchImage.getWidth();
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(patchData, y * patchWidth, (y * patchWidth) + width, 0);
+        }
+        mapQuad(src, filter, projectiveMatrix, destBounds, patchData, patchWidth, area[0], area[1], area);
+        
+        dest.drawImage(patchImage,
+                area[0], area[1], area[0] + width, area[1] + height,
+                0, 0, width, height,
+                null);
+    }
+    
+    /**
+     * Calculates the projective matrix that maps the destination of a quad to quad image transformation to its source.
+     *
+     * @param src        The source Texture.
+     * @param srcBounds  The bounds from the source Texture of the quad to transform.
+     * @param destBounds The bounds from the destination of the quad to place the result of the transformation.
+     * @return The projective matrix, or null if the transformation is invalid.
+     */
+    private static Matrix calculateTransformation(Texture src, List<Vector> srcBounds, List<Vector> destBounds) {
+        if ((src == null) || (srcBounds == null) || (destBounds == null) ||
+                (srcBounds.size() != 4) || (destBounds.size() != 4)) {
+            return null;
+        }
+        return calculateProjectiveMatrix(srcBounds, destBounds);
+    }
+    
+    /**
+     * Calculates the area of the destination covered by a quad.
+     *
+     * @param destBounds The bounds from the destination of the quad.
+     * @param destWidth  The width of the destination.
+     * @param destHeight The height of the destination.
+     * @return The left, top, right, and bottom pixels of the area, or null if the quad does not cover any pixels of the destination.
+     */
+    private static int[] calculateArea(List<Vector> destBounds, int destWidth, int destHeight) {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (Vector v : destBounds) {
+            minX = Math.min(minX, v.getRawX());
+            minY = Math.min(minY, v.getRawY());
+            maxX = Math.max(maxX, v.getRawX());
+            maxY = Math.max(maxY, v.getRawY());
+        }
         
-        BufferedImage maskImage = new BufferedImage(destWidth, destHeight, BufferedImage.TYPE_INT_RGB);
-        IntVector maskCenter = new IntVector(Vector.averageVector(destBounds));
+        int[] area = new int[] {
+                (int) Math.max(0, Math.ceil(minX - 0.5)),
+                (int) Math.max(0, Math.ceil(minY - 0.5)),
+                (int) Math.min(destWidth - 1, Math.floor(maxX - 0.5)),
+                (int) Math.min(destHeight - 1, Math.floor(maxY - 0.5))};
+        return ((area[2] < area[0]) || (area[3] < area[1])) ? null : area;
+    }
+    
+    /**
+     * Maps the pixels covered by a quad from the source image.<br>
+     * Each row of the area is scanned in parallel, the spans of the row inside the quad are found from the edges of the quad,
+     * and the homogeneous source coordinates are stepped incrementally along each span.
+     * A pixel is covered if its center is inside the quad.
+     * When the Filter is mipmapped, the footprint of the pixels in the source is found from the derivatives of the projection, at intervals along each span.
+     *
+     * @param src              The source Texture.
+     * @param filter           The Filter to sample the source Texture with.
+     * @param projectiveMatrix The projective matrix that maps the destination to the source.
+     * @param destBounds       The bounds from the destination of the quad.
+     * @param destData         The raster to write the result to.
+     * @param destStride       The width of the raster to write the result to.
+     * @param originX          The x coordinate of the destination at the start of the raster.
+     * @param originY          The y coordinate of the destination at the start of the raster.
+     * @param area             The left, top, right, and bottom pixels of the destination to map.
+     */
+    private static void mapQuad(Texture src, Texture.Filter filter, Matrix projectiveMatrix, List<Vector> destBounds, int[] destData, int destStride, int originX, int originY, int[] area) {
+        final int[] srcData = src.getData(0);
+        final int srcWidth = src.getWidth();
+        final int srcHeight = src.getHeight();
         
-        Graphics2D maskGraphics = maskImage.createGraphics();
-        DrawUtility.setColor(maskGraphics, new Color(filterColor));
-        DrawUtility.fillRect(maskGraphics, new IntVector(0, 0), maskImage.getWidth(), maskImage.getHeight());
-        DrawUtility.setColor(maskGraphics, new Color(0, 0, 0));
-        DrawUtility.fillPolygon(maskGraphics, destBounds);
-        DrawUtility.dispose(maskGraphics);
+        final double[] m = new double[9];
+        for (int i = 0; i < m.length; i++) {
+            m[i] = projectiveMatrix.getRaw(i);
+        }
         
-        int srcWidth = src.getWidth();
-        int srcHeight = src.getHeight();
-        int maskWidth = maskImage.getWidth();
-        int maskHeight = maskImage.getHeight();
+        final int corners = destBounds.size();
+        final double[] cornerX = new double[corners];
+        final double[] cornerY = new double[corners];
+        boolean minified = false;
+        for (int i = 0; i < corners; i++) {
+            cornerX[i] = destBounds.get(i).getRawX();
+            cornerY[i] = destBounds.get(i).getRawY();
+            minified |= (calculateFootprint(m, cornerX[i], cornerY[i]) > 1.0);
+        }
         
-        int[] srcData = ((DataBufferInt) src.getRaster().getDataBuffer()).getData();
-        int[] maskData = ((DataBufferInt) maskImage.getRaster().getDataBuffer()).getData();
+        //the source is not minified anywhere in the quad, so only its first level would be sampled
+        final Texture.Filter sampling = (minified && (src.getLevelCount() > 1)) ? filter : filter.getMagnificationFilter();
+        final boolean mipmapped = sampling.isMipmapped();
         
-        Set<Integer> visited = new HashSet<>();
-        Stack<Point> stack = new Stack<>();
-        stack.push(new Point(maskCenter.getX(), maskCenter.getY()));
-        while (!stack.isEmpty()) {
-            Point p = stack.pop();
-            int x = (int) p.getX();
-            int y = (int) p.getY();
-            int index = (y * maskImage.getWidth()) + x;
-            
-            if ((x < 0) || (x >= maskWidth) || (y < 0) || (y >= maskHeight) ||
-                    visited.contains(index) || (maskData[y * maskWidth + x] == filterColor)) {
-                continue;
+        IntStream.rangeClosed(area[1], area[3]).parallel().forEach(y -> {
+            double centerY = y + 0.5;
+            double[] crossings = new double[corners];
+            int count = 0;
+            for (int i = 0; i < corners; i++) {
+                int j = (i + 1) % corners;
+                if ((cornerY[i] <= centerY) != (cornerY[j] <= centerY)) {
+                    crossings[count++] = cornerX[i] + ((centerY - cornerY[i]) * (cornerX[j] - cornerX[i]) / (cornerY[j] - cornerY[i]));
+                }
             }
-            visited.add(index);
+            Arrays.sort(crossings, 0, count);
             
-            stack.push(new Point(x + 1, y));
-            stack.push(new Point(x - 1, y));
-            stack.push(new Point(x, y + 1));
-            stack.push(new Point(x, y - 1));
-        }
-        
-        visited.parallelStream().forEach(p -> {
-            Vector homogeneousSourcePoint = projectiveMatrix.times(new Vector(p % maskWidth, p / maskWidth, 1.0));
-            int sX = BoundUtility.truncateNum(homogeneousSourcePoint.getRawX() / homogeneousSourcePoint.getRawZ(), 0, srcWidth - 1).intValue();
-            int sY = BoundUtility.truncateNum(homogeneousSourcePoint.getRawY() / homogeneousSourcePoint.getRawZ(), 0, srcHeight - 1).intValue();
-            maskData[p] = srcData[sY * srcWidth + sX];
+            int row = (y - originY) * destStride - originX;
+            for (int i = 0; (i + 1) < count; i += 2) {
+                int startX = (int) Math.max(area[0], Math.ceil(crossings[i] - 0.5));
+                int endX = (int) Math.min(area[2], Math.ceil(crossings[i + 1] - 0.5) - 1);
+                
+                double hX = (m[0] * startX) + (m[1] * y) + m[2];
+                double hY = (m[3] * startX) + (m[4] * y) + m[5];
+                double hZ = (m[6] * startX) + (m[7] * y) + m[8];
+                if ((sampling == Texture.Filter.NEAREST) || (sampling == Texture.Filter.MIPMAP_NEAREST)) {
+                    int level = 0;
+                    int[] data = srcData;
+                    int width = srcWidth;
+                    int height = srcHeight;
+                    double scaleX = 1.0;
+                    double scaleY = 1.0;
+                    for (int x = startX; x <= endX; x++) {
+                        if (mipmapped && (((x - startX) % FOOTPRINT_SPACING) == 0)) {
+                            int nextLevel = src.getLevel(calculateFootprint(m, x, y));
+                            if (nextLevel != level) {
+                                level = nextLevel;
+                                data = src.getData(level);
+                                width = src.getWidth(level);
+                                height = src.getHeight(level);
+                                scaleX = (double) width / srcWidth;
+                                scaleY = (double) height / srcHeight;
+                            }
+                        }
+                        int sX = (int) Math.max(0, Math.min(width - 1, (hX / hZ) * scaleX));
+                        int sY = (int) Math.max(0, Math.min(height - 1, (hY / hZ) * scaleY));
+                        destData[row + x] = 0xFF000000 | data[(sY * width) + sX];
+                        hX += m[0];
+                        hY += m[3];
+                        hZ += m[6];
+                    }
+                } else {
+                    double lod = 0.0;
+                    for (int x = startX; x <= endX; x++) {
+                        double w = 1.0 / hZ;
+                        double u = hX * w;
+                        double v = hY * w;
+                        if (mipmapped && (((x - startX) % FOOTPRINT_SPACING) == 0)) {
+                            lod = src.getLod(calculateFootprint(m, x, y));
+                        }
+                        destData[row + x] = 0xFF000000 | src.sample(u, v, lod, sampling);
+                        hX += m[0];
+                        hY += m[3];
+                        hZ += m[6];
+                    }
+                }
+            }
         });
-        visited.clear();
+    }
+    
+    /**
+     * Calculates the footprint of a pixel of the destination of a quad to quad image transformation in its source.
+     *
+     * @param m The entries of the projective matrix that maps the destination to the source.
+     * @param x The x coordinate of the pixel.
+     * @param y The y coordinate of the pixel.
+     * @return The squared number of pixels of the source that the pixel covers along its longest side.
+     */
+    private static double calculateFootprint(double[] m, double x, double y) {
+        double w = 1.0 / ((m[6] * x) + (m[7] * y) + m[8]);
+        double u = ((m[0] * x) + (m[1] * y) + m[2]) * w;
+        double v = ((m[3] * x) + (m[4] * y) + m[5]) * w;
         
-        Shape saveClip = DrawUtility.getClip(dest);
-        DrawUtility.setClip(dest, destBounds);
-        DrawUtility.drawImage(dest, maskImage);
-        DrawUtility.setClip(dest, saveClip);
+        double dUdX = (m[0] - (u * m[6])) * w;
+        double dVdX = (m[3] - (v * m[6])) * w;
+        double dUdY = (m[1] - (u * m[7])) * w;
+        double dVdY = (m[4] - (v * m[7])) * w;
+        return Math.max((dUdX * dUdX) + (dVdX * dVdX), (dUdY * dUdY) + (dVdY * dVdY));
     }
     
     /**
@@ -138,7 +331,7 @@ public class ImageTransformationUtility {
      *
      * @param src  The bounds of the quad in the source.
      * @param dest The bounds of the quad in the destination.
-     * @return The projective matrix.
+     * @return The projective matrix, or null if either of the quads is degenerate.
      */
     public static Matrix calculateProjectiveMatrix(List<Vector> src, List<Vector> dest) {
         Matrix projectiveMatrixSrc = new Matrix3(
@@ -146,7 +339,12 @@ public class ImageTransformationUtility {
                 src.get(0).getRawY(), src.get(1).getRawY(), src.get(3).getRawY(),
                 1.0, 1.0, 1.0);
         Vector solutionSrc = new Vector(src.get(2).getRawX(), src.get(2).getRawY(), 1.0);
-        Vector coordinateSystemSrc = projectiveMatrixSrc.solveSystem(solutionSrc);
+        Vector coordinateSystemSrc;
+        try {
+            coordinateSystemSrc = projectiveMatrixSrc.solveSystem(solutionSrc);
+        } catch (ArithmeticException ignored) {
+            return null;
+        }
         Matrix coordinateMatrixSrc = new Matrix3(
                 coordinateSystemSrc.getRawX(), coordinateSystemSrc.getRawY(), coordinateSystemSrc.getRawZ(),
                 coordinateSystemSrc.getRawX(), coordinateSystemSrc.getRawY(), coordinateSystemSrc.getRawZ(),
@@ -159,7 +357,12 @@ public class ImageTransformationUtility {
                 dest.get(0).getRawY(), dest.get(1).getRawY(), dest.get(3).getRawY(),
                 1.0, 1.0, 1.0);
         Vector solutionDest = new Vector(dest.get(2).getRawX(), dest.get(2).getRawY(), 1.0);
-        Vector coordinateSystemDest = projectiveMatrixDest.solveSystem(solutionDest);
+        Vector coordinateSystemDest;
+        try {
+            coordinateSystemDest = projectiveMatrixDest.solveSystem(solutionDest);
+        } catch (ArithmeticException ignored) {
+            return null;
+        }
         Matrix coordinateMatrixDest = new Matrix3(
                 coordinateSystemDest.getRawX(), coordinateSystemDest.getRawY(), coordinateSystemDest.getRawZ(),
                 coordinateSystemDest.getRawX(), coordinateSystemDest.getRawY(), coordinateSystemDest.getRawZ(),
@@ -0,0 +1,424 @@
+/*
+ * File:    Texture.java
+ * Package: commons.graphics
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.stream.IntStream;
+
+/**
+ * Defines an image that can be sampled at any scale.<br>
+ * A Texture holds a mipmap chain of the image, where each level is half the size of the previous one and each of its pixels is the average of four pixels of the previous level.
+ * The chain is built once when the Texture is created, so an image that is drawn smaller than its size can be sampled from a level close to its size on the screen.
+ */
+public class Texture {
+    
+    //Constants
+    
+    /**
+     * The natural logarithm of 2.
+     */
+    private static final double LOG_2 = Math.log(2);
+    
+    
+    //Enums
+    
+    /**
+     * An enumeration of the ways a Texture can be sampled.
+     */
+    public enum Filter {
+        
+        //Values
+        
+        NEAREST(false),
+        //the nearest pixel of the image
+        
+        BILINEAR(false),
+        //the four nearest pixels of the image, blended
+        
+        MIPMAP_NEAREST(true),
+        //the nearest pixel of the level closest to the footprint
+        
+        MIPMAP_BILINEAR(true),
+        //the four nearest pixels of the level closest to the footprint, blended
+        
+        TRILINEAR(true);
+        //the four nearest pixels of the two levels around the footprint, blended
+        
+        
+        //Fields
+        
+        /**
+         * A flag indicating whether or not the Filter samples from the mipmap chain.
+         */
+        private final boolean mipmapped;
+        
+        
+        //Constructors
+        
+        /**
+         * The constructor for a Filter.
+         *
+         * @param mipmapped Whether or not the Filter samples from the mipmap chain.
+         */
+        Filter(boolean mipmapped) {
+            this.mipmapped = mipmapped;
+        }
+        
+        
+        //Getters
+        
+        /**
+         * Returns whether or not the Filter samples from the mipmap chain.
+         *
+         * @return Whether or not the Filter samples from the mipmap chain.
+         */
+        public boolean isMipmapped() {
+            return mipmapped;
+        }
+        
+        /**
+         * Returns the Filter to use in place of the Filter where the Texture is not minified.
+         *
+         * @return The Filter to use in place of the Filter where the Texture is not minified.
+         */
+        public Filter getMagnificationFilter() {
+            return ((this == NEAREST) || (this == MIPMAP_NEAREST)) ? NEAREST : BILINEAR;
+        }
+        
+    }
+    
+    
+    //Fields
+    
+    /**
+     * The images of each level of the Texture.
+     */
+    private final BufferedImage[] images;
+    
+    /**
+     * The pixels of each level of the Texture.
+     */
+    private final int[][] levels;
+    
+    /**
+     * The width of each level of the Texture.
+     */
+    private final int[] widths;
+    
+    /**
+     * The height of each level of the Texture.
+     */
+    private final int[] heights;
+    
+    /**
+     * The horizontal scale of each level of the Texture, relative to the first level.
+     */
+    private final double[] scaleX;
+    
+    /**
+     * The vertical scale of each level of the Texture, relative to the first level.
+     */
+    private final double[] scaleY;
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Texture.<br>
+     * The image is used as the first level of the Texture, without copying it, if it has an integer RGB raster.
+     *
+     * @param image    The image of the Texture.
+     * @param mipmap   Whether or not to build the mipmap chain of the Texture.
+     * @param parallel Whether or not to build the levels of the mipmap chain in parallel.
+     */
+    public Texture(BufferedImage image, boolean mipmap, boolean parallel) {
+        if ((image.getType() != BufferedImage.TYPE_INT_RGB) && (image.getType() != BufferedImage.TYPE_INT_ARGB)) {
+            BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D convertedGraphics = converted.createGraphics();
+            DrawUtility.drawImage(convertedGraphics, image);
+            DrawUtility.dispose(convertedGraphics);
+            image = converted;
+        }
+        
+        int count = 1;
+        if (mipmap) {
+            for (int w = image.getWidth(), h = image.getHeight(); (w > 1) || (h > 1); w = Math.max(1, w / 2), h = Math.max(1, h / 2)) {
+                count++;
+            }
+        }
+        
+        images = new BufferedImage[count];
+        levels = new int[count][];
+        widths = new int[count];
+        heights = new int[count];
+        scaleX = new double[count];
+        scaleY = new double[count];
+        
+        for (int level = 0; level < count; level++) {
+            images[level] = (level == 0) ? image :
+                    new BufferedImage(Math.max(1, widths[level - 1] / 2), Math.max(1, heights[level - 1] / 2), image.getType());
+            levels[level] = ((DataBufferInt) images[level].getRaster().getDataBuffer()).getData();
+            widths[level] = images[level].getWidth();
+            heights[level] = images[level].getHeight();
+            scaleX[level] = (double) widths[level] / widths[0];
+            scaleY[level] = (double) heights[level] / heights[0];
+            if (level > 0) {
+                downsample(level, parallel);
+            }
+        }
+    }
+    
+    /**
+     * The constructor for a Texture.
+     *
+     * @param image The image of the Texture.
+     */
+    public Texture(BufferedImage image) {
+        this(image, true, false);
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Builds a level of the Texture from the previous level.
+     *
+     * @param level    The level.
+     * @param parallel Whether or not to build the rows of the level in parallel.
+     */
+    private void downsample(int level, boolean parallel) {
+        final int[] src = levels[level - 1];
+        final int[] dest = levels[level];
+        final int srcWidth = widths[level - 1];
+        final int srcHeight = heights[level - 1];
+        final int destWidth = widths[level];
+        
+        IntStream rows = IntStream.range(0, heights[level]);
+        if (parallel) {
+            rows = rows.parallel();
+        }
+        rows.forEach(y -> {
+            int row0 = Math.min(2 * y, srcHeight - 1) * srcWidth;
+            int row1 = Math.min((2 * y) + 1, srcHeight - 1) * srcWidth;
+            for (int x = 0; x < destWidth; x++) {
+                int x0 = Math.min(2 * x, srcWidth - 1);
+                int x1 = Math.min((2 * x) + 1, srcWidth - 1);
+                dest[(y * destWidth) + x] = average(src[row0 + x0], src[row0 + x1], src[row1 + x0], src[row1 + x1]);
+            }
+        });
+    }
+    
+    /**
+     * Samples the Texture.
+     *
+     * @param u      The horizontal coordinate to sample, in pixels of the first level.
+     * @param v      The vertical coordinate to sample, in pixels of the first level.
+     * @param lod    The level of detail to sample at, which is ignored if the Filter is not mipmapped.
+     * @param filter The Filter to sample with.
+     * @return The color of the sample.
+     * @see #getLod(double)
+     */
+    public int sample(double u, double v, double lod, Filter filter) {
+        switch (filter) {
+            case NEAREST:
+                return sampleNearest(0, u, v);
+            case BILINEAR:
+                return sampleBilinear(0, u, v);
+            case MIPMAP_NEAREST:
+                return sampleNearest((int) (lod + 0.5), u, v);
+            case MIPMAP_BILINEAR:
+                return sampleBilinear((int) (lod + 0.5), u, v);
+            case TRILINEAR:
+            default:
+                int level = (int) lod;
+                if (level == (levels.length - 1)) {
+                    return sampleBilinear(level, u, v);
+                }
+                return lerp(sampleBilinear(level, u, v), sampleBilinear(level + 1, u, v), (int) ((lod - level) * 256));
+        }
+    }
+    
+    /**
+     * Samples the nearest pixel of a level of the Texture.
+     *
+     * @param level The level.
+     * @param u     The horizontal coordinate to sample, in pixels of the first level.
+     * @param v     The vertical coordinate to sample, in pixels of the first level.
+     * @return The color of the sample.
+     */
+    private int sampleNearest(int level, double u, double v) {
+        int x = (int) Math.max(0, Math.min(widths[level] - 1, u * scaleX[level]));
+        int y = (int) Math.max(0, Math.min(heights[level] - 1, v * scaleY[level]));
+        return levels[level][(y * widths[level]) + x];
+    }
+    
+    /**
+     * Samples the four nearest pixels of a level of the Texture and blends them.
+     *
+     * @param level The level.
+     * @param u     The horizontal coordinate to sample, in pixels of the first level.
+     * @param v     The vertical coordinate to sample, in pixels of the first level.
+     * @return The color of the sample.
+     */
+    private int sampleBilinear(int level, double u, double v) {
+        int width = widths[level];
+        int height = heights[level];
+        double fx = Math.max(0, Math.min(width - 1, (u * scaleX[level]) - 0.5));
+        double fy = Math.max(0, Math.min(height - 1, (v * scaleY[level]) - 0.5));
+        if (Double.isNaN(fx) || Double.isNaN(fy)) {
+            return levels[level][0];
+        }
+        
+        int x0 = (int) fx;
+        int y0 = (int) fy;
+        int x1 = Math.min(x0 + 1, width - 1);
+        int y1 = Math.min(y0 + 1, height - 1);
+        int tx = (int) ((fx - x0) * 256);
+        int ty = (int) ((fy - y0) * 256);
+        
+        int[] data = levels[level];
+        int top = lerp(data[(y0 * width) + x0], data[(y0 * width) + x1], tx);
+        int bottom = lerp(data[(y1 * width) + x0], data[(y1 * width) + x1], tx);
+        return lerp(top, bottom, ty);
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the number of levels of the Texture.
+     *
+     * @return The number of levels of the Texture.
+     */
+    public int getLevelCount() {
+        return levels.length;
+    }
+    
+    /**
+     * Returns the level of detail of the Texture for a footprint.
+     *
+     * @param footprint The squared number of pixels of the first level that a sample covers along its longest side.
+     * @return The level of detail for the footprint, between the first and the last level.
+     */
+    public double getLod(double footprint) {
+        double lod = 0.5 * Math.log(footprint) / LOG_2;
+        return (lod > 0) ? Math.min(lod, levels.length - 1) : 0.0;
+    }
+    
+    /**
+     * Returns the level of the Texture closest to a footprint.
+     *
+     * @param footprint The squared number of pixels of the first level that a sample covers along its longest side.
+     * @return The level of the Texture closest to the footprint.
+     */
+    public int getLevel(double footprint) {
+        return Math.max(0, Math.min(levels.length - 1, Math.getExponent(footprint * 2) >> 1));
+    }
+    
+    /**
+     * Returns the pixels of a level of the Texture.
+     *
+     * @param level The level.
+     * @return The pixels of the level.
+     */
+    int[] getData(int level) {
+        return levels[level];
+    }
+    
+    /**
+     * Returns the width of a level of the Texture.
+     *
+     * @param level The level.
+     * @return The width of the level.
+     */
+    int getWidth(int level) {
+        return widths[level];
+    }
+    
+    /**
+     * Returns the height of a level of the Texture.
+     *
+     * @param level The level.
+     * @return The height of the level.
+     */
+    int getHeight(int level) {
+        return heights[level];
+    }
+    
+    /**
+     * Returns the image of the Texture.
+     *
+     * @return The image of the Texture.
+     */
+    public BufferedImage getImage() {
+        return images[0];
+    }
+    
+    /**
+     * Returns the image of a level of the Texture.
+     *
+     * @param level The level.
+     * @return The image of the level.
+     */
+    public BufferedImage getImage(int level) {
+        return images[Math.max(0, Math.min(images.length - 1, level))];
+    }
+    
+    /**
+     * Returns the width of the Texture.
+     *
+     * @return The width of the Texture.
+     */
+    public int getWidth() {
+        return widths[0];
+    }
+    
+    /**
+     * Returns the height of the Texture.
+     *
+     * @return The height of the Texture.
+     */
+    public int getHeight() {
+        return heights[0];
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Averages four colors.
+     *
+     * @param c0 The first color.
+     * @param c1 The second color.
+     * @param c2 The third color.
+     * @param c3 The fourth color.
+     * @return The average of the colors.
+     */
+    private static int average(int c0, int c1, int c2, int c3) {
+        int rb = (((c0 & 0xFF00FF) + (c1 & 0xFF00FF) + (c2 & 0xFF00FF) + (c3 & 0xFF00FF)) >>> 2) & 0xFF00FF;
+        int ag = (((c0 >>> 8) & 0xFF00FF) + ((c1 >>> 8) & 0xFF00FF) + ((c2 >>> 8) & 0xFF00FF) + ((c3 >>> 8) & 0xFF00FF)) >>> 2;
+        return rb | ((ag & 0xFF00FF) << 8);
+    }
+    
+    /**
+     * Blends two colors.
+     *
+     * @param c0     The first color.
+     * @param c1     The second color.
+     * @param weight The weight of the second color, from 0 to 256.
+     * @return The blended color.
+     */
+    private static int lerp(int c0, int c1, int weight) {
+        int rb = ((((c0 & 0xFF00FF) * (256 - weight)) + ((c1 & 0xFF00FF) * weight)) >>> 8) & 0xFF00FF;
+        int ag = ((((c0 >>> 8) & 0xFF00FF) * (256 - weight)) + (((c1 >>> 8) & 0xFF00FF) * weight)) & 0xFF00FF00;
+        return rb | ag;
+    }
+    
+}
@@ -7,8 +7,10 @@
 
 package commons.math;
 
+import commons.math.component.matrix.DoubleMatrix;
 import commons.math.component.matrix.Matrix;
 import commons.math.component.matrix.Matrix3;
+import commons.math.component.vector.DoubleVector;
 import commons.math.component.vector.Vector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +57,34 @@ public final class RotationUtility {
         return (Matrix3) rollRotation.times(pitchRotation).times(yawRotation);
     }
     
+    /**
+     * Calculates a rotation transformation matrix backed by primitive components.
+     *
+     * @param roll  The roll angle to rotate by.
+     * @param pitch The pitch angle to rotate by.
+     * @param yaw   The yaw angle to rotate by.
+     * @return The rotation transformation matrix.
+     * @see #getRotationMatrix(double, double, double)
+     */
+    public static DoubleMatrix getDoubleRotationMatrix(double roll, double pitch, double yaw) {
+        DoubleMatrix rollRotation = new DoubleMatrix(
+                1, 0, 0,
+                0, Math.cos(roll), -Math.sin(roll),
+                0, Math.sin(roll), Math.cos(roll)
+        );
+        DoubleMatrix pitchRotation = new DoubleMatrix(
+                Math.cos(pitch), 0, Math.sin(pitch),
+                0, 1, 0,
+                -Math.sin(pitch), 0, Math.cos(pitch)
+        );
+        DoubleMatrix yawRotation = new DoubleMatrix(
+                Math.cos(yaw), -Math.sin(yaw), 0,
+                Math.sin(yaw), Math.cos(yaw), 0,
+                0, 0, 1
+        );
+        return rollRotation.times(pitchRotation).times(yawRotation);
+    }
+    
     /**
      * Performs a rotation transformation on a Vector.
      *
@@ -62,9 +92,53 @@ public final class RotationUtility {
      * @param rotationMatrix The rotation transformation matrix to apply.
      * @param center         The center point to rotate about.
      * @return The rotated Vector.
+     * @see #performRotationInto(Vector, Matrix3, Vector, Vector)
      */
     public static Vector performRotation(Vector vector, Matrix3 rotationMatrix, Vector center) {
-        return rotationMatrix.transform(vector.minus(center)).plus(center);
+        return performRotationInto(vector, rotationMatrix, center, vector.emptyCopy());
+    }
+    
+    /**
+     * Performs a rotation transformation on a Vector and stores the result in a destination Vector.
+     *
+     * @param vector         The Vector to rotate.
+     * @param rotationMatrix The rotation transformation matrix to apply.
+     * @param center         The center point to rotate about.
+     * @param dest           The Vector to store the rotated Vector in, may be the Vector to rotate but not the center point.
+     * @return The destination Vector.
+     */
+    public static Vector performRotationInto(Vector vector, Matrix3 rotationMatrix, Vector center, Vector dest) {
+        vector.minusInto(center, dest);
+        rotationMatrix.transformInto(dest, dest);
+        return dest.addInPlace(center);
+    }
+    
+    /**
+     * Performs a rotation transformation on a Double Vector.
+     *
+     * @param vector         The Double Vector to rotate.
+     * @param rotationMatrix The rotation transformation matrix to apply.
+     * @param center         The center point to rotate about.
+     * @return The rotated Double Vector.
+     * @see #performRotationInto(DoubleVector, DoubleMatrix, DoubleVector, DoubleVector)
+     */
+    public static DoubleVector performRotation(DoubleVector vector, DoubleMatrix rotationMatrix, DoubleVector center) {
+        return performRotationInto(vector, rotationMatrix, center, vector.emptyCopy());
+    }
+    
+    /**
+     * Performs a rotation transformation on a Double Vector and stores the result in a destination Double Vector.
+     *
+     * @param vector         The Double Vector to rotate.
+     * @param rotationMatrix The rotation transformation matrix to apply.
+     * @param center         The center point to rotate about.
+     * @param dest           The Double Vector to store the rotated Double Vector in, may be the Double Vector to rotate but not the center point.
+     * @return The destination Double Vector.
+     */
+    public static DoubleVector performRotationInto(DoubleVector vector, DoubleMatrix rotationMatrix, DoubleVector center, DoubleVector dest) {
+        vector.minusInto(center, dest);
+        rotationMatrix.transformInto(dest, dest);
+        return dest.addInPlace(center);
     }
     
 }
@@ -406,6 +406,80 @@ public abstract class BaseComponent<T extends Number, I extends BaseComponent<?,
         return result;
     }
     
+    /**
+     * Calculates the addition of this Component and another Component and stores the result in a destination Component.
+     *
+     * @param other The other Component.
+     * @param dest  The Component to store the result in, may be this Component or the other Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    @Override
+    public I plusInto(I other, I dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        for (int c = 0; c < getLength(); c++) {
+            dest.getRawComponents()[c] = getHandler().add(getRawComponents()[c], other.getRawComponents()[c]);
+        }
+        return dest;
+    }
+    
+    /**
+     * Calculates the difference of this Component and another Component and stores the result in a destination Component.
+     *
+     * @param other The other Component.
+     * @param dest  The Component to store the result in, may be this Component or the other Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    @Override
+    public I minusInto(I other, I dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        for (int c = 0; c < getLength(); c++) {
+            dest.getRawComponents()[c] = getHandler().subtract(getRawComponents()[c], other.getRawComponents()[c]);
+        }
+        return dest;
+    }
+    
+    /**
+     * Calculates the result of this Component scaled by a value and stores the result in a destination Component.
+     *
+     * @param scalar The scalar.
+     * @param dest   The Component to store the result in, may be this Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    @Override
+    public I scaleInto(Number scalar, I dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        Number factor = getHandler().valueOf(scalar);
+        for (int c = 0; c < getLength(); c++) {
+            dest.getRawComponents()[c] = getHandler().multiply(getRawComponents()[c], factor);
+        }
+        return dest;
+    }
+    
+    /**
+     * Rounds the components of the Component and stores the result in a destination Component.
+     *
+     * @param dest The Component to store the result in, may be this Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    @Override
+    public I roundInto(I dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        for (int c = 0; c < getLength(); c++) {
+            dest.getRawComponents()[c] = getHandler().round(getRawComponents()[c]);
+        }
+        return dest;
+    }
+    
     /**
      * Copies this Component to another Component.
      *
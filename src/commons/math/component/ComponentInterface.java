@@ -198,6 +198,94 @@ public interface ComponentInterface<T extends Number, I extends ComponentInterfa
      */
     I round();
     
+    /**
+     * Calculates the addition of this Component and another Component and stores the result in a destination Component.
+     *
+     * @param other The other Component.
+     * @param dest  The Component to store the result in, may be this Component or the other Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    I plusInto(I other, I dest) throws ArithmeticException;
+    
+    /**
+     * Calculates the difference of this Component and another Component and stores the result in a destination Component.
+     *
+     * @param other The other Component.
+     * @param dest  The Component to store the result in, may be this Component or the other Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    I minusInto(I other, I dest) throws ArithmeticException;
+    
+    /**
+     * Calculates the result of this Component scaled by a value and stores the result in a destination Component.
+     *
+     * @param scalar The scalar.
+     * @param dest   The Component to store the result in, may be this Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    I scaleInto(Number scalar, I dest) throws ArithmeticException;
+    
+    /**
+     * Rounds the components of the Component and stores the result in a destination Component.
+     *
+     * @param dest The Component to store the result in, may be this Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    I roundInto(I dest) throws ArithmeticException;
+    
+    /**
+     * Adds another Component to this Component.
+     *
+     * @param other The other Component.
+     * @return This Component.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality.
+     * @see #plusInto(ComponentInterface, ComponentInterface)
+     */
+    @SuppressWarnings("unchecked")
+    default I addInPlace(I other) throws ArithmeticException {
+        return plusInto(other, (I) this);
+    }
+    
+    /**
+     * Subtracts another Component from this Component.
+     *
+     * @param other The other Component.
+     * @return This Component.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality.
+     * @see #minusInto(ComponentInterface, ComponentInterface)
+     */
+    @SuppressWarnings("unchecked")
+    default I subtractInPlace(I other) throws ArithmeticException {
+        return minusInto(other, (I) this);
+    }
+    
+    /**
+     * Scales this Component by a value.
+     *
+     * @param scalar The scalar.
+     * @return This Component.
+     * @see #scaleInto(Number, ComponentInterface)
+     */
+    @SuppressWarnings("unchecked")
+    default I scaleInPlace(Number scalar) {
+        return scaleInto(scalar, (I) this);
+    }
+    
+    /**
+     * Rounds the components of this Component.
+     *
+     * @return This Component.
+     * @see #roundInto(ComponentInterface)
+     */
+    @SuppressWarnings("unchecked")
+    default I roundInPlace() {
+        return roundInto((I) this);
+    }
+    
     /**
      * Copies this Component to another Big Component.
      *
@@ -0,0 +1,797 @@
+/*
+ * File:    DoubleComponent.java
+ * Package: commons.math.component
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import commons.math.MathUtility;
+import commons.math.component.handler.error.ComponentErrorHandlerInterface;
+import commons.math.component.handler.error.ComponentErrorHandlerProvider;
+import commons.math.component.handler.math.DoubleComponentMathHandler;
+import org.apache.commons.lang3.ArrayUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Defines the properties of a Component backed by primitive double components.
+ *
+ * @param <I> The type of the Component.
+ */
+@SuppressWarnings("unchecked")
+public abstract class DoubleComponent<I extends DoubleComponent<?>> implements ComponentInterface<Number, I, Double> {
+    
+    //Logger
+    
+    /**
+     * The logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(DoubleComponent.class);
+    
+    
+    //Static Fields
+    
+    /**
+     * The Error Handler to output errors.
+     */
+    protected static ComponentErrorHandlerInterface errorHandler = ComponentErrorHandlerProvider.getErrorHandler();
+    
+    /**
+     * The Math Handler to perform component math operations.
+     */
+    protected static final DoubleComponentMathHandler handler = new DoubleComponentMathHandler();
+    
+    
+    //Fields
+    
+    /**
+     * The primitive components that define the Component.
+     */
+    protected double[] components;
+    
+    /**
+     * The dimensionality of the Component.
+     */
+    protected int dimensionality;
+    
+    
+    //Constructors
+    
+    /**
+     * The protected no-argument constructor for a Double Component.
+     */
+    protected DoubleComponent() {
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Returns a string that represents the Component.
+     *
+     * @return A string that represents the Component.
+     */
+    @Override
+    public String toString() {
+        return Arrays.stream(getComponents()).map(String::valueOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+    
+    /**
+     * Determines if another Component is equal to this Component.
+     *
+     * @param o The other Component.
+     * @return Whether the two Component are equal or not.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof DoubleComponent) ||
+                (((DoubleComponent<?>) o).getComponentClass() != getComponentClass())) {
+            return false;
+        }
+        DoubleComponent<?> other = (DoubleComponent<?>) o;
+        
+        if (!dimensionalityEqual(other) || !lengthEqual(other)) {
+            return false;
+        }
+        
+        for (int c = 0; c < components.length; c++) {
+            if (Math.abs(other.components[c] - components[c]) > DoubleComponentMathHandler.PRECISION) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Determines if another Component's dimensionality is equal to this Component's dimensionality.
+     *
+     * @param other The other Component.
+     * @return Whether the two Component's dimensionality is equal or not.
+     */
+    @Override
+    public final <J extends ComponentInterface<?, ?, ?>> boolean dimensionalityEqual(J other) {
+        return (other != null) && (getDimensionality() == other.getDimensionality());
+    }
+    
+    /**
+     * Determines if another Component's length is equal to this Component's length.
+     *
+     * @param other The other Component.
+     * @return Whether the two Component's lengths are equal or not.
+     */
+    @Override
+    public final <J extends ComponentInterface<?, ?, ?>> boolean lengthEqual(J other) {
+        return (other != null) && (getLength() == other.getLength());
+    }
+    
+    /**
+     * Determines if another Component's component type is equal to this Component's component type.
+     *
+     * @param other The other Component.
+     * @return Whether the two Component's component types are equal or not.
+     */
+    @Override
+    public final <J extends ComponentInterface<?, ?, ?>> boolean componentTypeEqual(J other) {
+        return (other != null) && (getType() == other.getType());
+    }
+    
+    /**
+     * Creates a cloned copy of the Component.
+     *
+     * @return The cloned Component.
+     */
+    @Override
+    public abstract I cloned();
+    
+    /**
+     * Creates an empty copy of the Component.
+     *
+     * @return The empty copy of the Component.
+     */
+    @Override
+    public abstract I emptyCopy();
+    
+    /**
+     * Creates a new Component instance of the specified dimensionality.
+     *
+     * @param dim The dimensionality of the new Component.
+     * @return The new Component.
+     */
+    @Override
+    public abstract I createNewInstance(int dim);
+    
+    /**
+     * Creates a cloned copy of this Component with its elements reversed.
+     *
+     * @return The reversed Component.
+     */
+    @Override
+    public I reverse() {
+        I result = cloned();
+        ArrayUtils.reverse(result.components);
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the distance between this Component and another Component.
+     *
+     * @param other The other Component.
+     * @return The distance between the two Components.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality.
+     */
+    @Override
+    public Double distance(I other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        
+        double distance = 0.0;
+        for (int c = 0; c < components.length; c++) {
+            final double delta = other.components[c] - components[c];
+            distance += delta * delta;
+        }
+        return Math.sqrt(distance);
+    }
+    
+    /**
+     * Calculates the midpoint between this Component and another Component.
+     *
+     * @param other The other Component.
+     * @return The midpoint between the two Components.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality.
+     * @see #average(DoubleComponent[])
+     */
+    @Override
+    public I midpoint(I other) throws ArithmeticException {
+        return average(other);
+    }
+    
+    /**
+     * Calculates the average of this Component with a list of Components.
+     *
+     * @param others The list of other Components.
+     * @return The average of the Components.
+     * @throws ArithmeticException When the Components do not all have the same dimensionality.
+     */
+    @Override
+    public I average(List<I> others) throws ArithmeticException {
+        for (I other : others) {
+            ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        }
+        
+        I result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            double component = components[c];
+            for (I other : others) {
+                component += other.components[c];
+            }
+            result.components[c] = component / (others.size() + 1);
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the average of this Component with a set of Components.
+     *
+     * @param others The set of other Components.
+     * @return The average of the Components.
+     * @throws ArithmeticException When the Components do not all have the same dimensionality.
+     * @see #average(List)
+     */
+    @Override
+    public I average(I... others) throws ArithmeticException {
+        return average(Arrays.asList(others));
+    }
+    
+    /**
+     * Sums the components of the Component.
+     *
+     * @return The sum of the components of the Component.
+     */
+    @Override
+    public Double sum() {
+        double sum = 0.0;
+        for (double component : components) {
+            sum += component;
+        }
+        return sum;
+    }
+    
+    /**
+     * Calculates the square sum of the Component.
+     *
+     * @return The square sum of the Component.
+     */
+    @Override
+    public Double squareSum() {
+        double squareSum = 0.0;
+        for (double component : components) {
+            squareSum += component * component;
+        }
+        return squareSum;
+    }
+    
+    /**
+     * Calculates the addition of this Component and another Component.
+     *
+     * @param other The other Component.
+     * @return The Component produced as a result of the addition.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality.
+     */
+    @Override
+    public I plus(I other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        
+        I result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = components[c] + other.components[c];
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the difference of this Component and another Component.
+     *
+     * @param other The other Component.
+     * @return The Component produced as a result of the subtraction.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality.
+     */
+    @Override
+    public I minus(I other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        
+        I result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = components[c] - other.components[c];
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the product of this Component and another Component.
+     *
+     * @param other The other Component.
+     * @return The Component produced as a result of the multiplication.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality.
+     */
+    @Override
+    public I times(I other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        
+        I result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = components[c] * other.components[c];
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the result of this Component scaled by a value.
+     *
+     * @param scalar The scalar.
+     * @return The Component produced as a result of the scaling.
+     */
+    @Override
+    public I scale(Number scalar) {
+        final double factor = scalar.doubleValue();
+        
+        I result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = components[c] * factor;
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the quotient of this Component scaled by a value.
+     *
+     * @param other The other Component.
+     * @return The Component produced as a result of the division.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality, or if a component in the divisor Component is 0.
+     */
+    @Override
+    public I dividedBy(I other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        for (double component : other.components) {
+            if (Math.abs(component) <= DoubleComponentMathHandler.PRECISION) {
+                throw new ArithmeticException("Attempted to divide by zero");
+            }
+        }
+        
+        I result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = components[c] / other.components[c];
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Rounds the components of the Component.
+     *
+     * @return The Component rounded to integers.
+     */
+    @Override
+    public I round() {
+        I result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = (double) Math.round(components[c]);
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the addition of this Component and another Component and stores the result in a destination Component.
+     *
+     * @param other The other Component.
+     * @param dest  The Component to store the result in, may be this Component or the other Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    @Override
+    public I plusInto(I other, I dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        for (int c = 0; c < components.length; c++) {
+            dest.components[c] = components[c] + other.components[c];
+        }
+        return dest;
+    }
+    
+    /**
+     * Calculates the difference of this Component and another Component and stores the result in a destination Component.
+     *
+     * @param other The other Component.
+     * @param dest  The Component to store the result in, may be this Component or the other Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    @Override
+    public I minusInto(I other, I dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        for (int c = 0; c < components.length; c++) {
+            dest.components[c] = components[c] - other.components[c];
+        }
+        return dest;
+    }
+    
+    /**
+     * Calculates the result of this Component scaled by a value and stores the result in a destination Component.
+     *
+     * @param scalar The scalar.
+     * @param dest   The Component to store the result in, may be this Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    @Override
+    public I scaleInto(Number scalar, I dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        double factor = scalar.doubleValue();
+        for (int c = 0; c < components.length; c++) {
+            dest.components[c] = components[c] * factor;
+        }
+        return dest;
+    }
+    
+    /**
+     * Rounds the components of the Component and stores the result in a destination Component.
+     *
+     * @param dest The Component to store the result in, may be this Component.
+     * @return The destination Component.
+     * @throws ArithmeticException When the Components do not have the same dimensionality.
+     */
+    @Override
+    public I roundInto(I dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        for (int c = 0; c < components.length; c++) {
+            dest.components[c] = (double) Math.round(components[c]);
+        }
+        return dest;
+    }
+    
+    /**
+     * Copies this Component to another Component.
+     *
+     * @param to The Component to copy to.
+     * @throws ArithmeticException When the two Components do not have the same dimensionality.
+     */
+    @Override
+    public final void copy(I to) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, to);
+        
+        System.arraycopy(components, 0, to.components, 0, components.length);
+        copyMeta(to);
+    }
+    
+    /**
+     * Copies this Component's metadata to another Component.
+     *
+     * @param to The Component to copy the metadata to.
+     */
+    @Override
+    public void copyMeta(I to) {
+    }
+    
+    /**
+     * Resizes the Component.
+     *
+     * @param newDim The new dimensionality of the Component.
+     */
+    @Override
+    public void redim(int newDim) {
+        if (!isResizeable() || (newDim == getDimensionality())) {
+            return;
+        } else if (newDim <= 0) {
+            setPrimitiveComponents(new double[0]);
+            return;
+        }
+        
+        double[] newComponents = new double[dimensionalityToLength(newDim)];
+        System.arraycopy(components, 0, newComponents, 0, Math.min(components.length, newComponents.length));
+        setPrimitiveComponents(newComponents);
+    }
+    
+    /**
+     * Calculates the Component's length from its dimensionality.
+     *
+     * @param dim The dimensionality of the Component.
+     * @return The Component's length.
+     */
+    @Override
+    public int dimensionalityToLength(int dim) {
+        return Math.max(dim, 0);
+    }
+    
+    /**
+     * Calculates the Component's length from its dimensionality.
+     *
+     * @return The Component's length.
+     * @see #dimensionalityToLength(int)
+     */
+    @Override
+    public final int dimensionalityToLength() {
+        return dimensionalityToLength(getDimensionality());
+    }
+    
+    /**
+     * Calculates the Component's dimensionality from its length.
+     *
+     * @param length The length of the Component.
+     * @return The Component's dimensionality.
+     */
+    @Override
+    public int lengthToDimensionality(int length) {
+        return Math.max(length, 0);
+    }
+    
+    /**
+     * Calculates the Component's dimensionality from its length.
+     *
+     * @return The Component's dimensionality.
+     * @see #lengthToDimensionality(int)
+     */
+    @Override
+    public final int lengthToDimensionality() {
+        return lengthToDimensionality(getLength());
+    }
+    
+    /**
+     * Calculates and sets the Component's dimensionality using its length.
+     */
+    @Override
+    public final void calculateDimensionality() {
+        dimensionality = lengthToDimensionality();
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the raw components that define the Component.<br>
+     * The returned array is a boxed copy; changes to it are not reflected in the Component.
+     *
+     * @return The raw components that define the Component.
+     * @see #getRawPrimitiveComponents()
+     */
+    @Override
+    public final Double[] getRawComponents() {
+        return ArrayUtils.toObject(components);
+    }
+    
+    /**
+     * Returns the components that define the Component.
+     *
+     * @return The components that define the Component.
+     * @see #getPrimitiveComponents()
+     */
+    @Override
+    public final Double[] getComponents() {
+        return ArrayUtils.toObject(getPrimitiveComponents());
+    }
+    
+    /**
+     * Returns the backing primitive components that define the Component.<br>
+     * Changes to the returned array are reflected in the Component.
+     *
+     * @return The backing primitive components that define the Component.
+     */
+    public final double[] getRawPrimitiveComponents() {
+        return components;
+    }
+    
+    /**
+     * Returns the primitive components that define the Component.
+     *
+     * @return The primitive components that define the Component.
+     */
+    public final double[] getPrimitiveComponents() {
+        final double[] cleaned = new double[components.length];
+        for (int c = 0; c < components.length; c++) {
+            cleaned[c] = MathUtility.roundWithPrecision(components[c], DoubleComponentMathHandler.SIGNIFICANT_FIGURES);
+        }
+        return cleaned;
+    }
+    
+    /**
+     * Returns a raw component of the Component.
+     *
+     * @param index The index of the component.
+     * @return The raw component of the Component at the specified index.
+     * @throws IndexOutOfBoundsException When the Component does not contain a component at the specified index.
+     * @see #getPrimitive(int)
+     */
+    @Override
+    public Double getRaw(int index) throws IndexOutOfBoundsException {
+        return getPrimitive(index);
+    }
+    
+    /**
+     * Returns a component of the Component.
+     *
+     * @param index The index of the component.
+     * @return The component of the Component at the specified index.
+     * @throws IndexOutOfBoundsException When the Component does not contain a component at the specified index.
+     * @see #getPrimitive(int)
+     */
+    @Override
+    public Double get(int index) throws IndexOutOfBoundsException {
+        return MathUtility.roundWithPrecision(getPrimitive(index), DoubleComponentMathHandler.SIGNIFICANT_FIGURES);
+    }
+    
+    /**
+     * Returns a raw primitive component of the Component.
+     *
+     * @param index The index of the component.
+     * @return The raw primitive component of the Component at the specified index.
+     * @throws IndexOutOfBoundsException When the Component does not contain a component at the specified index.
+     */
+    public double getPrimitive(int index) throws IndexOutOfBoundsException {
+        ComponentErrorHandlerProvider.assertIndexInBounds(this, index);
+        return components[index];
+    }
+    
+    /**
+     * Returns the dimensionality of the Component.
+     *
+     * @return The dimensionality of the Component.
+     */
+    @Override
+    public final int getDimensionality() {
+        return dimensionality;
+    }
+    
+    /**
+     * Returns the length of the Component.
+     *
+     * @return The length of the Component.
+     */
+    @Override
+    public final int getLength() {
+        return components.length;
+    }
+    
+    /**
+     * Returns the type of the Component.
+     *
+     * @return The type of the Component.
+     */
+    @Override
+    public final Class<? extends I> getComponentClass() {
+        return (Class<? extends I>) getClass();
+    }
+    
+    /**
+     * Returns the type of the components that define the Component.
+     *
+     * @return The type of the components that define the Component.
+     */
+    @Override
+    public final Class<? extends Number> getType() {
+        return Double.class;
+    }
+    
+    /**
+     * Returns the Component Math Handler for the Component.
+     *
+     * @return The Component Math Handler for the Component.
+     */
+    @Override
+    public DoubleComponentMathHandler getHandler() {
+        return handler;
+    }
+    
+    /**
+     * Returns the Component Error Handler for the Component.
+     *
+     * @return The Component Error Handler for the Component.
+     */
+    @Override
+    public ComponentErrorHandlerInterface getErrorHandler() {
+        return errorHandler;
+    }
+    
+    /**
+     * Returns the name of the type of Component.
+     *
+     * @return The name of the type of Component.
+     */
+    @Override
+    public String getName() {
+        return "Double Component";
+    }
+    
+    /**
+     * Returns the precision to use in comparisons.
+     *
+     * @return The precision to use in comparisons.
+     */
+    @Override
+    public Double getPrecision() {
+        return DoubleComponentMathHandler.PRECISION;
+    }
+    
+    /**
+     * Returns whether this Component is resizeable or not.
+     *
+     * @return Whether this Component is resizeable or not.
+     */
+    @Override
+    public boolean isResizeable() {
+        return true;
+    }
+    
+    
+    //Setters
+    
+    /**
+     * Sets the components that define the Component.
+     *
+     * @param newComponents The components that define the Component.
+     * @throws IndexOutOfBoundsException If the provided components are not the same length as the existing components.
+     * @see #setPrimitiveComponents(double[])
+     */
+    @Override
+    public final void setComponents(Double[] newComponents) throws IndexOutOfBoundsException {
+        setPrimitiveComponents(ArrayUtils.toPrimitive(newComponents));
+    }
+    
+    /**
+     * Sets the primitive components that define the Component.
+     *
+     * @param newComponents The primitive components that define the Component.
+     * @throws IndexOutOfBoundsException If the provided components are not the same length as the existing components.
+     */
+    public final void setPrimitiveComponents(double[] newComponents) throws IndexOutOfBoundsException {
+        if ((components != null) && (!isResizeable() && (newComponents.length != getLength()))) {
+            throw new IndexOutOfBoundsException(getErrorHandler().componentLengthNotEqualErrorMessage(ArrayUtils.toObject(newComponents), getLength()));
+        }
+        
+        components = newComponents;
+        calculateDimensionality();
+    }
+    
+    /**
+     * Sets the value of a component of the Component.
+     *
+     * @param index The index of the component to set.
+     * @param value The new value of the component.
+     * @throws IndexOutOfBoundsException When the Component does not contain a component at the specified index.
+     * @see #setPrimitive(int, double)
+     */
+    @Override
+    public void set(int index, Double value) throws IndexOutOfBoundsException {
+        if (value != null) {
+            setPrimitive(index, value);
+        }
+    }
+    
+    /**
+     * Sets the primitive value of a component of the Component.
+     *
+     * @param index The index of the component to set.
+     * @param value The new value of the component.
+     * @throws IndexOutOfBoundsException When the Component does not contain a component at the specified index.
+     */
+    public void setPrimitive(int index, double value) throws IndexOutOfBoundsException {
+        ComponentErrorHandlerProvider.assertIndexInBounds(this, index);
+        components[index] = value;
+    }
+    
+}
@@ -0,0 +1,630 @@
+/*
+ * File:    DoubleMatrix.java
+ * Package: commons.math.component.matrix
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.component.matrix;
+
+import java.util.List;
+
+import commons.math.MathUtility;
+import commons.math.component.DoubleComponent;
+import commons.math.component.handler.error.ComponentErrorHandlerProvider;
+import commons.math.component.vector.DoubleVector;
+import commons.math.component.vector.VectorInterface;
+import org.apache.commons.lang3.ArrayUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Defines a Matrix backed by primitive double components.
+ */
+public class DoubleMatrix extends DoubleComponent<DoubleMatrix> implements MatrixInterface<Double, DoubleMatrix> {
+    
+    //Logger
+    
+    /**
+     * The logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(DoubleMatrix.class);
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Double Matrix from components.
+     *
+     * @param components The components that define the Double Matrix.
+     * @throws ArithmeticException When the number of components is not a perfect square.
+     */
+    public DoubleMatrix(double... components) throws ArithmeticException {
+        super();
+        setPrimitiveComponents(components);
+        
+        if (!MathUtility.isSquare(components.length)) {
+            throw new ArithmeticException(getErrorHandler().componentLengthNotSquareErrorMessage(ArrayUtils.toObject(components)));
+        }
+    }
+    
+    /**
+     * The constructor for a Double Matrix from a list of components.
+     *
+     * @param components The components that define the Double Matrix, as a list.
+     * @param <T>        The Number type of the components.
+     * @throws ArithmeticException When the number of components is not a perfect square.
+     * @see #DoubleMatrix(double...)
+     */
+    public <T extends Number> DoubleMatrix(List<T> components) throws ArithmeticException {
+        this(components.stream()
+                .mapToDouble(Number::doubleValue).toArray());
+    }
+    
+    /**
+     * The constructor for a Double Matrix from another Double Matrix.
+     *
+     * @param matrix The Double Matrix.
+     * @see #DoubleMatrix(double...)
+     */
+    public DoubleMatrix(DoubleMatrix matrix) {
+        this(matrix.getRawPrimitiveComponents().clone());
+    }
+    
+    /**
+     * The constructor for a Double Matrix from a Matrix.
+     *
+     * @param matrix The Matrix.
+     * @see #DoubleMatrix(double...)
+     */
+    public DoubleMatrix(Matrix matrix) {
+        this(ArrayUtils.toPrimitive(matrix.getRawComponents()));
+    }
+    
+    /**
+     * The constructor for a Double Matrix of a certain dimensionality.
+     *
+     * @param dim The dimensionality of the Double Matrix.
+     * @see #DoubleMatrix(double...)
+     */
+    public DoubleMatrix(int dim) {
+        this(new double[Math.max(dim, 0) * Math.max(dim, 0)]);
+    }
+    
+    /**
+     * The constructor for an empty Double Matrix.
+     *
+     * @see #DoubleMatrix(int)
+     */
+    public DoubleMatrix() {
+        this(0);
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Returns a string that represents the Double Matrix.
+     *
+     * @return A string that represents the Double Matrix.
+     * @see MatrixInterface#matrixString()
+     */
+    @Override
+    public String toString() {
+        return MatrixInterface.super.matrixString();
+    }
+    
+    /**
+     * Creates a cloned copy of the Double Matrix.
+     *
+     * @return The cloned Double Matrix.
+     * @see #DoubleMatrix(DoubleMatrix)
+     */
+    @Override
+    public DoubleMatrix cloned() {
+        DoubleMatrix clone = new DoubleMatrix(this);
+        copyMeta(clone);
+        return clone;
+    }
+    
+    /**
+     * Creates an empty copy of the Double Matrix.
+     *
+     * @return The empty copy of the Double Matrix.
+     * @see #DoubleMatrix(int)
+     */
+    @Override
+    public DoubleMatrix emptyCopy() {
+        return new DoubleMatrix(getDimensionality());
+    }
+    
+    /**
+     * Creates a new Double Vector with the same dimensionality as the Double Matrix.
+     *
+     * @return The new Double Vector.
+     * @see DoubleVector#DoubleVector(int)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public DoubleVector newVector() {
+        return new DoubleVector(getDimensionality());
+    }
+    
+    /**
+     * Creates a new Double Matrix instance of the specified dimensionality.
+     *
+     * @param dim The dimensionality of the new Double Matrix.
+     * @return The new Double Matrix.
+     * @see #DoubleMatrix(int)
+     */
+    @Override
+    public DoubleMatrix createNewInstance(int dim) {
+        return createInstance(Math.max(dim, 0));
+    }
+    
+    /**
+     * Calculates the product of this Double Matrix and another Double Matrix.
+     *
+     * @param other The other Double Matrix.
+     * @return The Double Matrix produced as a result of the multiplication.
+     * @throws ArithmeticException When the two Double Matrices do not have the same dimensionality.
+     */
+    @Override
+    public DoubleMatrix times(DoubleMatrix other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        
+        int dim = getDimensionality();
+        DoubleMatrix result = emptyCopy();
+        for (int row = 0; row < dim; row++) {
+            for (int col = 0; col < dim; col++) {
+                double sum = 0.0;
+                for (int d = 0; d < dim; d++) {
+                    sum += components[row * dim + d] * other.components[d * dim + col];
+                }
+                result.components[row * dim + col] = sum;
+            }
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the product of this Double Matrix and a Vector.
+     *
+     * @param other The Vector.
+     * @param <J>   The type of the Vector.
+     * @return The Vector produced as a result of the multiplication.
+     * @throws ArithmeticException When the Double Matrix and the Vector do not have the same dimensionality.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <J extends VectorInterface<Double, ?>> J times(J other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        
+        int dim = getDimensionality();
+        if (other instanceof DoubleVector) {
+            DoubleVector result = newVector();
+            multiply(components, dim, ((DoubleVector) other).getRawPrimitiveComponents(), result.getRawPrimitiveComponents(), false);
+            return (J) result;
+        }
+        
+        Number[] vector = other.getRawComponents();
+        J result = (J) other.createNewInstance(dim);
+        for (int row = 0; row < dim; row++) {
+            double sum = 0.0;
+            for (int col = 0; col < dim; col++) {
+                sum += components[row * dim + col] * vector[col].doubleValue();
+            }
+            result.getRawComponents()[row] = sum;
+        }
+        return result;
+    }
+    
+    /**
+     * Calculates the product of this Double Matrix and a Vector and stores the result in a destination Vector.
+     *
+     * @param other The Vector.
+     * @param dest  The Vector to store the result in, may be the Vector.
+     * @param <J>   The type of the Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When the Double Matrix and the Vectors do not have the same dimensionality.
+     */
+    @Override
+    public <J extends VectorInterface<Double, ?>> J timesInto(J other, J dest) throws ArithmeticException {
+        if (!(other instanceof DoubleVector) || !(dest instanceof DoubleVector)) {
+            return MatrixInterface.super.timesInto(other, dest);
+        }
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        multiply(components, getDimensionality(), ((DoubleVector) other).getRawPrimitiveComponents(), ((DoubleVector) dest).getRawPrimitiveComponents(), false);
+        return dest;
+    }
+    
+    /**
+     * Calculates the result of this Double Matrix scaled by the components of another Double Matrix.
+     *
+     * @param other The scalar Double Matrix.
+     * @return The Double Matrix produced as a result of the scaling.
+     * @throws ArithmeticException When the two Double Matrices do not have the same dimensionality.
+     */
+    @Override
+    public DoubleMatrix scale(DoubleMatrix other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        
+        DoubleMatrix result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = components[c] * other.components[c];
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the determinant of the Double Matrix.
+     *
+     * @return The determinant of the Double Matrix.
+     */
+    @Override
+    public Double determinant() {
+        return determinant(components, getDimensionality());
+    }
+    
+    /**
+     * Calculates the minor for a particular component in this Double Matrix.
+     *
+     * @param x The x coordinate of the component.
+     * @param y The y coordinate of the component.
+     * @return The minor for the specified component.
+     * @throws IndexOutOfBoundsException When the Double Matrix does not contain a component at the specified coordinate.
+     */
+    @Override
+    public Double minor(int x, int y) throws IndexOutOfBoundsException {
+        ComponentErrorHandlerProvider.assertCoordinateInBounds(this, x, y);
+        
+        int dim = getDimensionality();
+        double[] subComponents = new double[(dim - 1) * (dim - 1)];
+        int index = 0;
+        for (int row = 0; row < dim; row++) {
+            for (int col = 0; col < dim; col++) {
+                if ((col == x) || (row == y)) {
+                    continue;
+                }
+                subComponents[index++] = components[row * dim + col];
+            }
+        }
+        return determinant(subComponents, dim - 1);
+    }
+    
+    /**
+     * Calculates the Double Matrix of minors for this Double Matrix.
+     *
+     * @return The Double Matrix of minors.
+     */
+    @Override
+    public DoubleMatrix minors() {
+        int dim = getDimensionality();
+        DoubleMatrix result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = minor((c % dim), (c / dim));
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Returns the cofactor Double Matrix for this Double Matrix.
+     *
+     * @return The cofactor Double Matrix.
+     */
+    @Override
+    public DoubleMatrix cofactor() {
+        int dim = getDimensionality();
+        DoubleMatrix result = emptyCopy();
+        for (int c = 0; c < components.length; c++) {
+            result.components[c] = (((c % dim) % 2) == ((c / dim) % 2)) ? components[c] : -components[c];
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the transpose Double Matrix of this Double Matrix.
+     *
+     * @return The transpose Double Matrix.
+     */
+    @Override
+    public DoubleMatrix transpose() {
+        int dim = getDimensionality();
+        DoubleMatrix result = emptyCopy();
+        for (int row = 0; row < dim; row++) {
+            for (int col = 0; col < dim; col++) {
+                result.components[row * dim + col] = components[col * dim + row];
+            }
+        }
+        copyMeta(result);
+        return result;
+    }
+    
+    /**
+     * Calculates the inverse Double Matrix of this Double Matrix.
+     *
+     * @return The inverse Double Matrix.
+     * @throws ArithmeticException If the Double Matrix cannot be inverted.
+     */
+    @Override
+    public DoubleMatrix inverse() throws ArithmeticException {
+        double determinant = determinant();
+        if (Math.abs(determinant) <= getPrecision()) {
+            throw new ArithmeticException("The " + getName() + ": " + toString() + " cannot be inverted");
+        }
+        return adjoint().scale(1.0 / determinant);
+    }
+    
+    /**
+     * Transforms a Vector using the Double Matrix.
+     *
+     * @param vector The Vector to transform.
+     * @param <J>    The type of the Vector.
+     * @return The transformed Vector.
+     * @throws ArithmeticException When the Vector and the Double Matrix do not have the same dimensionality.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public <J extends VectorInterface> J transform(J vector) throws ArithmeticException {
+        if (!(vector instanceof DoubleVector)) {
+            return MatrixInterface.super.transform(vector);
+        }
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, vector);
+        
+        DoubleVector result = newVector();
+        multiply(components, getDimensionality(), ((DoubleVector) vector).getRawPrimitiveComponents(), result.getRawPrimitiveComponents(), true);
+        return (J) result;
+    }
+    
+    /**
+     * Transforms a Vector using the Double Matrix and stores the result in a destination Vector.
+     *
+     * @param vector The Vector to transform.
+     * @param dest   The Vector to store the result in, may be the Vector to transform.
+     * @param <J>    The type of the Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When the Double Matrix and the Vectors do not have the same dimensionality.
+     */
+    @Override
+    public <J extends VectorInterface<Double, ?>> J transformInto(J vector, J dest) throws ArithmeticException {
+        if (!(vector instanceof DoubleVector) || !(dest instanceof DoubleVector)) {
+            return MatrixInterface.super.transformInto(vector, dest);
+        }
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, vector);
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        multiply(components, getDimensionality(), ((DoubleVector) vector).getRawPrimitiveComponents(), ((DoubleVector) dest).getRawPrimitiveComponents(), true);
+        return dest;
+    }
+    
+    /**
+     * Resizes the Double Matrix.
+     *
+     * @param newDim The new dimensionality of the Double Matrix.
+     */
+    @Override
+    public void redim(int newDim) {
+        if (!isResizeable() || (newDim == getDimensionality())) {
+            return;
+        } else if (newDim <= 0) {
+            setPrimitiveComponents(new double[0]);
+            return;
+        }
+        
+        int dim = getDimensionality();
+        int copyDim = Math.min(dim, newDim);
+        double[] newComponents = new double[dimensionalityToLength(newDim)];
+        for (int row = 0; row < copyDim; row++) {
+            System.arraycopy(components, row * dim, newComponents, row * newDim, copyDim);
+        }
+        setPrimitiveComponents(newComponents);
+    }
+    
+    /**
+     * Creates a sub-Double Matrix from a subset of the components of this Double Matrix.
+     *
+     * @param x1 The upper left x coordinate of the sub-Double Matrix, inclusive.
+     * @param y1 The upper left y coordinate of the sub-Double Matrix, inclusive.
+     * @param x2 The lower right x coordinate of the sub-Double Matrix, inclusive.
+     * @param y2 The lower right y coordinate of the sub-Double Matrix, inclusive.
+     * @return The sub-Double Matrix.
+     * @throws IndexOutOfBoundsException When the component coordinate range is out of bounds of the Double Matrix.
+     * @throws ArithmeticException       When the component coordinate rage is not a perfect square.
+     */
+    @Override
+    public DoubleMatrix subMatrix(int x1, int y1, int x2, int y2) throws IndexOutOfBoundsException, ArithmeticException {
+        int dim = getDimensionality();
+        if (((x2 - x1) < 0) || ((y2 - y1) < 0) ||
+                (x1 < 0) || (y1 < 0) || (x2 >= dim) || (y2 >= dim)) {
+            throw new IndexOutOfBoundsException(getErrorHandler().componentCoordinateRangeOutOfBoundsErrorMessage(this, x1, y1, x2, y2));
+        }
+        
+        int subWidth = x2 - x1 + 1;
+        double[] newComponents = new double[subWidth * (y2 - y1 + 1)];
+        for (int row = y1; row <= y2; row++) {
+            System.arraycopy(components, row * dim + x1, newComponents, (row - y1) * subWidth, subWidth);
+        }
+        
+        if ((x2 - x1) != (y2 - y1)) {
+            throw new ArithmeticException(getErrorHandler().componentLengthNotSquareErrorMessage(ArrayUtils.toObject(newComponents)));
+        }
+        return new DoubleMatrix(newComponents);
+    }
+    
+    /**
+     * Calculates the Double Matrix's length from its dimensionality.
+     *
+     * @param dim The dimensionality of the Double Matrix.
+     * @return The Double Matrix's length.
+     */
+    @Override
+    public int dimensionalityToLength(int dim) {
+        return MatrixInterface.super.dimensionalityToLength(dim);
+    }
+    
+    /**
+     * Calculates the Double Matrix's dimensionality from its length.
+     *
+     * @param length The length of the Double Matrix.
+     * @return The Double Matrix's dimensionality.
+     */
+    @Override
+    public int lengthToDimensionality(int length) {
+        return MatrixInterface.super.lengthToDimensionality(length);
+    }
+    
+    /**
+     * Creates a Matrix from the Double Matrix.
+     *
+     * @return The Matrix.
+     */
+    public Matrix toMatrix() {
+        return new Matrix(components);
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the name of the type of Component.
+     *
+     * @return The name of the type of Component.
+     */
+    @Override
+    public String getName() {
+        return "Double Matrix";
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Creates a new Double Matrix instance of the specified dimensionality.
+     *
+     * @param dim The dimensionality of the new Double Matrix.
+     * @return The new Double Matrix.
+     * @see #DoubleMatrix(int)
+     */
+    public static DoubleMatrix createInstance(int dim) {
+        return new DoubleMatrix(Math.max(dim, 0));
+    }
+    
+    /**
+     * Creates an identity Double Matrix of a certain dimensionality.
+     *
+     * @param dim The dimensionality of the identity Double Matrix.
+     * @return The identity Double Matrix.
+     */
+    public static DoubleMatrix identity(int dim) {
+        DoubleMatrix result = createInstance(dim);
+        for (int d = 0; d < dim; d++) {
+            result.components[d * dim + d] = 1.0;
+        }
+        return result;
+    }
+    
+    /**
+     * Creates an origin Double Matrix of a certain dimensionality.
+     *
+     * @param dim The dimensionality of the origin Double Matrix.
+     * @return The origin Double Matrix.
+     */
+    public static DoubleMatrix origin(int dim) {
+        return createInstance(dim);
+    }
+    
+    /**
+     * Creates a sign chart Double Matrix of a certain dimensionality.
+     *
+     * @param dim The dimensionality of the sign chart Double Matrix.
+     * @return The sign chart Double Matrix.
+     */
+    public static DoubleMatrix signChart(int dim) {
+        DoubleMatrix result = createInstance(dim);
+        for (int c = 0; c < result.components.length; c++) {
+            result.components[c] = (((c % dim) % 2) == ((c / dim) % 2)) ? 1.0 : -1.0;
+        }
+        return result;
+    }
+    
+    /**
+     * Multiplies a square block of primitive components by a vector of primitive components.
+     *
+     * @param components The primitive components, in row-major order.
+     * @param dim        The dimensionality of the square block.
+     * @param vector     The primitive components of the vector.
+     * @param result     The array to store the product in, may be the vector.
+     * @param transpose  Whether to multiply by the transpose of the square block.
+     */
+    private static void multiply(double[] components, int dim, double[] vector, double[] result, boolean transpose) {
+        double[] source = (vector == result) ? vector.clone() : vector;
+        for (int row = 0; row < dim; row++) {
+            double sum = 0.0;
+            for (int col = 0; col < dim; col++) {
+                sum += components[transpose ? (col * dim + row) : (row * dim + col)] * source[col];
+            }
+            result[row] = sum;
+        }
+    }
+    
+    /**
+     * Calculates the determinant of a square block of primitive components.
+     *
+     * @param components The primitive components, in row-major order.
+     * @param dim        The dimensionality of the square block.
+     * @return The determinant.
+     */
+    private static double determinant(double[] components, int dim) {
+        switch (dim) {
+            case 0:
+                return 0.0;
+            case 1:
+                return components[0];
+            case 2:
+                return (components[0] * components[3]) - (components[1] * components[2]);
+            case 3:
+                return (components[0] * ((components[4] * components[8]) - (components[5] * components[7]))) -
+                        (components[1] * ((components[3] * components[8]) - (components[5] * components[6]))) +
+                        (components[2] * ((components[3] * components[7]) - (components[4] * components[6])));
+        }
+        
+        double[] reduced = components.clone();
+        double determinant = 1.0;
+        for (int col = 0; col < dim; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < dim; row++) {
+                if (Math.abs(reduced[row * dim + col]) > Math.abs(reduced[pivot * dim + col])) {
+                    pivot = row;
+                }
+            }
+            if (reduced[pivot * dim + col] == 0.0) {
+                return 0.0;
+            }
+            if (pivot != col) {
+                for (int c = 0; c < dim; c++) {
+                    double swap = reduced[col * dim + c];
+                    reduced[col * dim + c] = reduced[pivot * dim + c];
+                    reduced[pivot * dim + c] = swap;
+                }
+                determinant = -determinant;
+            }
+            
+            double pivotValue = reduced[col * dim + col];
+            determinant *= pivotValue;
+            for (int row = col + 1; row < dim; row++) {
+                double factor = reduced[row * dim + col] / pivotValue;
+                for (int c = col; c < dim; c++) {
+                    reduced[row * dim + c] -= factor * reduced[col * dim + c];
+                }
+            }
+        }
+        return determinant;
+    }
+    
+}
@@ -10,6 +10,7 @@ package commons.math.component.matrix;
 import java.util.Arrays;
 
 import commons.math.component.handler.error.ComponentErrorHandlerProvider;
+import commons.math.component.vector.VectorInterface;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -107,6 +108,58 @@ public class Matrix3 extends Matrix {
         return createInstance(Math.max(dim, 0));
     }
     
+    /**
+     * Calculates the product of this Matrix and a Vector and stores the result in a destination Vector.
+     *
+     * @param other The Vector.
+     * @param dest  The Vector to store the result in, may be the Vector.
+     * @param <J>   The type of the Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When the Matrix and the Vectors do not have the same dimensionality.
+     */
+    @Override
+    public <J extends VectorInterface<Double, ?>> J timesInto(J other, J dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(other, DIMENSIONALITY);
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(dest, DIMENSIONALITY);
+        
+        Double[] m = getRawComponents();
+        Number[] v = other.getRawComponents();
+        double x = v[0].doubleValue();
+        double y = v[1].doubleValue();
+        double z = v[2].doubleValue();
+        
+        dest.set(0, (m[0] * x) + (m[1] * y) + (m[2] * z));
+        dest.set(1, (m[3] * x) + (m[4] * y) + (m[5] * z));
+        dest.set(2, (m[6] * x) + (m[7] * y) + (m[8] * z));
+        return dest;
+    }
+    
+    /**
+     * Transforms a Vector using the Matrix and stores the result in a destination Vector.
+     *
+     * @param vector The Vector to transform.
+     * @param dest   The Vector to store the result in, may be the Vector to transform.
+     * @param <J>    The type of the Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When the Matrix and the Vectors do not have the same dimensionality.
+     */
+    @Override
+    public <J extends VectorInterface<Double, ?>> J transformInto(J vector, J dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(vector, DIMENSIONALITY);
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(dest, DIMENSIONALITY);
+        
+        Double[] m = getRawComponents();
+        Number[] v = vector.getRawComponents();
+        double x = v[0].doubleValue();
+        double y = v[1].doubleValue();
+        double z = v[2].doubleValue();
+        
+        dest.set(0, (m[0] * x) + (m[3] * y) + (m[6] * z));
+        dest.set(1, (m[1] * x) + (m[4] * y) + (m[7] * z));
+        dest.set(2, (m[2] * x) + (m[5] * y) + (m[8] * z));
+        return dest;
+    }
+    
     
     //Getters
     
@@ -105,6 +105,33 @@ public interface MatrixInterface<T extends Number, I extends MatrixInterface<?,
         return result;
     }
     
+    /**
+     * Calculates the product of this Matrix and a Vector and stores the result in a destination Vector.
+     *
+     * @param other The Vector.
+     * @param dest  The Vector to store the result in, may be the Vector.
+     * @param <J>   The type of the Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When the Matrix and the Vectors do not have the same dimensionality.
+     */
+    default <J extends VectorInterface<T, ?>> J timesInto(J other, J dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        Number[] result = getHandler().array(getHeight());
+        for (int row = 0; row < getHeight(); row++) {
+            result[row] = getHandler().zero();
+            for (int col = 0; col < getWidth(); col++) {
+                result[row] = getHandler().add(result[row],
+                        getHandler().multiply(getRawComponents()[toIndex(col, row)], other.getRawComponents()[col]));
+            }
+        }
+        for (int c = 0; c < result.length; c++) {
+            dest.set(c, (T) result[c]);
+        }
+        return dest;
+    }
+    
     /**
      * Calculates the result of this Matrix scaled by the components of another Matrix.
      *
@@ -322,6 +349,33 @@ public interface MatrixInterface<T extends Number, I extends MatrixInterface<?,
         return (J) transpose().times(vector);
     }
     
+    /**
+     * Transforms a Vector using the Matrix and stores the result in a destination Vector.
+     *
+     * @param vector The Vector to transform.
+     * @param dest   The Vector to store the result in, may be the Vector to transform.
+     * @param <J>    The type of the Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When the Matrix and the Vectors do not have the same dimensionality.
+     */
+    default <J extends VectorInterface<T, ?>> J transformInto(J vector, J dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, vector);
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, dest);
+        
+        Number[] result = getHandler().array(getWidth());
+        for (int col = 0; col < getWidth(); col++) {
+            result[col] = getHandler().zero();
+            for (int row = 0; row < getHeight(); row++) {
+                result[col] = getHandler().add(result[col],
+                        getHandler().multiply(getRawComponents()[toIndex(col, row)], vector.getRawComponents()[row]));
+            }
+        }
+        for (int c = 0; c < result.length; c++) {
+            dest.set(c, (T) result[c]);
+        }
+        return dest;
+    }
+    
     /**
      * Resizes the Matrix.
      *
@@ -0,0 +1,460 @@
+/*
+ * File:    DoubleVector.java
+ * Package: commons.math.component.vector
+ * Author:  Zachary Gill
+ * Repo:    https://github.com/ZGorlock/Java-Commons
+ */
+
+package commons.math.component.vector;
+
+import java.util.Arrays;
+import java.util.List;
+
+import commons.list.ListUtility;
+import commons.math.component.DoubleComponent;
+import commons.math.component.handler.error.ComponentErrorHandlerProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Defines a Vector backed by primitive double components.
+ */
+public class DoubleVector extends DoubleComponent<DoubleVector> implements VectorInterface<Double, DoubleVector> {
+    
+    //Logger
+    
+    /**
+     * The logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(DoubleVector.class);
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Double Vector from components.
+     *
+     * @param components The components that define the Double Vector.
+     */
+    public DoubleVector(double... components) {
+        super();
+        setPrimitiveComponents(components);
+    }
+    
+    /**
+     * The constructor for a Double Vector from a list of components.
+     *
+     * @param components The components that define the Double Vector, as a list.
+     * @param <T>        The Number type of the components.
+     * @see #DoubleVector(double...)
+     */
+    public <T extends Number> DoubleVector(List<T> components) {
+        this(components.stream()
+                .mapToDouble(Number::doubleValue).toArray());
+    }
+    
+    /**
+     * The constructor for a Double Vector from another Double Vector.
+     *
+     * @param vector The Double Vector.
+     * @see #DoubleVector(double...)
+     */
+    public DoubleVector(DoubleVector vector) {
+        this(vector.getRawPrimitiveComponents().clone());
+    }
+    
+    /**
+     * The constructor for a Double Vector from a Vector.
+     *
+     * @param vector The Vector.
+     * @see #DoubleVector(double...)
+     */
+    public DoubleVector(Vector vector) {
+        this(toPrimitive(vector));
+    }
+    
+    /**
+     * The constructor for a Double Vector of a certain dimensionality.
+     *
+     * @param dim The dimensionality of the Double Vector.
+     * @see #DoubleVector(double...)
+     */
+    public DoubleVector(int dim) {
+        this(new double[Math.max(dim, 0)]);
+    }
+    
+    /**
+     * The constructor for an empty Double Vector.
+     *
+     * @see #DoubleVector(int)
+     */
+    public DoubleVector() {
+        this(0);
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Returns a string that represents the Double Vector.
+     *
+     * @return A string that represents the Double Vector.
+     * @see VectorInterface#vectorString()
+     */
+    @Override
+    public String toString() {
+        return VectorInterface.super.vectorString();
+    }
+    
+    /**
+     * Creates a cloned copy of the Double Vector.
+     *
+     * @return The cloned Double Vector.
+     * @see #DoubleVector(DoubleVector)
+     */
+    @Override
+    public DoubleVector cloned() {
+        DoubleVector clone = new DoubleVector(this);
+        copyMeta(clone);
+        return clone;
+    }
+    
+    /**
+     * Creates an empty copy of the Double Vector.
+     *
+     * @return The empty copy of the Double Vector.
+     * @see #DoubleVector(int)
+     */
+    @Override
+    public DoubleVector emptyCopy() {
+        return new DoubleVector(getLength());
+    }
+    
+    /**
+     * Creates a new Double Vector instance of the specified dimensionality.
+     *
+     * @param dim The dimensionality of the new Double Vector.
+     * @return The new Double Vector.
+     * @see #DoubleVector(int)
+     */
+    @Override
+    public DoubleVector createNewInstance(int dim) {
+        return createInstance(Math.max(dim, 0));
+    }
+    
+    /**
+     * Calculates the dot product of this Double Vector with another Double Vector.
+     *
+     * @param other The other Double Vector.
+     * @return The dot product.
+     * @throws ArithmeticException When the two Double Vectors do not have the same dimensionality.
+     */
+    @Override
+    public Double dot(DoubleVector other) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalitySame(this, other);
+        
+        double dot = 0.0;
+        for (int c = 0; c < components.length; c++) {
+            dot += components[c] * other.components[c];
+        }
+        return dot;
+    }
+    
+    /**
+     * Normalizes the Double Vector.
+     *
+     * @return The normalized Double Vector.
+     */
+    @Override
+    public DoubleVector normalize() {
+        double hypotenuse = hypotenuse();
+        return (Math.abs(hypotenuse) <= getPrecision()) ? cloned() :
+               scale(1.0 / hypotenuse);
+    }
+    
+    /**
+     * Performs the square root of the sum of the squares of the components.
+     *
+     * @return The square root of the sum of the squares of the components.
+     */
+    @Override
+    public Double hypotenuse() {
+        return Math.sqrt(squareSum());
+    }
+    
+    /**
+     * Creates a sub Double Vector from the Double Vector.
+     *
+     * @param from The index to start the sub Double Vector from, inclusive.
+     * @param to   The index to end the sub Double Vector at, exclusive.
+     * @return The sub Double Vector.
+     * @throws IndexOutOfBoundsException When the range of indices is out of bounds of the Double Vector.
+     */
+    @Override
+    public DoubleVector subVector(int from, int to) throws IndexOutOfBoundsException {
+        int dim = to - from;
+        if ((dim > getLength()) || (from > to) || (from < 0) || (to > getLength())) {
+            throw new IndexOutOfBoundsException(getErrorHandler().componentRangeOutOfBoundsErrorMessage(this, from, to));
+        }
+        
+        DoubleVector subVector = createNewInstance(dim);
+        System.arraycopy(components, from, subVector.components, 0, dim);
+        copyMeta(subVector);
+        return subVector;
+    }
+    
+    /**
+     * Calculates the cross product of this Double Vector and another Double Vector.
+     *
+     * @param other The other Double Vector.
+     * @return The cross product.
+     * @throws ArithmeticException When either Double Vector is not 3-dimensional.
+     * @see #cross(DoubleVector, DoubleVector)
+     */
+    public DoubleVector cross(DoubleVector other) throws ArithmeticException {
+        return cross(this, other);
+    }
+    
+    /**
+     * Calculates the cross product of this Double Vector and another Double Vector and stores the result in a destination Double Vector.
+     *
+     * @param other The other Double Vector.
+     * @param dest  The Double Vector to store the cross product in, may be either Double Vector.
+     * @return The destination Double Vector.
+     * @throws ArithmeticException When any of the Double Vectors is not 3-dimensional.
+     * @see #crossInto(DoubleVector, DoubleVector, DoubleVector)
+     */
+    public DoubleVector crossInto(DoubleVector other, DoubleVector dest) throws ArithmeticException {
+        return crossInto(this, other, dest);
+    }
+    
+    /**
+     * Creates a Vector from the Double Vector.
+     *
+     * @return The Vector.
+     */
+    public Vector toVector() {
+        return new Vector(components);
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the raw x component of the Double Vector.
+     *
+     * @return The raw x component of the Double Vector.
+     */
+    @Override
+    public Double getRawX() {
+        return (getDimensionality() > 0) ? components[0] : 0.0;
+    }
+    
+    /**
+     * Returns the raw y component of the Double Vector.
+     *
+     * @return The raw y component of the Double Vector.
+     */
+    @Override
+    public Double getRawY() {
+        return (getDimensionality() > 1) ? components[1] : 0.0;
+    }
+    
+    /**
+     * Returns the raw z component of the Double Vector.
+     *
+     * @return The raw z component of the Double Vector.
+     */
+    @Override
+    public Double getRawZ() {
+        return (getDimensionality() > 2) ? components[2] : 0.0;
+    }
+    
+    /**
+     * Returns the raw w component of the Double Vector.
+     *
+     * @return The raw w component of the Double Vector.
+     */
+    @Override
+    public Double getRawW() {
+        return (getDimensionality() > 3) ? components[3] : 0.0;
+    }
+    
+    /**
+     * Returns the name of the type of Component.
+     *
+     * @return The name of the type of Component.
+     */
+    @Override
+    public String getName() {
+        return "Double Vector";
+    }
+    
+    
+    //Setters
+    
+    /**
+     * Sets the x component of the Double Vector.
+     *
+     * @param x The new x component of the Double Vector.
+     */
+    @Override
+    public void setX(Double x) {
+        if ((getDimensionality() > 0) && (x != null)) {
+            components[0] = x;
+        }
+    }
+    
+    /**
+     * Sets the y component of the Double Vector.
+     *
+     * @param y The new y component of the Double Vector.
+     */
+    @Override
+    public void setY(Double y) {
+        if ((getDimensionality() > 1) && (y != null)) {
+            components[1] = y;
+        }
+    }
+    
+    /**
+     * Sets the z component of the Double Vector.
+     *
+     * @param z The new z component of the Double Vector.
+     */
+    @Override
+    public void setZ(Double z) {
+        if ((getDimensionality() > 2) && (z != null)) {
+            components[2] = z;
+        }
+    }
+    
+    /**
+     * Sets the w component of the Double Vector.
+     *
+     * @param w The new w component of the Double Vector.
+     */
+    @Override
+    public void setW(Double w) {
+        if ((getDimensionality() > 3) && (w != null)) {
+            components[3] = w;
+        }
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Creates a new Double Vector instance of the specified dimensionality.
+     *
+     * @param dim The dimensionality of the new Double Vector.
+     * @return The new Double Vector.
+     * @see #DoubleVector(int)
+     */
+    public static DoubleVector createInstance(int dim) {
+        return new DoubleVector(Math.max(dim, 0));
+    }
+    
+    /**
+     * Creates an identity Double Vector of a certain dimensionality.
+     *
+     * @param dim The dimensionality of the identity Double Vector.
+     * @return The identity Double Vector.
+     */
+    public static DoubleVector identity(int dim) {
+        DoubleVector result = createInstance(dim);
+        Arrays.fill(result.components, 1.0);
+        return result;
+    }
+    
+    /**
+     * Creates an origin Double Vector of a certain dimensionality.
+     *
+     * @param dim The dimensionality of the origin Double Vector.
+     * @return The origin Double Vector.
+     */
+    public static DoubleVector origin(int dim) {
+        return createInstance(dim);
+    }
+    
+    /**
+     * Calculates the average of a list of Double Vectors.
+     *
+     * @param vectors The list of Double Vectors.
+     * @return The average of the Double Vectors.
+     * @throws ArithmeticException When the Double Vectors do not all have the same dimensionality.
+     * @see #average(List)
+     */
+    public static DoubleVector averageVector(List<DoubleVector> vectors) throws ArithmeticException {
+        return vectors.isEmpty() ? new DoubleVector() : (
+                (vectors.size() == 1) ? vectors.get(0).cloned() :
+                vectors.get(0).average(ListUtility.subList(vectors, 1)));
+    }
+    
+    /**
+     * Calculates the average of a set of Double Vectors.
+     *
+     * @param vectors The set of Double Vectors.
+     * @return The average of the Double Vectors.
+     * @throws ArithmeticException When the Double Vectors do not all have the same dimensionality.
+     * @see #averageVector(List)
+     */
+    public static DoubleVector averageVector(DoubleVector... vectors) throws ArithmeticException {
+        return averageVector(Arrays.asList(vectors));
+    }
+    
+    /**
+     * Calculates the cross product of two 3-dimensional Double Vectors.
+     *
+     * @param vector1 The first Double Vector.
+     * @param vector2 The second Double Vector.
+     * @return The cross product.
+     * @throws ArithmeticException When either Double Vector is not 3-dimensional.
+     * @see #crossInto(DoubleVector, DoubleVector, DoubleVector)
+     */
+    public static DoubleVector cross(DoubleVector vector1, DoubleVector vector2) throws ArithmeticException {
+        return crossInto(vector1, vector2, new DoubleVector(Vector3.DIMENSIONALITY));
+    }
+    
+    /**
+     * Calculates the cross product of two 3-dimensional Double Vectors and stores the result in a destination Double Vector.
+     *
+     * @param vector1 The first Double Vector.
+     * @param vector2 The second Double Vector.
+     * @param dest    The Double Vector to store the cross product in, may be either Double Vector.
+     * @return The destination Double Vector.
+     * @throws ArithmeticException When any of the Double Vectors is not 3-dimensional.
+     */
+    public static DoubleVector crossInto(DoubleVector vector1, DoubleVector vector2, DoubleVector dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(vector1, Vector3.DIMENSIONALITY);
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(vector2, Vector3.DIMENSIONALITY);
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(dest, Vector3.DIMENSIONALITY);
+        
+        double[] a = vector1.components;
+        double[] b = vector2.components;
+        double x = a[1] * b[2] - a[2] * b[1];
+        double y = a[2] * b[0] - a[0] * b[2];
+        double z = a[0] * b[1] - a[1] * b[0];
+        
+        dest.components[0] = x;
+        dest.components[1] = y;
+        dest.components[2] = z;
+        return dest;
+    }
+    
+    /**
+     * Reads the raw components of a Vector into a primitive array.
+     *
+     * @param vector The Vector.
+     * @return The raw primitive components of the Vector.
+     */
+    public static double[] toPrimitive(Vector vector) {
+        Double[] rawComponents = vector.getRawComponents();
+        double[] primitiveComponents = new double[rawComponents.length];
+        for (int c = 0; c < rawComponents.length; c++) {
+            primitiveComponents[c] = rawComponents[c];
+        }
+        return primitiveComponents;
+    }
+    
+}
@@ -137,6 +137,19 @@ public class Vector3 extends Vector {
         return cross(this, other);
     }
     
+    /**
+     * Calculates the cross product between this Vector with another 3D Vector and stores the result in a destination Vector.
+     *
+     * @param other The other Vector.
+     * @param dest  The Vector to store the cross product in, may be either Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When the other Vector or the destination Vector does not have a dimensionality of 3.
+     * @see #crossInto(Vector, Vector, Vector)
+     */
+    public Vector crossInto(Vector other, Vector dest) throws ArithmeticException {
+        return crossInto(this, other, dest);
+    }
+    
     
     //Getters
     
@@ -243,4 +256,31 @@ public class Vector3 extends Vector {
         );
     }
     
+    /**
+     * Calculates the cross product between two 3D Vectors and stores the result in a destination Vector.
+     *
+     * @param vector1 The first Vector.
+     * @param vector2 The other Vector.
+     * @param dest    The Vector to store the cross product in, may be either Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When any of the Vectors do not have a dimensionality of 3.
+     */
+    public static Vector crossInto(Vector vector1, Vector vector2, Vector dest) throws ArithmeticException {
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(vector1, DIMENSIONALITY);
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(vector2, DIMENSIONALITY);
+        ComponentErrorHandlerProvider.assertDimensionalityEqual(dest, DIMENSIONALITY);
+        
+        double x1 = vector1.getRawComponents()[0];
+        double y1 = vector1.getRawComponents()[1];
+        double z1 = vector1.getRawComponents()[2];
+        double x2 = vector2.getRawComponents()[0];
+        double y2 = vector2.getRawComponents()[1];
+        double z2 = vector2.getRawComponents()[2];
+        
+        dest.getRawComponents()[0] = y1 * z2 - z1 * y2;
+        dest.getRawComponents()[1] = z1 * x2 - x1 * z2;
+        dest.getRawComponents()[2] = x1 * y2 - y1 * x2;
+        return dest;
+    }
+    
 }
@@ -66,6 +66,30 @@ public interface VectorInterface<T extends Number, I extends VectorInterface<?,
                scale(getHandler().reciprocal(hypotenuse()));
     }
     
+    /**
+     * Normalizes the Vector and stores the result in a destination Vector.
+     *
+     * @param dest The Vector to store the result in, may be this Vector.
+     * @return The destination Vector.
+     * @throws ArithmeticException When the two Vectors do not have the same dimensionality.
+     */
+    default I normalizeInto(I dest) throws ArithmeticException {
+        T hypotenuse = hypotenuse();
+        return getHandler().isZero(hypotenuse) ? scaleInto(getHandler().one(), dest) :
+               scaleInto(getHandler().reciprocal(hypotenuse), dest);
+    }
+    
+    /**
+     * Normalizes this Vector.
+     *
+     * @return This Vector.
+     * @see #normalizeInto(VectorInterface)
+     */
+    @SuppressWarnings("unchecked")
+    default I normalizeInPlace() {
+        return normalizeInto((I) this);
+    }
+    
     /**
      * Performs the square root of the sum of the squares of the components.
      *
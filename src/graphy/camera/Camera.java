@@ -13,17 +13,12 @@ import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
-import java.util.Arrays;
-import java.util.ConcurrentModificationException;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -34,9 +29,13 @@ import commons.math.component.vector.Vector;
 import commons.math.component.vector.Vector3;
 import graphy.main.Environment;
 import graphy.main.EnvironmentBase;
+import graphy.main.FrameMetrics;
+import graphy.main.Scheduler;
+import graphy.main.TaskScheduler;
 import graphy.math.Delta;
 import graphy.math.vector.JustificationUtil;
 import graphy.object.base.BaseObject;
+import graphy.object.base.ObjectInterface;
 import graphy.object.base.Scene;
 import graphy.object.base.polygon.Rectangle;
 
@@ -57,6 +56,21 @@ public class Camera {
      */
     public static final double rhoBoundary = .0001;
     
+    /**
+     * The visibility flag indicating that at least one Vector of a batch is visible on the Screen.
+     */
+    public static final int IN_VIEW = 0x1;
+    
+    /**
+     * The visibility flag indicating that all Vectors of a batch are visible on the Screen.
+     */
+    public static final int ALL_IN_VIEW = 0x2;
+    
+    /**
+     * The visibility flag indicating that at least one Vector of a batch is behind the Screen.
+     */
+    public static final int BEHIND_SCREEN = 0x4;
+    
     
     //Enums
     
@@ -84,52 +98,32 @@ public class Camera {
     /**
      * The next Camera id to be used.
      */
-    private static int nextCameraId = 0;
-    
-    /**
-     * The map of Cameras that are registered per perspective.
-     */
-    private static final Map<UUID, Map<Integer, Camera>> cameraMap = new HashMap<>();
-    
-    /**
-     * The map of current active Camera ids for viewing per perspective.
-     */
-    private static Map<UUID, Integer> activeCameraView = new HashMap<>();
-    
-    /**
-     * The map of current active Camera ids for controls per perspective.
-     */
-    private static Map<UUID, Integer> activeCameraControl = new HashMap<>();
-    
-    /**
-     * The map of active Cameras for viewing per perspective.
-     */
-    private static Map<UUID, Camera> activeView = new HashMap<>();
+    private static final AtomicInteger nextCameraId = new AtomicInteger(0);
     
     /**
-     * The map of active Cameras for controls per perspective.
+     * The scratch Vector used by each thread when projecting and collapsing Vectors.
      */
-    private static Map<UUID, Camera> activeControl = new HashMap<>();
+    private static final ThreadLocal<Vector> scratch = ThreadLocal.withInitial(() -> new Vector(0, 0, 0));
     
     /**
-     * The map of the Scenes the Camera is viewing per perspective.
+     * The packed coordinate buffer used by each thread when projecting batches of Vectors to the screen.
      */
-    private static Map<UUID, Scene> scenes = new HashMap<>();
+    private static final ThreadLocal<double[]> coordinateBuffer = ThreadLocal.withInitial(() -> new double[0]);
     
     /**
-     * The map of the dimensions of the viewport per perspective.
+     * The packed screen coordinate buffer used by each thread when projecting batches of Vectors to the screen.
      */
-    private static Map<UUID, Vector> viewports = new HashMap<>();
+    private static final ThreadLocal<int[]> screenBuffer = ThreadLocal.withInitial(() -> new int[0]);
     
     /**
-     * The map of the dimensions of the screen per perspective.
+     * The depth buffer used by each thread when projecting batches of Vectors to the screen.
      */
-    private static Map<UUID, Vector> screenSizes = new HashMap<>();
+    private static final ThreadLocal<double[]> depthBuffer = ThreadLocal.withInitial(() -> new double[0]);
     
     /**
-     * Whether the static KeyListener has been set up or not per perspective.
+     * The last view version assigned to a Camera.
      */
-    private static Map<UUID, AtomicBoolean> hasSetupStaticKeyListener = new HashMap<>();
+    private static final AtomicLong lastViewVersion = new AtomicLong(0);
     
     
     //Fields
@@ -149,6 +143,11 @@ public class Camera {
      */
     private UUID perspective;
     
+    /**
+     * The Render Context of the perspective of the Camera.
+     */
+    private final RenderContext context;
+    
     /**
      * The current phi location of the Camera in spherical coordinates.
      */
@@ -244,6 +243,31 @@ public class Camera {
      */
     private Rectangle s;
     
+    /**
+     * The unit Vector along the width of the Screen viewport.
+     */
+    private Vector sx;
+    
+    /**
+     * The unit Vector along the height of the Screen viewport.
+     */
+    private Vector sy;
+    
+    /**
+     * The View of the Camera, which is replaced whenever the Camera is recalculated.
+     */
+    private volatile View view;
+    
+    /**
+     * The View of the Camera that the frame being rendered was started with, or null if no frame is being rendered.
+     */
+    private volatile View frameView;
+    
+    /**
+     * The Rasterizer used to render the Scene when depth buffering is enabled.
+     */
+    private Rasterizer rasterizer;
+    
     /**
      * The normal Vector of a plane in which the direction of the Vector indicates the side of the plane in which to render Objects, or null.
      */
@@ -283,29 +307,30 @@ public class Camera {
      * @param cameraMovement A flag indicating whether or not to allow movement for the Camera.
      */
     public Camera(Scene scene, UUID perspective, Vector viewport, Vector screenSize, boolean cameraControls, boolean cameraMovement) {
-        this.cameraId = nextCameraId;
-        nextCameraId++;
-        cameraMap.putIfAbsent(perspective, new LinkedHashMap<>());
-        cameraMap.get(perspective).put(cameraId, this);
+        this.cameraId = nextCameraId.getAndIncrement();
         this.perspective = perspective;
+        this.context = RenderContext.get(perspective);
+        context.registerCamera(this);
         
-        scenes.putIfAbsent(perspective, scene);
-        viewports.putIfAbsent(perspective, viewport);
-        screenSizes.putIfAbsent(perspective, screenSize);
+        if (context.getScene() == null) {
+            context.setScene(scene);
+        }
+        if (context.getViewport() == null) {
+            context.setViewport(viewport);
+        }
+        if (context.getScreenSize() == null) {
+            context.setScreenSize(screenSize);
+        }
         
         this.offset = new Vector(0, 0, 0);
         
         calculateCamera(perspective);
         
-        activeCameraView.putIfAbsent(perspective, -1);
-        activeCameraControl.putIfAbsent(perspective, -1);
-        activeView.putIfAbsent(perspective, null);
-        activeControl.putIfAbsent(perspective, null);
-        if ((activeCameraView.get(perspective) == -1) || (activeCameraControl.get(perspective) == -1)) {
+        if ((context.getActiveViewId() == -1) || (context.getActiveControlId() == -1)) {
             setActiveCamera(perspective, cameraId);
         }
-        if (scenes.get(perspective) != null) {
-            scenes.get(perspective).registerComponent(cameraObject);
+        if (context.getScene() != null) {
+            context.getScene().registerComponent(cameraObject);
         }
         
         if (cameraMovement) {
@@ -313,12 +338,11 @@ public class Camera {
             setupMouseListener();
         }
         
-        hasSetupStaticKeyListener.putIfAbsent(perspective, new AtomicBoolean(false));
         if (cameraControls) {
             setupStaticKeyListener(perspective);
         }
         
-        task = Environment.addTask(() -> calculateCamera(perspective));
+        task = Environment.addTask(() -> calculateCamera(perspective), TaskScheduler.Phase.CAMERA);
     }
     
     /**
@@ -417,6 +441,9 @@ public class Camera {
                 s.setP4(tmp);
             }
             
+            sx = s.getP2().minus(s.getP1()).normalize();
+            sy = s.getP4().minus(s.getP1()).normalize();
+            
             cameraObject.screen.setP1(JustificationUtil.justify(s.getP1()));
             cameraObject.screen.setP2(JustificationUtil.justify(s.getP2()));
             cameraObject.screen.setP3(JustificationUtil.justify(s.getP3()));
@@ -429,6 +456,10 @@ public class Camera {
             e = new Vector(n.getRawX(), n.getRawY(), n.getRawZ()).scale(1.0 / d);
             
             
+            //precalculate view-projection
+            calculateViewProjection(perspective);
+            
+            
             //draw local coordinate system normals
             cameraObject.screenNormal.setPoints(JustificationUtil.justify(c), JustificationUtil.justify(c.plus(n.scale(viewport.getRawX() * 2 / 3))));
             cameraObject.screenXNormal.setPoints(JustificationUtil.justify(c), JustificationUtil.justify(c.plus(lx.scale(viewport.getRawX() * 2 / 3))));
@@ -464,51 +495,115 @@ public class Camera {
      * @param g2 The 2D Graphics entity.
      */
     public void render(Graphics2D g2) {
-        synchronized (inUpdate) {
-            Scene scene = scenes.get(perspective);
-            if (scene == null) {
-                return;
+        Scene scene = context.getScene();
+        if (scene == null) {
+            return;
+        }
+        
+        frameView = view;
+        try {
+            long cull = FrameMetrics.start();
+            if (Environment.enableRenderBuffering) {
+                RenderBuffer.get(perspective).beginFrame();
             }
+            List<ObjectInterface> components = Environment.enableSpatialIndex ? scene.getComponentsInView(perspective) : scene.getSnapshot().getComponents();
+            FrameMetrics.stop(FrameMetrics.Metric.CULL, cull);
+            FrameMetrics.add(FrameMetrics.Metric.OBJECTS, components.size());
             
-            List<BaseObject> preparedBases;
-            try {
-                preparedBases = scene.getComponents().parallelStream().flatMap(object -> object.doPrepare(perspective).stream()).collect(Collectors.toList());
-            } catch (ConcurrentModificationException ignored) {
-                return;
-            }
+            long prepare = FrameMetrics.start();
+            List<BaseObject> preparedBases = components.parallelStream().flatMap(object -> object.doPrepare(perspective).stream()).collect(Collectors.toList());
+            FrameMetrics.stop(FrameMetrics.Metric.PREPARE, prepare);
             
             if (normalLimit != null) {
+                cull = FrameMetrics.start();
                 preparedBases.removeIf(e -> normalLimit.dot(e.getCenter()) < 0);
+                FrameMetrics.stop(FrameMetrics.Metric.CULL, cull);
             }
-            
-            preparedBases.sort((o1, o2) -> Double.compare(o2.getRenderDistance(), o1.getRenderDistance()));
+            FrameMetrics.add(FrameMetrics.Metric.PRIMITIVES, preparedBases.size());
             
             scene.environment.colorBackground(g2);
             
-            preparedBases.parallelStream().forEachOrdered(preparedBase -> preparedBase.doRender(g2, perspective));
+            if (Environment.enableDepthBuffering) {
+                long draw = FrameMetrics.start();
+                renderDepthBuffered(g2, preparedBases);
+                FrameMetrics.stop(FrameMetrics.Metric.DRAW, draw);
+            } else {
+                long sort = FrameMetrics.start();
+                preparedBases.sort((o1, o2) -> Double.compare(o2.getRenderDistance(perspective), o1.getRenderDistance(perspective)));
+                FrameMetrics.stop(FrameMetrics.Metric.SORT, sort);
+                
+                long draw = FrameMetrics.start();
+                preparedBases.parallelStream().forEachOrdered(preparedBase -> preparedBase.doRender(g2, perspective));
+                FrameMetrics.stop(FrameMetrics.Metric.DRAW, draw);
+            }
+        } finally {
+            frameView = null;
         }
     }
     
+    /**
+     * Renders the prepared BaseObjects through the Rasterizer of the Camera.<br>
+     * The BaseObjects are projected in parallel and recorded in order, then the Rasterizer draws its screen tiles in parallel.
+     * BaseObjects that cannot be rasterized are drawn over the rasterized image in order of their distance from the Camera.
+     *
+     * @param g2            The 2D Graphics entity.
+     * @param preparedBases The list of prepared BaseObjects.
+     */
+    private void renderDepthBuffered(Graphics2D g2, List<BaseObject> preparedBases) {
+        Vector screenDim = getScreenSize(perspective);
+        if (rasterizer == null) {
+            rasterizer = new Rasterizer(screenDim.getRawX().intValue(), screenDim.getRawY().intValue());
+        } else {
+            rasterizer.resize(screenDim.getRawX().intValue(), screenDim.getRawY().intValue());
+        }
+        rasterizer.clear();
+        
+        Map<Boolean, List<BaseObject>> partitionedBases = preparedBases.stream().collect(Collectors.partitioningBy(BaseObject::isRasterizable));
+        List<BaseObject> rasterizedBases = partitionedBases.get(true).parallelStream()
+                .filter(rasterizedBase -> rasterizedBase.preRasterize(perspective))
+                .collect(Collectors.toList());
+        List<BaseObject> paintedBases = partitionedBases.get(false);
+        
+        rasterizedBases.forEach(rasterizedBase -> rasterizedBase.rasterize(rasterizer, perspective));
+        rasterizer.blit(g2);
+        
+        paintedBases.sort((o1, o2) -> Double.compare(o2.getRenderDistance(perspective), o1.getRenderDistance(perspective)));
+        paintedBases.forEach(paintedBase -> paintedBase.doRender(g2, perspective));
+    }
+    
     /**
      * Projects a Vector to the viewport of the Camera.
      *
      * @param v The Vector to project.
      * @return The projected Vector.
+     * @see #projectVectorInto(Vector, Vector, Vector)
      */
     public Vector projectVector(Vector v) {
+        return projectVectorInto(v, v.emptyCopy(), v.emptyCopy());
+    }
+    
+    /**
+     * Projects a Vector to the viewport of the Camera and stores the result in a destination Vector.
+     *
+     * @param v       The Vector to project.
+     * @param dest    The Vector to store the projected Vector in, may be the Vector to project.
+     * @param scratch A scratch Vector to use during the calculation.
+     * @return The destination Vector.
+     */
+    private Vector projectVectorInto(Vector v, Vector dest, Vector scratch) {
         //equation of plane of screen
         //e.x*v.x + e.y*v.y + e.z*v.z = 1
         
         
         //plug vector v into equation
-        Vector keq = c.minus(v);
+        Vector keq = c.minusInto(v, scratch);
         double keqk = e.dot(keq);
         double keqc = 1 - e.dot(v);
         double k = keqc / keqk;
         
         
         //solve projection
-        return keq.scale(k).plus(v);
+        return v.plusInto(keq.scaleInPlace(k), dest);
     }
     
     /**
@@ -516,28 +611,259 @@ public class Camera {
      *
      * @param v The Vector, will be updated with its relative coordinates on the viewport.
      * @return Whether the Vector is visible on the Screen or not.
+     * @see #collapseVectorInto(Vector, Vector, Vector)
      */
     public Vector collapseVector(Vector v) {
+        return collapseVectorInto(v, v.emptyCopy(), v.emptyCopy());
+    }
+    
+    /**
+     * Collapses a Vector to the viewport of the Camera and stores the result in a destination Vector.
+     *
+     * @param v       The Vector to collapse.
+     * @param dest    The Vector to store the relative coordinates on the viewport in, may be the Vector to collapse.
+     * @param scratch A scratch Vector to use during the calculation.
+     * @return The destination Vector.
+     */
+    private Vector collapseVectorInto(Vector v, Vector dest, Vector scratch) {
         //perform pre-calculations
-        Vector s1v = v.minus(s.getP1());
-        Vector s4v = v.minus(s.getP4());
-        Vector s1s2 = s.getP2().minus(s.getP1());
-        Vector s1s4 = s.getP4().minus(s.getP1());
-        double w = s.getP1().distance(s.getP2());
-        double h = s.getP1().distance(s.getP4());
-        double s1vh = s1v.hypotenuse();
+        Vector s1v = v.minusInto(s.getP1(), scratch);
         
         
-        //find screen angles
-        double x = (s1s2.times(s1v)).sum() / (w * s1vh);
-        double y = (s1s4.times(s1v)).sum() / (h * s1vh);
+        //determine true screen coordinates
+        double m = sx.dot(s1v);
+        double n = sy.dot(s1v);
+        dest.setX(m);
+        dest.setY(n);
+        dest.setZ(0.0);
+        return dest;
+    }
+    
+    /**
+     * Calculates the view-projection matrix and the screen plane of the Camera.<br>
+     * The projection of v onto the screen is p = (A*v + c) / (e.c - e.v) where A = (e.c - 1)I - c*e^T,
+     * so collapsing and scaling p reduces to a single 3x4 matrix applied to the homogeneous point (v, 1).<br>
+     * The view depth of v, n.(c - v), is appended as a fourth row.
+     *
+     * @param perspective The perspective for the Camera.
+     */
+    private void calculateViewProjection(UUID perspective) {
+        Vector screenDim = getScreenSize(perspective);
+        Vector viewportDim = getViewport(perspective);
+        double scaleX = screenDim.getRawX() / viewportDim.getRawX();
+        double scaleY = screenDim.getRawY() / viewportDim.getRawY();
         
+        double ec = e.dot(c);
+        double[] projection = new double[16];
+        Vector[] axes = new Vector[] {sx, sy};
+        double[] scales = new double[] {scaleX, scaleY};
+        for (int row = 0; row < 2; row++) {
+            double ac = axes[row].dot(c);
+            double as = axes[row].dot(s.getP1());
+            for (int col = 0; col < 3; col++) {
+                projection[row * 4 + col] = scales[row] * (((ec - 1) * axes[row].get(col)) + ((as - ac) * e.get(col)));
+            }
+            projection[row * 4 + 3] = scales[row] * (ac - (as * ec));
+        }
+        for (int col = 0; col < 3; col++) {
+            projection[8 + col] = -e.get(col);
+        }
+        projection[11] = ec;
+        for (int col = 0; col < 3; col++) {
+            projection[12 + col] = -n.get(col);
+        }
+        projection[15] = n.dot(c);
         
-        //determine true screen coordinates
-        double d = (v.minus(s.getP1())).hypotenuse();
-        double m = x * d;
-        double n = y * d;
-        return new Vector(m, n, 0);
+        //a point is behind the screen when it is at least as close to the camera as to the center of the screen
+        //|v - c| <= |v - m|  =>  v.(m - c) <= (m.m - c.c) / 2
+        Vector mc = m.minus(c);
+        double[] plane = new double[] {mc.getRawX(), mc.getRawY(), mc.getRawZ(), (m.dot(m) - c.dot(c)) / 2};
+        
+        //the view frustum is bounded by that plane and by the planes through the camera and each edge of the screen
+        double[] frustum = new double[20];
+        setFrustumPlane(frustum, 0, mc, -plane[3]);
+        Vector[] corners = new Vector[] {s.getP1(), s.getP2(), s.getP3(), s.getP4()};
+        for (int i = 0; i < corners.length; i++) {
+            Vector normal = new Vector3(corners[i].minus(c)).cross(corners[(i + 1) % corners.length].minus(c));
+            if (normal.dot(mc) < 0) {
+                normal = normal.scale(-1);
+            }
+            setFrustumPlane(frustum, i + 1, normal, -normal.dot(c));
+        }
+        
+        view = new View(projection, plane, new double[] {screenDim.getRawX(), screenDim.getRawY()}, frustum,
+                scaleX * n.dot(c.minus(m)), c.cloned(), lastViewVersion.incrementAndGet());
+    }
+    
+    /**
+     * Stores a normalized plane in a packed array of planes.
+     *
+     * @param planes The packed array of planes.
+     * @param index  The index of the plane.
+     * @param normal The normal of the plane.
+     * @param offset The offset of the plane, such that normal.v + offset = 0 for every point v on the plane.
+     */
+    private static void setFrustumPlane(double[] planes, int index, Vector normal, double offset) {
+        double length = normal.hypotenuse();
+        planes[index * 4] = normal.getRawX() / length;
+        planes[index * 4 + 1] = normal.getRawY() / length;
+        planes[index * 4 + 2] = normal.getRawZ() / length;
+        planes[index * 4 + 3] = offset / length;
+    }
+    
+    /**
+     * Determines if any part of a sphere may be visible on the Screen.
+     *
+     * @param center The center of the sphere.
+     * @param radius The radius of the sphere.
+     * @return Whether any part of the sphere may be visible on the Screen or not.
+     */
+    public boolean isSphereInView(Vector center, double radius) {
+        final View current = getView();
+        if (current == null) {
+            return true;
+        }
+        
+        final double[] planes = current.frustumPlanes;
+        
+        double x = center.getRawX();
+        double y = center.getRawY();
+        double z = center.getRawZ();
+        for (int i = 0; i < planes.length; i += 4) {
+            if ((planes[i] * x) + (planes[i + 1] * y) + (planes[i + 2] * z) + planes[i + 3] < -radius) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Determines how far a sphere is outside of the view frustum of the Camera.
+     *
+     * @param center The center of the sphere.
+     * @param radius The radius of the sphere.
+     * @return The distance of the sphere outside of the view frustum, or 0 if any part of the sphere may be in view.
+     */
+    public double getSphereMargin(Vector center, double radius) {
+        final View current = getView();
+        if (current == null) {
+            return 0.0;
+        }
+        
+        final double[] planes = current.frustumPlanes;
+        
+        double x = center.getRawX();
+        double y = center.getRawY();
+        double z = center.getRawZ();
+        double margin = 0.0;
+        for (int i = 0; i < planes.length; i += 4) {
+            margin = Math.max(margin, -((planes[i] * x) + (planes[i + 1] * y) + (planes[i + 2] * z) + planes[i + 3]) - radius);
+        }
+        return margin;
+    }
+    
+    /**
+     * Determines the number of pixels spanned on the Screen by a unit length at a point.
+     *
+     * @param point The point.
+     * @return The number of pixels spanned on the Screen by a unit length at the point, or infinity if the point is not in front of the Camera.
+     */
+    public double getPixelsPerUnit(Vector point) {
+        final View current = getView();
+        if (current == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        
+        final double[] projection = current.viewProjection;
+        double depth = (projection[12] * point.getRawX()) + (projection[13] * point.getRawY()) + (projection[14] * point.getRawZ()) + projection[15];
+        return (depth > 0) ? (current.pixelScale / depth) : Double.POSITIVE_INFINITY;
+    }
+    
+    /**
+     * Returns the planes bounding the view frustum of the Camera in unjustified world space.
+     *
+     * @return The packed planes bounding the view frustum, as unit normals pointing into the frustum followed by offsets, or null if the Camera has not been calculated.
+     */
+    public double[] getWorldFrustumPlanes() {
+        final View current = getView();
+        if (current == null) {
+            return null;
+        }
+        
+        final double[] planes = current.frustumPlanes;
+        
+        //justification is a diagonal involution, so a plane n.v + d = 0 in justified space is (J n).x + d = 0 in world space
+        Vector justification = JustificationUtil.getJustificationVector();
+        double[] worldPlanes = planes.clone();
+        for (int i = 0; i < worldPlanes.length; i += 4) {
+            worldPlanes[i] *= justification.getRawX();
+            worldPlanes[i + 1] *= justification.getRawY();
+            worldPlanes[i + 2] *= justification.getRawZ();
+        }
+        return worldPlanes;
+    }
+    
+    /**
+     * Projects, collapses, and scales a batch of points to the screen in a single pass.
+     *
+     * @param coordinates The packed xyz coordinates of the points.
+     * @param count       The number of points in the batch.
+     * @param screen      The array to store the packed xy screen coordinates of the points in, must hold at least 2 * count values.
+     * @return The visibility flags of the batch.
+     * @see #projectToScreen(double[], int, int[], double[])
+     */
+    public int projectToScreen(double[] coordinates, int count, int[] screen) {
+        return projectToScreen(coordinates, count, screen, null);
+    }
+    
+    /**
+     * Projects, collapses, and scales a batch of points to the screen in a single pass.
+     *
+     * @param coordinates The packed xyz coordinates of the points.
+     * @param count       The number of points in the batch.
+     * @param screen      The array to store the packed xy screen coordinates of the points in, must hold at least 2 * count values.
+     * @param depth       The array to store the view depth of the points in, must hold at least count values, or null.
+     * @return The visibility flags of the batch.
+     * @see #IN_VIEW
+     * @see #ALL_IN_VIEW
+     * @see #BEHIND_SCREEN
+     */
+    public int projectToScreen(double[] coordinates, int count, int[] screen, double[] depth) {
+        final View current = getView();
+        if (current == null) {
+            return 0;
+        }
+        
+        final double[] vp = current.viewProjection;
+        final double[] plane = current.screenPlane;
+        final double[] bounds = current.screenBounds;
+        
+        boolean anyInView = false;
+        boolean allInView = true;
+        boolean behind = false;
+        for (int i = 0, j = 0, k = 0; i < count; i++, j += 3, k += 2) {
+            double x = coordinates[j];
+            double y = coordinates[j + 1];
+            double z = coordinates[j + 2];
+            
+            behind |= ((plane[0] * x) + (plane[1] * y) + (plane[2] * z)) <= plane[3];
+            
+            double w = (vp[8] * x) + (vp[9] * y) + (vp[10] * z) + vp[11];
+            double px = ((vp[0] * x) + (vp[1] * y) + (vp[2] * z) + vp[3]) / w;
+            double py = ((vp[4] * x) + (vp[5] * y) + (vp[6] * z) + vp[7]) / w;
+            
+            boolean inView = (px >= 0) && (px < bounds[0]) && (py >= 0) && (py < bounds[1]);
+            anyInView |= inView;
+            allInView &= inView;
+            
+            screen[k] = (int) Math.round(px);
+            screen[k + 1] = (int) Math.round(py);
+            if (depth != null) {
+                depth[i] = (vp[12] * x) + (vp[13] * y) + (vp[14] * z) + vp[15];
+            }
+        }
+        
+        return (anyInView ? IN_VIEW : 0) | (allInView ? ALL_IN_VIEW : 0) | (behind ? BEHIND_SCREEN : 0);
     }
     
     /**
@@ -567,10 +893,10 @@ public class Camera {
     public void removeCamera() {
         Environment.removeTask(task);
         cameraObject.setVisible(false);
-        if (scenes.get(perspective) != null) {
-            scenes.get(perspective).unregisterComponent(cameraObject);
+        if (context.getScene() != null) {
+            context.getScene().unregisterComponent(cameraObject);
         }
-        cameraMap.remove(cameraId);
+        context.unregisterCamera(this);
     }
     
     /**
@@ -588,8 +914,12 @@ public class Camera {
     private void setupKeyListener() {
         final Set<Integer> pressed = new HashSet<>();
         
-        if (scenes.get(perspective) != null) {
-            scenes.get(perspective).environment.frame.addKeyListener(new KeyListener() {
+        if ((context.getScene() != null) && context.getScene().environment.isHeadless()) {
+            return;
+        }
+        
+        if (context.getScene() != null) {
+            context.getScene().environment.frame.addKeyListener(new KeyListener() {
                 
                 @Override
                 public void keyTyped(KeyEvent e) {
@@ -597,7 +927,7 @@ public class Camera {
                 
                 @Override
                 public void keyPressed(KeyEvent e) {
-                    if (cameraId != activeCameraControl.get(perspective)) {
+                    if (cameraId != context.getActiveControlId()) {
                         return;
                     }
                     
@@ -608,7 +938,7 @@ public class Camera {
                 
                 @Override
                 public void keyReleased(KeyEvent e) {
-                    if (cameraId != activeCameraControl.get(perspective)) {
+                    if (cameraId != context.getActiveControlId()) {
                         return;
                     }
                     
@@ -620,8 +950,8 @@ public class Camera {
             });
         }
         
-        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(() -> {
-            if (cameraId != activeCameraControl.get(perspective)) {
+        Scheduler.scheduleAtFixedRate(() -> {
+            if (cameraId != context.getActiveControlId()) {
                 return;
             }
             
@@ -675,7 +1005,7 @@ public class Camera {
                     updateRequired = true;
                 }
             }
-        }, 0, 20, TimeUnit.MILLISECONDS);
+        }, 0, 20);
     }
     
     /**
@@ -685,11 +1015,11 @@ public class Camera {
         final Delta delta = new Delta();
         final AtomicInteger button = new AtomicInteger(0);
         
-        if (scenes.get(perspective) == null) {
+        if ((context.getScene() == null) || context.getScene().environment.isHeadless()) {
             return;
         }
         
-        scenes.get(perspective).environment.renderPanel.addMouseListener(new MouseListener() {
+        context.getScene().environment.renderPanel.addMouseListener(new MouseListener() {
             
             @Override
             public void mouseClicked(MouseEvent e) {
@@ -716,11 +1046,11 @@ public class Camera {
             
         });
         
-        scenes.get(perspective).environment.renderPanel.addMouseMotionListener(new MouseMotionListener() {
+        context.getScene().environment.renderPanel.addMouseMotionListener(new MouseMotionListener() {
             
             @Override
             public void mouseDragged(MouseEvent e) {
-                if (cameraId != activeCameraControl.get(perspective)) {
+                if (cameraId != context.getActiveControlId()) {
                     return;
                 }
                 
@@ -758,8 +1088,8 @@ public class Camera {
             
         });
         
-        scenes.get(perspective).environment.renderPanel.addMouseWheelListener(e -> {
-            if (cameraId != activeCameraControl.get(perspective)) {
+        context.getScene().environment.renderPanel.addMouseWheelListener(e -> {
+            if (cameraId != context.getActiveControlId()) {
                 return;
             }
             
@@ -789,6 +1119,7 @@ public class Camera {
         final AtomicLong totalTime = new AtomicLong(0);
         
         EnvironmentBase.Task task = new EnvironmentBase.Task();
+        task.phase = TaskScheduler.Phase.INPUT;
         task.action = () -> {
             if (lastTime.get() == 0) {
                 lastTime.set(Environment.currentTimeMillis());
@@ -844,34 +1175,34 @@ public class Camera {
      * Fits the Camera to a particular Object.
      *
      * @param o The Object.
+     * @see #fitToBounds(List)
      */
     public void fitToObject(BaseObject o) {
         o.prepare(perspective);
-        List<Vector> bounds = o.getPrepared(perspective);
-        projectVectorsToCamera(perspective, bounds);
-        collapseVectorsToViewport(perspective, bounds);
-        
-        if (!hasAllVectorsInView(perspective, bounds)) {
+        fitToBounds(o.getPrepared(perspective));
+    }
+    
+    /**
+     * Fits the angle of view of the Camera so that a set of world space Vectors just fits in its view.<br>
+     * The screen size of the Camera is scaled with its angle of view. The Vectors are not modified.
+     *
+     * @param world The world space Vectors.
+     */
+    public void fitToBounds(List<Vector> world) {
+        calculateCamera(perspective);
+        if (!hasAllVectorsInView(perspective, projectBounds(world))) {
             do {
                 setAngleOfView(getAngleOfView() / 0.99);
                 setScreenSize(perspective, getScreenSize(perspective).scale(1 / 0.99));
                 calculateCamera(perspective);
-                o.prepare(perspective);
-                bounds = o.getPrepared(perspective);
-                projectVectorsToCamera(perspective, bounds);
-                collapseVectorsToViewport(perspective, bounds);
-            } while (!hasAllVectorsInView(perspective, bounds));
+            } while (!hasAllVectorsInView(perspective, projectBounds(world)));
             
         } else {
             do {
                 setAngleOfView(getAngleOfView() * 0.99);
                 setScreenSize(perspective, getScreenSize(perspective).scale(0.99));
                 calculateCamera(perspective);
-                o.prepare(perspective);
-                bounds = o.getPrepared(perspective);
-                projectVectorsToCamera(perspective, bounds);
-                collapseVectorsToViewport(perspective, bounds);
-            } while (hasAllVectorsInView(perspective, bounds));
+            } while (hasAllVectorsInView(perspective, projectBounds(world)));
             
             setAngleOfView(getAngleOfView() / 0.99);
             setScreenSize(perspective, getScreenSize(perspective).scale(1 / 0.99));
@@ -879,16 +1210,54 @@ public class Camera {
         }
     }
     
+    /**
+     * Projects copies of a set of world space Vectors to the viewport of the Camera.
+     *
+     * @param world The world space Vectors.
+     * @return The projected copies of the Vectors.
+     */
+    private List<Vector> projectBounds(List<Vector> world) {
+        List<Vector> bounds = new ArrayList<>(world.size());
+        for (Vector v : world) {
+            bounds.add(v.cloned());
+        }
+        projectVectorsToCamera(perspective, bounds);
+        collapseVectorsToViewport(perspective, bounds);
+        return bounds;
+    }
+    
     
     //Getters
     
+    /**
+     * Returns the id of the Camera.
+     *
+     * @return The id of the Camera.
+     */
+    public int getCameraId() {
+        return cameraId;
+    }
+    
     /**
      * Returns the Camera position.
      *
      * @return The Camera position.
      */
     public Vector getCameraPosition() {
-        return c.cloned();
+        final View current = getView();
+        return (current == null) ? c.cloned() : current.position.cloned();
+    }
+    
+    /**
+     * Returns the View of the Camera.<br>
+     * While a frame is being rendered this is the View the frame was started with, so the whole frame is rendered from the same View
+     * even if the Camera is recalculated during it.
+     *
+     * @return The View of the Camera, or null if the Camera has not been calculated.
+     */
+    private View getView() {
+        final View pinned = frameView;
+        return (pinned != null) ? pinned : view;
     }
     
     /**
@@ -1108,11 +1477,12 @@ public class Camera {
      * @param g2          The 2D Graphics entity.
      */
     public static void doRender(UUID perspective, Graphics2D g2) {
-        if (activeView.get(perspective) == null) {
+        Camera camera = RenderContext.get(perspective).getActiveView();
+        if (camera == null) {
             return;
         }
         
-        activeView.get(perspective).render(g2);
+        camera.render(g2);
     }
     
     /**
@@ -1122,12 +1492,14 @@ public class Camera {
      * @param vs          The list of Vectors to project.
      */
     public static void projectVectorsToCamera(UUID perspective, List<Vector> vs) {
-        if (activeView.get(perspective) == null) {
+        Camera camera = RenderContext.get(perspective).getActiveView();
+        if (camera == null) {
             return;
         }
         
-        for (int i = 0; i < vs.size(); i++) {
-            vs.set(i, activeView.get(perspective).projectVector(vs.get(i)));
+        Vector keq = scratch.get();
+        for (Vector v : vs) {
+            camera.projectVectorInto(v, v, keq);
         }
     }
     
@@ -1138,15 +1510,77 @@ public class Camera {
      * @param vs          The list of Vector to be prepared for rendering.
      */
     public static void collapseVectorsToViewport(UUID perspective, List<Vector> vs) {
-        if (activeView.get(perspective) == null) {
+        Camera camera = RenderContext.get(perspective).getActiveView();
+        if (camera == null) {
             return;
         }
         
-        for (int i = 0; i < vs.size(); i++) {
-            vs.set(i, activeView.get(perspective).collapseVector(vs.get(i)));
+        Vector s1v = scratch.get();
+        for (Vector v : vs) {
+            camera.collapseVectorInto(v, v, s1v);
         }
     }
     
+    /**
+     * Determines if any part of a sphere may be visible on the Screen of the active Camera view.
+     *
+     * @param perspective The perspective to determine if the sphere may be visible on the screen for.
+     * @param center      The center of the sphere.
+     * @param radius      The radius of the sphere.
+     * @return Whether any part of the sphere may be visible on the Screen or not.
+     */
+    public static boolean hasSphereInView(UUID perspective, Vector center, double radius) {
+        Camera camera = RenderContext.get(perspective).getActiveView();
+        return (camera == null) || camera.isSphereInView(center, radius);
+    }
+    
+    /**
+     * Determines how far a sphere is outside of the view frustum of the active Camera view.
+     *
+     * @param perspective The perspective to determine the distance of the sphere outside of the view frustum for.
+     * @param center      The center of the sphere.
+     * @param radius      The radius of the sphere.
+     * @return The distance of the sphere outside of the view frustum, or 0 if any part of the sphere may be in view.
+     */
+    public static double getSphereMargin(UUID perspective, Vector center, double radius) {
+        return getSphereMargin(RenderContext.get(perspective), center, radius);
+    }
+    
+    /**
+     * Determines how far a sphere is outside of the view frustum of the active Camera view.
+     *
+     * @param context The Render Context of the perspective to determine the distance of the sphere outside of the view frustum for.
+     * @param center  The center of the sphere.
+     * @param radius  The radius of the sphere.
+     * @return The distance of the sphere outside of the view frustum, or 0 if any part of the sphere may be in view.
+     */
+    public static double getSphereMargin(RenderContext context, Vector center, double radius) {
+        Camera camera = context.getActiveView();
+        return (camera == null) ? 0.0 : camera.getSphereMargin(center, radius);
+    }
+    
+    /**
+     * Returns the view version of the active Camera view.
+     *
+     * @param perspective The perspective to return the view version for.
+     * @return The view version of the active Camera view, or 0 if there is no active Camera view.
+     */
+    public static long getViewVersion(UUID perspective) {
+        return getViewVersion(RenderContext.get(perspective));
+    }
+    
+    /**
+     * Returns the view version of the active Camera view.
+     *
+     * @param context The Render Context of the perspective to return the view version for.
+     * @return The view version of the active Camera view, or 0 if there is no active Camera view.
+     */
+    public static long getViewVersion(RenderContext context) {
+        Camera camera = context.getActiveView();
+        final View current = (camera == null) ? null : camera.getView();
+        return (current == null) ? 0 : current.version;
+    }
+    
     /**
      * Determines if any Vectors are behind the Screen.
      *
@@ -1155,11 +1589,12 @@ public class Camera {
      * @return Whether any of the Vectors are behind the the Screen or not.
      */
     public static boolean hasVectorBehindScreen(UUID perspective, Vector[] vs) {
-        if (activeView.get(perspective) == null) {
+        Camera camera = RenderContext.get(perspective).getActiveView();
+        if (camera == null) {
             return false;
         }
-        Vector cm = JustificationUtil.justify(activeView.get(perspective).m);
-        Vector cc = JustificationUtil.justify(activeView.get(perspective).c);
+        Vector cm = JustificationUtil.justify(camera.m);
+        Vector cc = JustificationUtil.justify(camera.c);
         
         //ensure Vectors are not behind Camera
         boolean behind = false;
@@ -1226,15 +1661,75 @@ public class Camera {
     public static void scaleVectorsToScreen(UUID perspective, List<Vector> vs) {
         Vector screenDim = getScreenSize(perspective);
         Vector viewportDim = getViewport(perspective);
-        Vector scale = new Vector(
-                screenDim.getRawX() / viewportDim.getRawX(),
-                screenDim.getRawY() / viewportDim.getRawY(),
-                screenDim.getRawZ()
-        );
-        
-        for (int i = 0; i < vs.size(); i++) {
-            vs.set(i, (vs.get(i).times(scale)).round());
+        double scaleX = screenDim.getRawX() / viewportDim.getRawX();
+        double scaleY = screenDim.getRawY() / viewportDim.getRawY();
+        double scaleZ = screenDim.getRawZ();
+        
+        for (Vector v : vs) {
+            v.setX((double) Math.round(v.getRawX() * scaleX));
+            v.setY((double) Math.round(v.getRawY() * scaleY));
+            v.setZ((double) Math.round(v.getRawZ() * scaleZ));
+        }
+    }
+    
+    /**
+     * Projects, collapses, and scales the Vectors to the screen of the active Camera view in a single pass.
+     *
+     * @param perspective The perspective to project the Vectors for.
+     * @param vs          The list of Vectors to project, will be updated with their screen coordinates and their view depth.
+     * @return The visibility flags of the Vectors.
+     * @see #projectToScreen(double[], int, int[], double[])
+     */
+    public static int projectVectorsToScreen(UUID perspective, List<Vector> vs) {
+        return projectVectorsToScreen(RenderContext.get(perspective), vs);
+    }
+    
+    /**
+     * Projects, collapses, and scales the Vectors to the screen of the active Camera view in a single pass.
+     *
+     * @param context The Render Context of the perspective to project the Vectors for.
+     * @param vs      The list of Vectors to project, will be updated with their screen coordinates and their view depth.
+     * @return The visibility flags of the Vectors.
+     * @see #projectToScreen(double[], int, int[], double[])
+     */
+    public static int projectVectorsToScreen(RenderContext context, List<Vector> vs) {
+        Camera camera = context.getActiveView();
+        if (camera == null) {
+            return 0;
         }
+        
+        int count = vs.size();
+        double[] coordinates = coordinateBuffer.get();
+        int[] screen = screenBuffer.get();
+        double[] depth = depthBuffer.get();
+        if (coordinates.length < count * 3) {
+            coordinates = new double[count * 3];
+            screen = new int[count * 2];
+            depth = new double[count];
+            coordinateBuffer.set(coordinates);
+            screenBuffer.set(screen);
+            depthBuffer.set(depth);
+        }
+        
+        for (int i = 0, j = 0; i < count; i++, j += 3) {
+            Vector v = vs.get(i);
+            coordinates[j] = v.getRawX();
+            coordinates[j + 1] = v.getRawY();
+            coordinates[j + 2] = v.getRawZ();
+        }
+        
+        int flags = camera.projectToScreen(coordinates, count, screen, depth);
+        if ((flags & (IN_VIEW | BEHIND_SCREEN)) != IN_VIEW) {
+            return flags;
+        }
+        
+        for (int i = 0, k = 0; i < count; i++, k += 2) {
+            Vector v = vs.get(i);
+            v.setX((double) screen[k]);
+            v.setY((double) screen[k + 1]);
+            v.setZ(depth[i]);
+        }
+        return flags;
     }
     
     /**
@@ -1244,10 +1739,8 @@ public class Camera {
      * @return The active Camera for viewing.
      */
     public static Camera getActiveCameraView(UUID perspective) {
-        if (cameraMap.containsKey(perspective) && activeCameraView.containsKey(perspective)) {
-            return cameraMap.get(perspective).get(activeCameraView.get(perspective));
-        }
-        return null;
+        RenderContext context = RenderContext.find(perspective);
+        return (context == null) ? null : context.getActiveView();
     }
     
     /**
@@ -1257,10 +1750,8 @@ public class Camera {
      * @return The active Camera for control.
      */
     public static Camera getActiveCameraControl(UUID perspective) {
-        if (cameraMap.containsKey(perspective) && activeCameraControl.containsKey(perspective)) {
-            return cameraMap.get(perspective).get(activeCameraControl.get(perspective));
-        }
-        return null;
+        RenderContext context = RenderContext.find(perspective);
+        return (context == null) ? null : context.getActiveControl();
     }
     
     /**
@@ -1281,16 +1772,18 @@ public class Camera {
      * @param cameraId    The id of the new active Camera for viewing.
      */
     public static void setActiveCameraView(UUID perspective, int cameraId) {
-        if (cameraMap.containsKey(perspective) && cameraMap.get(perspective).containsKey(cameraId) && (cameraId != activeCameraView.get(perspective))) {
-            if (activeCameraView.get(perspective) >= 0) {
-                cameraMap.get(perspective).get(activeCameraView.get(perspective)).cameraObject.show();
-                cameraMap.get(perspective).get(activeCameraView.get(perspective)).updateRequired = true;
+        RenderContext context = RenderContext.find(perspective);
+        Camera camera = (context == null) ? null : context.getCamera(cameraId);
+        if ((camera != null) && (cameraId != context.getActiveViewId())) {
+            Camera previous = context.getActiveView();
+            if (previous != null) {
+                previous.cameraObject.show();
+                previous.updateRequired = true;
             }
-            activeCameraView.put(perspective, cameraId);
-            cameraMap.get(perspective).get(activeCameraView.get(perspective)).cameraObject.hide();
-            cameraMap.get(perspective).get(activeCameraView.get(perspective)).updateRequired = true;
+            camera.cameraObject.hide();
+            camera.updateRequired = true;
             
-            activeView.put(perspective, cameraMap.get(perspective).get(activeCameraView.get(perspective)));
+            context.setActiveView(camera);
         }
     }
     
@@ -1301,10 +1794,10 @@ public class Camera {
      * @param cameraId    The id of the new active Camera for control.
      */
     public static void setActiveCameraControl(UUID perspective, int cameraId) {
-        if (cameraMap.containsKey(perspective) && cameraMap.get(perspective).containsKey(cameraId) && (cameraId != activeCameraControl.get(perspective))) {
-            activeCameraControl.put(perspective, cameraId);
-            
-            activeControl.put(perspective, cameraMap.get(perspective).get(activeCameraControl.get(perspective)));
+        RenderContext context = RenderContext.find(perspective);
+        Camera camera = (context == null) ? null : context.getCamera(cameraId);
+        if ((camera != null) && (cameraId != context.getActiveControlId())) {
+            context.setActiveControl(camera);
         }
     }
     
@@ -1315,10 +1808,8 @@ public class Camera {
      * @return The Scene.
      */
     public static Scene getScene(UUID perspective) {
-        if (scenes.containsKey(perspective)) {
-            return scenes.get(perspective);
-        }
-        return null;
+        RenderContext context = RenderContext.find(perspective);
+        return (context == null) ? null : context.getScene();
     }
     
     /**
@@ -1328,8 +1819,9 @@ public class Camera {
      * @return The viewport.
      */
     public static Vector getViewport(UUID perspective) {
-        if (viewports.containsKey(perspective)) {
-            return viewports.get(perspective);
+        RenderContext context = RenderContext.find(perspective);
+        if ((context != null) && (context.getViewport() != null)) {
+            return context.getViewport();
         }
         return new Vector(0, 0);
     }
@@ -1341,8 +1833,9 @@ public class Camera {
      * @return The screen size.
      */
     public static Vector getScreenSize(UUID perspective) {
-        if (screenSizes.containsKey(perspective)) {
-            return screenSizes.get(perspective);
+        RenderContext context = RenderContext.find(perspective);
+        if ((context != null) && (context.getScreenSize() != null)) {
+            return context.getScreenSize();
         }
         return new Vector(0, 0, 0);
     }
@@ -1354,8 +1847,9 @@ public class Camera {
      * @param scene       The Scene.
      */
     public static void setScene(UUID perspective, Scene scene) {
-        if (scenes.containsKey(perspective)) {
-            scenes.put(perspective, scene);
+        RenderContext context = RenderContext.find(perspective);
+        if ((context != null) && (context.getScene() != null)) {
+            context.setScene(scene);
         }
     }
     
@@ -1366,9 +1860,10 @@ public class Camera {
      * @param viewport    The viewport dimensions.
      */
     public static void setViewport(UUID perspective, Vector viewport) {
-        if (viewports.containsKey(perspective)) {
-            viewports.put(perspective, viewport);
-            Camera perspectiveView = getActiveCameraView(perspective);
+        RenderContext context = RenderContext.find(perspective);
+        if ((context != null) && (context.getViewport() != null)) {
+            context.setViewport(viewport);
+            Camera perspectiveView = context.getActiveView();
             if (perspectiveView != null) {
                 perspectiveView.updateRequired = true;
             }
@@ -1382,9 +1877,10 @@ public class Camera {
      * @param screenSize  The screen dimensions.
      */
     public static void setScreenSize(UUID perspective, Vector screenSize) {
-        if (screenSizes.containsKey(perspective)) {
-            screenSizes.put(perspective, screenSize);
-            Camera perspectiveView = getActiveCameraView(perspective);
+        RenderContext context = RenderContext.find(perspective);
+        if ((context != null) && (context.getScreenSize() != null)) {
+            context.setScreenSize(screenSize);
+            Camera perspectiveView = context.getActiveView();
             if (perspectiveView != null) {
                 perspectiveView.updateRequired = true;
             }
@@ -1397,15 +1893,16 @@ public class Camera {
      * @param perspective The perspective to set the static KeyListener for.
      */
     private static void setupStaticKeyListener(UUID perspective) {
-        if (!hasSetupStaticKeyListener.get(perspective).compareAndSet(false, true)) {
+        RenderContext context = RenderContext.get(perspective);
+        if (!context.getHasSetupStaticKeyListener().compareAndSet(false, true)) {
             return;
         }
         
-        if (scenes.get(perspective) == null) {
+        if ((context.getScene() == null) || context.getScene().environment.isHeadless()) {
             return;
         }
         
-        scenes.get(perspective).environment.frame.addKeyListener(new KeyListener() {
+        context.getScene().environment.frame.addKeyListener(new KeyListener() {
             
             @Override
             public void keyTyped(KeyEvent e) {
@@ -1416,7 +1913,7 @@ public class Camera {
                 int key = e.getKeyCode();
                 
                 if ((key >= KeyEvent.VK_1 && key <= KeyEvent.VK_9) || (key >= KeyEvent.VK_NUMPAD1 && key <= KeyEvent.VK_NUMPAD9)) {
-                    List<Camera> cs = Arrays.asList(cameraMap.get(perspective).values().toArray(new Camera[] {}));
+                    List<Camera> cs = context.getCameras();
                     
                     if (cs.size() > 0) {
                         if (key == KeyEvent.VK_1 || key == KeyEvent.VK_NUMPAD1) {
@@ -1454,14 +1951,15 @@ public class Camera {
                 }
                 
                 if (key == KeyEvent.VK_E) {
-                    if (activeControl.get(perspective) == null) {
+                    Camera camera = context.getActiveControl();
+                    if (camera == null) {
                         return;
                     }
                     
-                    if (activeControl.get(perspective).getMode() == Perspective.THIRD_PERSON) {
-                        activeControl.get(perspective).setMode(Perspective.FIRST_PERSON);
-                    } else if (activeControl.get(perspective).getMode() == Perspective.FIRST_PERSON) {
-                        activeControl.get(perspective).setMode(Perspective.THIRD_PERSON);
+                    if (camera.getMode() == Perspective.THIRD_PERSON) {
+                        camera.setMode(Perspective.FIRST_PERSON);
+                    } else if (camera.getMode() == Perspective.FIRST_PERSON) {
+                        camera.setMode(Perspective.THIRD_PERSON);
                     }
                 }
             }
@@ -1473,4 +1971,77 @@ public class Camera {
         });
     }
     
+    
+    //Inner Classes
+    
+    /**
+     * Defines the projection state of a Camera.<br>
+     * A View is never modified once it is created, so a renderer can read it without locking while the Camera is recalculated.
+     */
+    private static final class View {
+        
+        //Fields
+        
+        /**
+         * The row-major view-projection matrix which maps a homogeneous point directly to scaled screen coordinates.<br>
+         * The first three rows form the 3x4 projection, the fourth row produces the view depth of the point.
+         */
+        final double[] viewProjection;
+        
+        /**
+         * The plane separating the points in front of the Screen from the points behind it, as a normal and an offset.
+         */
+        final double[] screenPlane;
+        
+        /**
+         * The screen dimensions used when calculating the view-projection matrix.
+         */
+        final double[] screenBounds;
+        
+        /**
+         * The planes bounding the view frustum, packed as unit normals pointing into the frustum and offsets.
+         */
+        final double[] frustumPlanes;
+        
+        /**
+         * The number of pixels spanned on the Screen by a unit length at a unit depth from the Camera.
+         */
+        final double pixelScale;
+        
+        /**
+         * The position of the Camera.
+         */
+        final Vector position;
+        
+        /**
+         * The view version of the View, which is unique among all Cameras and changes whenever a Camera is recalculated.
+         */
+        final long version;
+        
+        
+        //Constructors
+        
+        /**
+         * The constructor for a View.
+         *
+         * @param viewProjection The view-projection matrix.
+         * @param screenPlane    The plane separating the points in front of the Screen from the points behind it.
+         * @param screenBounds   The screen dimensions.
+         * @param frustumPlanes  The planes bounding the view frustum.
+         * @param pixelScale     The number of pixels spanned on the Screen by a unit length at a unit depth from the Camera.
+         * @param position       The position of the Camera.
+         * @param version        The view version.
+         */
+        View(double[] viewProjection, double[] screenPlane, double[] screenBounds, double[] frustumPlanes, double pixelScale, Vector position, long version) {
+            this.viewProjection = viewProjection;
+            this.screenPlane = screenPlane;
+            this.screenBounds = screenBounds;
+            this.frustumPlanes = frustumPlanes;
+            this.pixelScale = pixelScale;
+            this.position = position;
+            this.version = version;
+        }
+        
+    }
+    
 }
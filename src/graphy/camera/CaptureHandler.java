@@ -24,6 +24,8 @@ import commons.access.CmdLine;
 import commons.media.ImageUtility;
 import graphy.main.Environment;
 import graphy.main.EnvironmentBase;
+import graphy.main.Scheduler;
+import graphy.main.TaskScheduler;
 
 /**
  * Handles captures and recordings of the Environment.
@@ -139,7 +141,7 @@ public class CaptureHandler {
         if (!capture.get()) {
             capture.set(true);
             copyCapture.set(copy);
-            new Thread(this::initializeCapture).start();
+            Scheduler.submit(this::initializeCapture);
         }
     }
     
@@ -148,9 +150,9 @@ public class CaptureHandler {
      */
     public void recordingListener() {
         if (!recording.get()) {
-            new Thread(this::initializeRecording).start();
+            Scheduler.submit(this::initializeRecording);
         } else {
-            new Thread(this::finalizeRecording).start();
+            Scheduler.submit(this::finalizeRecording);
         }
     }
     
@@ -182,7 +184,7 @@ public class CaptureHandler {
             return;
         }
         
-        captureTask = Environment.addTask(this::handleCapture);
+        captureTask = Environment.addTask(this::handleCapture, TaskScheduler.Phase.PRE_RENDER);
     }
     
     /**
@@ -221,7 +223,7 @@ public class CaptureHandler {
         
         Environment.setFps(Environment.fps / 2);
         Environment.useSystemTime = false;
-        recordingTask = Environment.addTask(this::handleRecording);
+        recordingTask = Environment.addTask(this::handleRecording, TaskScheduler.Phase.PRE_RENDER);
     }
     
     /**
@@ -243,8 +245,7 @@ public class CaptureHandler {
         if (wait) {
             encodeRecording();
         } else {
-            Thread encodeRecording = new Thread(this::encodeRecording);
-            encodeRecording.start();
+            Scheduler.submit(this::encodeRecording);
         }
     }
     
@@ -334,7 +335,7 @@ public class CaptureHandler {
      */
     public static String getCaptureName(EnvironmentBase environment, boolean recording) {
         String name;
-        name = environment.frame.getTitle().trim().replaceAll("\\s+", "_");
+        name = environment.getTitle().trim().replaceAll("\\s+", "_");
         if (name.isEmpty()) {
             name = recording ? "recording" : "capture";
         }
@@ -0,0 +1,689 @@
+/*
+ * File:    Rasterizer.java
+ * Package: graphy.camera
+ * Author:  Zachary Gill
+ */
+
+package graphy.camera;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import commons.math.component.vector.Vector;
+
+/**
+ * A software rasterizer which draws into a color buffer and a depth buffer.<br>
+ * The Vectors passed to the Rasterizer are expected to be in screen coordinates, with the view depth as their z component.<br>
+ * Primitives are recorded and binned into screen tiles, then the tiles are rasterized in parallel when the Rasterizer is resolved.
+ * Opaque primitives are rasterized first, in the order they were recorded, then translucent primitives are rasterized from back to front over them.
+ * Recording primitives is not thread safe.
+ */
+public class Rasterizer {
+    
+    //Constants
+    
+    /**
+     * The width and height of a screen tile.
+     */
+    public static final int TILE_SIZE = 64;
+    
+    /**
+     * The tolerance of the edge functions, so that pixels on the edge of a triangle are not lost to rounding error.
+     */
+    private static final double EDGE_TOLERANCE = 1e-9;
+    
+    /**
+     * The number of values stored for each primitive.
+     */
+    private static final int PRIMITIVE_STRIDE = 9;
+    
+    /**
+     * The primitive type of a point.
+     */
+    private static final byte POINT = 0;
+    
+    /**
+     * The primitive type of a line.
+     */
+    private static final byte LINE = 1;
+    
+    /**
+     * The primitive type of a triangle.
+     */
+    private static final byte TRIANGLE = 2;
+    
+    
+    //Fields
+    
+    /**
+     * The width of the buffers.
+     */
+    private int width;
+    
+    /**
+     * The height of the buffers.
+     */
+    private int height;
+    
+    /**
+     * The number of tile columns.
+     */
+    private int tilesX;
+    
+    /**
+     * The number of tile rows.
+     */
+    private int tilesY;
+    
+    /**
+     * The image backed by the color buffer.
+     */
+    private BufferedImage image;
+    
+    /**
+     * The color buffer, in ARGB format.
+     */
+    private int[] colorBuffer;
+    
+    /**
+     * The depth buffer, storing the inverse view depth of each pixel, where 0 is infinitely far away.
+     */
+    private float[] depthBuffer;
+    
+    /**
+     * A flag indicating whether or not the buffers should be cleared when the Rasterizer is next resolved.
+     */
+    private boolean clearRequired = true;
+    
+    /**
+     * The packed coordinates and inverse depths of the recorded primitives.
+     */
+    private double[] primitives = new double[PRIMITIVE_STRIDE * 256];
+    
+    /**
+     * The types of the recorded primitives.
+     */
+    private byte[] primitiveTypes = new byte[256];
+    
+    /**
+     * The colors of the recorded primitives, in ARGB format.
+     */
+    private int[] primitiveColors = new int[256];
+    
+    /**
+     * The number of recorded primitives.
+     */
+    private int primitiveCount = 0;
+    
+    /**
+     * The indices of the recorded primitives in the order they are rasterized.
+     */
+    private int[] primitiveOrder = new int[256];
+    
+    /**
+     * The sort keys of the recorded translucent primitives, packing the inverse depth of the primitive above its index.
+     */
+    private long[] translucentKeys = new long[256];
+    
+    /**
+     * The indices of the recorded primitives which overlap each tile, in the order they are rasterized.
+     */
+    private int[][] tileBins;
+    
+    /**
+     * The number of primitives in each tile bin.
+     */
+    private int[] tileBinSizes;
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Rasterizer.
+     *
+     * @param width  The width of the buffers.
+     * @param height The height of the buffers.
+     */
+    public Rasterizer(int width, int height) {
+        resize(width, height);
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Resizes the buffers of the Rasterizer if the dimensions have changed.
+     *
+     * @param width  The width of the buffers.
+     * @param height The height of the buffers.
+     */
+    public final void resize(int width, int height) {
+        width = Math.max(width, 1);
+        height = Math.max(height, 1);
+        if ((image != null) && (width == this.width) && (height == this.height)) {
+            return;
+        }
+        
+        this.width = width;
+        this.height = height;
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        colorBuffer = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        depthBuffer = new float[width * height];
+        
+        tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+        tileBins = new int[tilesX * tilesY][16];
+        tileBinSizes = new int[tilesX * tilesY];
+        primitiveCount = 0;
+        clearRequired = true;
+    }
+    
+    /**
+     * Discards the recorded primitives, and clears the color buffer and the depth buffer when the Rasterizer is next resolved.
+     */
+    public void clear() {
+        primitiveCount = 0;
+        clearRequired = true;
+    }
+    
+    /**
+     * Rasterizes the recorded primitives into the color buffer and the depth buffer.
+     */
+    public void resolve() {
+        order();
+        Arrays.fill(tileBinSizes, 0);
+        for (int i = 0; i < primitiveCount; i++) {
+            bin(primitiveOrder[i]);
+        }
+        
+        final boolean clear = clearRequired;
+        IntStream.range(0, tileBinSizes.length).parallel().forEach(tile -> rasterizeTile(tile, clear));
+        
+        clearRequired = false;
+        primitiveCount = 0;
+    }
+    
+    /**
+     * Resolves the Rasterizer and draws the color buffer to the screen.
+     *
+     * @param g2 The 2D Graphics entity.
+     */
+    public void blit(Graphics2D g2) {
+        resolve();
+        g2.drawImage(image, 0, 0, null);
+    }
+    
+    /**
+     * Draws a point.
+     *
+     * @param v     The point.
+     * @param color The color of the point.
+     */
+    public void drawPoint(Vector v, Color color) {
+        int index = record(POINT, color.getRGB());
+        primitives[index] = v.getRawX().intValue();
+        primitives[index + 1] = v.getRawY().intValue();
+        primitives[index + 2] = inverseDepth(v.getRawZ());
+    }
+    
+    /**
+     * Draws a line.
+     *
+     * @param from  The point to start the line at.
+     * @param to    The point to end the line at.
+     * @param color The color of the line.
+     */
+    public void drawLine(Vector from, Vector to, Color color) {
+        int index = record(LINE, color.getRGB());
+        primitives[index] = from.getRawX();
+        primitives[index + 1] = from.getRawY();
+        primitives[index + 2] = inverseDepth(from.getRawZ());
+        primitives[index + 3] = to.getRawX();
+        primitives[index + 4] = to.getRawY();
+        primitives[index + 5] = inverseDepth(to.getRawZ());
+    }
+    
+    /**
+     * Fills a convex polygon.
+     *
+     * @param vs    The points of the polygon.
+     * @param color The color of the polygon.
+     */
+    public void fillPolygon(List<Vector> vs, Color color) {
+        int argb = color.getRGB();
+        Vector v0 = vs.get(0);
+        for (int i = 2; i < vs.size(); i++) {
+            Vector v1 = vs.get(i - 1);
+            Vector v2 = vs.get(i);
+            fillTriangle(v0.getRawX(), v0.getRawY(), inverseDepth(v0.getRawZ()),
+                    v1.getRawX(), v1.getRawY(), inverseDepth(v1.getRawZ()),
+                    v2.getRawX(), v2.getRawY(), inverseDepth(v2.getRawZ()),
+                    argb);
+        }
+    }
+    
+    /**
+     * Fills a triangle, interpolating the inverse depth across the triangle.
+     *
+     * @param x1   The x coordinate of the first point.
+     * @param y1   The y coordinate of the first point.
+     * @param w1   The inverse depth of the first point.
+     * @param x2   The x coordinate of the second point.
+     * @param y2   The y coordinate of the second point.
+     * @param w2   The inverse depth of the second point.
+     * @param x3   The x coordinate of the third point.
+     * @param y3   The y coordinate of the third point.
+     * @param w3   The inverse depth of the third point.
+     * @param argb The color of the triangle, in ARGB format.
+     */
+    public void fillTriangle(double x1, double y1, float w1, double x2, double y2, float w2, double x3, double y3, float w3, int argb) {
+        int index = record(TRIANGLE, argb);
+        primitives[index] = x1;
+        primitives[index + 1] = y1;
+        primitives[index + 2] = w1;
+        primitives[index + 3] = x2;
+        primitives[index + 4] = y2;
+        primitives[index + 5] = w2;
+        primitives[index + 6] = x3;
+        primitives[index + 7] = y3;
+        primitives[index + 8] = w3;
+    }
+    
+    /**
+     * Records a primitive.
+     *
+     * @param type The type of the primitive.
+     * @param argb The color of the primitive, in ARGB format.
+     * @return The index of the packed data of the primitive.
+     */
+    private int record(byte type, int argb) {
+        if (primitiveCount == primitiveTypes.length) {
+            int capacity = primitiveCount * 2;
+            primitives = Arrays.copyOf(primitives, capacity * PRIMITIVE_STRIDE);
+            primitiveTypes = Arrays.copyOf(primitiveTypes, capacity);
+            primitiveColors = Arrays.copyOf(primitiveColors, capacity);
+            primitiveOrder = new int[capacity];
+            translucentKeys = new long[capacity];
+        }
+        
+        primitiveTypes[primitiveCount] = type;
+        primitiveColors[primitiveCount] = argb;
+        return (primitiveCount++) * PRIMITIVE_STRIDE;
+    }
+    
+    /**
+     * Orders the recorded primitives for rasterization.<br>
+     * Opaque primitives are kept in the order they were recorded and placed first, so the depth buffer holds all opaque geometry before anything is blended.
+     * Translucent primitives follow, sorted from back to front by their average inverse depth, so each one blends over the primitives behind it.
+     */
+    private void order() {
+        int opaqueCount = 0;
+        int translucentCount = 0;
+        for (int i = 0; i < primitiveCount; i++) {
+            if ((primitiveColors[i] >>> 24) == 0xFF) {
+                primitiveOrder[opaqueCount++] = i;
+            } else {
+                //inverse depths are never negative, so their bits sort in the same order as their values
+                translucentKeys[translucentCount++] = ((long) Float.floatToIntBits(getAverageDepth(i)) << 32) | i;
+            }
+        }
+        
+        Arrays.sort(translucentKeys, 0, translucentCount);
+        for (int i = 0; i < translucentCount; i++) {
+            primitiveOrder[opaqueCount + i] = (int) translucentKeys[i];
+        }
+    }
+    
+    /**
+     * Returns the average inverse depth of the points of a recorded primitive.
+     *
+     * @param primitive The index of the primitive.
+     * @return The average inverse depth of the primitive.
+     */
+    private float getAverageDepth(int primitive) {
+        int index = primitive * PRIMITIVE_STRIDE;
+        switch (primitiveTypes[primitive]) {
+            case LINE:
+                return (float) ((primitives[index + 2] + primitives[index + 5]) / 2);
+            case TRIANGLE:
+                return (float) ((primitives[index + 2] + primitives[index + 5] + primitives[index + 8]) / 3);
+            default:
+                return (float) primitives[index + 2];
+        }
+    }
+    
+    /**
+     * Adds a recorded primitive to the bins of the tiles it overlaps.
+     *
+     * @param primitive The index of the primitive.
+     */
+    private void bin(int primitive) {
+        int index = primitive * PRIMITIVE_STRIDE;
+        double minX = primitives[index];
+        double maxX = primitives[index];
+        double minY = primitives[index + 1];
+        double maxY = primitives[index + 1];
+        switch (primitiveTypes[primitive]) {
+            case POINT:
+                maxX += 1;
+                maxY += 1;
+                break;
+            case LINE:
+            case TRIANGLE:
+                int vertexCount = (primitiveTypes[primitive] == TRIANGLE) ? 3 : 2;
+                for (int vertex = 1; vertex < vertexCount; vertex++) {
+                    int offset = index + (vertex * 3);
+                    minX = Math.min(minX, primitives[offset]);
+                    maxX = Math.max(maxX, primitives[offset]);
+                    minY = Math.min(minY, primitives[offset + 1]);
+                    maxY = Math.max(maxY, primitives[offset + 1]);
+                }
+                break;
+        }
+        
+        int minPixelX = Math.max((int) Math.floor(minX), 0);
+        int maxPixelX = Math.min((int) Math.ceil(maxX), width - 1);
+        int minPixelY = Math.max((int) Math.floor(minY), 0);
+        int maxPixelY = Math.min((int) Math.ceil(maxY), height - 1);
+        if ((minPixelX > maxPixelX) || (minPixelY > maxPixelY)) {
+            return;
+        }
+        
+        for (int tileY = minPixelY / TILE_SIZE; tileY <= maxPixelY / TILE_SIZE; tileY++) {
+            for (int tileX = minPixelX / TILE_SIZE; tileX <= maxPixelX / TILE_SIZE; tileX++) {
+                int tile = (tileY * tilesX) + tileX;
+                if (tileBinSizes[tile] == tileBins[tile].length) {
+                    tileBins[tile] = Arrays.copyOf(tileBins[tile], tileBinSizes[tile] * 2);
+                }
+                tileBins[tile][tileBinSizes[tile]++] = primitive;
+            }
+        }
+    }
+    
+    /**
+     * Rasterizes the primitives in the bin of a tile.
+     *
+     * @param tile  The index of the tile.
+     * @param clear Whether or not to clear the tile first.
+     */
+    private void rasterizeTile(int tile, boolean clear) {
+        int minX = (tile % tilesX) * TILE_SIZE;
+        int minY = (tile / tilesX) * TILE_SIZE;
+        int maxX = Math.min(minX + TILE_SIZE, width) - 1;
+        int maxY = Math.min(minY + TILE_SIZE, height) - 1;
+        
+        if (clear) {
+            for (int y = minY; y <= maxY; y++) {
+                Arrays.fill(colorBuffer, (y * width) + minX, (y * width) + maxX + 1, 0);
+                Arrays.fill(depthBuffer, (y * width) + minX, (y * width) + maxX + 1, 0.0f);
+            }
+        }
+        
+        int[] bin = tileBins[tile];
+        for (int i = 0; i < tileBinSizes[tile]; i++) {
+            int primitive = bin[i];
+            int index = primitive * PRIMITIVE_STRIDE;
+            int argb = primitiveColors[primitive];
+            switch (primitiveTypes[primitive]) {
+                case POINT:
+                    rasterizePoint((int) primitives[index], (int) primitives[index + 1], (float) primitives[index + 2],
+                            argb, minX, minY, maxX, maxY);
+                    break;
+                case LINE:
+                    rasterizeLine(primitives[index], primitives[index + 1], (float) primitives[index + 2],
+                            primitives[index + 3], primitives[index + 4], (float) primitives[index + 5],
+                            argb, minX, minY, maxX, maxY);
+                    break;
+                case TRIANGLE:
+                    rasterizeTriangle(primitives[index], primitives[index + 1], (float) primitives[index + 2],
+                            primitives[index + 3], primitives[index + 4], (float) primitives[index + 5],
+                            primitives[index + 6], primitives[index + 7], (float) primitives[index + 8],
+                            argb, minX, minY, maxX, maxY);
+                    break;
+            }
+        }
+    }
+    
+    /**
+     * Rasterizes a point within the bounds of a tile.
+     *
+     * @param x    The x coordinate of the point.
+     * @param y    The y coordinate of the point.
+     * @param w    The inverse depth of the point.
+     * @param argb The color of the point, in ARGB format.
+     * @param minX The minimum x coordinate of the tile.
+     * @param minY The minimum y coordinate of the tile.
+     * @param maxX The maximum x coordinate of the tile.
+     * @param maxY The maximum y coordinate of the tile.
+     */
+    private void rasterizePoint(int x, int y, float w, int argb, int minX, int minY, int maxX, int maxY) {
+        for (int py = Math.max(y, minY); py <= Math.min(y + 1, maxY); py++) {
+            for (int px = Math.max(x, minX); px <= Math.min(x + 1, maxX); px++) {
+                plot(px, py, w, argb);
+            }
+        }
+    }
+    
+    /**
+     * Rasterizes a line within the bounds of a tile.<br>
+     * The line is stepped the same way in every tile so that it has no seams, but only the steps within the tile are visited,
+     * so lines with far off screen endpoints are cheap.
+     *
+     * @param x1   The x coordinate of the start of the line.
+     * @param y1   The y coordinate of the start of the line.
+     * @param w1   The inverse depth of the start of the line.
+     * @param x2   The x coordinate of the end of the line.
+     * @param y2   The y coordinate of the end of the line.
+     * @param w2   The inverse depth of the end of the line.
+     * @param argb The color of the line, in ARGB format.
+     * @param minX The minimum x coordinate of the tile.
+     * @param minY The minimum y coordinate of the tile.
+     * @param maxX The maximum x coordinate of the tile.
+     * @param maxY The maximum y coordinate of the tile.
+     */
+    private void rasterizeLine(double x1, double y1, float w1, double x2, double y2, float w2, int argb, int minX, int minY, int maxX, int maxY) {
+        long steps = (long) Math.max(Math.abs(x2 - x1), Math.abs(y2 - y1));
+        if (steps == 0) {
+            rasterizePoint((int) x1, (int) y1, Math.max(w1, w2), argb, minX, minY, maxX, maxY);
+            return;
+        }
+        
+        //clip the line to the pixels that round into the tile, Liang-Barsky
+        double[] range = {0.0, 1.0};
+        if (!clip(x1 - (minX - 0.5), x2 - x1, range) || !clip((maxX + 0.5) - x1, x1 - x2, range) ||
+                !clip(y1 - (minY - 0.5), y2 - y1, range) || !clip((maxY + 0.5) - y1, y1 - y2, range)) {
+            return;
+        }
+        long first = Math.max((long) Math.floor(range[0] * steps) - 1, 0);
+        long last = Math.min((long) Math.ceil(range[1] * steps) + 1, steps);
+        
+        double dx = (x2 - x1) / steps;
+        double dy = (y2 - y1) / steps;
+        float dw = (w2 - w1) / steps;
+        for (long i = first; i <= last; i++) {
+            int x = (int) Math.round(x1 + (dx * i));
+            int y = (int) Math.round(y1 + (dy * i));
+            if ((x >= minX) && (x <= maxX) && (y >= minY) && (y <= maxY)) {
+                plot(x, y, w1 + (dw * i), argb);
+            }
+        }
+    }
+    
+    /**
+     * Rasterizes a triangle within the bounds of a tile.
+     *
+     * @param x1   The x coordinate of the first point.
+     * @param y1   The y coordinate of the first point.
+     * @param w1   The inverse depth of the first point.
+     * @param x2   The x coordinate of the second point.
+     * @param y2   The y coordinate of the second point.
+     * @param w2   The inverse depth of the second point.
+     * @param x3   The x coordinate of the third point.
+     * @param y3   The y coordinate of the third point.
+     * @param w3   The inverse depth of the third point.
+     * @param argb The color of the triangle, in ARGB format.
+     * @param minX The minimum x coordinate of the tile.
+     * @param minY The minimum y coordinate of the tile.
+     * @param maxX The maximum x coordinate of the tile.
+     * @param maxY The maximum y coordinate of the tile.
+     */
+    private void rasterizeTriangle(double x1, double y1, float w1, double x2, double y2, float w2, double x3, double y3, float w3, int argb, int minX, int minY, int maxX, int maxY) {
+        double area = ((x2 - x1) * (y3 - y1)) - ((x3 - x1) * (y2 - y1));
+        if (area == 0) {
+            return;
+        }
+        
+        minX = Math.max((int) Math.floor(Math.min(x1, Math.min(x2, x3))), minX);
+        maxX = Math.min((int) Math.ceil(Math.max(x1, Math.max(x2, x3))), maxX);
+        minY = Math.max((int) Math.floor(Math.min(y1, Math.min(y2, y3))), minY);
+        maxY = Math.min((int) Math.ceil(Math.max(y1, Math.max(y2, y3))), maxY);
+        if ((minX > maxX) || (minY > maxY)) {
+            return;
+        }
+        
+        //edge functions are linear in x and y, so step them across the bounding box
+        double invArea = 1.0 / area;
+        double a1 = (y2 - y3) * invArea;
+        double b1 = (x3 - x2) * invArea;
+        double a2 = (y3 - y1) * invArea;
+        double b2 = (x1 - x3) * invArea;
+        double e1Row = (((x2 - minX) * (y3 - minY)) - ((x3 - minX) * (y2 - minY))) * invArea;
+        double e2Row = (((x3 - minX) * (y1 - minY)) - ((x1 - minX) * (y3 - minY))) * invArea;
+        
+        for (int y = minY; y <= maxY; y++) {
+            double e1 = e1Row;
+            double e2 = e2Row;
+            for (int x = minX; x <= maxX; x++) {
+                double e3 = 1 - e1 - e2;
+                if ((e1 >= -EDGE_TOLERANCE) && (e2 >= -EDGE_TOLERANCE) && (e3 >= -EDGE_TOLERANCE)) {
+                    plot(x, y, (float) ((e1 * w1) + (e2 * w2) + (e3 * w3)), argb);
+                }
+                e1 += a1;
+                e2 += a2;
+            }
+            e1Row += b1;
+            e2Row += b2;
+        }
+    }
+    
+    /**
+     * Plots a pixel if it passes the depth test.<br>
+     * Opaque pixels write to the depth buffer, translucent pixels are blended into the color buffer without writing depth.
+     * Translucent pixels are only plotted after every opaque pixel, so they are tested against all of the opaque geometry.
+     *
+     * @param x    The x coordinate of the pixel.
+     * @param y    The y coordinate of the pixel.
+     * @param w    The inverse depth of the pixel.
+     * @param argb The color of the pixel, in ARGB format.
+     */
+    private void plot(int x, int y, float w, int argb) {
+        int index = (y * width) + x;
+        if (w <= depthBuffer[index]) {
+            return;
+        }
+        
+        int alpha = argb >>> 24;
+        if (alpha == 0xFF) {
+            colorBuffer[index] = argb;
+            depthBuffer[index] = w;
+        } else if (alpha > 0) {
+            colorBuffer[index] = blend(argb, colorBuffer[index]);
+        }
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the width of the buffers.
+     *
+     * @return The width of the buffers.
+     */
+    public int getWidth() {
+        return width;
+    }
+    
+    /**
+     * Returns the height of the buffers.
+     *
+     * @return The height of the buffers.
+     */
+    public int getHeight() {
+        return height;
+    }
+    
+    /**
+     * Returns the image backed by the color buffer.
+     *
+     * @return The image backed by the color buffer.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Clips the parameter range of a line against one boundary, for Liang-Barsky clipping.<br>
+     * The inside of the boundary is where {@code distance + (t * direction) >= 0}.
+     *
+     * @param distance  The signed distance of the start of the line inside the boundary.
+     * @param direction The rate that the line moves inside the boundary as the parameter increases.
+     * @param range     The parameter range of the line, updated in place.
+     * @return Whether any of the line remains inside the boundary.
+     */
+    private static boolean clip(double distance, double direction, double[] range) {
+        if (direction == 0) {
+            return distance >= 0;
+        }
+        double t = -distance / direction;
+        if (direction > 0) {
+            range[0] = Math.max(range[0], t);
+        } else {
+            range[1] = Math.min(range[1], t);
+        }
+        return range[0] <= range[1];
+    }
+    
+    /**
+     * Returns the inverse of a view depth, which can be interpolated linearly in screen space.
+     *
+     * @param depth The view depth.
+     * @return The inverse view depth.
+     */
+    private static float inverseDepth(double depth) {
+        return (depth > 0) ? (float) (1.0 / depth) : Float.MAX_VALUE;
+    }
+    
+    /**
+     * Blends a source color over a destination color.
+     *
+     * @param src The source color, in ARGB format.
+     * @param dst The destination color, in ARGB format.
+     * @return The blended color, in ARGB format.
+     */
+    private static int blend(int src, int dst) {
+        int sa = src >>> 24;
+        int da = dst >>> 24;
+        int outA = sa + ((da * (255 - sa)) / 255);
+        if (outA == 0) {
+            return 0;
+        }
+        
+        int blended = outA << 24;
+        for (int shift = 0; shift <= 16; shift += 8) {
+            int sc = (src >> shift) & 0xFF;
+            int dc = (dst >> shift) & 0xFF;
+            int outC = ((sc * sa) + ((dc * da * (255 - sa)) / 255)) / outA;
+            blended |= (Math.min(outC, 0xFF) << shift);
+        }
+        return blended;
+    }
+    
+}
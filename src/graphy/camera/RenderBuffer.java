@@ -0,0 +1,335 @@
+/*
+ * File:    RenderBuffer.java
+ * Package: graphy.camera
+ * Author:  Zachary Gill
+ */
+
+package graphy.camera;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import graphy.main.Environment;
+
+/**
+ * Schedules the re-validation of Objects that were culled from a perspective, so that they are not checked every frame.<br>
+ * A culled Object is deferred for an interval of frames chosen from how far it is outside the culling boundary and how fast it is approaching it,
+ * so Objects near the edge of the view or moving towards it are checked sooner.
+ * Each frame, the deferred Objects that are due are selected in a fixed order, most overdue first, up to the number that fits in the time budget,
+ * and an Object that has reached the maximum staleness is always checked, so culled Objects never stay stale for longer than that.
+ */
+public class RenderBuffer {
+    
+    //Constants
+    
+    /**
+     * The minimum number of deferred Objects to re-validate per frame, regardless of the budget.
+     */
+    public static final int MIN_REVALIDATIONS = 16;
+    
+    /**
+     * The weight of the cost of the last frame in the average cost of re-validating an Object.
+     */
+    public static final double COST_SMOOTHING = 0.2;
+    
+    
+    //Static Fields
+    
+    /**
+     * The slot to assign to the next Entry, used to order Entries that are otherwise equal.
+     */
+    private static final AtomicInteger nextSlot = new AtomicInteger(0);
+    
+    
+    //Fields
+    
+    /**
+     * The current frame of the Render Buffer.
+     */
+    private volatile long frame = 0;
+    
+    /**
+     * The Entries of the Render Buffer that are deferred.
+     */
+    private final Set<Entry> deferred = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * The time spent re-validating deferred Objects during the current frame in nanoseconds.
+     */
+    private final AtomicLong spent = new AtomicLong(0);
+    
+    /**
+     * The number of deferred Objects re-validated during the current frame.
+     */
+    private final AtomicInteger revalidated = new AtomicInteger(0);
+    
+    /**
+     * The average cost of re-validating a deferred Object in nanoseconds.
+     */
+    private double averageCost = 0.0;
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Render Buffer.
+     */
+    RenderBuffer() {
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Starts a new frame and selects the deferred Objects to re-validate during it.
+     */
+    public synchronized void beginFrame() {
+        int revalidatedLastFrame = revalidated.getAndSet(0);
+        long spentLastFrame = spent.getAndSet(0);
+        if (revalidatedLastFrame > 0) {
+            double cost = (double) spentLastFrame / revalidatedLastFrame;
+            averageCost = (averageCost == 0.0) ? cost : ((averageCost * (1 - COST_SMOOTHING)) + (cost * COST_SMOOTHING));
+        }
+        
+        final long current = ++frame;
+        final int maxStaleness = getMaxStaleness();
+        int forced = 0;
+        List<Entry> due = new ArrayList<>();
+        for (Iterator<Entry> iterator = deferred.iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            long stale = current - entry.checked;
+            if (!entry.deferred || (stale > maxStaleness)) {
+                iterator.remove(); //visible again, or no longer prepared since it was not reached when forced
+            } else if (stale == maxStaleness) {
+                forced++;
+            } else if (stale >= entry.interval) {
+                due.add(entry);
+            }
+        }
+        
+        due.sort(Comparator.comparingDouble((Entry e) -> -((double) (current - e.checked) / e.interval))
+                .thenComparingLong(e -> e.checked)
+                .thenComparingInt(e -> e.slot));
+        int limit = Math.min(due.size(), Math.max(0, getRevalidationLimit() - forced));
+        for (int i = 0; i < limit; i++) {
+            due.get(i).scheduled = current;
+        }
+    }
+    
+    /**
+     * Determines whether an Object should be validated this frame, and starts timing its re-validation if it was deferred.<br>
+     * An Object that was not reached during the last frame, such as a component of an Object that was culled, is always validated.
+     *
+     * @param entry The Entry of the Object.
+     * @return Whether the Object should be validated this frame or not.
+     */
+    public boolean revalidate(Entry entry) {
+        final long current = frame;
+        final long reached = entry.reached;
+        entry.reached = current;
+        if (!entry.deferred) {
+            return true;
+        }
+        
+        if ((entry.scheduled != current) && (reached >= (current - 1)) && ((current - entry.checked) < getMaxStaleness())) {
+            return false;
+        }
+        entry.checkFrame = current;
+        entry.checkStart = System.nanoTime();
+        return true;
+    }
+    
+    /**
+     * Records that an Object was found to be in view.
+     *
+     * @param entry The Entry of the Object.
+     */
+    public void accept(Entry entry) {
+        entry.checked = frame;
+        entry.margin = 0.0;
+        entry.deferred = false;
+    }
+    
+    /**
+     * Defers an Object that was culled.<br>
+     * The Object is checked again after an interval of frames, which is shorter the closer it is to the culling boundary relative to its size,
+     * and shorter than half of the number of frames it would take to reach the boundary at the rate it approached it since it was last checked.
+     * An Object that has not been measured before is checked again on the next frame.
+     *
+     * @param entry  The Entry of the Object.
+     * @param margin The distance of the Object outside of the culling boundary.
+     * @param scale  The size of the Object, which its margin is measured against.
+     */
+    public void defer(Entry entry, double margin, double scale) {
+        final long current = frame;
+        final int maxStaleness = getMaxStaleness();
+        
+        double frames = maxStaleness;
+        if (margin <= 0) {
+            frames = 1; //culled on the boundary
+        } else if (scale > 0) {
+            frames = Math.min(frames, margin / scale);
+        }
+        if (Double.isNaN(entry.margin)) {
+            frames = 1; //check again next frame to measure its approach
+        } else {
+            double approach = (entry.margin - margin) / Math.max(1, current - entry.checked);
+            if (approach > 0) {
+                frames = Math.min(frames, margin / approach / 2);
+            }
+        }
+        
+        entry.interval = (int) Math.max(1, Math.min(maxStaleness, frames));
+        entry.margin = margin;
+        entry.checked = current;
+        entry.deferred = true;
+        deferred.add(entry);
+        
+        if (entry.checkFrame == current) {
+            entry.checkFrame = -1;
+            spent.addAndGet(System.nanoTime() - entry.checkStart);
+            revalidated.incrementAndGet();
+        }
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the current frame of the Render Buffer.
+     *
+     * @return The current frame of the Render Buffer.
+     */
+    public long getFrame() {
+        return frame;
+    }
+    
+    /**
+     * Returns the number of Objects deferred by the Render Buffer.
+     *
+     * @return The number of Objects deferred by the Render Buffer.
+     */
+    public int getDeferredCount() {
+        return deferred.size();
+    }
+    
+    /**
+     * Returns the number of due deferred Objects that fit in the time budget of a frame.
+     *
+     * @return The number of due deferred Objects that fit in the time budget of a frame.
+     */
+    public int getRevalidationLimit() {
+        if (averageCost <= 0.0) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.max(MIN_REVALIDATIONS, Math.min(Integer.MAX_VALUE, Environment.renderBufferBudget / averageCost));
+    }
+    
+    /**
+     * Returns the maximum number of frames that a culled Object may go without being checked.
+     *
+     * @return The maximum number of frames that a culled Object may go without being checked.
+     */
+    private static int getMaxStaleness() {
+        return Math.max(1, Environment.renderBufferStaleness);
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Returns the Render Buffer of a perspective.
+     *
+     * @param perspective The perspective.
+     * @return The Render Buffer of the perspective.
+     */
+    public static RenderBuffer get(UUID perspective) {
+        return RenderContext.get(perspective).getRenderBuffer();
+    }
+    
+    
+    //Inner Classes
+    
+    /**
+     * Defines the state of an Object in a Render Buffer.
+     */
+    public static class Entry {
+        
+        //Fields
+        
+        /**
+         * The slot of the Entry, used to order Entries that are otherwise equal.
+         */
+        private final int slot = nextSlot.getAndIncrement();
+        
+        /**
+         * A flag indicating whether or not the Object is deferred.
+         */
+        private volatile boolean deferred = false;
+        
+        /**
+         * The frame that the Object was last checked in.
+         */
+        private volatile long checked = 0;
+        
+        /**
+         * The frame that the Object was last reached in.
+         */
+        private volatile long reached = 0;
+        
+        /**
+         * The frame that the Object is scheduled to be re-validated in.
+         */
+        private volatile long scheduled = -1;
+        
+        /**
+         * The number of frames to wait before re-validating the Object.
+         */
+        private volatile int interval = 1;
+        
+        /**
+         * The distance of the Object outside of the culling boundary when it was last checked, or NaN if it has not been measured.
+         */
+        private volatile double margin = Double.NaN;
+        
+        /**
+         * The frame that the current re-validation of the Object started in.
+         */
+        private volatile long checkFrame = -1;
+        
+        /**
+         * The time that the current re-validation of the Object started at in nanoseconds.
+         */
+        private volatile long checkStart = 0;
+        
+        
+        //Getters
+        
+        /**
+         * Returns whether or not the Object is deferred.
+         *
+         * @return Whether or not the Object is deferred.
+         */
+        public boolean isDeferred() {
+            return deferred;
+        }
+        
+        /**
+         * Returns the number of frames to wait before re-validating the Object.
+         *
+         * @return The number of frames to wait before re-validating the Object.
+         */
+        public int getInterval() {
+            return interval;
+        }
+        
+    }
+    
+}
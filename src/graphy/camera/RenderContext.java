@@ -0,0 +1,340 @@
+/*
+ * File:    RenderContext.java
+ * Package: graphy.camera
+ * Author:  Zachary Gill
+ */
+
+package graphy.camera;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import commons.math.component.vector.Vector;
+import graphy.object.base.Scene;
+
+/**
+ * Holds the rendering state of a perspective.<br>
+ * Each perspective has its own Cameras, Scene, viewport, and screen size, so different perspectives can be rendered concurrently on different threads.
+ * Each Render Context is also assigned a small index, which Objects use to store their state for the perspective in an array instead of a map.
+ */
+public final class RenderContext {
+    
+    //Static Fields
+    
+    /**
+     * The Render Contexts of each perspective.
+     */
+    private static final Map<UUID, RenderContext> contexts = new ConcurrentHashMap<>();
+    
+    /**
+     * The index to assign to the next Render Context.
+     */
+    private static final AtomicInteger nextIndex = new AtomicInteger(0);
+    
+    
+    //Fields
+    
+    /**
+     * The perspective of the Render Context.
+     */
+    private final UUID perspective;
+    
+    /**
+     * The index of the Render Context.
+     */
+    private final int index;
+    
+    /**
+     * The Cameras registered with the Render Context, by id, in the order they were registered.
+     */
+    private final Map<Integer, Camera> cameras = new LinkedHashMap<>();
+    
+    /**
+     * The id of the active Camera for viewing, or -1 if there is none.
+     */
+    private volatile int activeViewId = -1;
+    
+    /**
+     * The id of the active Camera for controls, or -1 if there is none.
+     */
+    private volatile int activeControlId = -1;
+    
+    /**
+     * The active Camera for viewing.
+     */
+    private volatile Camera activeView = null;
+    
+    /**
+     * The active Camera for controls.
+     */
+    private volatile Camera activeControl = null;
+    
+    /**
+     * The Scene being viewed.
+     */
+    private volatile Scene scene = null;
+    
+    /**
+     * The dimensions of the viewport.
+     */
+    private volatile Vector viewport = null;
+    
+    /**
+     * The dimensions of the screen.
+     */
+    private volatile Vector screenSize = null;
+    
+    /**
+     * Whether the static KeyListener has been set up or not.
+     */
+    private final AtomicBoolean hasSetupStaticKeyListener = new AtomicBoolean(false);
+    
+    /**
+     * The Render Buffer of the Render Context.
+     */
+    private final RenderBuffer renderBuffer = new RenderBuffer();
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Render Context.
+     *
+     * @param perspective The perspective of the Render Context.
+     */
+    private RenderContext(UUID perspective) {
+        this.perspective = perspective;
+        this.index = nextIndex.getAndIncrement();
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Registers a Camera with the Render Context.
+     *
+     * @param camera The Camera.
+     */
+    void registerCamera(Camera camera) {
+        synchronized (cameras) {
+            cameras.put(camera.getCameraId(), camera);
+        }
+    }
+    
+    /**
+     * Unregisters a Camera from the Render Context.
+     *
+     * @param camera The Camera.
+     */
+    void unregisterCamera(Camera camera) {
+        synchronized (cameras) {
+            cameras.remove(camera.getCameraId());
+        }
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the perspective of the Render Context.
+     *
+     * @return The perspective of the Render Context.
+     */
+    public UUID getPerspective() {
+        return perspective;
+    }
+    
+    /**
+     * Returns the index of the Render Context.
+     *
+     * @return The index of the Render Context.
+     */
+    public int getIndex() {
+        return index;
+    }
+    
+    /**
+     * Returns a Camera registered with the Render Context.
+     *
+     * @param cameraId The id of the Camera.
+     * @return The Camera, or null if no Camera with that id is registered.
+     */
+    public Camera getCamera(int cameraId) {
+        synchronized (cameras) {
+            return cameras.get(cameraId);
+        }
+    }
+    
+    /**
+     * Returns the Cameras registered with the Render Context.
+     *
+     * @return The Cameras registered with the Render Context, in the order they were registered.
+     */
+    public List<Camera> getCameras() {
+        synchronized (cameras) {
+            return new ArrayList<>(cameras.values());
+        }
+    }
+    
+    /**
+     * Returns the id of the active Camera for viewing.
+     *
+     * @return The id of the active Camera for viewing, or -1 if there is none.
+     */
+    public int getActiveViewId() {
+        return activeViewId;
+    }
+    
+    /**
+     * Returns the id of the active Camera for controls.
+     *
+     * @return The id of the active Camera for controls, or -1 if there is none.
+     */
+    public int getActiveControlId() {
+        return activeControlId;
+    }
+    
+    /**
+     * Returns the active Camera for viewing.
+     *
+     * @return The active Camera for viewing, or null if there is none.
+     */
+    public Camera getActiveView() {
+        return activeView;
+    }
+    
+    /**
+     * Returns the active Camera for controls.
+     *
+     * @return The active Camera for controls, or null if there is none.
+     */
+    public Camera getActiveControl() {
+        return activeControl;
+    }
+    
+    /**
+     * Returns the Scene being viewed.
+     *
+     * @return The Scene being viewed.
+     */
+    public Scene getScene() {
+        return scene;
+    }
+    
+    /**
+     * Returns the dimensions of the viewport.
+     *
+     * @return The dimensions of the viewport.
+     */
+    public Vector getViewport() {
+        return viewport;
+    }
+    
+    /**
+     * Returns the dimensions of the screen.
+     *
+     * @return The dimensions of the screen.
+     */
+    public Vector getScreenSize() {
+        return screenSize;
+    }
+    
+    /**
+     * Returns the flag indicating whether the static KeyListener has been set up or not.
+     *
+     * @return The flag indicating whether the static KeyListener has been set up or not.
+     */
+    AtomicBoolean getHasSetupStaticKeyListener() {
+        return hasSetupStaticKeyListener;
+    }
+    
+    /**
+     * Returns the Render Buffer of the Render Context.
+     *
+     * @return The Render Buffer of the Render Context.
+     */
+    public RenderBuffer getRenderBuffer() {
+        return renderBuffer;
+    }
+    
+    
+    //Setters
+    
+    /**
+     * Sets the active Camera for viewing.
+     *
+     * @param camera The Camera.
+     */
+    void setActiveView(Camera camera) {
+        activeViewId = camera.getCameraId();
+        activeView = camera;
+    }
+    
+    /**
+     * Sets the active Camera for controls.
+     *
+     * @param camera The Camera.
+     */
+    void setActiveControl(Camera camera) {
+        activeControlId = camera.getCameraId();
+        activeControl = camera;
+    }
+    
+    /**
+     * Sets the Scene being viewed.
+     *
+     * @param scene The Scene.
+     */
+    void setScene(Scene scene) {
+        this.scene = scene;
+    }
+    
+    /**
+     * Sets the dimensions of the viewport.
+     *
+     * @param viewport The dimensions of the viewport.
+     */
+    void setViewport(Vector viewport) {
+        this.viewport = viewport;
+    }
+    
+    /**
+     * Sets the dimensions of the screen.
+     *
+     * @param screenSize The dimensions of the screen.
+     */
+    void setScreenSize(Vector screenSize) {
+        this.screenSize = screenSize;
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Returns the Render Context of a perspective, creating it if it does not exist.
+     *
+     * @param perspective The perspective.
+     * @return The Render Context of the perspective.
+     */
+    public static RenderContext get(UUID perspective) {
+        RenderContext context = contexts.get(perspective);
+        return (context != null) ? context : contexts.computeIfAbsent(perspective, RenderContext::new);
+    }
+    
+    /**
+     * Returns the Render Context of a perspective, if it exists.
+     *
+     * @param perspective The perspective.
+     * @return The Render Context of the perspective, or null if it does not exist.
+     */
+    public static RenderContext find(UUID perspective) {
+        return contexts.get(perspective);
+    }
+    
+}
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.UUID;
 import javax.management.InstanceAlreadyExistsException;
 
+import commons.graphics.Texture;
 import commons.math.component.vector.Vector;
 import graphy.camera.Camera;
 import graphy.object.base.AbstractObject;
@@ -34,11 +35,66 @@ public class Environment extends EnvironmentBase {
      */
     public static final boolean DEFAULT_ENABLE_RENDER_BUFFERING = true;
     
+    /**
+     * The default value of the maximum number of frames that a culled Object may go without being checked when render buffering is utilized.
+     */
+    public static final int DEFAULT_RENDER_BUFFER_STALENESS = 8;
+    
+    /**
+     * The default value of the time budget per frame for checking culled Objects when render buffering is utilized, in nanoseconds.
+     */
+    public static final long DEFAULT_RENDER_BUFFER_BUDGET = 1000000L;
+    
     /**
      * The default value of the maximum distance to render.
      */
     public static final double DEFAULT_MAX_RENDER_DISTANCE = 250.0;
     
+    /**
+     * The default value of the flag indicating whether or not the Scene should be rendered with a depth buffer instead of by sorting.
+     */
+    public static final boolean DEFAULT_ENABLE_DEPTH_BUFFERING = false;
+    
+    /**
+     * The default value of the flag indicating whether or not Objects outside of the view of the Camera should be culled before they are prepared.
+     */
+    public static final boolean DEFAULT_ENABLE_FRUSTUM_CULLING = true;
+    
+    /**
+     * The default value of the flag indicating whether or not the components of the Scene should be selected for rendering through its spatial index.
+     */
+    public static final boolean DEFAULT_ENABLE_SPATIAL_INDEX = false;
+    
+    /**
+     * The default value of the flag indicating whether or not the prepared Vectors of unchanged Objects should be reused between frames.
+     */
+    public static final boolean DEFAULT_ENABLE_INCREMENTAL_PREPARE = true;
+    
+    /**
+     * The default value of the flag indicating whether or not Detailed Objects should be rendered at a level of detail chosen from their size on the screen.
+     */
+    public static final boolean DEFAULT_ENABLE_LEVEL_OF_DETAIL = true;
+    
+    /**
+     * The default value of the scale of the resolution that Mirror Panes are rendered at, relative to their size on the screen.
+     */
+    public static final double DEFAULT_MIRROR_RESOLUTION_SCALE = 1.0;
+    
+    /**
+     * The default value of the fraction of the screen that a Mirror Pane must cover to be updated every frame.
+     */
+    public static final double DEFAULT_MIRROR_FULL_RATE_COVERAGE = 0.1;
+    
+    /**
+     * The default value of the maximum number of frames between updates of a Mirror Pane that covers a small part of the screen.
+     */
+    public static final int DEFAULT_MIRROR_MAX_UPDATE_INTERVAL = 4;
+    
+    /**
+     * The default value of the Filter used to sample the images of Panes and Image Squares.
+     */
+    public static final Texture.Filter DEFAULT_TEXTURE_FILTER = Texture.Filter.MIPMAP_NEAREST;
+    
     
     //Static Fields
     
@@ -47,11 +103,66 @@ public class Environment extends EnvironmentBase {
      */
     public static boolean enableRenderBuffering = DEFAULT_ENABLE_RENDER_BUFFERING;
     
+    /**
+     * The maximum number of frames that a culled Object may go without being checked when render buffering is utilized.
+     */
+    public static int renderBufferStaleness = DEFAULT_RENDER_BUFFER_STALENESS;
+    
+    /**
+     * The time budget per frame for checking culled Objects when render buffering is utilized, in nanoseconds.
+     */
+    public static long renderBufferBudget = DEFAULT_RENDER_BUFFER_BUDGET;
+    
     /**
      * The maximum distance to render.
      */
     public static double maxRenderDistance = DEFAULT_MAX_RENDER_DISTANCE;
     
+    /**
+     * A flag indicating whether or not the Scene should be rendered with a depth buffer instead of by sorting.
+     */
+    public static boolean enableDepthBuffering = DEFAULT_ENABLE_DEPTH_BUFFERING;
+    
+    /**
+     * A flag indicating whether or not Objects outside of the view of the Camera should be culled before they are prepared.
+     */
+    public static boolean enableFrustumCulling = DEFAULT_ENABLE_FRUSTUM_CULLING;
+    
+    /**
+     * A flag indicating whether or not the components of the Scene should be selected for rendering through its spatial index.
+     */
+    public static boolean enableSpatialIndex = DEFAULT_ENABLE_SPATIAL_INDEX;
+    
+    /**
+     * A flag indicating whether or not the prepared Vectors of unchanged Objects should be reused between frames.
+     */
+    public static boolean enableIncrementalPrepare = DEFAULT_ENABLE_INCREMENTAL_PREPARE;
+    
+    /**
+     * A flag indicating whether or not Detailed Objects should be rendered at a level of detail chosen from their size on the screen.
+     */
+    public static boolean enableLevelOfDetail = DEFAULT_ENABLE_LEVEL_OF_DETAIL;
+    
+    /**
+     * The scale of the resolution that Mirror Panes are rendered at, relative to their size on the screen.
+     */
+    public static double mirrorResolutionScale = DEFAULT_MIRROR_RESOLUTION_SCALE;
+    
+    /**
+     * The fraction of the screen that a Mirror Pane must cover to be updated every frame.
+     */
+    public static double mirrorFullRateCoverage = DEFAULT_MIRROR_FULL_RATE_COVERAGE;
+    
+    /**
+     * The maximum number of frames between updates of a Mirror Pane that covers a small part of the screen.
+     */
+    public static int mirrorMaxUpdateInterval = DEFAULT_MIRROR_MAX_UPDATE_INTERVAL;
+    
+    /**
+     * The Filter used to sample the images of Panes and Image Squares.
+     */
+    public static Texture.Filter textureFilter = DEFAULT_TEXTURE_FILTER;
+    
     
     //Fields
     
@@ -102,6 +213,17 @@ public class Environment extends EnvironmentBase {
         Camera.doRender(perspective, g2);
     }
     
+    /**
+     * Publishes a Snapshot of the Scene for the renderer after the Tasks of a tick have run.
+     */
+    @Override
+    protected void publish() {
+        final Scene current = scene;
+        if (current != null) {
+            current.publish();
+        }
+    }
+    
     /**
      * Sizes the window.
      */
@@ -180,7 +302,7 @@ public class Environment extends EnvironmentBase {
      */
     public void setScene(Scene scene) {
         this.scene = scene;
-        frame.setTitle(scene.getName());
+        setTitle(scene.getName());
     }
     
 }
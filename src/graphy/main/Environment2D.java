@@ -79,7 +79,7 @@ public class Environment2D extends EnvironmentBase {
      * @return A random position on the screen.
      */
     public static Vector getRandomPosition() {
-        return new Vector(width, height).times(new Vector(Math.random(), Math.random()));
+        return new Vector(width, height).times(new Vector(Environment2D.random(), Environment2D.random()));
     }
     
     /**
@@ -13,14 +13,18 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.ImageCapabilities;
 import java.awt.LayoutManager2;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -28,6 +32,8 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
@@ -52,15 +58,25 @@ public abstract class EnvironmentBase {
      */
     public static final int MAX_FPS = 60;
     
+    /**
+     * The display width to assume when there is no screen.
+     */
+    public static final int HEADLESS_DISPLAY_WIDTH = 1920;
+    
+    /**
+     * The display height to assume when there is no screen.
+     */
+    public static final int HEADLESS_DISPLAY_HEIGHT = 1080;
+    
     /**
      * The display width of the screen.
      */
-    private static final int DISPLAY_WIDTH = ScreenSize.DISPLAY_WIDTH;
+    private static final int DISPLAY_WIDTH = GraphicsEnvironment.isHeadless() ? HEADLESS_DISPLAY_WIDTH : ScreenSize.DISPLAY_WIDTH;
     
     /**
      * The display height of the screen.
      */
-    private static final int DISPLAY_HEIGHT = ScreenSize.DISPLAY_HEIGHT;
+    private static final int DISPLAY_HEIGHT = GraphicsEnvironment.isHeadless() ? HEADLESS_DISPLAY_HEIGHT : ScreenSize.DISPLAY_HEIGHT;
     
     /**
      * The maximum width of the Window.
@@ -87,6 +103,36 @@ public abstract class EnvironmentBase {
      */
     public static final double OMEGA = 0.0000001;
     
+    /**
+     * The maximum number of simulation ticks to run in a single iteration of the loop when the simulation falls behind.
+     */
+    public static final int MAX_CATCH_UP_TICKS = 5;
+    
+    
+    //Enums
+    
+    /**
+     * An enumeration of the modes of the loop running the Environment.
+     */
+    public enum LoopMode {
+        
+        /**
+         * Renders and then runs a single simulation tick at a fixed rate, skipping ticks while a frame is still rendering.
+         */
+        FIXED_RATE,
+        
+        /**
+         * Runs simulation ticks with a fixed timestep of wall clock time and renders between them as fast as possible.
+         */
+        FIXED_TIMESTEP,
+        
+        /**
+         * Runs simulation ticks with a fixed timestep of wall clock time and paces rendering to the frame rate.
+         */
+        PACED
+        
+    }
+    
     
     //Static Fields
     
@@ -140,6 +186,11 @@ public abstract class EnvironmentBase {
      */
     private static long time = 0;
     
+    /**
+     * The nanoseconds of simulation ticks that have not yet been added to the Environment time.
+     */
+    private static long timeRemainder = 0;
+    
     /**
      * Whether to use the System time instead of the Environment time.
      */
@@ -151,15 +202,40 @@ public abstract class EnvironmentBase {
     public static long lastTime = System.currentTimeMillis();
     
     /**
-     * A list of Tasks to be run after each frame of the Environment.
+     * The mode of the loop running the Environment.
+     */
+    public static LoopMode loopMode = LoopMode.FIXED_RATE;
+    
+    /**
+     * The fraction of a simulation tick that has elapsed since the last tick, for interpolating between ticks while rendering.
+     */
+    private static volatile double interpolationAlpha = 0.0;
+    
+    /**
+     * A flag indicating whether or not the timings of each frame should be recorded in the Frame Metrics.
      */
-    private static final Map<UUID, Task> tasks = new ConcurrentHashMap<>();
+    public static boolean enableFrameMetrics = false;
+    
+    /**
+     * A flag indicating whether or not the Frame Metrics should be drawn over each frame.
+     */
+    public static boolean enableMetricsOverlay = false;
+    
+    /**
+     * The scheduler of the Tasks to be run after each frame of the Environment.
+     */
+    private static final TaskScheduler scheduler = new TaskScheduler();
     
     /**
      * A list of Tasks to be run during the shutdown of the Environment.
      */
     private static final Map<UUID, Task> shutdownTasks = new ConcurrentHashMap<>();
     
+    /**
+     * The source of the random values of the Environment.
+     */
+    private static final Random random = new Random();
+    
     /**
      * A flag indicating whether or not to record the entire session.
      */
@@ -188,6 +264,21 @@ public abstract class EnvironmentBase {
      */
     private boolean doubleBuffering;
     
+    /**
+     * A flag indicating whether or not the Environment is headless, rendering offscreen on demand instead of in a Window.
+     */
+    protected boolean headless = GraphicsEnvironment.isHeadless();
+    
+    /**
+     * The title of the Environment.
+     */
+    private String title = "";
+    
+    /**
+     * The offscreen framebuffer that a headless Environment is rendered into.
+     */
+    private BufferedImage framebuffer;
+    
     /**
      * The buffer populated for captures and recordings.
      */
@@ -230,6 +321,13 @@ public abstract class EnvironmentBase {
         }
         instance = this;
         
+        if (headless) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "ShutdownHook"));
+            setSize(screenWidth, screenHeight, width, height);
+            captureHandler = new CaptureHandler(this);
+            return;
+        }
+        
         frame = new JFrame();
         frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
         frame.getContentPane().setLayout(layout);
@@ -258,10 +356,15 @@ public abstract class EnvironmentBase {
              */
             @Override
             public void paint(Graphics g) {
-                if (doubleBuffering) {
-                    paintWithDoubleBuffer(g);
-                } else {
-                    paintWithoutDoubleBuffer(g);
+                FrameMetrics.beginFrame();
+                try {
+                    if (doubleBuffering) {
+                        paintWithDoubleBuffer(g);
+                    } else {
+                        paintWithoutDoubleBuffer(g);
+                    }
+                } finally {
+                    FrameMetrics.endFrame();
                 }
             }
             
@@ -311,7 +414,9 @@ public abstract class EnvironmentBase {
                             }
                         }
                     } while (bufferStrategy.contentsRestored());
+                    long present = FrameMetrics.start();
                     bufferStrategy.show();
+                    FrameMetrics.stop(FrameMetrics.Metric.PRESENT, present);
                 } while (bufferStrategy.contentsLost());
             }
             
@@ -351,7 +456,7 @@ public abstract class EnvironmentBase {
              */
             @Override
             public void print(Graphics g) {
-                render((Graphics2D) g);
+                renderWithOverlay((Graphics2D) g);
             }
             
         };
@@ -398,17 +503,112 @@ public abstract class EnvironmentBase {
      * Runs the Environment.
      */
     public final void run() {
+        if (headless) {
+            return;
+        }
+        
         if (fps <= 0) {
             renderPanel.repaint();
             
         } else {
             if (thread == null) {
                 thread = Executors.newSingleThreadScheduledExecutor();
-                thread.scheduleAtFixedRate(this::render, 0, 1000 / fps, TimeUnit.MILLISECONDS);
+                if (loopMode == LoopMode.FIXED_RATE) {
+                    thread.scheduleAtFixedRate(this::render, 0, 1000 / fps, TimeUnit.MILLISECONDS);
+                } else {
+                    thread.execute(this::loop);
+                }
             }
         }
     }
     
+    /**
+     * Runs the Environment with a fixed simulation timestep, decoupled from rendering.<br>
+     * Each iteration runs as many simulation ticks as have elapsed in wall clock time, up to a limit,
+     * and then renders a frame with the fraction of the next tick that has elapsed exposed as the interpolation alpha.
+     * While a recording or capture needs the buffer, exactly one tick is run per frame so that the output is deterministic.
+     */
+    private void loop() {
+        final long tickNanos = 1000000000L / fps;
+        
+        long previous = System.nanoTime();
+        long nextFrame = previous;
+        long accumulator = 0;
+        
+        while (!Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+            
+            if (captureHandler.needsBuffer()) {
+                runTicks(1, tickNanos);
+                accumulator = 0;
+            } else {
+                int ticks = (int) Math.min(accumulator / tickNanos, MAX_CATCH_UP_TICKS);
+                runTicks(ticks, tickNanos);
+                accumulator = (ticks == MAX_CATCH_UP_TICKS) ? (accumulator % tickNanos) : (accumulator - (ticks * tickNanos));
+            }
+            interpolationAlpha = (double) accumulator / tickNanos;
+            
+            try {
+                renderFrame();
+            } catch (InterruptedException ignored) {
+                return;
+            } catch (Exception ignored) {
+            }
+            
+            if (loopMode == LoopMode.PACED) {
+                nextFrame += tickNanos;
+                long remaining = nextFrame - System.nanoTime();
+                if (remaining > 0) {
+                    LockSupport.parkNanos(remaining);
+                } else {
+                    nextFrame = System.nanoTime();
+                }
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+    
+    /**
+     * Renders a single frame of the Environment on the event dispatch thread and waits for it to complete.
+     *
+     * @throws Exception When the frame could not be rendered.
+     */
+    private void renderFrame() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            Graphics g = renderPanel.getGraphics();
+            if (g != null) {
+                try {
+                    renderPanel.paint(g);
+                } finally {
+                    g.dispose();
+                }
+            }
+        });
+    }
+    
+    /**
+     * Runs a number of simulation ticks, advancing the Environment time by a fixed timestep for each.<br>
+     * The sub-millisecond part of the timestep is carried over between ticks so that the Environment time does not drift.
+     *
+     * @param ticks     The number of ticks to run.
+     * @param tickNanos The timestep of each tick in nanoseconds.
+     */
+    private void runTicks(int ticks, long tickNanos) {
+        for (int i = 0; i < ticks; i++) {
+            timeRemainder += tickNanos;
+            time += timeRemainder / 1000000L;
+            timeRemainder %= 1000000L;
+            lastTime = System.currentTimeMillis();
+            long start = FrameMetrics.start();
+            scheduler.run(tickNanos);
+            publish();
+            FrameMetrics.stop(FrameMetrics.Metric.TASKS, start);
+        }
+    }
+    
     /**
      * Renders the Environment.
      */
@@ -433,6 +633,11 @@ public abstract class EnvironmentBase {
     public final void shutdown() {
         captureHandler.shutdown();
         shutdownTasks.values().stream().filter(e -> e.active.get()).forEach(e -> e.action.run());
+        scheduler.shutdown();
+        Scheduler.shutdown();
+        if (enableFrameMetrics) {
+            FrameMetrics.export(FrameMetrics.METRICS_DIR);
+        }
     }
     
     /**
@@ -441,7 +646,45 @@ public abstract class EnvironmentBase {
     private void runTasks() {
         time += useSystemTime ? (System.currentTimeMillis() - lastTime) : (1000 / fps);
         lastTime = System.currentTimeMillis();
-        tasks.values().stream().filter(e -> e.active.get()).forEach(e -> e.action.run());
+        long start = FrameMetrics.start();
+        scheduler.run((fps > 0) ? (1000000000L / fps) : 0);
+        publish();
+        FrameMetrics.stop(FrameMetrics.Metric.TASKS, start);
+    }
+    
+    /**
+     * Advances the Environment to a simulated time and renders a frame of it offscreen.<br>
+     * The Tasks of the Environment are run once at the simulated time before the frame is rendered,
+     * so frames can be rendered faster or slower than real time, and without a screen.
+     * The framebuffer is reused between frames, so the returned image is only valid until the next frame is rendered.
+     *
+     * @param simulatedTimeMillis The Environment time of the frame in milliseconds.
+     * @return The framebuffer containing the rendered frame.
+     */
+    public synchronized BufferedImage renderFrame(long simulatedTimeMillis) {
+        FrameMetrics.beginFrame();
+        time = simulatedTimeMillis;
+        timeRemainder = 0;
+        lastTime = System.currentTimeMillis();
+        long start = FrameMetrics.start();
+        scheduler.run(0);
+        publish();
+        FrameMetrics.stop(FrameMetrics.Metric.TASKS, start);
+        
+        if ((framebuffer == null) || (framebuffer.getWidth() != width) || (framebuffer.getHeight() != height)) {
+            framebuffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+        
+        Graphics2D g2 = framebuffer.createGraphics();
+        try {
+            DrawUtility.setColor(g2, Color.BLACK);
+            DrawUtility.fillRect(g2, new IntVector(0, 0), width, height);
+            renderWithOverlay(g2);
+        } finally {
+            DrawUtility.dispose(g2);
+            FrameMetrics.endFrame();
+        }
+        return framebuffer;
     }
     
     /**
@@ -451,10 +694,32 @@ public abstract class EnvironmentBase {
      */
     protected abstract void render(Graphics2D g2);
     
+    /**
+     * Publishes the state of the Environment for the renderer after the Tasks of a tick have run.
+     */
+    protected void publish() {
+    }
+    
+    /**
+     * Renders the Environment and draws the Frame Metrics over it if the overlay is enabled.
+     *
+     * @param g2 The 2D Graphics entity.
+     */
+    private void renderWithOverlay(Graphics2D g2) {
+        render(g2);
+        if (enableFrameMetrics && enableMetricsOverlay) {
+            FrameMetrics.drawOverlay(g2);
+        }
+    }
+    
     /**
      * Sizes the Window.
      */
     protected void sizeWindow() {
+        if (frame == null) {
+            return;
+        }
+        
         renderPanel.setSize(new Dimension(width, height));
         renderPanel.setPreferredSize(new Dimension(renderPanel.getSize()));
         frame.setSize(new Dimension(screenWidth + ScreenSize.BORDER_WIDTH, screenHeight + ScreenSize.BORDER_HEIGHT));
@@ -476,7 +741,11 @@ public abstract class EnvironmentBase {
         if (background != null) {
             Color cacheColor = DrawUtility.getColor(g2);
             DrawUtility.setColor(g2, background);
-            DrawUtility.fillRect(g2, new IntVector(0, 0), renderPanel.getWidth() + 1, renderPanel.getHeight() + 1);
+            if (renderPanel != null) {
+                DrawUtility.fillRect(g2, new IntVector(0, 0), renderPanel.getWidth() + 1, renderPanel.getHeight() + 1);
+            } else {
+                DrawUtility.fillRect(g2, new IntVector(0, 0), width + 1, height + 1);
+            }
             DrawUtility.setColor(g2, cacheColor);
         }
     }
@@ -485,7 +754,7 @@ public abstract class EnvironmentBase {
      * Sets up the KeyListener for the main Environment controls.
      */
     public final void setupMainKeyListener() {
-        if (!hasSetupMainKeyListener.compareAndSet(false, true)) {
+        if (headless || !hasSetupMainKeyListener.compareAndSet(false, true)) {
             return;
         }
         addMainKeyListener();
@@ -526,6 +795,36 @@ public abstract class EnvironmentBase {
     }
     
     
+    //Getters
+    
+    /**
+     * Returns whether or not the Environment is headless.
+     *
+     * @return Whether or not the Environment is headless.
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+    
+    /**
+     * Returns the title of the Environment.
+     *
+     * @return The title of the Environment.
+     */
+    public String getTitle() {
+        return (frame != null) ? frame.getTitle() : title;
+    }
+    
+    /**
+     * Returns the pixels of the offscreen framebuffer of the Environment, as packed RGB values in rows.
+     *
+     * @return The pixels of the offscreen framebuffer, or null if no frame has been rendered offscreen.
+     */
+    public int[] getFramebuffer() {
+        return (framebuffer == null) ? null : ((DataBufferInt) framebuffer.getRaster().getDataBuffer()).getData();
+    }
+    
+    
     //Setters
     
     /**
@@ -535,15 +834,26 @@ public abstract class EnvironmentBase {
      */
     public static void setFps(int fps) {
         EnvironmentBase.fps = Math.min(fps, MAX_FPS);
-        
-        if (instance != null) {
-            if (instance.thread != null) {
-                instance.thread.shutdownNow();
-                instance.thread = null;
-            }
-            instance.rendering.set(false);
-            instance.run();
-        }
+        restart();
+    }
+    
+    /**
+     * Sets the mode of the loop running the Environment.
+     *
+     * @param loopMode The mode of the loop running the Environment.
+     */
+    public static void setLoopMode(LoopMode loopMode) {
+        EnvironmentBase.loopMode = loopMode;
+        restart();
+    }
+    
+    /**
+     * Sets the seed of the source of the random values of the Environment, so that the random values that follow are reproducible.
+     *
+     * @param seed The seed.
+     */
+    public static void setRandomSeed(long seed) {
+        random.setSeed(seed);
     }
     
     /**
@@ -616,7 +926,9 @@ public abstract class EnvironmentBase {
      */
     public void setBackground(Color background) {
         this.background = background;
-        frame.getContentPane().setBackground(background);
+        if (frame != null) {
+            frame.getContentPane().setBackground(background);
+        }
     }
     
     /**
@@ -628,6 +940,27 @@ public abstract class EnvironmentBase {
         this.doubleBuffering = doubleBuffering;
     }
     
+    /**
+     * Sets the flag indicating whether or not the Environment is headless, which must be set before the Environment is set up.
+     *
+     * @param headless Whether the Environment is headless or not.
+     */
+    public void setHeadless(boolean headless) {
+        this.headless = headless || GraphicsEnvironment.isHeadless();
+    }
+    
+    /**
+     * Sets the title of the Environment.
+     *
+     * @param title The title of the Environment.
+     */
+    public void setTitle(String title) {
+        this.title = title;
+        if (frame != null) {
+            frame.setTitle(title);
+        }
+    }
+    
     
     //Functions
     
@@ -640,6 +973,52 @@ public abstract class EnvironmentBase {
         return time;
     }
     
+    /**
+     * Returns a random value from the source of the random values of the Environment.<br>
+     * Scenes and Drawings should use this instead of Math.random() so that they are reproducible once the seed is set.
+     *
+     * @return A random value between 0 (inclusive) and 1 (exclusive).
+     * @see #setRandomSeed(long)
+     */
+    public static double random() {
+        return random.nextDouble();
+    }
+    
+    /**
+     * Returns a random color from the source of the random values of the Environment.<br>
+     * Scenes and Drawings should use this instead of ColorUtility.getRandomColor() so that they are reproducible once the seed is set.
+     *
+     * @param alpha The alpha value for the color.
+     * @return The random color.
+     * @see #random()
+     */
+    public static Color randomColor(int alpha) {
+        int r = (int) (random() * 255) + 1;
+        int g = (int) (random() * 255) + 1;
+        int b = (int) (random() * 255) + 1;
+        return new Color(r, g, b, alpha);
+    }
+    
+    /**
+     * Returns an opaque random color from the source of the random values of the Environment.
+     *
+     * @return The random color.
+     * @see #randomColor(int)
+     */
+    public static Color randomColor() {
+        return randomColor(255);
+    }
+    
+    /**
+     * Returns the fraction of a simulation tick that has elapsed since the last tick.<br>
+     * Renderers may use this to interpolate between the states of the last two ticks; it is always 0 in the fixed rate loop mode.
+     *
+     * @return The fraction of a simulation tick that has elapsed since the last tick, between 0 and 1.
+     */
+    public static double getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+    
     /**
      * Adds a Task to the Environment.
      *
@@ -647,29 +1026,72 @@ public abstract class EnvironmentBase {
      * @return The id of the Task that was added.
      */
     public static UUID addTask(Task task) {
-        tasks.put(task.id, task);
-        return task.id;
+        return scheduler.add(task);
     }
     
     /**
      * Adds a Task to the Environment.
      *
-     * @param action The action of the Task.
+     * @param action   The action of the Task.
+     * @param phase    The phase of the tick to run the Task in.
+     * @param parallel Whether the Task may be run at the same time as the other parallel Tasks of its phase.
      * @return The id of the Task that was added.
      */
-    public static UUID addTask(Runnable action) {
+    public static UUID addTask(Runnable action, TaskScheduler.Phase phase, boolean parallel) {
         Task task = new Task();
         task.action = action;
+        task.phase = phase;
+        task.parallel = parallel;
         return addTask(task);
     }
     
+    /**
+     * Adds a Task to the Environment that is run one after another with the other Tasks of its phase.
+     *
+     * @param action The action of the Task.
+     * @param phase  The phase of the tick to run the Task in.
+     * @return The id of the Task that was added.
+     */
+    public static UUID addTask(Runnable action, TaskScheduler.Phase phase) {
+        return addTask(action, phase, false);
+    }
+    
+    /**
+     * Adds a Task to the Environment that is run one after another with the other Tasks of the animation phase.
+     *
+     * @param action The action of the Task.
+     * @return The id of the Task that was added.
+     */
+    public static UUID addTask(Runnable action) {
+        return addTask(action, TaskScheduler.Phase.ANIMATION);
+    }
+    
     /**
      * Removes a Task from the Environment.
      *
      * @param id The id of the Task to remove.
      */
     public static void removeTask(UUID id) {
-        tasks.remove(id);
+        scheduler.remove(id);
+    }
+    
+    /**
+     * Returns a Task of the Environment.
+     *
+     * @param id The id of the Task.
+     * @return The Task, or null if the Environment does not have a Task with that id.
+     */
+    public static Task getTask(UUID id) {
+        return scheduler.getTask(id);
+    }
+    
+    /**
+     * Returns the scheduler of the Tasks of the Environment.
+     *
+     * @return The scheduler of the Tasks of the Environment.
+     */
+    public static TaskScheduler getScheduler() {
+        return scheduler;
     }
     
     /**
@@ -678,7 +1100,7 @@ public abstract class EnvironmentBase {
      * @param id The id of the Task to pause.
      */
     public static void pauseTask(UUID id) {
-        Task task = tasks.get(id);
+        Task task = scheduler.getTask(id);
         if (task != null) {
             task.active.set(false);
         }
@@ -690,7 +1112,7 @@ public abstract class EnvironmentBase {
      * @param id The id the Task to resume.
      */
     public static void resumeTask(UUID id) {
-        Task task = tasks.get(id);
+        Task task = scheduler.getTask(id);
         if (task != null) {
             task.active.set(true);
         }
@@ -709,11 +1131,26 @@ public abstract class EnvironmentBase {
         return task.id;
     }
     
+    /**
+     * Restarts the loop running the Environment, if it is running.
+     */
+    private static void restart() {
+        if (instance != null) {
+            if (instance.thread != null) {
+                instance.thread.shutdownNow();
+                instance.thread = null;
+            }
+            instance.rendering.set(false);
+            interpolationAlpha = 0.0;
+            instance.run();
+        }
+    }
+    
     
     //Inner Classes
     
     /**
-     * Defines a task to be run after each frame of the Environment.
+     * Defines a task to be run after each frame of the Environment, in a phase of the tick.
      */
     public static class Task {
         
@@ -734,6 +1171,47 @@ public abstract class EnvironmentBase {
          */
         public AtomicBoolean active = new AtomicBoolean(true);
         
+        /**
+         * The phase of the tick that the Task is run in.
+         */
+        public TaskScheduler.Phase phase = TaskScheduler.Phase.ANIMATION;
+        
+        /**
+         * The ids of the Tasks of the same phase that must be run before the Task.
+         */
+        public final Set<UUID> dependencies = ConcurrentHashMap.newKeySet();
+        
+        /**
+         * A flag indicating whether the Task may be skipped when the tick has exceeded its budget.
+         */
+        public boolean skipIfLate = false;
+        
+        /**
+         * A flag indicating whether the Task may be run at the same time as the other parallel Tasks of its phase.<br>
+         * Only Tasks that do not touch state shared with other Tasks should be parallel.
+         */
+        public boolean parallel = false;
+        
+        /**
+         * The duration of the last run of the Task in nanoseconds.
+         */
+        public final AtomicLong lastDuration = new AtomicLong(0);
+        
+        /**
+         * The total duration of the runs of the Task in nanoseconds.
+         */
+        public final AtomicLong totalDuration = new AtomicLong(0);
+        
+        /**
+         * The number of times the Task has been run.
+         */
+        public final AtomicLong runs = new AtomicLong(0);
+        
+        /**
+         * The number of times the Task has been skipped because the tick was late.
+         */
+        public final AtomicLong skips = new AtomicLong(0);
+        
         
         //Constructors
         
@@ -744,6 +1222,19 @@ public abstract class EnvironmentBase {
             id = UUID.randomUUID();
         }
         
+        
+        //Getters
+        
+        /**
+         * Returns the average duration of the runs of the Task.
+         *
+         * @return The average duration of the runs of the Task in nanoseconds.
+         */
+        public long getAverageDuration() {
+            long count = runs.get();
+            return (count == 0) ? 0 : (totalDuration.get() / count);
+        }
+        
     }
     
 }
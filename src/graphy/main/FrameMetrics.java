@@ -0,0 +1,653 @@
+/*
+ * File:    FrameMetrics.java
+ * Package: graphy.main
+ * Author:  Zachary Gill
+ */
+
+package graphy.main;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import commons.graphics.DrawUtility;
+import commons.math.component.vector.IntVector;
+import commons.math.component.vector.Vector;
+
+/**
+ * Records the timing of the phases of each frame of the Environment and of its Tasks.<br>
+ * Measurements are accumulated into the current frame while it is rendered and committed to a ring buffer when it ends,
+ * so that the metrics of the most recent frames can be summarized, drawn as an overlay, or exported.
+ */
+public final class FrameMetrics {
+    
+    //Constants
+    
+    /**
+     * The number of frames, and runs of each Task, that are kept in the ring buffers.
+     */
+    public static final int CAPACITY = 1024;
+    
+    /**
+     * The directory to export metrics to.
+     */
+    public static final File METRICS_DIR = new File("metrics");
+    
+    /**
+     * The font size of the metrics overlay.
+     */
+    public static final int FONT_SIZE = 12;
+    
+    /**
+     * The color of the background of the metrics overlay.
+     */
+    public static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 160);
+    
+    
+    //Enums
+    
+    /**
+     * An enumeration of the metrics recorded for each frame.
+     */
+    public enum Metric {
+        
+        /**
+         * The total time of the frame in nanoseconds.
+         */
+        FRAME("frame_ns"),
+        
+        /**
+         * The time spent running the Tasks of the Environment in nanoseconds.
+         */
+        TASKS("tasks_ns"),
+        
+        /**
+         * The time spent selecting the Objects in view in nanoseconds.
+         */
+        CULL("cull_ns"),
+        
+        /**
+         * The time spent preparing the Objects for rendering in nanoseconds.
+         */
+        PREPARE("prepare_ns"),
+        
+        /**
+         * The time spent sorting the prepared Objects in nanoseconds.
+         */
+        SORT("sort_ns"),
+        
+        /**
+         * The time spent drawing the prepared Objects in nanoseconds.
+         */
+        DRAW("draw_ns"),
+        
+        /**
+         * The time spent presenting the frame to the screen in nanoseconds.
+         */
+        PRESENT("present_ns"),
+        
+        /**
+         * The number of Objects selected for rendering.
+         */
+        OBJECTS("objects"),
+        
+        /**
+         * The number of prepared primitives drawn.
+         */
+        PRIMITIVES("primitives"),
+        
+        /**
+         * The number of bytes allocated by all live threads during the frame, including the workers that prepare and draw it.<br>
+         * Allocations by threads that terminate before the frame ends are not counted.
+         */
+        ALLOCATED("allocated_bytes");
+        
+        /**
+         * The name of the Metric in exports.
+         */
+        private final String name;
+        
+        /**
+         * The constructor for a Metric.
+         *
+         * @param name The name of the Metric in exports.
+         */
+        Metric(String name) {
+            this.name = name;
+        }
+        
+        /**
+         * Returns the name of the Metric in exports.
+         *
+         * @return The name of the Metric in exports.
+         */
+        public String getName() {
+            return name;
+        }
+        
+    }
+    
+    
+    //Static Fields
+    
+    /**
+     * The Metrics, in the order of the columns of the frame ring buffer.
+     */
+    private static final Metric[] metrics = Metric.values();
+    
+    /**
+     * The accumulated values of the Metrics of the current frame.
+     */
+    private static final AtomicLongArray current = new AtomicLongArray(metrics.length);
+    
+    /**
+     * The ring buffer of the Metrics of the most recent frames.
+     */
+    private static final RingBuffer frames = new RingBuffer(CAPACITY, metrics.length);
+    
+    /**
+     * The ring buffers of the durations of the most recent runs of each Task.
+     */
+    private static final Map<UUID, RingBuffer> tasks = new ConcurrentHashMap<>();
+    
+    /**
+     * The bean of the Java Virtual Machine used to measure allocations, or null if allocations can not be measured.
+     */
+    private static final com.sun.management.ThreadMXBean allocationBean = createAllocationBean();
+    
+    /**
+     * The start time of the current frame in nanoseconds, or 0 if no frame is being recorded.
+     */
+    private static volatile long frameStart = 0;
+    
+    /**
+     * The number of bytes allocated by each live thread at the start of the current frame, by thread id.
+     */
+    private static volatile Map<Long, Long> allocatedStart = new HashMap<>();
+    
+    
+    //Constructors
+    
+    /**
+     * The private constructor for Frame Metrics.
+     */
+    private FrameMetrics() {
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Starts recording a frame on the current thread.
+     */
+    public static void beginFrame() {
+        if (!EnvironmentBase.enableFrameMetrics) {
+            return;
+        }
+        if (allocationBean != null) {
+            allocatedStart = getAllocatedBytes();
+        }
+        frameStart = System.nanoTime();
+    }
+    
+    /**
+     * Ends recording the current frame and commits its Metrics to the ring buffer.
+     */
+    public static void endFrame() {
+        final long start = frameStart;
+        if (start == 0) {
+            return;
+        }
+        frameStart = 0;
+        
+        add(Metric.FRAME, System.nanoTime() - start);
+        if (allocationBean != null) {
+            add(Metric.ALLOCATED, getAllocatedBytesSince(allocatedStart));
+        }
+        
+        long[] row = new long[metrics.length];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = current.getAndSet(i, 0);
+        }
+        frames.record(row);
+    }
+    
+    /**
+     * Starts timing a phase of the current frame.
+     *
+     * @return The start time of the phase, or 0 if metrics are disabled.
+     */
+    public static long start() {
+        return EnvironmentBase.enableFrameMetrics ? System.nanoTime() : 0;
+    }
+    
+    /**
+     * Ends timing a phase of the current frame.
+     *
+     * @param metric The Metric of the phase.
+     * @param start  The start time of the phase returned by start().
+     */
+    public static void stop(Metric metric, long start) {
+        if (start != 0) {
+            add(metric, System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Adds a value to a Metric of the current frame.
+     *
+     * @param metric The Metric.
+     * @param value  The value to add.
+     */
+    public static void add(Metric metric, long value) {
+        if (EnvironmentBase.enableFrameMetrics) {
+            current.addAndGet(metric.ordinal(), value);
+        }
+    }
+    
+    /**
+     * Records the duration of a run of a Task.
+     *
+     * @param id       The id of the Task.
+     * @param duration The duration of the run in nanoseconds.
+     */
+    public static void recordTask(UUID id, long duration) {
+        if (EnvironmentBase.enableFrameMetrics) {
+            tasks.computeIfAbsent(id, e -> new RingBuffer(CAPACITY, 1)).record(new long[] {duration});
+        }
+    }
+    
+    /**
+     * Discards the recorded durations of a Task.
+     *
+     * @param id The id of the Task.
+     */
+    public static void removeTask(UUID id) {
+        tasks.remove(id);
+    }
+    
+    /**
+     * Summarizes a Metric over the recorded frames.
+     *
+     * @param metric The Metric.
+     * @return The Summary of the Metric.
+     */
+    public static Summary summarize(Metric metric) {
+        return new Summary(frames.column(metric.ordinal()));
+    }
+    
+    /**
+     * Summarizes the durations of the recorded runs of a Task.
+     *
+     * @param id The id of the Task.
+     * @return The Summary of the durations of the Task, or null if no runs of the Task have been recorded.
+     */
+    public static Summary summarizeTask(UUID id) {
+        RingBuffer task = tasks.get(id);
+        return (task == null) ? null : new Summary(task.column(0));
+    }
+    
+    /**
+     * Discards all recorded metrics.
+     */
+    public static void reset() {
+        frameStart = 0;
+        for (int i = 0; i < metrics.length; i++) {
+            current.set(i, 0);
+        }
+        frames.clear();
+        tasks.clear();
+    }
+    
+    /**
+     * Draws the summaries of the recorded metrics as an overlay.
+     *
+     * @param g The graphics output.
+     */
+    public static void drawOverlay(Graphics2D g) {
+        List<String> lines = new ArrayList<>();
+        lines.add("frames:     " + frames.size());
+        for (Metric metric : metrics) {
+            Summary summary = summarize(metric);
+            if (metric.getName().endsWith("_ns")) {
+                lines.add(String.format("%-11s p50 %7.2f ms  p99 %7.2f ms  max %7.2f ms",
+                        metric.name().toLowerCase() + ':', summary.p50 / 1000000.0, summary.p99 / 1000000.0, summary.max / 1000000.0));
+            } else {
+                lines.add(String.format("%-11s p50 %10d  p99 %10d  max %10d",
+                        metric.name().toLowerCase() + ':', summary.p50, summary.p99, summary.max));
+            }
+        }
+        
+        DrawUtility.setFont(g, new Font("Console", Font.PLAIN, FONT_SIZE));
+        int width = lines.stream().mapToInt(e -> g.getFontMetrics().stringWidth(e)).max().orElse(0);
+        DrawUtility.setColor(g, OVERLAY_BACKGROUND);
+        DrawUtility.fillRect(g, new IntVector(FONT_SIZE / 2, FONT_SIZE), width + FONT_SIZE, (lines.size() + 1) * FONT_SIZE);
+        
+        DrawUtility.setColor(g, Color.WHITE);
+        int y = FONT_SIZE;
+        for (String line : lines) {
+            DrawUtility.drawString(g, line, new Vector(FONT_SIZE, y += FONT_SIZE));
+        }
+    }
+    
+    /**
+     * Exports the recorded metrics to a directory.<br>
+     * The Metrics of each recorded frame are written to frames.csv, and the summaries of the Metrics and of the Tasks are written to summary.json.
+     *
+     * @param dir The directory to export to.
+     * @return Whether the metrics were exported successfully or not.
+     */
+    public static boolean export(File dir) {
+        try {
+            if (!dir.exists() && !dir.mkdirs()) {
+                return false;
+            }
+            Files.write(new File(dir, "frames.csv").toPath(), toCsv(), StandardCharsets.UTF_8);
+            Files.write(new File(dir, "summary.json").toPath(), toJson().getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (Exception ignored) {
+            return false;
+        }
+    }
+    
+    /**
+     * Formats the Metrics of the recorded frames as CSV, from oldest to newest.
+     *
+     * @return The lines of the CSV.
+     */
+    public static List<String> toCsv() {
+        long[][] columns = new long[metrics.length][];
+        for (int i = 0; i < metrics.length; i++) {
+            columns[i] = frames.column(i);
+        }
+        
+        List<String> lines = new ArrayList<>();
+        StringBuilder header = new StringBuilder("frame");
+        for (Metric metric : metrics) {
+            header.append(',').append(metric.getName());
+        }
+        lines.add(header.toString());
+        
+        long first = frames.count.get() - columns[0].length;
+        for (int row = 0; row < columns[0].length; row++) {
+            StringBuilder line = new StringBuilder().append(first + row);
+            for (long[] column : columns) {
+                line.append(',').append(column[row]);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+    
+    /**
+     * Formats the summaries of the Metrics of the recorded frames and of the durations of the Tasks as JSON.
+     *
+     * @return The JSON.
+     */
+    public static String toJson() {
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"frames\": ").append(frames.count.get()).append(",\n");
+        json.append("  \"metrics\": {\n");
+        for (int i = 0; i < metrics.length; i++) {
+            json.append("    \"").append(metrics[i].getName()).append("\": ").append(summarize(metrics[i]).toJson())
+                    .append((i < metrics.length - 1) ? ",\n" : "\n");
+        }
+        json.append("  },\n");
+        json.append("  \"tasks\": {");
+        String separator = "\n";
+        for (Map.Entry<UUID, RingBuffer> task : tasks.entrySet()) {
+            json.append(separator).append("    \"").append(task.getKey()).append("\": ").append(new Summary(task.getValue().column(0)).toJson());
+            separator = ",\n";
+        }
+        json.append(tasks.isEmpty() ? "}\n" : "\n  }\n");
+        json.append("}\n");
+        return json.toString();
+    }
+    
+    /**
+     * Returns the number of bytes allocated by each live thread.
+     *
+     * @return The number of bytes allocated by each live thread, by thread id.
+     */
+    private static Map<Long, Long> getAllocatedBytes() {
+        long[] ids = allocationBean.getAllThreadIds();
+        long[] bytes = allocationBean.getThreadAllocatedBytes(ids);
+        Map<Long, Long> allocated = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            if (bytes[i] >= 0) {
+                allocated.put(ids[i], bytes[i]);
+            }
+        }
+        return allocated;
+    }
+    
+    /**
+     * Returns the number of bytes allocated by all live threads since a previous measurement.<br>
+     * Threads that started since the measurement are counted from zero, and threads that have terminated since are not counted.
+     *
+     * @param start The number of bytes allocated by each live thread at the previous measurement, by thread id.
+     * @return The number of bytes allocated by all live threads since the measurement.
+     */
+    private static long getAllocatedBytesSince(Map<Long, Long> start) {
+        long total = 0;
+        for (Map.Entry<Long, Long> thread : getAllocatedBytes().entrySet()) {
+            total += thread.getValue() - start.getOrDefault(thread.getKey(), 0L);
+        }
+        return total;
+    }
+    
+    /**
+     * Creates the bean used to measure allocations.
+     *
+     * @return The bean, or null if the Java Virtual Machine does not support measuring allocations.
+     */
+    private static com.sun.management.ThreadMXBean createAllocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+                if (allocationBean.isThreadAllocatedMemorySupported()) {
+                    allocationBean.setThreadAllocatedMemoryEnabled(true);
+                    return allocationBean;
+                }
+            }
+        } catch (Throwable ignored) {
+        }
+        return null;
+    }
+    
+    
+    //Inner Classes
+    
+    /**
+     * Defines a lock-free ring buffer of rows of values.<br>
+     * A writer claims a row by incrementing the count, so concurrent writers never share a row.
+     * Readers may observe a row while it is being overwritten, which is acceptable for metrics.
+     */
+    private static class RingBuffer {
+        
+        //Fields
+        
+        /**
+         * The number of rows of the Ring Buffer.
+         */
+        private final int capacity;
+        
+        /**
+         * The number of values in each row of the Ring Buffer.
+         */
+        private final int width;
+        
+        /**
+         * The values of the Ring Buffer.
+         */
+        private final AtomicLongArray values;
+        
+        /**
+         * The number of rows that have been recorded in the Ring Buffer.
+         */
+        private final AtomicLong count = new AtomicLong(0);
+        
+        
+        //Constructors
+        
+        /**
+         * The constructor for a Ring Buffer.
+         *
+         * @param capacity The number of rows of the Ring Buffer.
+         * @param width    The number of values in each row of the Ring Buffer.
+         */
+        RingBuffer(int capacity, int width) {
+            this.capacity = capacity;
+            this.width = width;
+            this.values = new AtomicLongArray(capacity * width);
+        }
+        
+        
+        //Methods
+        
+        /**
+         * Records a row in the Ring Buffer, overwriting the oldest row once it is full.
+         *
+         * @param row The values of the row.
+         */
+        void record(long[] row) {
+            int base = (int) (count.getAndIncrement() % capacity) * width;
+            for (int i = 0; i < width; i++) {
+                values.set(base + i, row[i]);
+            }
+        }
+        
+        /**
+         * Returns a column of the rows in the Ring Buffer, from oldest to newest.
+         *
+         * @param index The index of the column.
+         * @return The values of the column.
+         */
+        long[] column(int index) {
+            long recorded = count.get();
+            int size = (int) Math.min(recorded, capacity);
+            long[] column = new long[size];
+            for (int i = 0; i < size; i++) {
+                int row = (int) ((recorded - size + i) % capacity);
+                column[i] = values.get((row * width) + index);
+            }
+            return column;
+        }
+        
+        /**
+         * Returns the number of rows in the Ring Buffer.
+         *
+         * @return The number of rows in the Ring Buffer.
+         */
+        int size() {
+            return (int) Math.min(count.get(), capacity);
+        }
+        
+        /**
+         * Discards the rows of the Ring Buffer.
+         */
+        void clear() {
+            count.set(0);
+        }
+        
+    }
+    
+    /**
+     * Defines a summary of the recorded values of a metric.
+     */
+    public static class Summary {
+        
+        //Fields
+        
+        /**
+         * The number of values.
+         */
+        public final int count;
+        
+        /**
+         * The median of the values.
+         */
+        public final long p50;
+        
+        /**
+         * The 99th percentile of the values.
+         */
+        public final long p99;
+        
+        /**
+         * The maximum of the values.
+         */
+        public final long max;
+        
+        /**
+         * The mean of the values.
+         */
+        public final double mean;
+        
+        
+        //Constructors
+        
+        /**
+         * The constructor for a Summary.
+         *
+         * @param values The values to summarize.
+         */
+        Summary(long[] values) {
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            count = sorted.length;
+            p50 = percentile(sorted, 0.50);
+            p99 = percentile(sorted, 0.99);
+            max = (count == 0) ? 0 : sorted[count - 1];
+            mean = (count == 0) ? 0.0 : Arrays.stream(sorted).average().orElse(0.0);
+        }
+        
+        
+        //Methods
+        
+        /**
+         * Formats the Summary as JSON.
+         *
+         * @return The JSON.
+         */
+        public String toJson() {
+            return String.format(Locale.ROOT, "{\"count\": %d, \"p50\": %d, \"p99\": %d, \"max\": %d, \"mean\": %.1f}", count, p50, p99, max, mean);
+        }
+        
+        
+        //Functions
+        
+        /**
+         * Returns a percentile of a sorted array of values, by the nearest rank method.
+         *
+         * @param sorted     The sorted values.
+         * @param percentile The percentile, between 0 and 1.
+         * @return The value at the percentile, or 0 if there are no values.
+         */
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+        }
+        
+    }
+    
+}
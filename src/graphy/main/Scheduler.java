@@ -0,0 +1,164 @@
+/*
+ * File:    Scheduler.java
+ * Package: graphy.main
+ * Author:  Zachary Gill
+ */
+
+package graphy.main;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Schedules the background work of the Environment and its Objects on a fixed set of shared threads.<br>
+ * Periodic actions run on a single timer thread and must not block.
+ * Delayed and submitted actions, which may block, run on a worker executor that uses a virtual thread per action when the runtime supports it,
+ * and otherwise on a bounded pool of worker threads, queuing the actions that arrive while all of its threads are busy.
+ */
+public final class Scheduler {
+    
+    //Constants
+    
+    /**
+     * The name of the timer thread of the Scheduler.
+     */
+    public static final String TIMER_THREAD_NAME = "Graphy-Timer";
+    
+    /**
+     * The prefix of the names of the worker threads of the Scheduler.
+     */
+    public static final String WORKER_THREAD_PREFIX = "Graphy-Worker-";
+    
+    /**
+     * The system property that sets the number of worker threads of the Scheduler when the runtime does not support virtual threads.
+     */
+    public static final String WORKER_THREADS_PROPERTY = "graphy.scheduler.workers";
+    
+    /**
+     * The default number of worker threads of the Scheduler when the runtime does not support virtual threads.<br>
+     * There are at least four, so that a few blocking actions do not hold up the others on machines with few cores.
+     */
+    public static final int DEFAULT_WORKER_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    
+    /**
+     * The time that an idle worker thread of the Scheduler is kept alive in milliseconds.
+     */
+    public static final long WORKER_KEEP_ALIVE = 60000;
+    
+    
+    //Static Fields
+    
+    /**
+     * The timer of the Scheduler.
+     */
+    private static final ScheduledExecutorService timer = createTimer();
+    
+    /**
+     * The worker executor of the Scheduler.
+     */
+    private static final ExecutorService worker = createWorker();
+    
+    
+    //Constructors
+    
+    /**
+     * The private constructor for the Scheduler.
+     */
+    private Scheduler() {
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Runs an action on the worker executor.
+     *
+     * @param action The action.
+     * @return A future that completes when the action has run.
+     */
+    public static CompletableFuture<Void> submit(Runnable action) {
+        return CompletableFuture.runAsync(action, worker);
+    }
+    
+    /**
+     * Runs an action on the worker executor after a delay.
+     *
+     * @param action The action.
+     * @param delay  The delay before running the action in milliseconds.
+     * @return A future that completes when the action has run.
+     */
+    public static CompletableFuture<Void> schedule(Runnable action, long delay) {
+        return CompletableFuture.runAsync(action, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, worker));
+    }
+    
+    /**
+     * Runs an action periodically on the timer thread.
+     *
+     * @param action The action, which must not block.
+     * @param delay  The delay before the first run of the action in milliseconds.
+     * @param period The period between runs of the action in milliseconds.
+     * @return The future of the periodic action, which can be used to cancel it.
+     */
+    public static ScheduledFuture<?> scheduleAtFixedRate(Runnable action, long delay, long period) {
+        return timer.scheduleAtFixedRate(action, delay, period, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Shuts down the Scheduler.
+     */
+    public static void shutdown() {
+        timer.shutdownNow();
+        worker.shutdownNow();
+    }
+    
+    /**
+     * Creates the timer of the Scheduler.
+     *
+     * @return The timer.
+     */
+    private static ScheduledExecutorService createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, TIMER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+    
+    /**
+     * Creates the worker executor of the Scheduler.<br>
+     * A virtual thread per task executor is used when the runtime provides one.
+     * Otherwise a pool of daemon threads is used, sized by the {@value #WORKER_THREADS_PROPERTY} system property or {@link #DEFAULT_WORKER_THREADS},
+     * which queues actions while all of its threads are busy and lets idle threads exit.
+     *
+     * @return The worker executor.
+     */
+    private static ExecutorService createWorker() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ignored) {
+        }
+        
+        final AtomicInteger count = new AtomicInteger(0);
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        int threads = Math.max(1, Integer.getInteger(WORKER_THREADS_PROPERTY, DEFAULT_WORKER_THREADS));
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, WORKER_KEEP_ALIVE, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), factory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+    
+}
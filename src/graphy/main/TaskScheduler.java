@@ -0,0 +1,272 @@
+/*
+ * File:    TaskScheduler.java
+ * Package: graphy.main
+ * Author:  Zachary Gill
+ */
+
+package graphy.main;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Schedules the Tasks of the Environment.<br>
+ * Each tick, the Tasks are run phase by phase in the order of their phases.
+ * Within a phase, the Tasks are run in waves, each wave containing the Tasks whose dependencies have all been run.
+ * The Tasks of a wave that have opted in to parallelism are run together on a work stealing pool,
+ * then the remaining Tasks of the wave are run one after another, so a Task that has not opted in never runs at the same time as another Task.
+ */
+public class TaskScheduler {
+    
+    //Enums
+    
+    /**
+     * An enumeration of the phases of a tick, in the order that they are run.
+     */
+    public enum Phase {
+        
+        /**
+         * The phase in which user input is applied.
+         */
+        INPUT,
+        
+        /**
+         * The phase in which Objects are animated.
+         */
+        ANIMATION,
+        
+        /**
+         * The phase in which Objects are constrained to the positions of other Objects.
+         */
+        CONSTRAINT,
+        
+        /**
+         * The phase in which Cameras are recalculated.
+         */
+        CAMERA,
+        
+        /**
+         * The phase in which the Environment is prepared for the next frame.
+         */
+        PRE_RENDER
+        
+    }
+    
+    
+    //Fields
+    
+    /**
+     * The Tasks of the Task Scheduler.
+     */
+    private final Map<UUID, EnvironmentBase.Task> tasks = new ConcurrentHashMap<>();
+    
+    /**
+     * The work stealing pool that the Tasks of a wave are run on.
+     */
+    private final ForkJoinPool pool;
+    
+    /**
+     * A flag indicating whether or not to run the parallel Tasks of a wave in parallel.
+     */
+    private boolean parallel = true;
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Task Scheduler.
+     *
+     * @param parallelism The number of threads of the work stealing pool.
+     */
+    public TaskScheduler(int parallelism) {
+        pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+    
+    /**
+     * The default constructor for a Task Scheduler.
+     */
+    public TaskScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Adds a Task to the Task Scheduler.
+     *
+     * @param task The Task.
+     * @return The id of the Task that was added.
+     */
+    public UUID add(EnvironmentBase.Task task) {
+        tasks.put(task.id, task);
+        return task.id;
+    }
+    
+    /**
+     * Removes a Task from the Task Scheduler.
+     *
+     * @param id The id of the Task to remove.
+     */
+    public void remove(UUID id) {
+        tasks.remove(id);
+        FrameMetrics.removeTask(id);
+    }
+    
+    /**
+     * Runs a tick of the active Tasks of the Task Scheduler.<br>
+     * Tasks that may be skipped when late are not run once the tick has exceeded its budget.
+     *
+     * @param budget The budget of the tick in nanoseconds, or 0 if the tick has no budget.
+     */
+    public void run(long budget) {
+        final long start = System.nanoTime();
+        
+        Map<Phase, List<EnvironmentBase.Task>> phases = new EnumMap<>(Phase.class);
+        for (EnvironmentBase.Task task : tasks.values()) {
+            if (task.active.get()) {
+                phases.computeIfAbsent(task.phase, e -> new ArrayList<>()).add(task);
+            }
+        }
+        
+        for (List<EnvironmentBase.Task> phase : phases.values()) {
+            runPhase(phase, start, budget);
+        }
+    }
+    
+    /**
+     * Runs the Tasks of a phase in waves, so that each Task is run after the Tasks of the phase that it depends on.<br>
+     * Dependencies on Tasks of other phases are already satisfied by the order of the phases.
+     * If the remaining Tasks depend on each other in a cycle, they are run one after another.
+     *
+     * @param phase  The Tasks of the phase.
+     * @param start  The start time of the tick in nanoseconds.
+     * @param budget The budget of the tick in nanoseconds, or 0 if the tick has no budget.
+     */
+    private void runPhase(List<EnvironmentBase.Task> phase, long start, long budget) {
+        List<EnvironmentBase.Task> pending = new ArrayList<>(phase);
+        Set<UUID> pendingIds = pending.stream().map(e -> e.id).collect(Collectors.toCollection(HashSet::new));
+        
+        while (!pending.isEmpty()) {
+            List<EnvironmentBase.Task> wave = pending.stream()
+                    .filter(e -> e.dependencies.stream().noneMatch(pendingIds::contains))
+                    .collect(Collectors.toList());
+            if (wave.isEmpty()) {
+                pending.forEach(e -> runTask(e, start, budget));
+                return;
+            }
+            
+            runWave(wave, start, budget);
+            pending.removeAll(wave);
+            wave.forEach(e -> pendingIds.remove(e.id));
+        }
+    }
+    
+    /**
+     * Runs a wave of Tasks.<br>
+     * The Tasks that may be run in parallel are run together first, then the other Tasks are run one after another.
+     *
+     * @param wave   The Tasks of the wave.
+     * @param start  The start time of the tick in nanoseconds.
+     * @param budget The budget of the tick in nanoseconds, or 0 if the tick has no budget.
+     */
+    private void runWave(Collection<EnvironmentBase.Task> wave, long start, long budget) {
+        List<EnvironmentBase.Task> concurrent = new ArrayList<>();
+        List<EnvironmentBase.Task> sequential = new ArrayList<>();
+        for (EnvironmentBase.Task task : wave) {
+            ((parallel && task.parallel) ? concurrent : sequential).add(task);
+        }
+        
+        if (concurrent.size() < 2) {
+            sequential.addAll(0, concurrent);
+        } else {
+            pool.submit(() -> concurrent.parallelStream().forEach(e -> runTask(e, start, budget))).join();
+        }
+        sequential.forEach(e -> runTask(e, start, budget));
+    }
+    
+    /**
+     * Runs a Task and records its timing.
+     *
+     * @param task   The Task.
+     * @param start  The start time of the tick in nanoseconds.
+     * @param budget The budget of the tick in nanoseconds, or 0 if the tick has no budget.
+     */
+    private void runTask(EnvironmentBase.Task task, long start, long budget) {
+        long taskStart = System.nanoTime();
+        if (task.skipIfLate && (budget > 0) && ((taskStart - start) > budget)) {
+            task.skips.incrementAndGet();
+            return;
+        }
+        
+        try {
+            task.action.run();
+        } finally {
+            long duration = System.nanoTime() - taskStart;
+            task.lastDuration.set(duration);
+            task.totalDuration.addAndGet(duration);
+            task.runs.incrementAndGet();
+            FrameMetrics.recordTask(task.id, duration);
+        }
+    }
+    
+    /**
+     * Shuts down the Task Scheduler.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns a Task of the Task Scheduler.
+     *
+     * @param id The id of the Task.
+     * @return The Task, or null if the Task Scheduler does not have a Task with that id.
+     */
+    public EnvironmentBase.Task getTask(UUID id) {
+        return tasks.get(id);
+    }
+    
+    /**
+     * Returns the Tasks of the Task Scheduler.
+     *
+     * @return The Tasks of the Task Scheduler.
+     */
+    public Collection<EnvironmentBase.Task> getTasks() {
+        return tasks.values();
+    }
+    
+    /**
+     * Returns whether or not the parallel Tasks of a wave are run in parallel.
+     *
+     * @return Whether or not the parallel Tasks of a wave are run in parallel.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+    
+    
+    //Setters
+    
+    /**
+     * Sets whether or not to run the parallel Tasks of a wave in parallel.
+     *
+     * @param parallel Whether or not to run the parallel Tasks of a wave in parallel.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+    
+}
@@ -31,9 +31,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
@@ -44,6 +43,7 @@ import javax.swing.SwingUtilities;
 import commons.access.OperatingSystem;
 import commons.graphics.DrawUtility;
 import commons.math.component.vector.BigVector;
+import commons.math.component.vector.DoubleVector;
 import commons.math.component.vector.IntVector;
 import commons.math.component.vector.Vector;
 import commons.math.component.vector.Vector2;
@@ -52,6 +52,7 @@ import graphy.camera.CaptureHandler;
 import graphy.main.Environment;
 import graphy.main.Environment2D;
 import graphy.main.EnvironmentBase;
+import graphy.main.Scheduler;
 import graphy.object.base.Drawing;
 
 /**
@@ -404,15 +405,20 @@ public class Mandelbrot extends Drawing {
      */
     @Override
     public void initComponents() {
-        environment.frame.setTitle("Mandelbrot");
+        environment.setTitle("Mandelbrot");
         
         environment.setBackground(Color.BLACK);
+        if (environment.isHeadless()) {
+            record = false;
+        }
         
         progressBar = new JProgressBar(0, Environment2D.screenWidth * Environment2D.screenHeight);
         progressBar.setSize(new Dimension(Environment2D.screenWidth - 1, BAR_HEIGHT));
         progressBar.setPreferredSize(new Dimension(Environment2D.screenWidth, BAR_HEIGHT));
         progressBar.setBounds(0, Environment2D.screenHeight - BAR_HEIGHT, progressBar.getWidth(), progressBar.getHeight());
-        environment.frame.getContentPane().add(progressBar, BorderLayout.SOUTH);
+        if (environment.frame != null) {
+            environment.frame.getContentPane().add(progressBar, BorderLayout.SOUTH);
+        }
         
         createBuffer();
         JMenu qualityOptions = new JMenu("Quality");
@@ -471,8 +477,10 @@ public class Mandelbrot extends Drawing {
         menuBar.add(paletteOptions);
         menuBar.add(pointOptions);
         
-        environment.frame.setJMenuBar(menuBar);
-        environment.frame.pack();
+        if (environment.frame != null) {
+            environment.frame.setJMenuBar(menuBar);
+            environment.frame.pack();
+        }
     }
     
     /**
@@ -674,7 +682,7 @@ public class Mandelbrot extends Drawing {
      * Shuts down the Mandelbrot.
      */
     public void shutdown() {
-        if (record) {
+        if (record && (recordDir != null)) {
             CaptureHandler.encodeFrames(recordDir, slowZoom ? 20 : 1);
         }
     }
@@ -759,7 +767,7 @@ public class Mandelbrot extends Drawing {
      */
     private void updateSlowZoom() {
         if (slowZoom) {
-            Executors.newSingleThreadScheduledExecutor().schedule(() -> {
+            Scheduler.schedule(() -> {
                 size = size
                         .multiply(BigDecimal.valueOf(zoomFactor))
                         .setScale(6 - size.precision() + size.scale(), RoundingMode.HALF_UP)
@@ -793,7 +801,7 @@ public class Mandelbrot extends Drawing {
                     }
                 }
                 updateImage();
-            }, 250, TimeUnit.MILLISECONDS);
+            }, 250);
         }
     }
     
@@ -845,47 +853,34 @@ public class Mandelbrot extends Drawing {
         buffer.clear(2969);
         
         threadCount.set(NUM_THREADS);
-        sector.set(-1);
-        Thread calculationThread = new Thread() {
-            @Override
-            public void run() {
-                int sector;
-                do {
-                    sector = Mandelbrot.this.sector.getAndIncrement();
-                    if (sector < 0) { //One time initialisation
-                        for (int i = 0; i < threadCount.get(); i++) {
-                            new Thread(this).start();
-                        }
-                        return;
-                    }
-                    if (sector >= (SECTOR_COUNT.getRawX() * SECTOR_COUNT.getRawY())) {
-                        break;
-                    }
-                    calculateSector(sector);
-                } while (true);
-                
+        sector.set(0);
+        CompletableFuture<?>[] calculations = new CompletableFuture<?>[NUM_THREADS];
+        for (int i = 0; i < NUM_THREADS; i++) {
+            calculations[i] = Scheduler.submit(() -> {
+                int index;
+                while ((index = sector.getAndIncrement()) < (SECTOR_COUNT.getRawX() * SECTOR_COUNT.getRawY())) {
+                    calculateSector(index);
+                }
                 threadCount.decrementAndGet();
-            }
-        };
-        calculationThread.start();
+            });
+        }
         
-        ScheduledExecutorService spinner = Executors.newSingleThreadScheduledExecutor();
-        spinner.scheduleAtFixedRate(() -> {
-            if (threadCount.get() == 0) {
-                spinner.shutdown();
-                
-                image = buffer.makeTexture(palette);
-                progressBar.setMaximum(buffer.width * buffer.height);
-                progressBar.setValue(progressBar.getMaximum());
-                calculationTime = (double) (System.currentTimeMillis() - startTime) / 1000 + " s";
-                
-                environment.run();
-                updateSlowZoom();
-            } else {
-                progressBar.setMaximum(buffer.width * buffer.height);
-                progressBar.setValue(progress.get());
-            }
-        }, 100, 15, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> progressUpdate = Scheduler.scheduleAtFixedRate(() -> {
+            progressBar.setMaximum(buffer.width * buffer.height);
+            progressBar.setValue(progress.get());
+        }, 100, 15);
+        
+        CompletableFuture.allOf(calculations).thenRun(() -> {
+            progressUpdate.cancel(false);
+            
+            image = buffer.makeTexture(palette);
+            progressBar.setMaximum(buffer.width * buffer.height);
+            progressBar.setValue(progressBar.getMaximum());
+            calculationTime = (double) (System.currentTimeMillis() - startTime) / 1000 + " s";
+            
+            environment.run();
+            updateSlowZoom();
+        });
     }
     
     /**
@@ -939,12 +934,12 @@ public class Mandelbrot extends Drawing {
         }
         
         if (buffer.width <= 3 && buffer.height <= 3) {
-            Vector delta = new Vector(screenWidth / buffer.width, screenWidth / buffer.width);
-            corner = corner.plus(delta.scale(0.5));
+            DoubleVector delta = new DoubleVector(screenWidth / buffer.width, screenWidth / buffer.width);
+            DoubleVector pixelCorner = new DoubleVector(corner).plus(delta.scale(0.5));
             
             for (int y = 0; y < buffer.height; y++) {
                 for (int x = 0; x < buffer.width; x++) {
-                    int value = approximation.calculateIterations(centreApproximation, corner.plus(delta.times(new Vector(x, y))));
+                    int value = approximation.calculateIterations(centreApproximation, pixelPoint(pixelCorner, delta, x, y));
                     buffer.set(x, y, value);
                     
                     progress.getAndIncrement();
@@ -957,10 +952,10 @@ public class Mandelbrot extends Drawing {
             }
             
             if (sampleType == SuperSampleType.SUPER_SAMPLE_2X) {
-                corner = corner.minus(delta.scale(0.5));
+                pixelCorner = pixelCorner.minus(delta.scale(0.5));
                 for (int y = 0; y < buffer.height && y + (buffer.offset / buffer.stride) < adjustedHeight - 1; y++) {
                     for (int x = 0; x < buffer.width; x++) {
-                        int value = approximation.calculateIterations(centreApproximation, corner.plus(delta.times(new Vector(x, y))));
+                        int value = approximation.calculateIterations(centreApproximation, pixelPoint(pixelCorner, delta, x, y));
                         buffer.set(x, y + adjustedHeight, value);
                         
                         progress.getAndIncrement();
@@ -1013,6 +1008,23 @@ public class Mandelbrot extends Drawing {
         }
     }
     
+    /**
+     * Calculates the screen point of a pixel in a rectangular region.
+     *
+     * @param corner The screen point of the corner pixel of the rectangular region.
+     * @param delta  The screen distance between adjacent pixels.
+     * @param x      The x coordinate of the pixel.
+     * @param y      The y coordinate of the pixel.
+     * @return The screen point of the pixel.
+     */
+    private static Vector pixelPoint(DoubleVector corner, DoubleVector delta, int x, int y) {
+        double[] cornerComponents = corner.getRawPrimitiveComponents();
+        double[] deltaComponents = delta.getRawPrimitiveComponents();
+        return new Vector(
+                cornerComponents[0] + (deltaComponents[0] * x),
+                cornerComponents[1] + (deltaComponents[1] * y));
+    }
+    
     /**
      * Creates the buffer to be used for the Mandelbrot calculation.
      */
@@ -13,8 +13,6 @@ import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.imageio.ImageIO;
 import javax.swing.SwingUtilities;
@@ -22,6 +20,7 @@ import javax.swing.SwingUtilities;
 import commons.math.component.vector.IntVector;
 import commons.math.component.vector.Vector;
 import graphy.main.Environment2D;
+import graphy.main.Scheduler;
 import graphy.object.base.Drawing;
 import graphy.object.base.polygon.Rectangle;
 
@@ -222,11 +221,11 @@ public class MandelbrotOld extends Drawing {
         populateColors();
         
         if (slowZoomEnabled) {
-            Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(() -> {
+            Scheduler.scheduleAtFixedRate(() -> {
                 if (rendering.compareAndSet(false, true)) {
                     zoom(null, SLOW_ZOOM_STEP);
                 }
-            }, 0, 50, TimeUnit.MILLISECONDS);
+            }, 0, 50);
         }
     }
     
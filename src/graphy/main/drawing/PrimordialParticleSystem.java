@@ -63,7 +63,7 @@ public class PrimordialParticleSystem extends Drawing {
      */
     @Override
     public void initComponents() {
-        environment.frame.setTitle("Primordial Particle System");
+        environment.setTitle("Primordial Particle System");
         
         EnvironmentBase.setFps(60);
         environment.setDoubleBuffering(false);
@@ -149,9 +149,9 @@ public class PrimordialParticleSystem extends Drawing {
             for (int i = 0; i < population; i++) {
                 this.particles.add(new Particle(this,
                         ((centerCount-- > 0) ? Environment2D.getCenterPosition() : Environment2D.getRandomPosition()),
-                        (Math.random() * Math.PI * 2),
-                        (size > 0) ? size : (Math.random() * 4 + 2),
-                        (speed > 0) ? speed : (Math.random() * 15 + 1),
+                        (Environment2D.random() * Math.PI * 2),
+                        (size > 0) ? size : (Environment2D.random() * 4 + 2),
+                        (speed > 0) ? speed : (Environment2D.random() * 15 + 1),
                         Math.toRadians(alpha), Math.toRadians(beta), Math.toRadians(gamma)));
             }
         }
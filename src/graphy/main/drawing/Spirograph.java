@@ -44,7 +44,7 @@ public class Spirograph extends Drawing {
     /**
      * The multiplier for the graph.
      */
-    private double multiplier = Math.random() * 1000.0 + 2.0;
+    private double multiplier = Environment2D.random() * 1000.0 + 2.0;
     
     /**
      * The amount to increase the multiplier by over time.
@@ -89,7 +89,7 @@ public class Spirograph extends Drawing {
      */
     @Override
     public void initComponents() {
-        environment.frame.setTitle("Spirograph");
+        environment.setTitle("Spirograph");
         
         EnvironmentBase.setFps(60);
         environment.setDoubleBuffering(true);
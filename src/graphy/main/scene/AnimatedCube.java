@@ -8,7 +8,6 @@ package graphy.main.scene;
 
 import java.awt.Color;
 
-import commons.graphics.ColorUtility;
 import graphy.camera.Camera;
 import graphy.main.Environment;
 import graphy.object.base.Frame;
@@ -56,7 +55,7 @@ public class AnimatedCube extends Scene {
         cube.addRotationAnimation(Math.PI / 4, Math.PI / 4, Math.PI / 4);
         
         for (int f = 1; f < 6; f++) {
-            cube.setFaceColor(f, ColorUtility.getRandomColor());
+            cube.setFaceColor(f, Environment.randomColor());
         }
         Frame frame = cube.addFrame(Color.BLACK);
         
@@ -52,7 +52,7 @@ public class CubeField extends Scene {
     @Override
     public void calculate() {
         for (int i = 0; i < 300; i++) {
-            Hexahedron h = new Hexahedron(new Vector(Math.random() * 200 - 100, Math.random() * 200 - 100, Math.random() * 200 - 100), Color.BLUE, Math.random() * 3);
+            Hexahedron h = new Hexahedron(new Vector(Environment.random() * 200 - 100, Environment.random() * 200 - 100, Environment.random() * 200 - 100), Color.BLUE, Environment.random() * 3);
             h.addFrame(Color.BLACK);
             registerComponent(h);
         }
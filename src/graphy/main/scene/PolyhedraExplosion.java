@@ -10,14 +10,10 @@ import java.awt.Color;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
 
-import commons.graphics.ColorUtility;
 import graphy.camera.Camera;
 import graphy.main.Environment;
 import graphy.object.base.AbstractObject;
@@ -161,16 +157,16 @@ public class PolyhedraExplosion extends Scene {
         metatronsCube.addFrame(Color.BLACK);
         registerComponent(metatronsCube);
         
-        IntStream.range(0, tetrahedronCount).boxed().forEach(e -> polyhedra.add(new Tetrahedron(center, ((tetrahedronColor == null) ? ColorUtility.getRandomColor(alpha) : tetrahedronColor), radius)));
-        IntStream.range(0, hexahedronCount).boxed().forEach(e -> polyhedra.add(new Hexahedron(center, ((hexahedronColor == null) ? ColorUtility.getRandomColor(alpha) : hexahedronColor), radius)));
-        IntStream.range(0, octahedronCount).boxed().forEach(e -> polyhedra.add(new Octahedron(center, ((octahedronColor == null) ? ColorUtility.getRandomColor(alpha) : octahedronColor), radius)));
-        IntStream.range(0, dodecahedronCount).boxed().forEach(e -> polyhedra.add(new Dodecahedron(center, ((dodecahedronColor == null) ? ColorUtility.getRandomColor(alpha) : dodecahedronColor), radius)));
-        IntStream.range(0, icosahedronCount).boxed().forEach(e -> polyhedra.add(new Icosahedron(center, ((icosahedronColor == null) ? ColorUtility.getRandomColor(alpha) : icosahedronColor), radius)));
+        IntStream.range(0, tetrahedronCount).boxed().forEach(e -> polyhedra.add(new Tetrahedron(center, ((tetrahedronColor == null) ? Environment.randomColor(alpha) : tetrahedronColor), radius)));
+        IntStream.range(0, hexahedronCount).boxed().forEach(e -> polyhedra.add(new Hexahedron(center, ((hexahedronColor == null) ? Environment.randomColor(alpha) : hexahedronColor), radius)));
+        IntStream.range(0, octahedronCount).boxed().forEach(e -> polyhedra.add(new Octahedron(center, ((octahedronColor == null) ? Environment.randomColor(alpha) : octahedronColor), radius)));
+        IntStream.range(0, dodecahedronCount).boxed().forEach(e -> polyhedra.add(new Dodecahedron(center, ((dodecahedronColor == null) ? Environment.randomColor(alpha) : dodecahedronColor), radius)));
+        IntStream.range(0, icosahedronCount).boxed().forEach(e -> polyhedra.add(new Icosahedron(center, ((icosahedronColor == null) ? Environment.randomColor(alpha) : icosahedronColor), radius)));
         
         for (RegularPolyhedron polyhedron : polyhedra) {
             registerComponent(polyhedron);
-            polyhedron.addRotationAnimation((Math.random() * 2 * Math.PI) - Math.PI, (Math.random() * 2 * Math.PI) - Math.PI, (Math.random() * 2 * Math.PI) - Math.PI);
-            UUID movementAnimation = polyhedron.addMovementAnimation(Math.random() - .5, Math.random() - .5, Math.random() - .5);
+            polyhedron.addRotationAnimation((Environment.random() * 2 * Math.PI) - Math.PI, (Environment.random() * 2 * Math.PI) - Math.PI, (Environment.random() * 2 * Math.PI) - Math.PI);
+            UUID movementAnimation = polyhedron.addMovementAnimation(Environment.random() - .5, Environment.random() - .5, Environment.random() - .5);
             polyhedron.metadata.put("movementAnimation", movementAnimation);
             polyhedron.setDisplayMode(AbstractObject.DisplayMode.EDGE);
             polyhedron.registerFrame(new Frame(polyhedron));
@@ -188,65 +184,61 @@ public class PolyhedraExplosion extends Scene {
         final AtomicLong timeOffset = new AtomicLong(Environment.currentTimeMillis());
         final AtomicInteger stage = new AtomicInteger(0);
         final AtomicInteger cameraStage = new AtomicInteger(1);
-        final AtomicBoolean processing = new AtomicBoolean(false);
         
-        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(() -> {
-            if (processing.compareAndSet(false, true)) {
-                long currentTime = Environment.currentTimeMillis() - timeOffset.get();
-                
-                switch (stage.get()) {
-                    case 0:
-                        if (currentTime > 9000) {
-                            Camera camera = Camera.getActiveCameraView(environment.perspective);
-                            if (camera != null) {
-                                if ((cameraStage.compareAndSet(0, 1)) || (cameraStage.compareAndSet(1, 2))) {
-                                    camera.addFluidTransition(0, -Math.PI / 2, -Math.PI / 4, 10000);
-                                } else if ((cameraStage.compareAndSet(2, 3)) || (cameraStage.compareAndSet(3, 0))) {
-                                    camera.addFluidTransition(0, -Math.PI / 2, Math.PI / 4, 10000);
-                                }
+        Environment.addTask(() -> {
+            long currentTime = Environment.currentTimeMillis() - timeOffset.get();
+            
+            switch (stage.get()) {
+                case 0:
+                    if (currentTime > 9000) {
+                        Camera camera = Camera.getActiveCameraView(environment.perspective);
+                        if (camera != null) {
+                            if ((cameraStage.compareAndSet(0, 1)) || (cameraStage.compareAndSet(1, 2))) {
+                                camera.addFluidTransition(0, -Math.PI / 2, -Math.PI / 4, 10000);
+                            } else if ((cameraStage.compareAndSet(2, 3)) || (cameraStage.compareAndSet(3, 0))) {
+                                camera.addFluidTransition(0, -Math.PI / 2, Math.PI / 4, 10000);
                             }
-                            stage.set(1);
                         }
-                        break;
-                    
-                    case 1:
-                        if (currentTime > 19000) {
-                            for (RegularPolyhedron polyhedron : polyhedra) {
-                                double[] values = polyhedron.movementAnimations.get(0);
-                                
-                                polyhedron.animationTasks.remove(polyhedron.metadata.get("movementAnimation"));
-                                polyhedron.movementAnimations.remove(0);
-                                
-                                UUID movementAnimation = polyhedron.addMovementAnimation(values[0] * -20, values[1] * -20, values[2] * -20);
-                                polyhedron.metadata.replace("movementAnimation", movementAnimation);
-                            }
-                            stage.set(2);
+                        stage.set(1);
+                    }
+                    break;
+                
+                case 1:
+                    if (currentTime > 19000) {
+                        for (RegularPolyhedron polyhedron : polyhedra) {
+                            double[] values = polyhedron.movementAnimations.get(0);
+                            
+                            polyhedron.removeAnimation((UUID) polyhedron.metadata.get("movementAnimation"));
+                            polyhedron.movementAnimations.remove(0);
+                            
+                            UUID movementAnimation = polyhedron.addMovementAnimation(values[0] * -20, values[1] * -20, values[2] * -20);
+                            polyhedron.metadata.replace("movementAnimation", movementAnimation);
                         }
-                    
-                    case 2:
-                        if (currentTime > 20000) {
-                            for (RegularPolyhedron polyhedron : polyhedra) {
-                                polyhedron.animationTasks.remove(polyhedron.metadata.get("movementAnimation"));
-                                polyhedron.movementAnimations.remove(0);
-                                
-                                polyhedron.reposition(center);
-                                if (polyhedron.getDisplayMode() == AbstractObject.DisplayMode.EDGE) {
-                                    polyhedron.setDisplayMode(AbstractObject.DisplayMode.FACE);
-                                    polyhedron.addFrame(Color.BLACK);
-                                } else {
-                                    polyhedron.setDisplayMode(AbstractObject.DisplayMode.EDGE);
-                                    polyhedron.addFrame(new Color(0, 0, 0, 0));
-                                }
-                                UUID movementAnimation = polyhedron.addMovementAnimation(Math.random() - .5, Math.random() - .5, Math.random() - .5);
-                                polyhedron.metadata.replace("movementAnimation", movementAnimation);
+                        stage.set(2);
+                    }
+                
+                case 2:
+                    if (currentTime > 20000) {
+                        for (RegularPolyhedron polyhedron : polyhedra) {
+                            polyhedron.removeAnimation((UUID) polyhedron.metadata.get("movementAnimation"));
+                            polyhedron.movementAnimations.remove(0);
+                            
+                            polyhedron.reposition(center);
+                            if (polyhedron.getDisplayMode() == AbstractObject.DisplayMode.EDGE) {
+                                polyhedron.setDisplayMode(AbstractObject.DisplayMode.FACE);
+                                polyhedron.addFrame(Color.BLACK);
+                            } else {
+                                polyhedron.setDisplayMode(AbstractObject.DisplayMode.EDGE);
+                                polyhedron.addFrame(new Color(0, 0, 0, 0));
                             }
-                            timeOffset.addAndGet(currentTime);
-                            stage.set(0);
+                            UUID movementAnimation = polyhedron.addMovementAnimation(Environment.random() - .5, Environment.random() - .5, Environment.random() - .5);
+                            polyhedron.metadata.replace("movementAnimation", movementAnimation);
                         }
-                }
-                processing.set(false);
+                        timeOffset.addAndGet(currentTime);
+                        stage.set(0);
+                    }
             }
-        }, 0, 10, TimeUnit.MILLISECONDS);
+        });
     }
     
     /**
@@ -8,7 +8,6 @@ package graphy.main.scene;
 
 import java.awt.Color;
 
-import commons.graphics.ColorUtility;
 import commons.math.component.vector.Vector;
 import graphy.camera.Camera;
 import graphy.main.Environment;
@@ -77,7 +76,7 @@ public class RotationEquivalenceDemo extends Scene {
         Environment.addTask(task);
         
         for (int f = 1; f < 6; f++) {
-            Color c = ColorUtility.getRandomColor();
+            Color c = Environment.randomColor();
             cube1.setFaceColor(f, c);
             cube2.setFaceColor(f, c);
         }
@@ -14,13 +14,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import commons.math.component.vector.Vector;
 import graphy.camera.Camera;
 import graphy.main.Environment;
+import graphy.main.Scheduler;
 import graphy.object.base.Object;
 import graphy.object.base.Scene;
 import graphy.object.base.group.RotationGroup;
@@ -126,6 +126,11 @@ public class RubiksCube extends Scene {
      */
     private static final AtomicBoolean inAutoMovement = new AtomicBoolean(false);
     
+    /**
+     * A future that completes when the last animation of the cube finishes.
+     */
+    private static volatile CompletableFuture<Void> animation = CompletableFuture.completedFuture(null);
+    
     
     //Main Method
     
@@ -451,7 +456,7 @@ public class RubiksCube extends Scene {
         List<Object> f = retrieveFace(face);
         RotationGroup frontGroup = new RotationGroup(this, f.get(4), f);
         
-        frontGroup.rotateGroup(rotation.getRawX() * dir, rotation.getRawY() * dir, rotation.getRawZ() * dir, FLIP_SPEED);
+        animation = frontGroup.rotateGroup(rotation.getRawX() * dir, rotation.getRawY() * dir, rotation.getRawZ() * dir, FLIP_SPEED);
         matrix = rotate(matrix, face, dir);
         
         printCube();
@@ -515,7 +520,7 @@ public class RubiksCube extends Scene {
      * Flips the cube up.
      */
     private void flipUp() {
-        addRotationTransformation(Math.PI / 2, 0, 0, ROTATE_SPEED);
+        animation = getTransformationCompletion(addRotationTransformation(Math.PI / 2, 0, 0, ROTATE_SPEED));
         matrix = new int[][] {matrix[TOP], matrix[BACK], matrix[RIGHT], matrix[FRONT], matrix[LEFT], matrix[BOTTOM]};
         matrix = adjust(matrix, LEFT, CLOCKWISE);
         matrix = adjust(matrix, RIGHT, COUNTERCLOCKWISE);
@@ -526,7 +531,7 @@ public class RubiksCube extends Scene {
      * Flips the cube down.
      */
     private void flipDown() {
-        addRotationTransformation(-Math.PI / 2, 0, 0, ROTATE_SPEED);
+        animation = getTransformationCompletion(addRotationTransformation(-Math.PI / 2, 0, 0, ROTATE_SPEED));
         matrix = new int[][] {matrix[BOTTOM], matrix[FRONT], matrix[RIGHT], matrix[BACK], matrix[LEFT], matrix[TOP]};
         matrix = adjust(matrix, LEFT, COUNTERCLOCKWISE);
         matrix = adjust(matrix, RIGHT, CLOCKWISE);
@@ -537,7 +542,7 @@ public class RubiksCube extends Scene {
      * Flips the cube left.
      */
     private void flipLeft() {
-        addRotationTransformation(0, 0, -Math.PI / 2, ROTATE_SPEED);
+        animation = getTransformationCompletion(addRotationTransformation(0, 0, -Math.PI / 2, ROTATE_SPEED));
         matrix = new int[][] {matrix[LEFT], matrix[TOP], matrix[FRONT], matrix[BOTTOM], matrix[BACK], matrix[RIGHT]};
         matrix = adjust(matrix, TOP, COUNTERCLOCKWISE);
         matrix = adjust(matrix, BOTTOM, CLOCKWISE);
@@ -548,7 +553,7 @@ public class RubiksCube extends Scene {
      * Flips the cube right.
      */
     private void flipRight() {
-        addRotationTransformation(0, 0, Math.PI / 2, ROTATE_SPEED);
+        animation = getTransformationCompletion(addRotationTransformation(0, 0, Math.PI / 2, ROTATE_SPEED));
         matrix = new int[][] {matrix[RIGHT], matrix[TOP], matrix[BACK], matrix[BOTTOM], matrix[FRONT], matrix[LEFT]};
         matrix = adjust(matrix, TOP, CLOCKWISE);
         matrix = adjust(matrix, BOTTOM, COUNTERCLOCKWISE);
@@ -562,10 +567,10 @@ public class RubiksCube extends Scene {
      */
     private void shuffle(int count) {
         if (inAutoMovement.compareAndSet(false, true)) {
-            Executors.newSingleThreadScheduledExecutor().schedule(() -> {
+            Scheduler.submit(() -> {
                 for (int i = 0; i < count; i++) {
-                    int move = (int) (Math.random() * 6);
-                    int dir = (int) (Math.random() * 2);
+                    int move = (int) (Environment.random() * 6);
+                    int dir = (int) (Environment.random() * 2);
                     if (dir == 0) {
                         dir = COUNTERCLOCKWISE;
                     }
@@ -600,7 +605,7 @@ public class RubiksCube extends Scene {
                     waitForAnimation();
                 }
                 inAutoMovement.set(false);
-            }, 0, TimeUnit.MILLISECONDS);
+            });
         }
     }
     
@@ -615,12 +620,7 @@ public class RubiksCube extends Scene {
      * Waits for the cube to finish its animation.
      */
     private void waitForAnimation() {
-        do {
-            try {
-                Thread.sleep(FLIP_SPEED / 5);
-            } catch (InterruptedException ignored) {
-            }
-        } while (inRotationTransformation());
+        animation.join();
     }
     
     /**
@@ -628,7 +628,7 @@ public class RubiksCube extends Scene {
      */
     private void solve() {
         if (inAutoMovement.compareAndSet(false, true)) {
-            Executors.newSingleThreadScheduledExecutor().schedule(() -> {
+            Scheduler.submit(() -> {
                 while (!moves.empty()) {
                     String move = moves.pop();
                     
@@ -671,7 +671,7 @@ public class RubiksCube extends Scene {
                     waitForAnimation();
                 }
                 inAutoMovement.set(false);
-            }, 0, TimeUnit.MILLISECONDS);
+            });
         }
     }
     
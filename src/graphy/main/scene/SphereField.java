@@ -63,14 +63,14 @@ public class SphereField extends Scene {
         for (int i = 0; i < 10; i++) {
             Sphere sphere;
             if (simple) {
-                sphere = new Sphere(null, new Vector(Math.random() * 20 - 10, Math.random() * 20 - 10, Math.random() * 20 - 10), Color.BLACK, (int) (Math.random() * 5) + 1, Math.PI / (4 * ((int) (Math.random() * 4) + 1)));
+                sphere = new Sphere(null, new Vector(Environment.random() * 20 - 10, Environment.random() * 20 - 10, Environment.random() * 20 - 10), Color.BLACK, (int) (Environment.random() * 5) + 1, Math.PI / (4 * ((int) (Environment.random() * 4) + 1)));
                 sphere.setDisplayMode(DisplayMode.EDGE);
             } else {
-                sphere = new Sphere(null, new Vector(Math.random() * 20 - 10, Math.random() * 20 - 10, Math.random() * 20 - 10), Color.BLACK, Color.RED, (int) (Math.random() * 5) + 1, Math.PI / (4 * ((int) (Math.random() * 4) + 1)));
-//                sphere.addRotationAnimation(Math.PI / (4 * ((int) (Math.random() * 8) + 1)), Math.PI / (4 * ((int) (Math.random() * 8) + 1)), Math.PI / (4 * ((int) (Math.random() * 8) + 1)));
+                sphere = new Sphere(null, new Vector(Environment.random() * 20 - 10, Environment.random() * 20 - 10, Environment.random() * 20 - 10), Color.BLACK, Color.RED, (int) (Environment.random() * 5) + 1, Math.PI / (4 * ((int) (Environment.random() * 4) + 1)));
+//                sphere.addRotationAnimation(Math.PI / (4 * ((int) (Environment.random() * 8) + 1)), Math.PI / (4 * ((int) (Environment.random() * 8) + 1)), Math.PI / (4 * ((int) (Environment.random() * 8) + 1)));
                 sphere.addRotationAnimation(0, 0, Math.PI / 16);
                 Frame f = sphere.addFrame(Color.BLACK);
-                f.addColorAnimation(5000, (int) (Math.random() * 5000));
+                f.addColorAnimation(5000, (int) (Environment.random() * 5000));
             }
             registerComponent(sphere);
         }
@@ -9,22 +9,27 @@ package graphy.object.base;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
-import commons.graphics.ColorUtility;
 import commons.math.CoordinateUtility;
 import commons.math.RotationUtility;
 import commons.math.component.matrix.Matrix3;
 import commons.math.component.vector.Vector;
 import commons.math.component.vector.Vector3;
 import graphy.camera.Camera;
+import graphy.camera.Rasterizer;
+import graphy.camera.RenderBuffer;
+import graphy.camera.RenderContext;
 import graphy.main.Environment;
 import graphy.math.vector.JustificationUtil;
 
@@ -33,6 +38,24 @@ import graphy.math.vector.JustificationUtil;
  */
 public abstract class AbstractObject implements ObjectInterface {
     
+    //Constants
+    
+    /**
+     * The version of the prepared Vectors of an Object that has not been prepared.
+     */
+    private static final long UNPREPARED = -1;
+    
+    /**
+     * The view version of the prepared Vectors of an Object that have not been projected to the screen.
+     */
+    private static final long UNPROJECTED = 0;
+    
+    /**
+     * The components of the Snapshot of an Object that has no components.
+     */
+    protected static final List<ObjectInterface> NO_COMPONENTS = Collections.emptyList();
+    
+    
     //Fields
     
     /**
@@ -56,14 +79,29 @@ public abstract class AbstractObject implements ObjectInterface {
     protected Vector[] vertices = new Vector[0];
     
     /**
-     * A list of perspectives that are have been initialized for the Object.
+     * The rendering state of the Object for each perspective that has been initialized, indexed by the index of the Render Context of the perspective.
      */
-    private final List<UUID> perspectives = new ArrayList<>();
+    private volatile PerspectiveState[] perspectiveStates = new PerspectiveState[0];
     
     /**
-     * A list of the Vectors of the Object that have been prepared for rendering, per perspective.
+     * The version of the Object, incremented whenever its Vectors, center, or rotation change.
      */
-    protected final Map<UUID, List<Vector>> prepared = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong(0);
+    
+    /**
+     * The cached world transform of the Object, as a row-major 4x4 affine matrix, or null if it has not been calculated.
+     */
+    private double[] worldTransform = null;
+    
+    /**
+     * The version of the Object the cached world transform was calculated for.
+     */
+    private long worldTransformVersion = UNPREPARED;
+    
+    /**
+     * The last Snapshot of the Object published by the simulation, which is read by the renderer.
+     */
+    private volatile Snapshot snapshot = null;
     
     /**
      * The frame of the Object.
@@ -85,16 +123,6 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     protected boolean visible = true;
     
-    /**
-     * A flag indicating whether or not the Object is rendered, per perspective.
-     */
-    protected Map<UUID, AtomicBoolean> rendered = new ConcurrentHashMap<>();
-    
-    /**
-     * The distance from the Camera to the Object.
-     */
-    protected double renderDistance = 0.0;
-    
     /**
      * The display mode of the Object.
      */
@@ -106,14 +134,14 @@ public abstract class AbstractObject implements ObjectInterface {
     protected boolean clippingEnabled = false;
     
     /**
-     * The render delay in frames for the Object, per perspective.
+     * The animations tasks of the Object.
      */
-    protected Map<UUID, AtomicInteger> renderDelay = new ConcurrentHashMap<>();
+    public final Map<UUID, Runnable> animationTasks = new ConcurrentHashMap<>();
     
     /**
-     * The animations tasks of the Object.
+     * The futures that complete when the transformations of the Object finish.
      */
-    public final Map<UUID, Runnable> animationTasks = new HashMap<>();
+    private final Map<UUID, CompletableFuture<Void>> transformationCompletions = new ConcurrentHashMap<>();
     
     /**
      * The id of the task to perform the animation tasks on of the Object.
@@ -150,6 +178,16 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     public final AtomicBoolean inOrbitTransformation = new AtomicBoolean(false);
     
+    /**
+     * The bounding sphere of the Object in world space, as the coordinates of its center followed by its radius, or null if it must be recalculated.
+     */
+    private volatile double[] boundingSphere = null;
+    
+    /**
+     * The spatial index the Object is stored in, or null if it is not indexed.
+     */
+    private volatile SpatialIndex spatialIndex = null;
+    
     /**
      * A map of metadata stored on the Object.
      */
@@ -178,17 +216,29 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     @Override
     public final boolean prePrepare(UUID perspective) {
-        if (!perspectives.contains(perspective)) {
-            initializePerspective(perspective);
+        RenderContext context = RenderContext.get(perspective);
+        RenderBuffer.Entry entry = getPerspectiveState(context).entry;
+        if (Environment.enableRenderBuffering && !context.getRenderBuffer().revalidate(entry)) {
+            return false;
+        }
+        if (!getSnapshot().isVisible()) {
+            return false;
         }
-        if (!Environment.enableRenderBuffering || renderDelay.get(perspective).decrementAndGet() <= 0) {
-            if (!visible) {
-                renderDelay.get(perspective).set(Environment.enableRenderBuffering ? ((int) (Math.random() * (Environment.fps / 8))) : 1);
+        
+        if (Environment.enableFrustumCulling) {
+            double[] sphere = getWorldBoundingSphere();
+            double margin = getViewMargin(context, sphere);
+            if (margin > 0) {
+                if (Environment.enableRenderBuffering) {
+                    context.getRenderBuffer().defer(entry, margin, sphere[3]);
+                }
                 return false;
             }
-            return true;
         }
-        return false;
+        if (Environment.enableRenderBuffering) {
+            context.getRenderBuffer().accept(entry);
+        }
+        return true;
     }
     
     /**
@@ -208,8 +258,19 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     @Override
     public final boolean postPrepare(UUID perspective) {
-        if (calculateRenderDistance(perspective) > Environment.maxRenderDistance) {
-            renderDelay.get(perspective).set(Environment.enableRenderBuffering ? ((int) (Math.random() * (Environment.fps / 8))) : 1);
+        RenderContext context = RenderContext.get(perspective);
+        PerspectiveState state = getPerspectiveState(context);
+        long viewVersion = Camera.getViewVersion(context);
+        if (!Environment.enableIncrementalPrepare || (state.version == UNPREPARED) || (state.distanceViewVersion == UNPROJECTED) || (state.distanceViewVersion != viewVersion)) {
+            state.renderDistance = calculateRenderDistance(perspective);
+            state.distanceViewVersion = viewVersion;
+        }
+        
+        if (state.renderDistance > Environment.maxRenderDistance) {
+            if (Environment.enableRenderBuffering) {
+                double[] sphere = getSnapshot().getBoundingSphere();
+                context.getRenderBuffer().defer(state.entry, state.renderDistance - Environment.maxRenderDistance, (sphere == null) ? 0.0 : sphere[3]);
+            }
             return !Environment.enableRenderBuffering;
         }
         return true;
@@ -224,14 +285,14 @@ public abstract class AbstractObject implements ObjectInterface {
     @Override
     public final List<BaseObject> doPrepare(UUID perspective) {
         if (!prePrepare(perspective)) {
-            rendered.get(perspective).set(false);
+            getPerspectiveState(perspective).rendered = false;
             return new ArrayList<>();
         }
         
         List<BaseObject> preparedBases = prepare(perspective);
         
         if (!postPrepare(perspective)) {
-            rendered.get(perspective).set(false);
+            getPerspectiveState(perspective).rendered = false;
             return new ArrayList<>();
         }
         return preparedBases;
@@ -245,24 +306,33 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     @Override
     public final boolean preRender(UUID perspective) {
-        if (!Environment.enableRenderBuffering || renderDelay.get(perspective).get() <= 0) {
-            if (!visible || (prepared.get(perspective).size() < vertices.length) || Camera.hasVectorBehindScreen(perspective, vertices)) {
-                renderDelay.get(perspective).set(Environment.enableRenderBuffering ? ((int) (Math.random() * (Environment.fps / 8))) : 1);
-                return false;
-            }
-            
-            Camera.projectVectorsToCamera(perspective, prepared.get(perspective));
-            Camera.collapseVectorsToViewport(perspective, prepared.get(perspective));
-            if (!Camera.hasVectorInView(perspective, prepared.get(perspective))) {
-                renderDelay.get(perspective).set(Environment.enableRenderBuffering ? ((int) (Math.random() * (Environment.fps / 8))) : 1);
-                return false;
-            } else {
-                renderDelay.get(perspective).set(1);
-                Camera.scaleVectorsToScreen(perspective, prepared.get(perspective));
-                return true;
+        RenderContext context = RenderContext.get(perspective);
+        PerspectiveState state = getPerspectiveState(context);
+        Snapshot published = getSnapshot();
+        if (!published.isVisible() || (state.prepared.size() < published.getVertices().length)) {
+            return false;
+        }
+        
+        long viewVersion = Camera.getViewVersion(context);
+        int visibility;
+        if (Environment.enableIncrementalPrepare && (state.version != UNPREPARED) && (state.viewVersion != UNPROJECTED) && (state.viewVersion == viewVersion)) {
+            visibility = state.visibility;
+        } else {
+            visibility = Camera.projectVectorsToScreen(context, state.prepared);
+            state.viewVersion = viewVersion;
+            state.visibility = visibility;
+        }
+        if (((visibility & Camera.BEHIND_SCREEN) != 0) || ((visibility & Camera.IN_VIEW) == 0)) {
+            if (Environment.enableRenderBuffering) {
+                double[] sphere = getWorldBoundingSphere();
+                double margin = getViewMargin(context, sphere);
+                if (margin > 0) {
+                    context.getRenderBuffer().defer(state.entry, margin, sphere[3]);
+                }
             }
+            return false;
         }
-        return false;
+        return true;
     }
     
     /**
@@ -282,6 +352,45 @@ public abstract class AbstractObject implements ObjectInterface {
         animationTasks.values().forEach(Runnable::run);
     }
     
+    /**
+     * Removes an animation or transformation from the Object.
+     *
+     * @param id The id of the animation task.
+     */
+    @Override
+    public void removeAnimation(UUID id) {
+        completeTransformation(id);
+        AnimationEngine.getInstance().removeAnimation(id);
+    }
+    
+    /**
+     * Returns a future that completes when a transformation of the Object finishes or is removed.
+     *
+     * @param id The id of the animation task of the transformation.
+     * @return The future that completes when the transformation finishes, which is already complete if the transformation is not running.
+     */
+    public CompletableFuture<Void> getTransformationCompletion(UUID id) {
+        CompletableFuture<Void> completion = transformationCompletions.computeIfAbsent(id, e -> new CompletableFuture<>());
+        if (!animationTasks.containsKey(id)) {
+            transformationCompletions.remove(id);
+            completion.complete(null);
+        }
+        return completion;
+    }
+    
+    /**
+     * Removes a finished transformation from the Object and completes its future.
+     *
+     * @param id The id of the animation task of the transformation.
+     */
+    private void completeTransformation(UUID id) {
+        animationTasks.remove(id);
+        CompletableFuture<Void> completion = transformationCompletions.remove(id);
+        if (completion != null) {
+            completion.complete(null);
+        }
+    }
+    
     /**
      * Performs post-rendering steps on the Object.
      *
@@ -305,7 +414,7 @@ public abstract class AbstractObject implements ObjectInterface {
             return;
         }
         
-        frame.render(g2, prepared.get(perspective));
+        frame.render(g2, getPrepared(perspective));
     }
     
     /**
@@ -317,26 +426,101 @@ public abstract class AbstractObject implements ObjectInterface {
     @Override
     public final void doRender(Graphics2D g2, UUID perspective) {
         if (!preRender(perspective)) {
-            rendered.get(perspective).set(false);
+            getPerspectiveState(perspective).rendered = false;
             return;
         }
         
         render(g2, perspective);
         
         postRender(g2, perspective);
-        rendered.get(perspective).set(true);
+        getPerspectiveState(perspective).rendered = true;
+    }
+    
+    /**
+     * Determines whether or not the Object can be rendered by a Rasterizer.
+     *
+     * @return Whether or not the Object can be rendered by a Rasterizer.
+     */
+    @Override
+    public boolean isRasterizable() {
+        return false;
+    }
+    
+    /**
+     * Performs pre-rendering steps on the Object before it is rendered with a Rasterizer.
+     *
+     * @param perspective The perspective to pre-render the Object for.
+     * @return Whether or not the Object should continue rendering.
+     */
+    @Override
+    public final boolean preRasterize(UUID perspective) {
+        boolean visible = preRender(perspective);
+        getPerspectiveState(perspective).rendered = visible;
+        return visible;
+    }
+    
+    /**
+     * Renders the Object with a Rasterizer.
+     *
+     * @param rasterizer  The Rasterizer.
+     * @param perspective The perspective to render the Object for.
+     */
+    @Override
+    public void rasterize(Rasterizer rasterizer, UUID perspective) {
+    }
+    
+    /**
+     * Performs the rendering for the Object with a Rasterizer.
+     *
+     * @param rasterizer  The Rasterizer.
+     * @param perspective The perspective to render the Object for.
+     */
+    @Override
+    public final void doRasterize(Rasterizer rasterizer, UUID perspective) {
+        if (preRasterize(perspective)) {
+            rasterize(rasterizer, perspective);
+        }
     }
     
     /**
      * Initializes a perspective for the Object if it is needed.
      *
-     * @param perspective The perspective initialize.
+     * @param index The index of the Render Context of the perspective to initialize.
+     * @return The rendering state of the Object for the perspective.
      */
-    private void initializePerspective(UUID perspective) {
-        rendered.put(perspective, new AtomicBoolean(true));
-        renderDelay.put(perspective, new AtomicInteger(0));
-        prepared.put(perspective, new ArrayList<>());
-        perspectives.add(perspective);
+    private synchronized PerspectiveState initializePerspective(int index) {
+        PerspectiveState[] states = perspectiveStates;
+        if ((index >= states.length) || (states[index] == null)) {
+            states = Arrays.copyOf(states, Math.max(states.length, index + 1));
+            states[index] = new PerspectiveState();
+            perspectiveStates = states;
+        }
+        return states[index];
+    }
+    
+    /**
+     * Returns the rendering state of the Object for a perspective, initializing the perspective if it is needed.
+     *
+     * @param context The Render Context of the perspective.
+     * @return The rendering state of the Object for the perspective.
+     */
+    private PerspectiveState getPerspectiveState(RenderContext context) {
+        final int index = context.getIndex();
+        final PerspectiveState[] states = perspectiveStates;
+        if ((index < states.length) && (states[index] != null)) {
+            return states[index];
+        }
+        return initializePerspective(index);
+    }
+    
+    /**
+     * Returns the rendering state of the Object for a perspective, initializing the perspective if it is needed.
+     *
+     * @param perspective The perspective.
+     * @return The rendering state of the Object for the perspective.
+     */
+    private PerspectiveState getPerspectiveState(UUID perspective) {
+        return getPerspectiveState(RenderContext.get(perspective));
     }
     
     /**
@@ -347,6 +531,7 @@ public abstract class AbstractObject implements ObjectInterface {
     @Override
     public synchronized void move(Vector offset) {
         center = center.plus(offset);
+        invalidatePrepared();
     }
     
     /**
@@ -395,28 +580,7 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     @Override
     public UUID addMovementAnimation(double xSpeed, double ySpeed, double zSpeed) {
-        final Vector speedVector = new Vector(xSpeed, ySpeed, zSpeed);
-        final AtomicLong lastTime = new AtomicLong(0);
-        
-        final UUID taskId = UUID.randomUUID();
-        Runnable task = () -> {
-            if (lastTime.get() == 0) {
-                lastTime.set(Environment.currentTimeMillis());
-                return;
-            }
-            
-            long currentTime = Environment.currentTimeMillis();
-            long timeElapsed = currentTime - lastTime.get();
-            lastTime.set(currentTime);
-            
-            double scale = (double) timeElapsed / 1000;
-            move(speedVector.scale(scale));
-        };
-        
-        animationTasks.put(taskId, task);
-        if (animationTask == null) {
-            animationTask = Environment.addTask(this::runAnimationTasks);
-        }
+        UUID taskId = AnimationEngine.getInstance().addMovementAnimation(this, xSpeed, ySpeed, zSpeed);
         movementAnimations.add(new double[] {xSpeed, ySpeed, zSpeed});
         return taskId;
     }
@@ -435,7 +599,8 @@ public abstract class AbstractObject implements ObjectInterface {
         inMovementTransformation.set(true);
         
         final Vector movementVector = new Vector(xMovement, yMovement, zMovement);
-        Vector totalMovement = new Vector(0, 0, 0);
+        final Vector totalMovement = new Vector(0, 0, 0);
+        final Vector movementFrame = new Vector(0, 0, 0);
         final AtomicLong lastTime = new AtomicLong(0);
         final AtomicLong totalTime = new AtomicLong(0);
         
@@ -452,14 +617,13 @@ public abstract class AbstractObject implements ObjectInterface {
             totalTime.addAndGet(timeElapsed);
             
             if (totalTime.get() >= period) {
-                move(movementVector.minus(totalMovement));
-                animationTasks.remove(taskId);
+                move(movementVector.minusInto(totalMovement, movementFrame));
                 inMovementTransformation.set(false);
+                completeTransformation(taskId);
             } else {
                 double scale = (double) timeElapsed / period;
-                Vector movementFrame = movementVector.scale(scale);
-                move(movementFrame);
-                Vector.copy(totalMovement.plus(movementFrame), totalMovement);
+                move(movementVector.scaleInto(scale, movementFrame));
+                totalMovement.addInPlace(movementFrame);
             }
         };
         
@@ -467,7 +631,6 @@ public abstract class AbstractObject implements ObjectInterface {
         if (animationTask == null) {
             animationTask = Environment.addTask(this::runAnimationTasks);
         }
-        Environment.addTask(task);
         return taskId;
     }
     
@@ -481,28 +644,7 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     @Override
     public UUID addRotationAnimation(double rollSpeed, double pitchSpeed, double yawSpeed) {
-        final Vector speedVector = new Vector(rollSpeed, pitchSpeed, yawSpeed);
-        final AtomicLong lastTime = new AtomicLong(0);
-        
-        final UUID taskId = UUID.randomUUID();
-        Runnable task = () -> {
-            if (lastTime.get() == 0) {
-                lastTime.set(Environment.currentTimeMillis());
-                return;
-            }
-            
-            long currentTime = Environment.currentTimeMillis();
-            long timeElapsed = currentTime - lastTime.get();
-            lastTime.set(currentTime);
-            
-            double scale = (double) timeElapsed / 1000;
-            rotate(speedVector.scale(scale));
-        };
-        
-        animationTasks.put(taskId, task);
-        if (animationTask == null) {
-            animationTask = Environment.addTask(this::runAnimationTasks);
-        }
+        UUID taskId = AnimationEngine.getInstance().addRotationAnimation(this, rollSpeed, pitchSpeed, yawSpeed);
         rotationAnimations.add(new double[] {rollSpeed, pitchSpeed, yawSpeed});
         return taskId;
     }
@@ -522,6 +664,7 @@ public abstract class AbstractObject implements ObjectInterface {
         
         final Vector rotationVector = new Vector(rollRotation, pitchRotation, yawRotation);
         final Vector totalRotation = new Vector(0, 0, 0);
+        final Vector rotationFrame = new Vector(0, 0, 0);
         final AtomicLong lastTime = new AtomicLong(0);
         final AtomicLong totalTime = new AtomicLong(0);
         
@@ -538,14 +681,13 @@ public abstract class AbstractObject implements ObjectInterface {
             totalTime.addAndGet(timeElapsed);
             
             if (totalTime.get() >= period) {
-                rotateAndTransform(rotationVector.minus(totalRotation));
-                animationTasks.remove(taskId);
+                rotateAndTransform(rotationVector.minusInto(totalRotation, rotationFrame));
                 inRotationTransformation.set(false);
+                completeTransformation(taskId);
             } else {
                 double scale = (double) timeElapsed / period;
-                Vector rotationFrame = rotationVector.scale(scale);
-                rotateAndTransform(rotationFrame);
-                Vector.copy(totalRotation.plus(rotationFrame), totalRotation);
+                rotateAndTransform(rotationVector.scaleInto(scale, rotationFrame));
+                totalRotation.addInPlace(rotationFrame);
             }
         };
         
@@ -565,26 +707,7 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     @Override
     public UUID addColorAnimation(long period, long offset) {
-        final AtomicLong firstTime = new AtomicLong(0);
-        
-        final UUID taskId = UUID.randomUUID();
-        Runnable task = () -> {
-            if (firstTime.get() == 0) {
-                firstTime.set(Environment.currentTimeMillis() - offset);
-            }
-            
-            long timeElapsed = Environment.currentTimeMillis() - firstTime.get();
-            timeElapsed %= period;
-            
-            float hue = (float) timeElapsed / period;
-            setColor(ColorUtility.getColorByHue(hue));
-        };
-        
-        animationTasks.put(taskId, task);
-        if (animationTask == null) {
-            animationTask = Environment.addTask(this::runAnimationTasks);
-        }
-        return taskId;
+        return AnimationEngine.getInstance().addColorAnimation(this, period, offset);
     }
     
     /**
@@ -597,56 +720,7 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     @Override
     public UUID addOrbitAnimation(Object object, double orbitPeriod, boolean clockwise) {
-        final AbstractObject o = this;
-        final Vector lastObjectCenter = object.center.cloned();
-        final Vector normal = Environment.ORIGIN.cloned();
-        final AtomicInteger wise = new AtomicInteger(-1);
-        final AtomicLong lastTime = new AtomicLong(0);
-        final AtomicLong originalRho = new AtomicLong(0);
-        final AtomicLong circumference = new AtomicLong(0);
-        
-        final UUID taskId = UUID.randomUUID();
-        Runnable task = () -> {
-            Vector currentObjectCenter = object.center.cloned();
-            Vector objectMovement = currentObjectCenter.minus(lastObjectCenter);
-            Vector.copy(currentObjectCenter, lastObjectCenter);
-            
-            if (lastTime.get() == 0) {
-                Vector sphericalLocation = CoordinateUtility.cartesianToSpherical(center.minus(lastObjectCenter));
-                Vector direction = center.minus(lastObjectCenter).normalize();
-                Vector perpendicular = CoordinateUtility.sphericalToCartesian(sphericalLocation.getRawX(), sphericalLocation.getRawY() + (Math.PI / 2), Math.PI / 2).minus(lastObjectCenter).normalize();
-                
-                Vector.copy(new Vector3(direction).cross(perpendicular).normalize(), normal);
-                wise.set((clockwise ? 1 : -1) * (((direction.getRawX() == 0) && (direction.getRawY() == 0) && (direction.getRawZ() > 0)) ? 1 : -1));
-                originalRho.set(Double.doubleToLongBits(sphericalLocation.getRawX()));
-                circumference.set(Double.doubleToLongBits(Math.PI * 2 * sphericalLocation.getRawX()));
-                
-                lastTime.set(Environment.currentTimeMillis());
-                return;
-            }
-            
-            long currentTime = Environment.currentTimeMillis();
-            long timeElapsed = currentTime - lastTime.get();
-            lastTime.set(currentTime);
-            
-            Vector gravity = lastObjectCenter.minus(center).normalize();
-            Vector movement = new Vector3(gravity).cross(normal).normalize().scale(wise.get());
-            
-            double scale = ((double) timeElapsed / orbitPeriod) * Double.longBitsToDouble(circumference.get());
-            
-            Vector translation = movement.scale(scale).plus(objectMovement);
-            Vector newLocation = center.plus(translation);
-            Vector sphericalLocation = CoordinateUtility.cartesianToSpherical(newLocation.minus(lastObjectCenter));
-            Vector adjustedLocation = CoordinateUtility.sphericalToCartesian(Double.longBitsToDouble(originalRho.get()), sphericalLocation.getRawY(), sphericalLocation.getRawZ()).plus(lastObjectCenter);
-            Vector adjustment = adjustedLocation.minus(newLocation);
-            
-            move(translation.plus(adjustment));
-        };
-        
-        animationTasks.put(taskId, task);
-        if (animationTask == null) {
-            animationTask = Environment.addTask(this::runAnimationTasks);
-        }
+        UUID taskId = AnimationEngine.getInstance().addOrbitAnimation(this, object, orbitPeriod, clockwise);
         orbitAnimations.add(new double[] {orbitPeriod, clockwise ? 1 : -1});
         return taskId;
     }
@@ -688,7 +762,10 @@ public abstract class AbstractObject implements ObjectInterface {
         
         final double orbitPeriod = period / orbits;
         final Vector lastObjectCenter = object.center.cloned();
+        final Vector objectMovement = new Vector(0, 0, 0);
         final Vector normal = Environment.ORIGIN.cloned();
+        final Vector movement = new Vector(0, 0, 0);
+        final Vector translation = new Vector(0, 0, 0);
         final AtomicInteger wise = new AtomicInteger(-1);
         final AtomicLong lastTime = new AtomicLong(0);
         final AtomicLong totalTime = new AtomicLong(0);
@@ -697,8 +774,8 @@ public abstract class AbstractObject implements ObjectInterface {
         
         final UUID taskId = UUID.randomUUID();
         Runnable task = () -> {
-            Vector currentObjectCenter = object.center.cloned();
-            Vector objectMovement = currentObjectCenter.minus(lastObjectCenter);
+            Vector currentObjectCenter = object.center;
+            currentObjectCenter.minusInto(lastObjectCenter, objectMovement);
             Vector.copy(currentObjectCenter, lastObjectCenter);
             
             if (lastTime.get() == 0) {
@@ -724,22 +801,22 @@ public abstract class AbstractObject implements ObjectInterface {
                 timeElapsed -= (totalTime.get() - period);
             }
             
-            Vector gravity = lastObjectCenter.minus(center).normalize();
-            Vector movement = new Vector3(gravity).cross(normal).normalize().scale(wise.get());
+            Vector gravity = lastObjectCenter.minusInto(center, movement).normalizeInPlace();
+            Vector3.crossInto(gravity, normal, movement).normalizeInPlace().scaleInPlace(wise.get());
             
             double scale = ((double) timeElapsed / orbitPeriod) * Double.longBitsToDouble(circumference.get());
             
-            Vector translation = movement.scale(scale).plus(objectMovement);
-            Vector newLocation = center.plus(translation);
-            Vector sphericalLocation = CoordinateUtility.cartesianToSpherical(newLocation.minus(lastObjectCenter));
-            Vector adjustedLocation = CoordinateUtility.sphericalToCartesian(Double.longBitsToDouble(originalRho.get()), sphericalLocation.getRawY(), sphericalLocation.getRawZ()).plus(lastObjectCenter);
-            Vector adjustment = adjustedLocation.minus(newLocation);
+            movement.scaleInto(scale, translation).addInPlace(objectMovement);
+            Vector newLocation = center.plusInto(translation, movement);
+            Vector sphericalLocation = CoordinateUtility.cartesianToSpherical(newLocation.subtractInPlace(lastObjectCenter));
+            Vector adjustedLocation = CoordinateUtility.sphericalToCartesian(Double.longBitsToDouble(originalRho.get()), sphericalLocation.getRawY(), sphericalLocation.getRawZ());
             
-            move(translation.plus(adjustment));
+            //translation + (adjustedLocation - newLocation) = adjustedLocation - (center - lastObjectCenter)
+            move(adjustedLocation.addInPlace(lastObjectCenter).subtractInPlace(center));
             
             if (totalTime.get() >= period) {
-                animationTasks.remove(taskId);
                 inOrbitTransformation.set(false);
+                completeTransformation(taskId);
             }
         };
         
@@ -779,6 +856,7 @@ public abstract class AbstractObject implements ObjectInterface {
      */
     public synchronized void updateRotationMatrix() {
         rotationMatrix = RotationUtility.getRotationMatrix(getRotationRoll(), getRotationPitch(), getRotationYaw());
+        invalidatePrepared();
     }
     
     /**
@@ -791,8 +869,282 @@ public abstract class AbstractObject implements ObjectInterface {
             return;
         }
         
-        for (int i = 0; i < vs.size(); i++) {
-            vs.set(i, RotationUtility.performRotation(vs.get(i), rotationMatrix, JustificationUtil.justify(getRootCenter())));
+        Vector rotationCenter = JustificationUtil.justify(getRootCenter());
+        for (Vector v : vs) {
+            RotationUtility.performRotationInto(v, rotationMatrix, rotationCenter, v);
+        }
+    }
+    
+    /**
+     * Transforms an array of Vectors from the space of the Object to world space with the world transform of the published Snapshot of the Object.<br>
+     * The Vectors already in the destination list are reused to hold the results, and the list is resized to the number of Vectors.
+     *
+     * @param vs   The array of Vectors to transform.
+     * @param dest The list to store the transformed Vectors in.
+     * @see #getSnapshot()
+     */
+    public final void transformToWorld(Vector[] vs, List<Vector> dest) {
+        double[] t = getSnapshot().getWorldTransform();
+        
+        while (dest.size() > vs.length) {
+            dest.remove(dest.size() - 1);
+        }
+        for (int i = 0; i < vs.length; i++) {
+            double x = vs[i].getRawX();
+            double y = vs[i].getRawY();
+            double z = vs[i].getRawZ();
+            double wx = (t[0] * x) + (t[1] * y) + (t[2] * z) + t[3];
+            double wy = (t[4] * x) + (t[5] * y) + (t[6] * z) + t[7];
+            double wz = (t[8] * x) + (t[9] * y) + (t[10] * z) + t[11];
+            
+            if (i < dest.size()) {
+                Vector v = dest.get(i);
+                v.setX(wx);
+                v.setY(wy);
+                v.setZ(wz);
+            } else {
+                dest.add(new Vector(wx, wy, wz));
+            }
+        }
+    }
+    
+    /**
+     * Calculates the world transform of the Object.<br>
+     * The world transform justifies a Vector and then applies the rotation transformation of the Object about the justified root center.
+     *
+     * @return The world transform of the Object, as a row-major 4x4 affine matrix.
+     */
+    protected double[] calculateWorldTransform() {
+        Vector justification = JustificationUtil.getJustificationVector();
+        double[] j = new double[] {justification.getRawX(), justification.getRawY(), justification.getRawZ()};
+        
+        double[] transform = new double[16];
+        transform[15] = 1;
+        
+        Matrix3 rotation = rotationMatrix;
+        if (rotation == null) {
+            for (int i = 0; i < 3; i++) {
+                transform[i * 4 + i] = j[i];
+            }
+            return transform;
+        }
+        
+        //the rotation is applied as its transpose, r(v) = R^T (v - c) + c, where c is the justified root center
+        Vector rootCenter = getRootCenter();
+        double[] c = new double[] {rootCenter.getRawX() * j[0], rootCenter.getRawY() * j[1], rootCenter.getRawZ() * j[2]};
+        for (int i = 0; i < 3; i++) {
+            double offset = c[i];
+            for (int k = 0; k < 3; k++) {
+                double r = rotation.getRaw(k * 3 + i);
+                transform[i * 4 + k] = r * j[k];
+                offset -= r * c[k];
+            }
+            transform[i * 4 + 3] = offset;
+        }
+        return transform;
+    }
+    
+    /**
+     * Determines whether or not any part of the Object may be in the view of the Camera.
+     *
+     * @param perspective The perspective to determine if the Object may be in view for.
+     * @return Whether or not any part of the Object may be in the view of the Camera.
+     */
+    public final boolean isInView(UUID perspective) {
+        double[] sphere = getWorldBoundingSphere();
+        return (sphere == null) || Camera.hasSphereInView(perspective, new Vector(sphere[0], sphere[1], sphere[2]), sphere[3]);
+    }
+    
+    /**
+     * Determines how far the Object is outside of the view of the Camera.
+     *
+     * @param context The Render Context of the perspective to determine the distance of the Object outside of the view for.
+     * @param sphere  The bounding sphere of the Object in world space, or null if it has none.
+     * @return The distance of the Object outside of the view of the Camera, or 0 if any part of the Object may be in view.
+     * @see #getWorldBoundingSphere()
+     */
+    private double getViewMargin(RenderContext context, double[] sphere) {
+        return (sphere == null) ? 0.0 : Camera.getSphereMargin(context, new Vector(sphere[0], sphere[1], sphere[2]), sphere[3]);
+    }
+    
+    /**
+     * Calculates the bounding sphere of the published Snapshot of the Object, with its center transformed to world space.
+     *
+     * @return The bounding sphere of the Object as {x, y, z, radius} with its center in world space, or null if it has none.
+     * @see #getBoundingSphere()
+     */
+    private double[] getWorldBoundingSphere() {
+        Snapshot published = getSnapshot();
+        double[] sphere = published.getBoundingSphere();
+        if (sphere == null) {
+            return null;
+        }
+        
+        double[] t = published.getWorldTransform();
+        return new double[] {
+                (t[0] * sphere[0]) + (t[1] * sphere[1]) + (t[2] * sphere[2]) + t[3],
+                (t[4] * sphere[0]) + (t[5] * sphere[1]) + (t[6] * sphere[2]) + t[7],
+                (t[8] * sphere[0]) + (t[9] * sphere[1]) + (t[10] * sphere[2]) + t[11],
+                sphere[3]};
+    }
+    
+    /**
+     * Calculates the bounding sphere of the Object in world space.
+     *
+     * @return The bounding sphere of the Object, or null if the Object has no bounds.
+     */
+    protected double[] calculateBoundingSphere() {
+        if (vertices.length == 0) {
+            return null;
+        }
+        
+        double[] points = new double[vertices.length * 4];
+        for (int i = 0; i < vertices.length; i++) {
+            points[i * 4] = vertices[i].getRawX();
+            points[i * 4 + 1] = vertices[i].getRawY();
+            points[i * 4 + 2] = vertices[i].getRawZ();
+        }
+        return enclosingSphere(points, vertices.length);
+    }
+    
+    /**
+     * Calculates a sphere enclosing a set of spheres, centered on their axis-aligned bounding box.
+     *
+     * @param spheres The packed centers and radii of the spheres.
+     * @param count   The number of spheres.
+     * @return The enclosing sphere, as the coordinates of its center followed by its radius.
+     */
+    protected static double[] enclosingSphere(double[] spheres, int count) {
+        double[] min = new double[] {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+        double[] max = new double[] {-Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (int i = 0; i < count; i++) {
+            for (int c = 0; c < 3; c++) {
+                min[c] = Math.min(min[c], spheres[i * 4 + c] - spheres[i * 4 + 3]);
+                max[c] = Math.max(max[c], spheres[i * 4 + c] + spheres[i * 4 + 3]);
+            }
+        }
+        
+        double[] sphere = new double[] {(min[0] + max[0]) / 2, (min[1] + max[1]) / 2, (min[2] + max[2]) / 2, 0};
+        for (int i = 0; i < count; i++) {
+            double dx = spheres[i * 4] - sphere[0];
+            double dy = spheres[i * 4 + 1] - sphere[1];
+            double dz = spheres[i * 4 + 2] - sphere[2];
+            sphere[3] = Math.max(sphere[3], Math.sqrt((dx * dx) + (dy * dy) + (dz * dz)) + spheres[i * 4 + 3]);
+        }
+        return sphere;
+    }
+    
+    /**
+     * Invalidates the cached bounding sphere of the Object and of its ancestors, marks it to be refitted in its spatial index, and invalidates its prepared Vectors.
+     */
+    @Override
+    public void invalidateBounds() {
+        invalidatePrepared();
+        clearBounds();
+    }
+    
+    /**
+     * Clears the cached bounding sphere of the Object and of its ancestors, and marks it to be refitted in its spatial index.
+     */
+    private void clearBounds() {
+        boundingSphere = null;
+        final SpatialIndex index = spatialIndex;
+        if (index != null) {
+            index.invalidate(this);
+        }
+        if (parent != null) {
+            parent.clearBounds();
+        }
+    }
+    
+    /**
+     * Invalidates the prepared Vectors of the Object and of its descendants, so that they are recalculated the next time they are prepared.
+     */
+    public void invalidatePrepared() {
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Determines whether the prepared Vectors of the Object for a perspective are still valid and can be reused.<br>
+     * If the prepared Vectors have been projected to the screen for a previous view of the Camera, they are restored to their world space coordinates.
+     * If they cannot be reused, they must be recalculated and then stored with {@link #cachePrepared(UUID)}.
+     *
+     * @param perspective The perspective.
+     * @return Whether the prepared Vectors of the Object are still valid or not.
+     */
+    protected final boolean reusePrepared(UUID perspective) {
+        RenderContext context = RenderContext.get(perspective);
+        PerspectiveState state = getPerspectiveState(context);
+        List<Vector> perspectivePrepared = state.prepared;
+        long currentVersion = getSnapshot().getVersion();
+        
+        if (!Environment.enableIncrementalPrepare || (state.version != currentVersion) || (state.coordinates == null) || (state.coordinates.length != (perspectivePrepared.size() * 3))) {
+            state.version = UNPREPARED;
+            state.pendingVersion = currentVersion;
+            state.viewVersion = UNPROJECTED;
+            state.distanceViewVersion = UNPROJECTED;
+            return false;
+        }
+        
+        if (state.viewVersion != UNPROJECTED) {
+            long viewVersion = Camera.getViewVersion(context);
+            if ((state.viewVersion != viewVersion) || (state.distanceViewVersion != viewVersion)) {
+                double[] coordinates = state.coordinates;
+                for (int i = 0; i < perspectivePrepared.size(); i++) {
+                    Vector v = perspectivePrepared.get(i);
+                    v.setX(coordinates[i * 3]);
+                    v.setY(coordinates[i * 3 + 1]);
+                    v.setZ(coordinates[i * 3 + 2]);
+                }
+                state.viewVersion = UNPROJECTED;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Stores the recalculated prepared Vectors of the Object for a perspective so that they can be reused until the Object changes.
+     *
+     * @param perspective The perspective.
+     * @see #reusePrepared(UUID)
+     */
+    protected final void cachePrepared(UUID perspective) {
+        PerspectiveState state = getPerspectiveState(perspective);
+        List<Vector> perspectivePrepared = state.prepared;
+        
+        double[] coordinates = ((state.coordinates != null) && (state.coordinates.length == (perspectivePrepared.size() * 3))) ?
+                               state.coordinates : new double[perspectivePrepared.size() * 3];
+        for (int i = 0; i < perspectivePrepared.size(); i++) {
+            Vector v = perspectivePrepared.get(i);
+            coordinates[i * 3] = v.getRawX();
+            coordinates[i * 3 + 1] = v.getRawY();
+            coordinates[i * 3 + 2] = v.getRawZ();
+        }
+        state.coordinates = coordinates;
+        state.viewVersion = UNPROJECTED;
+        state.distanceViewVersion = UNPROJECTED;
+        state.version = state.pendingVersion;
+    }
+    
+    /**
+     * Publishes a Snapshot of the current state of the Object for the renderer.
+     */
+    @Override
+    public void publish() {
+        publish(NO_COMPONENTS);
+    }
+    
+    /**
+     * Publishes a Snapshot of the current state of the Object for the renderer, if it has changed since the last Snapshot was published.<br>
+     * This should be called from the simulation, between ticks, so that the renderer never reads the Object while it is being modified.
+     *
+     * @param components The components of the Object to publish, which must be the same list as the last Snapshot if they have not changed.
+     */
+    protected final void publish(List<ObjectInterface> components) {
+        final Snapshot current = snapshot;
+        long currentVersion = getVersion();
+        if ((current == null) || (current.version != currentVersion) || (current.visible != visible) || (current.components != components)) {
+            snapshot = new Snapshot(currentVersion, getWorldTransform(), vertices.clone(), getBoundingSphere(), visible, components);
         }
     }
     
@@ -841,7 +1193,12 @@ public abstract class AbstractObject implements ObjectInterface {
      * @return Whether or not the Object is prepared for the perspective.
      */
     public boolean preparedForPerspective(UUID perspective) {
-        return perspectives.contains(perspective);
+        RenderContext context = RenderContext.find(perspective);
+        if (context == null) {
+            return false;
+        }
+        PerspectiveState[] states = perspectiveStates;
+        return (context.getIndex() < states.length) && (states[context.getIndex()] != null);
     }
     
     
@@ -856,6 +1213,65 @@ public abstract class AbstractObject implements ObjectInterface {
         return parent;
     }
     
+    /**
+     * Returns the spatial index the Object is stored in.
+     *
+     * @return The spatial index the Object is stored in, or null if it is not indexed.
+     */
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+    
+    /**
+     * Returns the version of the Object, which changes whenever the Object or any of its ancestors change.
+     *
+     * @return The version of the Object.
+     */
+    public long getVersion() {
+        return (parent == null) ? version.get() : (version.get() + parent.getVersion());
+    }
+    
+    /**
+     * Returns the last Snapshot of the Object published by the simulation.<br>
+     * If no Snapshot has been published yet, one is published from the current state of the Object.
+     *
+     * @return The last Snapshot of the Object.
+     * @see #publish()
+     */
+    public Snapshot getSnapshot() {
+        final Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        publish();
+        return snapshot;
+    }
+    
+    /**
+     * Returns the components of the last Snapshot of the Object published by the simulation.
+     *
+     * @return The components of the last Snapshot of the Object, or null if no Snapshot has been published yet.
+     */
+    protected final List<ObjectInterface> getPublishedComponents() {
+        final Snapshot current = snapshot;
+        return (current == null) ? null : current.components;
+    }
+    
+    /**
+     * Returns the world transform of the Object, calculating it if the Object or any of its ancestors have changed since it was cached.
+     *
+     * @return The world transform of the Object, as a row-major 4x4 affine matrix.
+     * @see #calculateWorldTransform()
+     */
+    public synchronized double[] getWorldTransform() {
+        long currentVersion = getVersion();
+        if ((worldTransform == null) || (worldTransformVersion != currentVersion)) {
+            worldTransform = calculateWorldTransform();
+            worldTransformVersion = currentVersion;
+        }
+        return worldTransform;
+    }
+    
     /**
      * Returns the center point of the Object.
      *
@@ -878,6 +1294,21 @@ public abstract class AbstractObject implements ObjectInterface {
         }
     }
     
+    /**
+     * Returns the bounding sphere of the Object in world space, calculating it if it is not cached.
+     *
+     * @return The bounding sphere of the Object, as the coordinates of its center followed by its radius, or null if the Object has no bounds.
+     */
+    @Override
+    public double[] getBoundingSphere() {
+        double[] sphere = boundingSphere;
+        if (sphere == null) {
+            sphere = calculateBoundingSphere();
+            boundingSphere = sphere;
+        }
+        return sphere;
+    }
+    
     /**
      * Returns the color of the Object.
      *
@@ -903,7 +1334,7 @@ public abstract class AbstractObject implements ObjectInterface {
      * @return The list of the Vectors of the Object that have been prepared for rendering.
      */
     public List<Vector> getPrepared(UUID perspective) {
-        return prepared.get(perspective);
+        return getPerspectiveState(perspective).prepared;
     }
     
     /**
@@ -958,16 +1389,17 @@ public abstract class AbstractObject implements ObjectInterface {
      * @return Whether the Object is rendered or not.
      */
     public boolean isRendered(UUID perspective) {
-        return rendered.get(perspective).get();
+        return getPerspectiveState(perspective).rendered;
     }
     
     /**
      * Returns the distance from the Camera to the Object.
      *
+     * @param perspective The perspective to get the distance from the Camera for.
      * @return The distance from the Camera to the Object.
      */
-    public double getRenderDistance() {
-        return renderDistance;
+    public double getRenderDistance(UUID perspective) {
+        return getPerspectiveState(perspective).renderDistance;
     }
     
     /**
@@ -1024,6 +1456,15 @@ public abstract class AbstractObject implements ObjectInterface {
         parent.registerComponent(this);
     }
     
+    /**
+     * Sets the spatial index the Object is stored in.
+     *
+     * @param spatialIndex The spatial index the Object is stored in, or null if it is not indexed.
+     */
+    public void setSpatialIndex(SpatialIndex spatialIndex) {
+        this.spatialIndex = spatialIndex;
+    }
+    
     /**
      * Sets the center point of the Object.
      *
@@ -1032,6 +1473,7 @@ public abstract class AbstractObject implements ObjectInterface {
     @Override
     public void setCenter(Vector center) {
         this.center = center;
+        invalidateBounds();
     }
     
     /**
@@ -1075,6 +1517,7 @@ public abstract class AbstractObject implements ObjectInterface {
     @Override
     public synchronized void setRotationMatrix(Matrix3 rotationMatrix) {
         this.rotationMatrix = rotationMatrix;
+        invalidatePrepared();
     }
     
     /**
@@ -1178,4 +1621,185 @@ public abstract class AbstractObject implements ObjectInterface {
         }
     }
     
+    
+    //Inner Classes
+    
+    /**
+     * Holds the state of an Object published by the simulation for the renderer.<br>
+     * A Snapshot is never modified once it is published, and a new one replaces it atomically, so the renderer reads it without locking.
+     */
+    public static final class Snapshot {
+        
+        //Fields
+        
+        /**
+         * The version of the Object the Snapshot was taken at.
+         */
+        private final long version;
+        
+        /**
+         * The world transform of the Object, as a row-major 4x4 affine matrix.
+         */
+        private final double[] worldTransform;
+        
+        /**
+         * The vertices of the Object.
+         */
+        private final Vector[] vertices;
+        
+        /**
+         * The bounding sphere of the Object, or null if the Object has no bounds.
+         */
+        private final double[] boundingSphere;
+        
+        /**
+         * The visibility of the Object.
+         */
+        private final boolean visible;
+        
+        /**
+         * The components of the Object.
+         */
+        private final List<ObjectInterface> components;
+        
+        
+        //Constructors
+        
+        /**
+         * The constructor for a Snapshot.
+         *
+         * @param version        The version of the Object.
+         * @param worldTransform The world transform of the Object.
+         * @param vertices       The vertices of the Object.
+         * @param boundingSphere The bounding sphere of the Object.
+         * @param visible        The visibility of the Object.
+         * @param components     The components of the Object.
+         */
+        private Snapshot(long version, double[] worldTransform, Vector[] vertices, double[] boundingSphere, boolean visible, List<ObjectInterface> components) {
+            this.version = version;
+            this.worldTransform = worldTransform;
+            this.vertices = vertices;
+            this.boundingSphere = boundingSphere;
+            this.visible = visible;
+            this.components = components;
+        }
+        
+        
+        //Getters
+        
+        /**
+         * Returns the version of the Object the Snapshot was taken at.
+         *
+         * @return The version of the Object the Snapshot was taken at.
+         */
+        public long getVersion() {
+            return version;
+        }
+        
+        /**
+         * Returns the world transform of the Object.
+         *
+         * @return The world transform of the Object, as a row-major 4x4 affine matrix.
+         */
+        public double[] getWorldTransform() {
+            return worldTransform;
+        }
+        
+        /**
+         * Returns the vertices of the Object.
+         *
+         * @return The vertices of the Object.
+         */
+        public Vector[] getVertices() {
+            return vertices;
+        }
+        
+        /**
+         * Returns the bounding sphere of the Object.
+         *
+         * @return The bounding sphere of the Object, as the coordinates of its center followed by its radius, or null if the Object has no bounds.
+         */
+        public double[] getBoundingSphere() {
+            return boundingSphere;
+        }
+        
+        /**
+         * Returns the visibility of the Object.
+         *
+         * @return The visibility of the Object.
+         */
+        public boolean isVisible() {
+            return visible;
+        }
+        
+        /**
+         * Returns the components of the Object.
+         *
+         * @return The components of the Object.
+         */
+        public List<ObjectInterface> getComponents() {
+            return components;
+        }
+        
+    }
+    
+    /**
+     * Holds the rendering state of an Object for a perspective.
+     */
+    private static class PerspectiveState {
+        
+        //Fields
+        
+        /**
+         * The Vectors of the Object that have been prepared for rendering.
+         */
+        final List<Vector> prepared = new ArrayList<>();
+        
+        /**
+         * The Render Buffer Entry of the Object.
+         */
+        final RenderBuffer.Entry entry = new RenderBuffer.Entry();
+        
+        /**
+         * A flag indicating whether or not the Object is rendered.
+         */
+        volatile boolean rendered = true;
+        
+        /**
+         * The version of the Object the prepared Vectors were calculated for, or UNPREPARED if they are not cached.
+         */
+        long version = UNPREPARED;
+        
+        /**
+         * The version of the Object read before the prepared Vectors were last recalculated.
+         */
+        long pendingVersion = UNPREPARED;
+        
+        /**
+         * The packed world space coordinates of the prepared Vectors.
+         */
+        double[] coordinates = null;
+        
+        /**
+         * The view version of the Camera the prepared Vectors are projected for, or UNPROJECTED if they hold world space coordinates.
+         */
+        long viewVersion = UNPROJECTED;
+        
+        /**
+         * The visibility flags of the prepared Vectors when they were projected.
+         */
+        int visibility = 0;
+        
+        /**
+         * The view version of the Camera the render distance was calculated for, or UNPROJECTED if it has not been calculated.
+         */
+        long distanceViewVersion = UNPROJECTED;
+        
+        /**
+         * The distance from the Camera to the Object.
+         */
+        double renderDistance = 0.0;
+        
+    }
+    
 }
@@ -0,0 +1,834 @@
+/*
+ * File:    AnimationEngine.java
+ * Package: graphy.object.base
+ * Author:  Zachary Gill
+ */
+
+package graphy.object.base;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import commons.graphics.ColorUtility;
+import commons.math.CoordinateUtility;
+import commons.math.component.vector.Vector;
+import commons.math.component.vector.Vector3;
+import graphy.main.Environment;
+import graphy.main.TaskScheduler;
+
+/**
+ * Runs the constant animations of Objects in batches.<br>
+ * The animations of each kind are stored in primitive arrays and are advanced together in a single pass each tick,
+ * in parallel chunks when there are many of them, before the results are written back to the Objects one after another on the calling thread.
+ * Advancing only reads the Objects, so an animated Object and its animated components are never modified from different threads at once.
+ */
+public class AnimationEngine {
+    
+    //Constants
+    
+    /**
+     * The initial capacity of a batch of animations.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+    
+    /**
+     * The number of animations in a chunk of a batch that is advanced in parallel.
+     */
+    public static final int CHUNK_SIZE = 1024;
+    
+    
+    //Static Fields
+    
+    /**
+     * The instance of the Animation Engine.
+     */
+    private static final AnimationEngine instance = new AnimationEngine();
+    
+    
+    //Fields
+    
+    /**
+     * The batch of movement animations.
+     */
+    private final MotionBatch movements = new MotionBatch(false);
+    
+    /**
+     * The batch of rotation animations.
+     */
+    private final MotionBatch rotations = new MotionBatch(true);
+    
+    /**
+     * The batch of color animations.
+     */
+    private final ColorBatch colors = new ColorBatch();
+    
+    /**
+     * The batch of orbit animations.
+     */
+    private final OrbitBatch orbits = new OrbitBatch();
+    
+    /**
+     * The id of the Environment task running the Animation Engine, or null if it is not running.
+     */
+    private UUID task = null;
+    
+    
+    //Constructors
+    
+    /**
+     * The private constructor for the Animation Engine.
+     */
+    private AnimationEngine() {
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Advances all of the animations of the Animation Engine to the current Environment time.
+     */
+    public void update() {
+        long now = Environment.currentTimeMillis();
+        movements.update(now);
+        rotations.update(now);
+        colors.update(now);
+        orbits.update(now);
+    }
+    
+    /**
+     * Adds a constant movement animation to an Object.
+     *
+     * @param target The Object.
+     * @param xSpeed The speed of the x movement in units per second.
+     * @param ySpeed The speed of the y movement in units per second.
+     * @param zSpeed The speed of the z movement in units per second.
+     * @return The id of the animation.
+     */
+    public UUID addMovementAnimation(AbstractObject target, double xSpeed, double ySpeed, double zSpeed) {
+        UUID id = UUID.randomUUID();
+        movements.add(id, target, xSpeed, ySpeed, zSpeed);
+        start();
+        return id;
+    }
+    
+    /**
+     * Adds a constant rotation animation to an Object.
+     *
+     * @param target     The Object.
+     * @param rollSpeed  The speed of the roll rotation in radians per second.
+     * @param pitchSpeed The speed of the pitch rotation in radians per second.
+     * @param yawSpeed   The speed of the yaw rotation in radians per second.
+     * @return The id of the animation.
+     */
+    public UUID addRotationAnimation(AbstractObject target, double rollSpeed, double pitchSpeed, double yawSpeed) {
+        UUID id = UUID.randomUUID();
+        rotations.add(id, target, rollSpeed, pitchSpeed, yawSpeed);
+        start();
+        return id;
+    }
+    
+    /**
+     * Adds a constant color animation to an Object.
+     *
+     * @param target The Object.
+     * @param period The period of the color animation in milliseconds.
+     * @param offset The offset of the color animation in milliseconds.
+     * @return The id of the animation.
+     */
+    public UUID addColorAnimation(AbstractObject target, long period, long offset) {
+        UUID id = UUID.randomUUID();
+        colors.add(id, target, period, offset);
+        start();
+        return id;
+    }
+    
+    /**
+     * Adds a constant orbit animation to an Object.
+     *
+     * @param target      The Object.
+     * @param object      The Object to orbit around.
+     * @param orbitPeriod The period of the orbit in milliseconds.
+     * @param clockwise   Whether the orbit around the Object should be clockwise or counterclockwise.
+     * @return The id of the animation.
+     */
+    public UUID addOrbitAnimation(AbstractObject target, Object object, double orbitPeriod, boolean clockwise) {
+        UUID id = UUID.randomUUID();
+        orbits.add(id, target, object, orbitPeriod, clockwise);
+        start();
+        return id;
+    }
+    
+    /**
+     * Removes an animation from the Animation Engine.
+     *
+     * @param id The id of the animation.
+     * @return Whether an animation was removed or not.
+     */
+    public boolean removeAnimation(UUID id) {
+        return movements.remove(id) || rotations.remove(id) || colors.remove(id) || orbits.remove(id);
+    }
+    
+    /**
+     * Starts running the Animation Engine each tick of the Environment, if it is not already running.
+     */
+    private synchronized void start() {
+        if (task == null) {
+            task = Environment.addTask(this::update, TaskScheduler.Phase.ANIMATION);
+        }
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the number of animations in the Animation Engine.
+     *
+     * @return The number of animations in the Animation Engine.
+     */
+    public int size() {
+        return movements.size() + rotations.size() + colors.size() + orbits.size();
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Returns the instance of the Animation Engine.
+     *
+     * @return The instance of the Animation Engine.
+     */
+    public static AnimationEngine getInstance() {
+        return instance;
+    }
+    
+    
+    //Inner Classes
+    
+    /**
+     * Defines a batch of animations of the same kind, stored in primitive arrays.<br>
+     * Animations are removed by moving the last animation of the batch into their place, so the arrays remain dense.
+     */
+    private abstract static class Batch {
+        
+        //Fields
+        
+        /**
+         * The ids of the animations of the Batch.
+         */
+        UUID[] ids = new UUID[INITIAL_CAPACITY];
+        
+        /**
+         * The Objects being animated by the animations of the Batch.
+         */
+        AbstractObject[] targets = new AbstractObject[INITIAL_CAPACITY];
+        
+        /**
+         * The Environment times of the animations of the Batch, or 0 if they have not run yet.
+         */
+        long[] times = new long[INITIAL_CAPACITY];
+        
+        /**
+         * The number of animations in the Batch.
+         */
+        int size = 0;
+        
+        /**
+         * A map from the ids of the animations of the Batch to their index.
+         */
+        private final Map<UUID, Integer> indices = new HashMap<>();
+        
+        
+        //Methods
+        
+        /**
+         * Advances the animations of the Batch to an Environment time and then writes the results back to their Objects.
+         *
+         * @param now The Environment time.
+         */
+        final synchronized void update(long now) {
+            if (size <= CHUNK_SIZE) {
+                advance(0, size, now);
+            } else {
+                IntStream.range(0, ((size - 1) / CHUNK_SIZE) + 1).parallel()
+                        .forEach(chunk -> advance(chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE), now));
+            }
+            apply(0, size);
+        }
+        
+        /**
+         * Advances a range of the animations of the Batch to an Environment time, storing the results in the arrays of the Batch.<br>
+         * The Objects of the animations may be read but must not be modified, so that ranges can be advanced in parallel.
+         *
+         * @param from The index of the first animation in the range.
+         * @param to   The index after the last animation in the range.
+         * @param now  The Environment time.
+         */
+        abstract void advance(int from, int to, long now);
+        
+        /**
+         * Writes the results of the last advance of a range of the animations of the Batch back to their Objects.
+         *
+         * @param from The index of the first animation in the range.
+         * @param to   The index after the last animation in the range.
+         */
+        abstract void apply(int from, int to);
+        
+        /**
+         * Adds an animation to the Batch.
+         *
+         * @param id     The id of the animation.
+         * @param target The Object being animated.
+         * @return The index of the animation.
+         */
+        final int add(UUID id, AbstractObject target) {
+            if (size == ids.length) {
+                grow(size * 2);
+            }
+            ids[size] = id;
+            targets[size] = target;
+            times[size] = 0;
+            indices.put(id, size);
+            return size++;
+        }
+        
+        /**
+         * Removes an animation from the Batch.
+         *
+         * @param id The id of the animation.
+         * @return Whether the animation was removed or not.
+         */
+        final synchronized boolean remove(UUID id) {
+            Integer index = indices.remove(id);
+            if (index == null) {
+                return false;
+            }
+            
+            int last = --size;
+            if (index != last) {
+                copy(last, index);
+                indices.put(ids[index], index);
+            }
+            clear(last);
+            return true;
+        }
+        
+        /**
+         * Grows the arrays of the Batch.
+         *
+         * @param capacity The new capacity of the Batch.
+         */
+        void grow(int capacity) {
+            ids = Arrays.copyOf(ids, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            times = Arrays.copyOf(times, capacity);
+        }
+        
+        /**
+         * Copies an animation of the Batch to another index.
+         *
+         * @param from The index of the animation.
+         * @param to   The index to copy the animation to.
+         */
+        void copy(int from, int to) {
+            ids[to] = ids[from];
+            targets[to] = targets[from];
+            times[to] = times[from];
+        }
+        
+        /**
+         * Clears the references of an unused index of the Batch.
+         *
+         * @param index The index.
+         */
+        void clear(int index) {
+            ids[index] = null;
+            targets[index] = null;
+        }
+        
+        /**
+         * Returns the number of animations in the Batch.
+         *
+         * @return The number of animations in the Batch.
+         */
+        final synchronized int size() {
+            return size;
+        }
+        
+    }
+    
+    /**
+     * Defines a batch of constant movement or rotation animations.
+     */
+    private static class MotionBatch extends Batch {
+        
+        //Fields
+        
+        /**
+         * Whether the animations of the Motion Batch are rotations or movements.
+         */
+        private final boolean rotation;
+        
+        /**
+         * The speeds of the animations of the Motion Batch, three per animation, in units or radians per second.
+         */
+        double[] speeds = new double[INITIAL_CAPACITY * 3];
+        
+        /**
+         * The offsets of the animations of the Motion Batch for the current tick, three per animation.
+         */
+        double[] offsets = new double[INITIAL_CAPACITY * 3];
+        
+        
+        //Constructors
+        
+        /**
+         * The constructor for a Motion Batch.
+         *
+         * @param rotation Whether the animations of the Motion Batch are rotations or movements.
+         */
+        MotionBatch(boolean rotation) {
+            this.rotation = rotation;
+        }
+        
+        
+        //Methods
+        
+        /**
+         * Adds an animation to the Motion Batch.
+         *
+         * @param id     The id of the animation.
+         * @param target The Object being animated.
+         * @param x      The x speed of the animation.
+         * @param y      The y speed of the animation.
+         * @param z      The z speed of the animation.
+         */
+        synchronized void add(UUID id, AbstractObject target, double x, double y, double z) {
+            int i = add(id, target) * 3;
+            speeds[i] = x;
+            speeds[i + 1] = y;
+            speeds[i + 2] = z;
+        }
+        
+        /**
+         * Advances a range of the animations of the Motion Batch to an Environment time, calculating the offsets of their Objects.
+         *
+         * @param from The index of the first animation in the range.
+         * @param to   The index after the last animation in the range.
+         * @param now  The Environment time.
+         */
+        @Override
+        void advance(int from, int to, long now) {
+            for (int i = from; i < to; i++) {
+                double scale = (times[i] == 0) ? 0 : ((double) (now - times[i]) / 1000);
+                times[i] = now;
+                int j = i * 3;
+                offsets[j] = speeds[j] * scale;
+                offsets[j + 1] = speeds[j + 1] * scale;
+                offsets[j + 2] = speeds[j + 2] * scale;
+            }
+        }
+        
+        /**
+         * Moves or rotates the Objects of a range of the animations of the Motion Batch by their offsets.
+         *
+         * @param from The index of the first animation in the range.
+         * @param to   The index after the last animation in the range.
+         */
+        @Override
+        void apply(int from, int to) {
+            Vector offset = new Vector(0, 0, 0);
+            for (int i = from; i < to; i++) {
+                int j = i * 3;
+                if ((offsets[j] == 0) && (offsets[j + 1] == 0) && (offsets[j + 2] == 0)) {
+                    continue;
+                }
+                offset.setX(offsets[j]);
+                offset.setY(offsets[j + 1]);
+                offset.setZ(offsets[j + 2]);
+                if (rotation) {
+                    targets[i].rotate(offset);
+                } else {
+                    targets[i].move(offset);
+                }
+            }
+        }
+        
+        /**
+         * Grows the arrays of the Motion Batch.
+         *
+         * @param capacity The new capacity of the Motion Batch.
+         */
+        @Override
+        void grow(int capacity) {
+            super.grow(capacity);
+            speeds = Arrays.copyOf(speeds, capacity * 3);
+            offsets = Arrays.copyOf(offsets, capacity * 3);
+        }
+        
+        /**
+         * Copies an animation of the Motion Batch to another index.
+         *
+         * @param from The index of the animation.
+         * @param to   The index to copy the animation to.
+         */
+        @Override
+        void copy(int from, int to) {
+            super.copy(from, to);
+            System.arraycopy(speeds, from * 3, speeds, to * 3, 3);
+        }
+        
+    }
+    
+    /**
+     * Defines a batch of constant color animations.
+     */
+    private static class ColorBatch extends Batch {
+        
+        //Fields
+        
+        /**
+         * The periods of the animations of the Color Batch in milliseconds.
+         */
+        long[] periods = new long[INITIAL_CAPACITY];
+        
+        /**
+         * The offsets of the animations of the Color Batch in milliseconds.
+         */
+        long[] offsets = new long[INITIAL_CAPACITY];
+        
+        /**
+         * The hues of the animations of the Color Batch, or -1 if they have not been set yet.
+         */
+        float[] hues = new float[INITIAL_CAPACITY];
+        
+        /**
+         * Whether the hues of the animations of the Color Batch changed in the current tick.
+         */
+        boolean[] changed = new boolean[INITIAL_CAPACITY];
+        
+        
+        //Methods
+        
+        /**
+         * Adds an animation to the Color Batch.
+         *
+         * @param id     The id of the animation.
+         * @param target The Object being animated.
+         * @param period The period of the animation in milliseconds.
+         * @param offset The offset of the animation in milliseconds.
+         */
+        synchronized void add(UUID id, AbstractObject target, long period, long offset) {
+            int i = add(id, target);
+            periods[i] = period;
+            offsets[i] = offset;
+            hues[i] = -1;
+        }
+        
+        /**
+         * Advances a range of the animations of the Color Batch to an Environment time, calculating the hues of their Objects.
+         *
+         * @param from The index of the first animation in the range.
+         * @param to   The index after the last animation in the range.
+         * @param now  The Environment time.
+         */
+        @Override
+        void advance(int from, int to, long now) {
+            for (int i = from; i < to; i++) {
+                if (times[i] == 0) {
+                    times[i] = now - offsets[i];
+                }
+                float hue = (float) ((now - times[i]) % periods[i]) / periods[i];
+                changed[i] = (hue != hues[i]);
+                hues[i] = hue;
+            }
+        }
+        
+        /**
+         * Colors the Objects of a range of the animations of the Color Batch by their hues.<br>
+         * The color of an Object is only set when its hue has changed.
+         *
+         * @param from The index of the first animation in the range.
+         * @param to   The index after the last animation in the range.
+         */
+        @Override
+        void apply(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (changed[i]) {
+                    targets[i].setColor(ColorUtility.getColorByHue(hues[i]));
+                }
+            }
+        }
+        
+        /**
+         * Grows the arrays of the Color Batch.
+         *
+         * @param capacity The new capacity of the Color Batch.
+         */
+        @Override
+        void grow(int capacity) {
+            super.grow(capacity);
+            periods = Arrays.copyOf(periods, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            hues = Arrays.copyOf(hues, capacity);
+            changed = Arrays.copyOf(changed, capacity);
+        }
+        
+        /**
+         * Copies an animation of the Color Batch to another index.
+         *
+         * @param from The index of the animation.
+         * @param to   The index to copy the animation to.
+         */
+        @Override
+        void copy(int from, int to) {
+            super.copy(from, to);
+            periods[to] = periods[from];
+            offsets[to] = offsets[from];
+            hues[to] = hues[from];
+        }
+        
+    }
+    
+    /**
+     * Defines a batch of constant orbit animations.
+     */
+    private static class OrbitBatch extends Batch {
+        
+        //Fields
+        
+        /**
+         * The Objects being orbited by the animations of the Orbit Batch.
+         */
+        Object[] orbited = new Object[INITIAL_CAPACITY];
+        
+        /**
+         * The centers of the orbited Objects as of the last tick, three per animation.
+         */
+        double[] lastCenters = new double[INITIAL_CAPACITY * 3];
+        
+        /**
+         * The normals of the planes of the orbits, three per animation.
+         */
+        double[] normals = new double[INITIAL_CAPACITY * 3];
+        
+        /**
+         * The periods of the orbits in milliseconds.
+         */
+        double[] periods = new double[INITIAL_CAPACITY];
+        
+        /**
+         * The radii of the orbits.
+         */
+        double[] radii = new double[INITIAL_CAPACITY];
+        
+        /**
+         * The directions of the orbits about their normals, 1 or -1.
+         */
+        int[] directions = new int[INITIAL_CAPACITY];
+        
+        /**
+         * Whether the orbits are clockwise or counterclockwise.
+         */
+        boolean[] clockwise = new boolean[INITIAL_CAPACITY];
+        
+        /**
+         * The offsets of the Objects along their orbits for the current tick, three per animation.
+         */
+        double[] offsets = new double[INITIAL_CAPACITY * 3];
+        
+        
+        //Methods
+        
+        /**
+         * Adds an animation to the Orbit Batch.
+         *
+         * @param id          The id of the animation.
+         * @param target      The Object being animated.
+         * @param object      The Object to orbit around.
+         * @param orbitPeriod The period of the orbit in milliseconds.
+         * @param clockwise   Whether the orbit should be clockwise or counterclockwise.
+         */
+        synchronized void add(UUID id, AbstractObject target, Object object, double orbitPeriod, boolean clockwise) {
+            int i = add(id, target);
+            orbited[i] = object;
+            periods[i] = orbitPeriod;
+            this.clockwise[i] = clockwise;
+            Vector objectCenter = object.center;
+            lastCenters[i * 3] = objectCenter.getRawX();
+            lastCenters[(i * 3) + 1] = objectCenter.getRawY();
+            lastCenters[(i * 3) + 2] = objectCenter.getRawZ();
+        }
+        
+        /**
+         * Advances a range of the animations of the Orbit Batch to an Environment time, calculating the offsets of their Objects along their orbits.<br>
+         * The plane of each orbit is fixed on its first tick, and each Object is kept at its original distance from the Object it orbits,
+         * which it follows as it moves.
+         * An orbited Object that is itself animated by the Orbit Batch is read as of the previous tick, so its movement is followed one tick later.
+         *
+         * @param from The index of the first animation in the range.
+         * @param to   The index after the last animation in the range.
+         * @param now  The Environment time.
+         */
+        @Override
+        void advance(int from, int to, long now) {
+            for (int i = from; i < to; i++) {
+                int j = i * 3;
+                offsets[j] = 0;
+                offsets[j + 1] = 0;
+                offsets[j + 2] = 0;
+                Vector objectCenter = orbited[i].center;
+                double ox = objectCenter.getRawX();
+                double oy = objectCenter.getRawY();
+                double oz = objectCenter.getRawZ();
+                double dx = ox - lastCenters[j];
+                double dy = oy - lastCenters[j + 1];
+                double dz = oz - lastCenters[j + 2];
+                lastCenters[j] = ox;
+                lastCenters[j + 1] = oy;
+                lastCenters[j + 2] = oz;
+                
+                Vector center = targets[i].center;
+                double cx = center.getRawX();
+                double cy = center.getRawY();
+                double cz = center.getRawZ();
+                
+                if (times[i] == 0) {
+                    initialize(i, cx - ox, cy - oy, cz - oz, objectCenter);
+                    times[i] = now;
+                    continue;
+                }
+                
+                long timeElapsed = now - times[i];
+                times[i] = now;
+                
+                //gravity, toward the orbited Object
+                double gx = ox - cx;
+                double gy = oy - cy;
+                double gz = oz - cz;
+                double g = Math.sqrt((gx * gx) + (gy * gy) + (gz * gz));
+                gx /= g;
+                gy /= g;
+                gz /= g;
+                
+                //tangent, gravity x normal
+                double nx = normals[j];
+                double ny = normals[j + 1];
+                double nz = normals[j + 2];
+                double tx = (gy * nz) - (gz * ny);
+                double ty = (gz * nx) - (gx * nz);
+                double tz = (gx * ny) - (gy * nx);
+                double t = Math.sqrt((tx * tx) + (ty * ty) + (tz * tz)) * directions[i];
+                
+                double scale = ((double) timeElapsed / periods[i]) * (Math.PI * 2 * radii[i]) / t;
+                
+                //new location relative to the orbited Object, projected back onto the orbit radius
+                double lx = (cx + (tx * scale) + dx) - ox;
+                double ly = (cy + (ty * scale) + dy) - oy;
+                double lz = (cz + (tz * scale) + dz) - oz;
+                double rho = Math.sqrt((lx * lx) + (ly * ly) + (lz * lz));
+                double theta = Math.atan2(ly, lx);
+                double phi = (rho != 0) ? Math.acos(lz / rho) : 0;
+                double sinPhi = Math.sin(phi);
+                
+                offsets[j] = (radii[i] * Math.cos(theta) * sinPhi) + ox - cx;
+                offsets[j + 1] = (radii[i] * Math.sin(theta) * sinPhi) + oy - cy;
+                offsets[j + 2] = (radii[i] * Math.cos(phi)) + oz - cz;
+            }
+        }
+        
+        /**
+         * Moves the Objects of a range of the animations of the Orbit Batch along their orbits by their offsets.
+         *
+         * @param from The index of the first animation in the range.
+         * @param to   The index after the last animation in the range.
+         */
+        @Override
+        void apply(int from, int to) {
+            Vector offset = new Vector(0, 0, 0);
+            for (int i = from; i < to; i++) {
+                int j = i * 3;
+                if ((offsets[j] == 0) && (offsets[j + 1] == 0) && (offsets[j + 2] == 0)) {
+                    continue;
+                }
+                offset.setX(offsets[j]);
+                offset.setY(offsets[j + 1]);
+                offset.setZ(offsets[j + 2]);
+                targets[i].move(offset);
+            }
+        }
+        
+        /**
+         * Fixes the plane, direction and radius of an orbit from the location of its Object relative to the Object it orbits.
+         *
+         * @param i            The index of the animation.
+         * @param rx           The x coordinate of the Object relative to the orbited Object.
+         * @param ry           The y coordinate of the Object relative to the orbited Object.
+         * @param rz           The z coordinate of the Object relative to the orbited Object.
+         * @param objectCenter The center of the orbited Object.
+         */
+        private void initialize(int i, double rx, double ry, double rz, Vector objectCenter) {
+            Vector sphericalLocation = CoordinateUtility.cartesianToSpherical(rx, ry, rz);
+            Vector direction = new Vector(rx, ry, rz).normalize();
+            Vector perpendicular = CoordinateUtility.sphericalToCartesian(sphericalLocation.getRawX(), sphericalLocation.getRawY() + (Math.PI / 2), Math.PI / 2).minus(objectCenter).normalize();
+            Vector normal = new Vector3(direction).cross(perpendicular).normalize();
+            
+            normals[i * 3] = normal.getRawX();
+            normals[(i * 3) + 1] = normal.getRawY();
+            normals[(i * 3) + 2] = normal.getRawZ();
+            directions[i] = (clockwise[i] ? 1 : -1) * (((direction.getRawX() == 0) && (direction.getRawY() == 0) && (direction.getRawZ() > 0)) ? 1 : -1);
+            radii[i] = sphericalLocation.getRawX();
+        }
+        
+        /**
+         * Grows the arrays of the Orbit Batch.
+         *
+         * @param capacity The new capacity of the Orbit Batch.
+         */
+        @Override
+        void grow(int capacity) {
+            super.grow(capacity);
+            orbited = Arrays.copyOf(orbited, capacity);
+            lastCenters = Arrays.copyOf(lastCenters, capacity * 3);
+            normals = Arrays.copyOf(normals, capacity * 3);
+            periods = Arrays.copyOf(periods, capacity);
+            radii = Arrays.copyOf(radii, capacity);
+            directions = Arrays.copyOf(directions, capacity);
+            clockwise = Arrays.copyOf(clockwise, capacity);
+            offsets = Arrays.copyOf(offsets, capacity * 3);
+        }
+        
+        /**
+         * Copies an animation of the Orbit Batch to another index.
+         *
+         * @param from The index of the animation.
+         * @param to   The index to copy the animation to.
+         */
+        @Override
+        void copy(int from, int to) {
+            super.copy(from, to);
+            orbited[to] = orbited[from];
+            System.arraycopy(lastCenters, from * 3, lastCenters, to * 3, 3);
+            System.arraycopy(normals, from * 3, normals, to * 3, 3);
+            periods[to] = periods[from];
+            radii[to] = radii[from];
+            directions[to] = directions[from];
+            clockwise[to] = clockwise[from];
+        }
+        
+        /**
+         * Clears the references of an unused index of the Orbit Batch.
+         *
+         * @param index The index.
+         */
+        @Override
+        void clear(int index) {
+            super.clear(index);
+            orbited[index] = null;
+        }
+        
+    }
+    
+}
@@ -129,6 +129,7 @@ public abstract class BaseObject extends AbstractObject {
         for (int i = 0; i < vertices.length; i++) {
             vertices[i] = vertices[i].plus(offset);
         }
+        invalidateBounds();
     }
     
     /**
@@ -154,6 +155,7 @@ public abstract class BaseObject extends AbstractObject {
         for (int i = 0; i < vertices.length; i++) {
             vertices[i] = RotationUtility.performRotation(vertices[i], rotationTransformationMatrix, center);
         }
+        invalidateBounds();
         this.center = RotationUtility.performRotation(this.center, rotationTransformationMatrix, center);
     }
     
@@ -165,7 +167,7 @@ public abstract class BaseObject extends AbstractObject {
      */
     @Override
     public double calculateRenderDistance(UUID perspective) {
-        if (prepared.get(perspective).isEmpty()) {
+        if (getPrepared(perspective).isEmpty()) {
             return 0;
         }
         
@@ -176,14 +178,13 @@ public abstract class BaseObject extends AbstractObject {
         
         Vector pos = camera.getCameraPosition();
         double max = 0;
-        for (Vector prepare : prepared.get(perspective)) {
+        for (Vector prepare : getPrepared(perspective)) {
             double dist = prepare.distance(pos);
             if (dist > max) {
                 max = dist;
             }
         }
-        renderDistance = max;
-        return renderDistance;
+        return max;
     }
     
 }
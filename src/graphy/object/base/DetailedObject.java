@@ -0,0 +1,251 @@
+/*
+ * File:    DetailedObject.java
+ * Package: graphy.object.base
+ * Author:  Zachary Gill
+ */
+
+package graphy.object.base;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import commons.math.component.matrix.Matrix3;
+import commons.math.component.vector.Vector;
+import graphy.camera.Camera;
+import graphy.main.Environment;
+
+/**
+ * Defines an Object that is tessellated at several levels of detail, only one of which is rendered per perspective.<br>
+ * Each level of detail is a component of the Object with features twice the size of the level before it,
+ * and the level is chosen from the size of the features of the finest level on the screen.
+ */
+public abstract class DetailedObject extends Object {
+    
+    //Constants
+    
+    /**
+     * The default maximum number of levels of detail of a Detailed Object.
+     */
+    public static final int DEFAULT_DETAIL_LEVELS = 3;
+    
+    /**
+     * The size in pixels that the features of a level of detail must be on the screen before a coarser level is chosen.
+     */
+    public static final double DETAIL_PIXELS = 12.0;
+    
+    /**
+     * The fraction of a level by which the ideal level of detail must pass the bounds of the current level before the level is changed.
+     */
+    public static final double DETAIL_HYSTERESIS = 0.25;
+    
+    
+    //Fields
+    
+    /**
+     * The levels of detail of the Detailed Object, from finest to coarsest.
+     */
+    protected final List<Object> detailLevels = new ArrayList<>();
+    
+    /**
+     * The maximum number of levels of detail of the Detailed Object.
+     */
+    protected int maxDetailLevels = DEFAULT_DETAIL_LEVELS;
+    
+    /**
+     * The current level of detail of the Detailed Object, per perspective.
+     */
+    private final Map<UUID, Integer> detailLevel = new ConcurrentHashMap<>();
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Detailed Object.
+     *
+     * @param parent The parent of the Detailed Object.
+     * @param center The center of the Detailed Object.
+     * @param color  The color of the Detailed Object.
+     */
+    public DetailedObject(AbstractObject parent, Vector center, Color color) {
+        super(parent, center, color);
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Prepares the level of detail of the Detailed Object that is chosen for a perspective.
+     *
+     * @param perspective The perspective to prepare the Detailed Object for.
+     * @return The list of BaseObjects that were prepared.
+     */
+    @Override
+    public List<BaseObject> prepare(UUID perspective) {
+        if (detailLevels.isEmpty()) {
+            return super.prepare(perspective);
+        }
+        
+        return detailLevels.get(selectDetailLevel(perspective)).doPrepare(perspective);
+    }
+    
+    /**
+     * Chooses the level of detail of the Detailed Object for a perspective.<br>
+     * The level only changes once the ideal level has passed the bounds of the current level by the hysteresis, so that the Detailed Object does not flicker between levels.
+     *
+     * @param perspective The perspective to choose the level of detail for.
+     * @return The index of the level of detail.
+     */
+    protected int selectDetailLevel(UUID perspective) {
+        int levels = detailLevels.size();
+        Camera camera = Camera.getActiveCameraView(perspective);
+        if (!Environment.enableLevelOfDetail || (levels <= 1) || (camera == null)) {
+            return 0;
+        }
+        
+        double[] t = getSnapshot().getWorldTransform();
+        double x = center.getRawX();
+        double y = center.getRawY();
+        double z = center.getRawZ();
+        Vector worldCenter = new Vector(
+                (t[0] * x) + (t[1] * y) + (t[2] * z) + t[3],
+                (t[4] * x) + (t[5] * y) + (t[6] * z) + t[7],
+                (t[8] * x) + (t[9] * y) + (t[10] * z) + t[11]);
+        double featurePixels = getDetailSize() * camera.getPixelsPerUnit(worldCenter);
+        double ideal = Math.log(DETAIL_PIXELS / featurePixels) / Math.log(2);
+        
+        int current = detailLevel.getOrDefault(perspective, 0);
+        int level = current;
+        if ((ideal < (current - DETAIL_HYSTERESIS)) || (ideal >= (current + 1 + DETAIL_HYSTERESIS))) {
+            level = (int) Math.max(0, Math.min(levels - 1, Math.floor(ideal)));
+        }
+        detailLevel.put(perspective, level);
+        return level;
+    }
+    
+    /**
+     * Removes the levels of detail of the Detailed Object.
+     */
+    protected void clearDetailLevels() {
+        components.clear();
+        detailLevels.clear();
+    }
+    
+    /**
+     * Adds a new level of detail to the Detailed Object.
+     *
+     * @return The new level of detail, to add the components of the level to.
+     */
+    protected Object addDetailLevel() {
+        Object level = new DetailLevel(this, center, color);
+        detailLevels.add(level);
+        return level;
+    }
+    
+    /**
+     * Determines whether another level of detail can be added to the Detailed Object.
+     *
+     * @return Whether another level of detail can be added to the Detailed Object or not.
+     */
+    protected boolean canAddDetailLevel() {
+        return detailLevels.size() < maxDetailLevels;
+    }
+    
+    /**
+     * Returns the size of the features of the finest level of detail of the Detailed Object.
+     *
+     * @return The size of the features of the finest level of detail.
+     */
+    protected abstract double getDetailSize();
+    
+    
+    //Getters
+    
+    /**
+     * Returns the levels of detail of the Detailed Object.
+     *
+     * @return The levels of detail of the Detailed Object, from finest to coarsest.
+     */
+    public List<Object> getDetailLevels() {
+        return detailLevels;
+    }
+    
+    /**
+     * Returns the maximum number of levels of detail of the Detailed Object.
+     *
+     * @return The maximum number of levels of detail of the Detailed Object.
+     */
+    public int getMaxDetailLevels() {
+        return maxDetailLevels;
+    }
+    
+    
+    //Setters
+    
+    /**
+     * Sets the maximum number of levels of detail of the Detailed Object and recalculates it.
+     *
+     * @param maxDetailLevels The maximum number of levels of detail of the Detailed Object.
+     */
+    public void setMaxDetailLevels(int maxDetailLevels) {
+        this.maxDetailLevels = Math.max(1, maxDetailLevels);
+        detailLevel.clear();
+        calculate();
+    }
+    
+    
+    //Inner Classes
+    
+    /**
+     * Defines a level of detail of a Detailed Object, which passes the rotation of the Detailed Object on to its components.
+     */
+    private static class DetailLevel extends Object {
+        
+        //Constructors
+        
+        /**
+         * The constructor for a Detail Level.
+         *
+         * @param parent The Detailed Object.
+         * @param center The center of the Detailed Object.
+         * @param color  The color of the Detailed Object.
+         */
+        DetailLevel(DetailedObject parent, Vector center, Color color) {
+            super(parent, center, color);
+        }
+        
+        
+        //Setters
+        
+        /**
+         * Sets the angles that define the rotation of the Detail Level and its components without updating the rotation transformation matrix.
+         *
+         * @param rotation The angles that define the rotation of the Detail Level.
+         */
+        @Override
+        public synchronized void setRotationWithoutUpdate(Vector rotation) {
+            super.setRotationWithoutUpdate(rotation);
+            for (ObjectInterface component : components) {
+                component.setRotationWithoutUpdate(rotation);
+            }
+        }
+        
+        /**
+         * Sets the transformation Matrix that defines the rotation of the Detail Level and its components.
+         *
+         * @param rotationMatrix The transformation Matrix that defines the rotation of the Detail Level.
+         */
+        @Override
+        public synchronized void setRotationMatrix(Matrix3 rotationMatrix) {
+            super.setRotationMatrix(rotationMatrix);
+            for (ObjectInterface component : components) {
+                component.setRotationMatrix(rotationMatrix);
+            }
+        }
+        
+    }
+    
+}
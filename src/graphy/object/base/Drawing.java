@@ -116,14 +116,28 @@ public class Drawing {
         environment.setup();
         environment.setupMainKeyListener();
         
+        loadDrawing(drawingClass, environment);
+        environment.run();
+    }
+    
+    /**
+     * Creates a Drawing in an Environment that has been set up and starts drawing it.
+     *
+     * @param drawingClass The class of Drawing to load.
+     * @param environment  The Environment to load the Drawing in.
+     * @return The Drawing.
+     * @throws Exception When the Drawing class cannot be constructed.
+     */
+    public static Drawing loadDrawing(Class<? extends Drawing> drawingClass, Environment2D environment) throws Exception {
         Constructor<? extends Drawing> constructor = drawingClass.getDeclaredConstructor(Environment2D.class);
         Drawing drawing = constructor.newInstance(environment);
-        environment.frame.setTitle(drawingClass.getSimpleName());
+        environment.setTitle(drawingClass.getSimpleName());
         drawing.initComponents();
-        drawing.setupControls();
+        if (!environment.isHeadless()) {
+            drawing.setupControls();
+        }
         drawing.run();
-        
-        environment.run();
+        return drawing;
     }
     
     /**
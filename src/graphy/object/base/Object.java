@@ -13,8 +13,7 @@ import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 
 import commons.math.RotationUtility;
@@ -30,9 +29,10 @@ public class Object extends AbstractObject {
     //Fields
     
     /**
-     * The list of Objects that compose the Object.
+     * The list of Objects that compose the Object.<br>
+     * This is a copy-on-write list so that it can be iterated while the Object is published, without blocking changes to its components.
      */
-    protected final List<ObjectInterface> components = new ArrayList<>();
+    protected final List<ObjectInterface> components = new CopyOnWriteArrayList<>();
     
     
     //Constructors
@@ -95,7 +95,7 @@ public class Object extends AbstractObject {
     public List<BaseObject> prepare(UUID perspective) {
         List<BaseObject> preparedBases = new ArrayList<>();
         
-        for (ObjectInterface component : components) {
+        for (ObjectInterface component : getSnapshot().getComponents()) {
             preparedBases.addAll(component.doPrepare(perspective));
         }
         
@@ -110,7 +110,7 @@ public class Object extends AbstractObject {
      */
     @Override
     public void render(Graphics2D g2, UUID perspective) {
-        for (ObjectInterface component : components) {
+        for (ObjectInterface component : getSnapshot().getComponents()) {
             component.doRender(g2, perspective);
         }
     }
@@ -141,6 +141,7 @@ public class Object extends AbstractObject {
         
         this.center = center;
         calculate();
+        invalidateBounds();
     }
     
     /**
@@ -167,6 +168,7 @@ public class Object extends AbstractObject {
         
         Matrix3 rotationTransformationMatrix = RotationUtility.getRotationMatrix(offset.getRawX(), offset.getRawY(), offset.getRawZ());
         this.center = RotationUtility.performRotation(this.center, rotationTransformationMatrix, center);
+        invalidatePrepared();
     }
     
     /**
@@ -176,8 +178,76 @@ public class Object extends AbstractObject {
      */
     @Override
     public double calculateRenderDistance(UUID perspective) {
-        renderDistance = 0;
-        return renderDistance;
+        return 0;
+    }
+    
+    /**
+     * Calculates the bounding sphere of the Object in world space from the bounding spheres of its components.
+     *
+     * @return The bounding sphere of the Object, or null if the Object has no bounds.
+     */
+    @Override
+    protected double[] calculateBoundingSphere() {
+        List<double[]> componentSpheres = new ArrayList<>();
+        for (ObjectInterface component : components) {
+            double[] componentSphere = component.getBoundingSphere();
+            if (componentSphere == null) {
+                return null;
+            }
+            componentSpheres.add(componentSphere);
+        }
+        if (componentSpheres.isEmpty()) {
+            return null;
+        }
+        
+        double[] spheres = new double[componentSpheres.size() * 4];
+        for (int i = 0; i < componentSpheres.size(); i++) {
+            System.arraycopy(componentSpheres.get(i), 0, spheres, i * 4, 4);
+        }
+        return enclosingSphere(spheres, componentSpheres.size());
+    }
+    
+    /**
+     * Invalidates the cached bounding spheres of the Object, its descendants, and its ancestors.<br>
+     * This should be called after the vertices of the components of the Object are modified in place.
+     */
+    public void invalidateComponentBounds() {
+        for (ObjectInterface component : components) {
+            if (component instanceof Object) {
+                ((Object) component).invalidateComponentBounds();
+            } else {
+                component.invalidateBounds();
+            }
+        }
+        invalidateBounds();
+    }
+    
+    /**
+     * Publishes a Snapshot of the current state of the Object and of its components for the renderer.<br>
+     * The list of components is only copied when it has changed since the last Snapshot was published.
+     */
+    @Override
+    public void publish() {
+        List<ObjectInterface> published = getPublishedComponents();
+        boolean changed = (published == null);
+        if (!changed) {
+            int i = 0;
+            for (ObjectInterface component : components) {
+                if ((i >= published.size()) || (published.get(i++) != component)) {
+                    changed = true;
+                    break;
+                }
+            }
+            changed |= (i != published.size());
+        }
+        if (changed) {
+            published = List.copyOf(components);
+        }
+        
+        for (ObjectInterface component : published) {
+            component.publish();
+        }
+        publish(published);
     }
     
     /**
@@ -230,6 +300,7 @@ public class Object extends AbstractObject {
     public void registerComponent(ObjectInterface component) {
         if (!components.contains(component)) {
             this.components.add(component);
+            invalidateBounds();
         }
     }
     
@@ -242,6 +313,7 @@ public class Object extends AbstractObject {
     public void unregisterComponent(ObjectInterface component) {
         if (components.contains(component)) {
             this.components.remove(component);
+            invalidateBounds();
         }
     }
     
@@ -260,23 +332,24 @@ public class Object extends AbstractObject {
     }
     
     /**
-     * Adds a process to the Object that runs periodically.
+     * Adds a process to the Object that runs periodically in Environment time.
      *
      * @param process The process to execute.
      * @param delay   The delay before the first execution.
      * @param period  The delay between executions.
+     * @return The id of the Environment task running the process.
      */
-    public void addProcess(Runnable process, long delay, long period) {
+    public UUID addProcess(Runnable process, long delay, long period) {
         final AtomicLong timeOffset = new AtomicLong(0);
         final AtomicLong nextRun = new AtomicLong(delay);
-        Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(() -> {
+        return Environment.addTask(() -> {
             long currentTime = Environment.currentTimeMillis() - timeOffset.get();
             if (currentTime >= nextRun.get()) {
                 process.run();
                 timeOffset.addAndGet(currentTime);
                 nextRun.addAndGet(period);
             }
-        }, 0, 10, TimeUnit.MILLISECONDS);
+        });
     }
     
     /**
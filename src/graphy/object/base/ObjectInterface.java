@@ -13,6 +13,7 @@ import java.util.UUID;
 
 import commons.math.component.matrix.Matrix3;
 import commons.math.component.vector.Vector;
+import graphy.camera.Rasterizer;
 
 /**
  * The interface that defines the contract for creating an Object class.
@@ -74,6 +75,13 @@ public interface ObjectInterface {
      */
     void runAnimationTasks();
     
+    /**
+     * Removes an animation or transformation from the Object.
+     *
+     * @param id The id of the animation task.
+     */
+    void removeAnimation(UUID id);
+    
     /**
      * Performs post-rendering steps on the Object.
      *
@@ -98,6 +106,37 @@ public interface ObjectInterface {
      */
     void doRender(Graphics2D g2, UUID perspective);
     
+    /**
+     * Determines whether or not the Object can be rendered by a Rasterizer.
+     *
+     * @return Whether or not the Object can be rendered by a Rasterizer.
+     */
+    boolean isRasterizable();
+    
+    /**
+     * Performs pre-rendering steps on the Object before it is rendered with a Rasterizer.
+     *
+     * @param perspective The perspective to pre-render the Object for.
+     * @return Whether or not the Object should continue rendering.
+     */
+    boolean preRasterize(UUID perspective);
+    
+    /**
+     * Renders the Object with a Rasterizer.
+     *
+     * @param rasterizer  The Rasterizer.
+     * @param perspective The perspective to render the Object for.
+     */
+    void rasterize(Rasterizer rasterizer, UUID perspective);
+    
+    /**
+     * Performs the rendering for the Object with a Rasterizer.
+     *
+     * @param rasterizer  The Rasterizer.
+     * @param perspective The perspective to render the Object for.
+     */
+    void doRasterize(Rasterizer rasterizer, UUID perspective);
+    
     /**
      * Moves the Object in a certain direction.
      *
@@ -135,6 +174,23 @@ public interface ObjectInterface {
      */
     double calculateRenderDistance(UUID perspective);
     
+    /**
+     * Returns the bounding sphere of the Object in world space.
+     *
+     * @return The bounding sphere of the Object, as the coordinates of its center followed by its radius, or null if the Object has no bounds.
+     */
+    double[] getBoundingSphere();
+    
+    /**
+     * Invalidates the cached bounding sphere of the Object and of its ancestors.
+     */
+    void invalidateBounds();
+    
+    /**
+     * Publishes a Snapshot of the current state of the Object, and of its components, for the renderer.
+     */
+    void publish();
+    
     /**
      * Adds a constant movement animation to an Object.
      *
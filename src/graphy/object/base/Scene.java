@@ -8,8 +8,15 @@ package graphy.object.base;
 
 import java.awt.Color;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import javax.management.InstanceAlreadyExistsException;
 
+import graphy.camera.Camera;
 import graphy.main.Environment;
 
 /**
@@ -24,6 +31,11 @@ public abstract class Scene extends Object {
      */
     public Environment environment;
     
+    /**
+     * The spatial index of the components of the Scene.
+     */
+    protected final SpatialIndex componentIndex = new SpatialIndex();
+    
     
     //Constructors
     
@@ -59,6 +71,64 @@ public abstract class Scene extends Object {
     public void setupControls() {
     }
     
+    /**
+     * Registers a component with the Scene and adds it to the spatial index of the Scene.
+     *
+     * @param component The component to register.
+     */
+    @Override
+    public void registerComponent(ObjectInterface component) {
+        super.registerComponent(component);
+        if (component instanceof AbstractObject) {
+            AbstractObject object = (AbstractObject) component;
+            object.setSpatialIndex(componentIndex);
+            componentIndex.insert(object);
+        }
+    }
+    
+    /**
+     * Unregisters a component with the Scene and removes it from the spatial index of the Scene.
+     *
+     * @param component The component to unregister.
+     */
+    @Override
+    public void unregisterComponent(ObjectInterface component) {
+        if (!getComponents().contains(component)) {
+            return;
+        }
+        
+        super.unregisterComponent(component);
+        if (component instanceof AbstractObject) {
+            AbstractObject object = (AbstractObject) component;
+            object.setSpatialIndex(null);
+            componentIndex.remove(object);
+        }
+    }
+    
+    /**
+     * Returns the components of the Scene which may be visible through the active Camera view of a perspective.
+     *
+     * @param perspective The perspective.
+     * @return The components of the Scene which may be visible, in the order they were registered.
+     */
+    public List<ObjectInterface> getComponentsInView(UUID perspective) {
+        Camera camera = Camera.getActiveCameraView(perspective);
+        double[] planes = (camera == null) ? null : camera.getWorldFrustumPlanes();
+        if (planes == null) {
+            return getSnapshot().getComponents();
+        }
+        
+        Set<AbstractObject> inView = Collections.newSetFromMap(new IdentityHashMap<>());
+        inView.addAll(componentIndex.queryPlanes(planes));
+        List<ObjectInterface> components = new ArrayList<>();
+        for (ObjectInterface component : getSnapshot().getComponents()) {
+            if (!(component instanceof AbstractObject) || inView.contains(component)) {
+                components.add(component);
+            }
+        }
+        return components;
+    }
+    
     /**
      * Determines the name of the Scene.
      *
@@ -69,6 +139,18 @@ public abstract class Scene extends Object {
     }
     
     
+    //Getters
+    
+    /**
+     * Returns the spatial index of the components of the Scene.
+     *
+     * @return The spatial index of the components of the Scene.
+     */
+    public SpatialIndex getComponentIndex() {
+        return componentIndex;
+    }
+    
+    
     //Functions
     
     /**
@@ -84,16 +166,31 @@ public abstract class Scene extends Object {
         environment.setup();
         environment.setupMainKeyListener();
         
+        loadScene(sceneClass, environment);
+        environment.run();
+    }
+    
+    /**
+     * Creates a Scene and adds it to an Environment that has been set up.
+     *
+     * @param sceneClass  The class of Scene to load.
+     * @param environment The Environment to load the Scene in.
+     * @return The Scene.
+     * @throws Exception When the Scene class cannot be constructed.
+     */
+    public static Scene loadScene(Class<? extends Scene> sceneClass, Environment environment) throws Exception {
         Constructor<? extends Scene> constructor = sceneClass.getDeclaredConstructor(Environment.class);
         Scene scene = constructor.newInstance(environment);
-        environment.frame.setTitle(sceneClass.getSimpleName());
+        environment.setTitle(sceneClass.getSimpleName());
         scene.initComponents();
         scene.setupCameras();
-        scene.setupControls();
+        if (!environment.isHeadless()) {
+            scene.setupControls();
+        }
         scene.calculate();
         
         environment.addObject(scene);
-        environment.run();
+        return scene;
     }
     
 }
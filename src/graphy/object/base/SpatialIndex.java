@@ -0,0 +1,551 @@
+/*
+ * File:    SpatialIndex.java
+ * Package: graphy.object.base
+ * Author:  Zachary Gill
+ */
+
+package graphy.object.base;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import commons.math.component.vector.Vector;
+
+/**
+ * A bounding volume hierarchy over a set of Objects, supporting frustum, ray, and radius queries.<br>
+ * Each Object is stored as an enlarged axis-aligned box around a sphere which contains it under any rotation transformation about its root center,
+ * so Objects which move only slightly are refitted without changing the structure of the tree.
+ */
+public class SpatialIndex {
+    
+    //Constants
+    
+    /**
+     * The fraction of the radius of an Object by which its box is enlarged when it is inserted.
+     */
+    public static final double MARGIN_RATIO = 0.1;
+    
+    /**
+     * The minimum distance by which the box of an Object is enlarged when it is inserted.
+     */
+    public static final double MARGIN_MINIMUM = 0.1;
+    
+    
+    //Fields
+    
+    /**
+     * The root node of the tree.
+     */
+    private Node root = null;
+    
+    /**
+     * The leaf nodes of the tree, by their Object.
+     */
+    private final Map<AbstractObject, Node> leaves = new IdentityHashMap<>();
+    
+    /**
+     * The Objects without bounds, which are returned by every query.
+     */
+    private final Set<AbstractObject> unbounded = new LinkedHashSet<>();
+    
+    /**
+     * The Objects whose bounds have changed since the last refit.
+     */
+    private final Set<AbstractObject> dirty = new LinkedHashSet<>();
+    
+    
+    //Methods
+    
+    /**
+     * Adds an Object to the index.
+     *
+     * @param object The Object.
+     */
+    public synchronized void insert(AbstractObject object) {
+        if (leaves.containsKey(object) || unbounded.contains(object)) {
+            return;
+        }
+        
+        double[] sphere = calculateSphere(object);
+        if (sphere == null) {
+            unbounded.add(object);
+            return;
+        }
+        
+        Node leaf = new Node();
+        leaf.object = object;
+        leaf.box = enlargedBox(sphere);
+        leaves.put(object, leaf);
+        insertLeaf(leaf);
+    }
+    
+    /**
+     * Removes an Object from the index.
+     *
+     * @param object The Object.
+     */
+    public synchronized void remove(AbstractObject object) {
+        dirty.remove(object);
+        unbounded.remove(object);
+        Node leaf = leaves.remove(object);
+        if (leaf != null) {
+            removeLeaf(leaf);
+        }
+    }
+    
+    /**
+     * Marks the bounds of an Object in the index as changed, so that it is refitted before the next query.
+     *
+     * @param object The Object.
+     */
+    public synchronized void invalidate(AbstractObject object) {
+        if (leaves.containsKey(object) || unbounded.contains(object)) {
+            dirty.add(object);
+        }
+    }
+    
+    /**
+     * Refits the Objects whose bounds have changed.<br>
+     * An Object is only moved within the tree if it has left its enlarged box.
+     */
+    public synchronized void refit() {
+        for (AbstractObject object : dirty) {
+            double[] sphere = calculateSphere(object);
+            Node leaf = leaves.get(object);
+            
+            if (sphere == null) {
+                if (leaf != null) {
+                    leaves.remove(object);
+                    removeLeaf(leaf);
+                    unbounded.add(object);
+                }
+                continue;
+            }
+            
+            if (leaf == null) {
+                unbounded.remove(object);
+                leaf = new Node();
+                leaf.object = object;
+                leaves.put(object, leaf);
+            } else if (contains(leaf.box, sphere)) {
+                continue;
+            } else {
+                removeLeaf(leaf);
+            }
+            
+            leaf.box = enlargedBox(sphere);
+            insertLeaf(leaf);
+        }
+        dirty.clear();
+    }
+    
+    /**
+     * Returns the Objects which may be inside a convex volume.
+     *
+     * @param planes The packed planes bounding the volume in world space, as unit normals pointing into the volume followed by offsets.
+     * @return The Objects which may be inside the volume.
+     */
+    public synchronized List<AbstractObject> queryPlanes(double[] planes) {
+        refit();
+        
+        List<AbstractObject> result = new ArrayList<>(unbounded);
+        Deque<Node> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (!boxInsidePlanes(node.box, planes)) {
+                continue;
+            }
+            if (node.isLeaf()) {
+                result.add(node.object);
+            } else {
+                stack.push(node.right);
+                stack.push(node.left);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the Objects which may be within a distance of a point.
+     *
+     * @param center The point in world space.
+     * @param radius The distance.
+     * @return The Objects which may be within the distance of the point.
+     */
+    public synchronized List<AbstractObject> queryRadius(Vector center, double radius) {
+        refit();
+        
+        double[] point = new double[] {center.getRawX(), center.getRawY(), center.getRawZ()};
+        List<AbstractObject> result = new ArrayList<>(unbounded);
+        Deque<Node> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (squaredDistance(node.box, point) > (radius * radius)) {
+                continue;
+            }
+            if (node.isLeaf()) {
+                result.add(node.object);
+            } else {
+                stack.push(node.right);
+                stack.push(node.left);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the Objects which may be hit by a ray, ordered by the distance along the ray to their bounds.<br>
+     * Objects without bounds are not returned.
+     *
+     * @param origin    The origin of the ray in world space.
+     * @param direction The direction of the ray in world space.
+     * @return The Objects which may be hit by the ray.
+     */
+    public synchronized List<AbstractObject> queryRay(Vector origin, Vector direction) {
+        refit();
+        
+        double[] o = new double[] {origin.getRawX(), origin.getRawY(), origin.getRawZ()};
+        double[] inverse = new double[] {1.0 / direction.getRawX(), 1.0 / direction.getRawY(), 1.0 / direction.getRawZ()};
+        Map<AbstractObject, Double> hits = new IdentityHashMap<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            double t = rayEntry(node.box, o, inverse);
+            if (t < 0) {
+                continue;
+            }
+            if (node.isLeaf()) {
+                hits.put(node.object, t);
+            } else {
+                stack.push(node.right);
+                stack.push(node.left);
+            }
+        }
+        
+        List<AbstractObject> result = new ArrayList<>(hits.keySet());
+        result.sort(Comparator.comparingDouble(hits::get));
+        return result;
+    }
+    
+    /**
+     * Returns the Object whose bounds are hit first by a ray.
+     *
+     * @param origin    The origin of the ray in world space.
+     * @param direction The direction of the ray in world space.
+     * @return The Object whose bounds are hit first by the ray, or null if no Object is hit.
+     * @see #queryRay(Vector, Vector)
+     */
+    public AbstractObject pick(Vector origin, Vector direction) {
+        List<AbstractObject> hits = queryRay(origin, direction);
+        return hits.isEmpty() ? null : hits.get(0);
+    }
+    
+    /**
+     * Inserts a leaf into the tree, descending towards the sibling which least increases the surface area of the tree.
+     *
+     * @param leaf The leaf.
+     */
+    private void insertLeaf(Node leaf) {
+        if (root == null) {
+            root = leaf;
+            leaf.parent = null;
+            return;
+        }
+        
+        Node sibling = root;
+        while (!sibling.isLeaf()) {
+            double[] combined = union(sibling.box, leaf.box);
+            double inheritanceCost = 2 * (area(combined) - area(sibling.box));
+            double directCost = 2 * area(combined);
+            double leftCost = descentCost(sibling.left, leaf.box) + inheritanceCost;
+            double rightCost = descentCost(sibling.right, leaf.box) + inheritanceCost;
+            if ((directCost < leftCost) && (directCost < rightCost)) {
+                break;
+            }
+            sibling = (leftCost <= rightCost) ? sibling.left : sibling.right;
+        }
+        
+        Node oldParent = sibling.parent;
+        Node newParent = new Node();
+        newParent.parent = oldParent;
+        newParent.left = sibling;
+        newParent.right = leaf;
+        sibling.parent = newParent;
+        leaf.parent = newParent;
+        if (oldParent == null) {
+            root = newParent;
+        } else if (oldParent.left == sibling) {
+            oldParent.left = newParent;
+        } else {
+            oldParent.right = newParent;
+        }
+        
+        refitAncestors(newParent);
+    }
+    
+    /**
+     * Removes a leaf from the tree, replacing its parent with its sibling.
+     *
+     * @param leaf The leaf.
+     */
+    private void removeLeaf(Node leaf) {
+        if (leaf == root) {
+            root = null;
+            return;
+        }
+        
+        Node parent = leaf.parent;
+        Node grandparent = parent.parent;
+        Node sibling = (parent.left == leaf) ? parent.right : parent.left;
+        sibling.parent = grandparent;
+        if (grandparent == null) {
+            root = sibling;
+        } else {
+            if (grandparent.left == parent) {
+                grandparent.left = sibling;
+            } else {
+                grandparent.right = sibling;
+            }
+            refitAncestors(grandparent);
+        }
+        leaf.parent = null;
+    }
+    
+    /**
+     * Recalculates the boxes of a node and its ancestors from their children.
+     *
+     * @param node The node.
+     */
+    private void refitAncestors(Node node) {
+        while (node != null) {
+            node.box = union(node.left.box, node.right.box);
+            node = node.parent;
+        }
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the number of Objects in the index.
+     *
+     * @return The number of Objects in the index.
+     */
+    public synchronized int size() {
+        return leaves.size() + unbounded.size();
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Calculates a sphere which contains an Object under any rotation transformation about its root center.
+     *
+     * @param object The Object.
+     * @return The sphere, as the coordinates of its center followed by its radius, or null if the Object has no bounds.
+     */
+    private static double[] calculateSphere(AbstractObject object) {
+        double[] bounds = object.getBoundingSphere();
+        if (bounds == null) {
+            return null;
+        }
+        
+        Vector rootCenter = object.getRootCenter();
+        double x = rootCenter.getRawX();
+        double y = rootCenter.getRawY();
+        double z = rootCenter.getRawZ();
+        double dx = bounds[0] - x;
+        double dy = bounds[1] - y;
+        double dz = bounds[2] - z;
+        return new double[] {x, y, z, Math.sqrt((dx * dx) + (dy * dy) + (dz * dz)) + bounds[3]};
+    }
+    
+    /**
+     * Calculates the enlarged box stored for a sphere.
+     *
+     * @param sphere The sphere.
+     * @return The enlarged box, as its minimum coordinates followed by its maximum coordinates.
+     */
+    private static double[] enlargedBox(double[] sphere) {
+        double extent = sphere[3] + Math.max(sphere[3] * MARGIN_RATIO, MARGIN_MINIMUM);
+        return new double[] {sphere[0] - extent, sphere[1] - extent, sphere[2] - extent,
+                sphere[0] + extent, sphere[1] + extent, sphere[2] + extent};
+    }
+    
+    /**
+     * Determines if a box contains a sphere.
+     *
+     * @param box    The box.
+     * @param sphere The sphere.
+     * @return Whether the box contains the sphere or not.
+     */
+    private static boolean contains(double[] box, double[] sphere) {
+        for (int i = 0; i < 3; i++) {
+            if (((sphere[i] - sphere[3]) < box[i]) || ((sphere[i] + sphere[3]) > box[i + 3])) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Calculates the box enclosing two boxes.
+     *
+     * @param a The first box.
+     * @param b The second box.
+     * @return The enclosing box.
+     */
+    private static double[] union(double[] a, double[] b) {
+        return new double[] {Math.min(a[0], b[0]), Math.min(a[1], b[1]), Math.min(a[2], b[2]),
+                Math.max(a[3], b[3]), Math.max(a[4], b[4]), Math.max(a[5], b[5])};
+    }
+    
+    /**
+     * Calculates the surface area of a box.
+     *
+     * @param box The box.
+     * @return The surface area of the box.
+     */
+    private static double area(double[] box) {
+        double dx = box[3] - box[0];
+        double dy = box[4] - box[1];
+        double dz = box[5] - box[2];
+        return 2 * ((dx * dy) + (dy * dz) + (dz * dx));
+    }
+    
+    /**
+     * Calculates the cost of descending into a node when inserting a box.
+     *
+     * @param node The node.
+     * @param box  The box being inserted.
+     * @return The cost of descending into the node.
+     */
+    private static double descentCost(Node node, double[] box) {
+        double combined = area(union(node.box, box));
+        return node.isLeaf() ? combined : (combined - area(node.box));
+    }
+    
+    /**
+     * Determines if any part of a box is inside a set of planes.
+     *
+     * @param box    The box.
+     * @param planes The packed planes, as unit normals pointing inwards followed by offsets.
+     * @return Whether any part of the box is inside the planes or not.
+     */
+    private static boolean boxInsidePlanes(double[] box, double[] planes) {
+        for (int i = 0; i < planes.length; i += 4) {
+            double x = (planes[i] >= 0) ? box[3] : box[0];
+            double y = (planes[i + 1] >= 0) ? box[4] : box[1];
+            double z = (planes[i + 2] >= 0) ? box[5] : box[2];
+            if ((planes[i] * x) + (planes[i + 1] * y) + (planes[i + 2] * z) + planes[i + 3] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Calculates the squared distance from a point to a box.
+     *
+     * @param box   The box.
+     * @param point The point.
+     * @return The squared distance from the point to the box.
+     */
+    private static double squaredDistance(double[] box, double[] point) {
+        double distance = 0;
+        for (int i = 0; i < 3; i++) {
+            double d = Math.max(Math.max(box[i] - point[i], 0), point[i] - box[i + 3]);
+            distance += d * d;
+        }
+        return distance;
+    }
+    
+    /**
+     * Calculates the distance along a ray at which it enters a box.
+     *
+     * @param box     The box.
+     * @param origin  The origin of the ray.
+     * @param inverse The componentwise inverse of the direction of the ray.
+     * @return The distance along the ray at which it enters the box, 0 if the origin is inside the box, or -1 if the ray misses the box.
+     */
+    private static double rayEntry(double[] box, double[] origin, double[] inverse) {
+        double near = 0;
+        double far = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < 3; i++) {
+            double t1 = (box[i] - origin[i]) * inverse[i];
+            double t2 = (box[i + 3] - origin[i]) * inverse[i];
+            if (Double.isNaN(t1) || Double.isNaN(t2)) {
+                continue;
+            }
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        return (near <= far) ? near : -1;
+    }
+    
+    
+    //Inner Classes
+    
+    /**
+     * A node of the tree.
+     */
+    private static class Node {
+        
+        //Fields
+        
+        /**
+         * The box of the node, as its minimum coordinates followed by its maximum coordinates.
+         */
+        double[] box;
+        
+        /**
+         * The parent of the node.
+         */
+        Node parent;
+        
+        /**
+         * The left child of the node.
+         */
+        Node left;
+        
+        /**
+         * The right child of the node.
+         */
+        Node right;
+        
+        /**
+         * The Object of the node, if it is a leaf.
+         */
+        AbstractObject object;
+        
+        
+        //Methods
+        
+        /**
+         * Determines if the node is a leaf.
+         *
+         * @return Whether the node is a leaf or not.
+         */
+        boolean isLeaf() {
+            return left == null;
+        }
+        
+    }
+    
+}
@@ -9,6 +9,7 @@ package graphy.object.base.group;
 import java.awt.Color;
 
 import graphy.main.Environment;
+import graphy.main.TaskScheduler;
 import graphy.object.base.AbstractObject;
 import graphy.object.base.simple.Edge;
 
@@ -33,7 +34,7 @@ public class LockedEdge extends Edge {
         Environment.addTask(() -> {
             setV1(o1.getCenter());
             setV2(o2.getCenter());
-        });
+        }, TaskScheduler.Phase.CONSTRAINT);
     }
     
 }
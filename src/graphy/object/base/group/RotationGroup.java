@@ -11,9 +11,7 @@ import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 import commons.math.component.vector.Vector;
 import graphy.object.base.AbstractObject;
@@ -101,26 +99,23 @@ public class RotationGroup extends Object {
     }
     
     /**
-     * Adds a rotation transformation to a group over a period of time.
+     * Adds a rotation transformation to a group over a period of time.<br>
+     * The Rotation Group is unregistered from its parent once the rotation is complete.
      *
      * @param rollRotation  The total roll rotation in radians.
      * @param pitchRotation The total pitch rotation in radians.
      * @param yawRotation   The total yaw rotation in radians.
      * @param period        The period over which to perform the transition in milliseconds.
+     * @return A future that completes when the rotation is complete.
      */
-    public void rotateGroup(double rollRotation, double pitchRotation, double yawRotation, long period) {
-        addRotationTransformation(rollRotation, pitchRotation, yawRotation, period);
+    public CompletableFuture<Void> rotateGroup(double rollRotation, double pitchRotation, double yawRotation, long period) {
+        UUID rotation = addRotationTransformation(rollRotation, pitchRotation, yawRotation, period);
         
-        RotationGroup thisGroup = this;
-        ScheduledExecutorService checkRotationComplete = Executors.newSingleThreadScheduledExecutor();
-        checkRotationComplete.scheduleAtFixedRate(() -> {
-            if (!inRotationTransformation()) {
-                if (parent != null) {
-                    parent.unregisterComponent(thisGroup);
-                }
-                checkRotationComplete.shutdownNow();
+        return getTransformationCompletion(rotation).thenRun(() -> {
+            if (parent != null) {
+                parent.unregisterComponent(this);
             }
-        }, 0, 10, TimeUnit.MILLISECONDS);
+        });
     }
     
     /**
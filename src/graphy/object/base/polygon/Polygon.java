@@ -14,7 +14,7 @@ import java.util.UUID;
 
 import commons.graphics.DrawUtility;
 import commons.math.component.vector.Vector;
-import graphy.math.vector.JustificationUtil;
+import graphy.camera.Rasterizer;
 import graphy.object.base.AbstractObject;
 import graphy.object.base.BaseObject;
 
@@ -57,15 +57,13 @@ public class Polygon extends BaseObject {
     @Override
     public List<BaseObject> prepare(UUID perspective) {
         List<BaseObject> preparedBases = new ArrayList<>();
-        List<Vector> perspectivePrepared = prepared.get(perspective);
+        List<Vector> perspectivePrepared = getPrepared(perspective);
         
-        perspectivePrepared.clear();
-        for (Vector vertex : vertices) {
-            perspectivePrepared.add(JustificationUtil.justify(vertex.cloned()));
+        if (!reusePrepared(perspective)) {
+            transformToWorld(getSnapshot().getVertices(), perspectivePrepared);
+            cachePrepared(perspective);
         }
         
-        performRotationTransformation(perspectivePrepared);
-        
         preparedBases.add(this);
         return preparedBases;
     }
@@ -81,7 +79,7 @@ public class Polygon extends BaseObject {
         DrawUtility.setColor(g2, getColor());
         switch (displayMode) {
             case VERTEX:
-                for (Vector v : prepared.get(perspective)) {
+                for (Vector v : getPrepared(perspective)) {
                     DrawUtility.drawPoint(g2, v);
                 }
                 break;
@@ -92,9 +90,56 @@ public class Polygon extends BaseObject {
                 }
                 
                 for (int i = 1; i < numVertices; i++) {
-                    g2.drawLine((int) prepared.get(perspective).get(i - 1).getRawX().intValue(), (int) prepared.get(perspective).get(i - 1).getRawY().intValue(), (int) prepared.get(perspective).get(i).getRawX().intValue(), (int) prepared.get(perspective).get(i).getRawY().intValue());
+                    g2.drawLine((int) getPrepared(perspective).get(i - 1).getRawX().intValue(), (int) getPrepared(perspective).get(i - 1).getRawY().intValue(), (int) getPrepared(perspective).get(i).getRawX().intValue(), (int) getPrepared(perspective).get(i).getRawY().intValue());
+                }
+                g2.drawLine((int) getPrepared(perspective).get(numVertices - 1).getRawX().intValue(), (int) getPrepared(perspective).get(numVertices - 1).getRawY().intValue(), (int) getPrepared(perspective).get(0).getRawX().intValue(), (int) getPrepared(perspective).get(0).getRawY().intValue());
+                break;
+            
+            case FACE:
+                if (numVertices < 3) {
+                    break;
+                }
+                
+                DrawUtility.fillPolygon(g2, getPrepared(perspective));
+                break;
+        }
+    }
+    
+    /**
+     * Determines whether or not the Polygon can be rendered by a Rasterizer.
+     *
+     * @return Whether or not the Polygon can be rendered by a Rasterizer.
+     */
+    @Override
+    public boolean isRasterizable() {
+        return frame == null;
+    }
+    
+    /**
+     * Renders the Polygon with a Rasterizer.
+     *
+     * @param rasterizer  The Rasterizer.
+     * @param perspective The perspective to render the Polygon for.
+     */
+    @Override
+    public void rasterize(Rasterizer rasterizer, UUID perspective) {
+        List<Vector> perspectivePrepared = getPrepared(perspective);
+        switch (displayMode) {
+            case VERTEX:
+                for (Vector v : perspectivePrepared) {
+                    rasterizer.drawPoint(v, getColor());
+                }
+                break;
+            
+            case EDGE:
+                if (numVertices < 2) {
+                    break;
+                }
+                
+                for (int i = 1; i < numVertices; i++) {
+                    rasterizer.drawLine(perspectivePrepared.get(i - 1), perspectivePrepared.get(i), getColor());
                 }
-                g2.drawLine((int) prepared.get(perspective).get(numVertices - 1).getRawX().intValue(), (int) prepared.get(perspective).get(numVertices - 1).getRawY().intValue(), (int) prepared.get(perspective).get(0).getRawX().intValue(), (int) prepared.get(perspective).get(0).getRawY().intValue());
+                rasterizer.drawLine(perspectivePrepared.get(numVertices - 1), perspectivePrepared.get(0), getColor());
                 break;
             
             case FACE:
@@ -102,7 +147,7 @@ public class Polygon extends BaseObject {
                     break;
                 }
                 
-                DrawUtility.fillPolygon(g2, prepared.get(perspective));
+                rasterizer.fillPolygon(perspectivePrepared, getColor());
                 break;
         }
     }
@@ -137,6 +182,7 @@ public class Polygon extends BaseObject {
             return;
         }
         vertices[n - 1] = p;
+        invalidateBounds();
     }
     
 }
@@ -88,9 +88,20 @@ public class BigVertex extends Vertex {
         DrawUtility.setColor(g2, getColor());
         for (int i = -size; i <= size; i++) {
             for (int j = -size; j <= size; j++) {
-                DrawUtility.drawPoint(g2, prepared.get(perspective).get(0));
+                DrawUtility.drawPoint(g2, getPrepared(perspective).get(0));
             }
         }
     }
     
+    /**
+     * Determines whether or not the Big Vertex can be rendered by a Rasterizer.<br>
+     * The Big Vertex is always painted, as the Rasterizer cannot draw it.
+     *
+     * @return Whether or not the Big Vertex can be rendered by a Rasterizer.
+     */
+    @Override
+    public boolean isRasterizable() {
+        return false;
+    }
+    
 }
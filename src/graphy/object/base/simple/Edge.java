@@ -14,7 +14,7 @@ import java.util.UUID;
 
 import commons.graphics.DrawUtility;
 import commons.math.component.vector.Vector;
-import graphy.math.vector.JustificationUtil;
+import graphy.camera.Rasterizer;
 import graphy.object.base.AbstractObject;
 import graphy.object.base.BaseObject;
 
@@ -81,13 +81,12 @@ public class Edge extends BaseObject {
     @Override
     public List<BaseObject> prepare(UUID perspective) {
         List<BaseObject> preparedBases = new ArrayList<>();
-        List<Vector> perspectivePrepared = prepared.get(perspective);
+        List<Vector> perspectivePrepared = getPrepared(perspective);
         
-        perspectivePrepared.clear();
-        perspectivePrepared.add(JustificationUtil.justify(vertices[0].cloned()));
-        perspectivePrepared.add(JustificationUtil.justify(vertices[1].cloned()));
-        
-        performRotationTransformation(perspectivePrepared);
+        if (!reusePrepared(perspective)) {
+            transformToWorld(getSnapshot().getVertices(), perspectivePrepared);
+            cachePrepared(perspective);
+        }
         
         preparedBases.add(this);
         return preparedBases;
@@ -104,12 +103,42 @@ public class Edge extends BaseObject {
         DrawUtility.setColor(g2, getColor());
         switch (displayMode) {
             case VERTEX:
-                DrawUtility.drawPoint(g2, prepared.get(perspective).get(0));
-                DrawUtility.drawPoint(g2, prepared.get(perspective).get(1));
+                DrawUtility.drawPoint(g2, getPrepared(perspective).get(0));
+                DrawUtility.drawPoint(g2, getPrepared(perspective).get(1));
+                break;
+            case EDGE:
+            case FACE:
+                DrawUtility.drawLine(g2, getPrepared(perspective).get(0), getPrepared(perspective).get(1));
+                break;
+        }
+    }
+    
+    /**
+     * Determines whether or not the Edge can be rendered by a Rasterizer.
+     *
+     * @return Whether or not the Edge can be rendered by a Rasterizer.
+     */
+    @Override
+    public boolean isRasterizable() {
+        return frame == null;
+    }
+    
+    /**
+     * Renders the Edge with a Rasterizer.
+     *
+     * @param rasterizer  The Rasterizer.
+     * @param perspective The perspective to render the Edge for.
+     */
+    @Override
+    public void rasterize(Rasterizer rasterizer, UUID perspective) {
+        switch (displayMode) {
+            case VERTEX:
+                rasterizer.drawPoint(getPrepared(perspective).get(0), getColor());
+                rasterizer.drawPoint(getPrepared(perspective).get(1), getColor());
                 break;
             case EDGE:
             case FACE:
-                DrawUtility.drawLine(g2, prepared.get(perspective).get(0), prepared.get(perspective).get(1));
+                rasterizer.drawLine(getPrepared(perspective).get(0), getPrepared(perspective).get(1), getColor());
                 break;
         }
     }
@@ -156,6 +185,7 @@ public class Edge extends BaseObject {
      */
     public void setV1(Vector v1) {
         vertices[0] = v1;
+        invalidateBounds();
     }
     
     /**
@@ -165,6 +195,7 @@ public class Edge extends BaseObject {
      */
     public void setV2(Vector v2) {
         vertices[1] = v2;
+        invalidateBounds();
     }
     
 }
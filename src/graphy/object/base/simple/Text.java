@@ -14,7 +14,6 @@ import java.util.UUID;
 
 import commons.graphics.DrawUtility;
 import commons.math.component.vector.Vector;
-import graphy.math.vector.JustificationUtil;
 import graphy.object.base.AbstractObject;
 import graphy.object.base.BaseObject;
 
@@ -90,12 +89,12 @@ public class Text extends BaseObject {
     @Override
     public List<BaseObject> prepare(UUID perspective) {
         List<BaseObject> preparedBases = new ArrayList<>();
-        List<Vector> perspectivePrepared = prepared.get(perspective);
+        List<Vector> perspectivePrepared = getPrepared(perspective);
         
-        perspectivePrepared.clear();
-        perspectivePrepared.add(JustificationUtil.justify(vertices[0].cloned()));
-        
-        performRotationTransformation(perspectivePrepared);
+        if (!reusePrepared(perspective)) {
+            transformToWorld(getSnapshot().getVertices(), perspectivePrepared);
+            cachePrepared(perspective);
+        }
         
         preparedBases.add(this);
         return preparedBases;
@@ -110,7 +109,7 @@ public class Text extends BaseObject {
     @Override
     public void render(Graphics2D g2, UUID perspective) {
         DrawUtility.setColor(g2, color);
-        DrawUtility.drawString(g2, text, prepared.get(perspective).get(0));
+        DrawUtility.drawString(g2, text, getPrepared(perspective).get(0));
     }
     
     
@@ -14,7 +14,7 @@ import java.util.UUID;
 
 import commons.graphics.DrawUtility;
 import commons.math.component.vector.Vector;
-import graphy.math.vector.JustificationUtil;
+import graphy.camera.Rasterizer;
 import graphy.object.base.AbstractObject;
 import graphy.object.base.BaseObject;
 
@@ -78,12 +78,12 @@ public class Vertex extends BaseObject {
     @Override
     public List<BaseObject> prepare(UUID perspective) {
         List<BaseObject> preparedBases = new ArrayList<>();
-        List<Vector> perspectivePrepared = prepared.get(perspective);
+        List<Vector> perspectivePrepared = getPrepared(perspective);
         
-        perspectivePrepared.clear();
-        perspectivePrepared.add(JustificationUtil.justify(vertices[0].cloned()));
-        
-        performRotationTransformation(perspectivePrepared);
+        if (!reusePrepared(perspective)) {
+            transformToWorld(getSnapshot().getVertices(), perspectivePrepared);
+            cachePrepared(perspective);
+        }
         
         preparedBases.add(this);
         return preparedBases;
@@ -98,7 +98,28 @@ public class Vertex extends BaseObject {
     @Override
     public void render(Graphics2D g2, UUID perspective) {
         DrawUtility.setColor(g2, getColor());
-        DrawUtility.drawPoint(g2, prepared.get(perspective).get(0));
+        DrawUtility.drawPoint(g2, getPrepared(perspective).get(0));
+    }
+    
+    /**
+     * Determines whether or not the Vertex can be rendered by a Rasterizer.
+     *
+     * @return Whether or not the Vertex can be rendered by a Rasterizer.
+     */
+    @Override
+    public boolean isRasterizable() {
+        return frame == null;
+    }
+    
+    /**
+     * Renders the Vertex with a Rasterizer.
+     *
+     * @param rasterizer  The Rasterizer.
+     * @param perspective The perspective to render the Vertex for.
+     */
+    @Override
+    public void rasterize(Rasterizer rasterizer, UUID perspective) {
+        rasterizer.drawPoint(getPrepared(perspective).get(0), getColor());
     }
     
     /**
@@ -162,6 +183,7 @@ public class Vertex extends BaseObject {
      */
     public void setPoint(Vector point) {
         vertices[0] = point;
+        invalidateBounds();
     }
     
 }
\ No newline at end of file
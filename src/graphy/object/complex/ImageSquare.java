@@ -12,7 +12,9 @@ import java.awt.image.BufferedImage;
 import java.util.UUID;
 
 import commons.graphics.DrawUtility;
+import commons.graphics.Texture;
 import commons.math.component.vector.Vector;
+import graphy.main.Environment;
 import graphy.object.base.AbstractObject;
 import graphy.object.base.polygon.Square;
 
@@ -28,6 +30,11 @@ public class ImageSquare extends Square {
      */
     protected BufferedImage image;
     
+    /**
+     * The Texture of the image to print on the Image Square.
+     */
+    protected Texture texture;
+    
     
     //Constructors
     
@@ -87,12 +94,32 @@ public class ImageSquare extends Square {
     @Override
     public void render(Graphics2D g2, UUID perspective) {
         super.render(g2, perspective);
-        if (image != null) {
-            DrawUtility.drawImage(g2, image, prepared.get(perspective).get(0),
-                    Math.abs((int) (prepared.get(perspective).get(1).getRawX() - prepared.get(perspective).get(0).getRawX())), Math.abs((int) (prepared.get(perspective).get(3).getRawY() - prepared.get(perspective).get(0).getRawY())));
+        Texture texture = this.texture;
+        if (texture != null) {
+            int width = Math.abs((int) (getPrepared(perspective).get(1).getRawX() - getPrepared(perspective).get(0).getRawX()));
+            int height = Math.abs((int) (getPrepared(perspective).get(3).getRawY() - getPrepared(perspective).get(0).getRawY()));
+            
+            BufferedImage level = texture.getImage();
+            if (Environment.textureFilter.isMipmapped() && (width > 0) && (height > 0)) {
+                double footprintX = (double) texture.getWidth() / width;
+                double footprintY = (double) texture.getHeight() / height;
+                level = texture.getImage(texture.getLevel(Math.max(footprintX * footprintX, footprintY * footprintY)));
+            }
+            DrawUtility.drawImage(g2, level, getPrepared(perspective).get(0), width, height);
         }
     }
     
+    /**
+     * Determines whether or not the Image Square can be rendered by a Rasterizer.<br>
+     * The Image Square is always painted, as the Rasterizer cannot draw it.
+     *
+     * @return Whether or not the Image Square can be rendered by a Rasterizer.
+     */
+    @Override
+    public boolean isRasterizable() {
+        return false;
+    }
+    
     
     //Getters
     
@@ -115,6 +142,7 @@ public class ImageSquare extends Square {
      */
     public void setImage(BufferedImage image) {
         this.image = image;
+        this.texture = (image == null) ? null : new Texture(image, true, true);
     }
     
 }
@@ -18,6 +18,7 @@ import commons.math.component.vector.Vector;
 import graphy.main.Environment;
 import graphy.math.vector.UniqueVectorSet;
 import graphy.object.base.AbstractObject;
+import graphy.object.base.DetailedObject;
 import graphy.object.base.Object;
 import graphy.object.base.polygon.Rectangle;
 import graphy.object.base.polygon.Triangle;
@@ -25,7 +26,7 @@ import graphy.object.base.polygon.Triangle;
 /**
  * Defines a Variable Plane.
  */
-public class VariablePlane extends Object {
+public class VariablePlane extends DetailedObject {
     
     //Fields
     
@@ -125,7 +126,7 @@ public class VariablePlane extends Object {
      */
     @Override
     protected void calculate() {
-        components.clear();
+        clearDetailLevels();
         
         Vector p1 = bounds.getP1();
         Vector p2 = bounds.getP3();
@@ -134,23 +135,11 @@ public class VariablePlane extends Object {
         UniqueVectorSet uniqueVectorSet = new UniqueVectorSet();
         Map<Vector, Double> vsm = new HashMap<>();
         Map<Vector, Double> vsmi = new HashMap<>();
-        for (double x = p1.getRawX(); x <= p2.getRawX(); x += density) {
-            for (double y = p1.getRawY(); y <= p2.getRawY(); y += density) {
-                for (double n = -density; n <= density; n += density * 2) {
-                    double z = p1.getRawZ() + ((x / (p2.getRawX() - p1.getRawX())) * (p2.getRawZ() - p1.getRawZ()));
-                    
-                    List<Vector> vt = new ArrayList<>();
-                    vt.add(new Vector(x, y, z));
-                    vt.add(new Vector(x + n, y + n, z));
-                    vt.add(new Vector(new Vector(x + n, y, z)));
-                    
-                    uniqueVectorSet.alignVectorsToSet(vt);
-                    
-                    Triangle t = new Triangle(this, color, vt.get(0), vt.get(1), vt.get(2));
-                    
-                    vs.addAll(vt);
-                }
-            }
+        
+        tessellate(addDetailLevel(), density, uniqueVectorSet, vs);
+        double extent = Math.min(p2.getRawX() - p1.getRawX(), p2.getRawY() - p1.getRawY());
+        for (double levelDensity = density * 2; canAddDetailLevel() && (levelDensity * 4 <= extent); levelDensity *= 2) {
+            tessellate(addDetailLevel(), levelDensity, uniqueVectorSet, vs);
         }
         
         Environment.addTask(() -> {
@@ -165,12 +154,56 @@ public class VariablePlane extends Object {
                     }
                 } else {
                     vsmi.put(v, v.getRawZ());
-                    vsm.put(v, (Math.random() - .5) / 400 * speed);
+                    vsm.put(v, (Environment.random() - .5) / 400 * speed);
                 }
             }
+            invalidateComponentBounds();
         });
         
         setVisible(visible);
     }
     
+    /**
+     * Calculates a level of detail of the Variable Plane.<br>
+     * Vectors which coincide with Vectors of previous levels are shared with them, so that they vary together.
+     *
+     * @param level           The level of detail to add the components to.
+     * @param density         The density with which to calculate the level of detail.
+     * @param uniqueVectorSet The set of unique Vectors of the Variable Plane.
+     * @param vs              The set to add the Vectors of the level of detail to.
+     */
+    private void tessellate(Object level, double density, UniqueVectorSet uniqueVectorSet, Set<Vector> vs) {
+        Vector p1 = bounds.getP1();
+        Vector p2 = bounds.getP3();
+        
+        for (double x = p1.getRawX(); x <= p2.getRawX(); x += density) {
+            for (double y = p1.getRawY(); y <= p2.getRawY(); y += density) {
+                for (double n = -density; n <= density; n += density * 2) {
+                    double z = p1.getRawZ() + ((x / (p2.getRawX() - p1.getRawX())) * (p2.getRawZ() - p1.getRawZ()));
+                    
+                    List<Vector> vt = new ArrayList<>();
+                    vt.add(new Vector(x, y, z));
+                    vt.add(new Vector(x + n, y + n, z));
+                    vt.add(new Vector(new Vector(x + n, y, z)));
+                    
+                    uniqueVectorSet.alignVectorsToSet(vt);
+                    
+                    Triangle t = new Triangle(level, color, vt.get(0), vt.get(1), vt.get(2));
+                    
+                    vs.addAll(vt);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns the size of the features of the finest level of detail of the Variable Plane.
+     *
+     * @return The size of the features of the finest level of detail.
+     */
+    @Override
+    protected double getDetailSize() {
+        return density;
+    }
+    
 }
@@ -0,0 +1,49 @@
+/*
+ * File:    FrameSource.java
+ * Package: graphy.objects.complex.pane
+ * Author:  Zachary Gill
+ */
+
+package graphy.object.complex.pane;
+
+import commons.graphics.Texture;
+
+/**
+ * The interface that defines the contract for a source of the frames of a Video Pane.
+ */
+public interface FrameSource {
+    
+    //Methods
+    
+    /**
+     * Returns a frame of the Frame Source.<br>
+     * If the frame is not available yet it is requested, and null is returned until it is.
+     *
+     * @param index The index of the frame.
+     * @return The frame, or null if it is not available yet.
+     */
+    Texture getFrame(int index);
+    
+    /**
+     * Requests a frame of the Frame Source so that it is available when it is needed.
+     *
+     * @param index The index of the frame.
+     */
+    void prefetch(int index);
+    
+    /**
+     * Releases the resources of the Frame Source.
+     */
+    void close();
+    
+    
+    //Getters
+    
+    /**
+     * Returns the number of frames of the Frame Source.
+     *
+     * @return The number of frames of the Frame Source.
+     */
+    int getFrameCount();
+    
+}
@@ -8,7 +8,6 @@ package graphy.object.complex.pane;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.Shape;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,14 +16,18 @@ import java.util.UUID;
 import commons.graphics.DrawUtility;
 import commons.graphics.ImageTransformationUtility;
 import commons.math.CoordinateUtility;
+import commons.math.component.vector.IntVector;
 import commons.math.component.vector.Vector;
 import graphy.camera.Camera;
 import graphy.main.Environment;
 import graphy.object.base.AbstractObject;
+import graphy.object.base.Scene;
 import graphy.object.base.polygon.Rectangle;
 
 /**
- * Defines a Mirror Pane.
+ * Defines a Mirror Pane.<br>
+ * The reflection is rendered to a reusable offscreen image sized to the area the Mirror Pane covers on the screen,
+ * and is updated less often when the Mirror Pane covers a small part of the screen.
  */
 public class MirrorPane extends Pane {
     
@@ -45,6 +48,36 @@ public class MirrorPane extends Pane {
      */
     private Camera camera;
     
+    /**
+     * The offscreen image the reflection is rendered to.
+     */
+    private BufferedImage reflection = null;
+    
+    /**
+     * The bounds of the Mirror Pane in the offscreen image the reflection is rendered to.
+     */
+    private List<Vector> reflectionBounds = null;
+    
+    /**
+     * The position of the viewer the Camera was last fitted for.
+     */
+    private Vector fittedViewer = null;
+    
+    /**
+     * The normal of the Mirror Pane the Camera was last fitted for.
+     */
+    private Vector fittedNormal = null;
+    
+    /**
+     * The version of the Mirror Pane the Camera was last fitted for.
+     */
+    private long fittedVersion = -1;
+    
+    /**
+     * The number of frames since the reflection was last updated.
+     */
+    private int framesSinceUpdate = 0;
+    
     
     //Constructors
     
@@ -126,42 +159,158 @@ public class MirrorPane extends Pane {
         if (parentCamera == null) {
             return;
         }
-        camera.setOffset(getCenter());
         
+        List<Vector> world = new ArrayList<>();
+        transformToWorld(getSnapshot().getVertices(), world);
+        List<Vector> parentBounds = projectBounds(this.parentPerspective, world);
+        Camera.scaleVectorsToScreen(this.parentPerspective, parentBounds);
+        
+        Vector screenSize = Camera.getScreenSize(this.parentPerspective);
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        double area = 0.0;
+        for (int i = 0; i < parentBounds.size(); i++) {
+            Vector v = parentBounds.get(i);
+            Vector next = parentBounds.get((i + 1) % parentBounds.size());
+            minX = Math.min(minX, (int) Math.floor(v.getRawX()));
+            minY = Math.min(minY, (int) Math.floor(v.getRawY()));
+            maxX = Math.max(maxX, (int) Math.ceil(v.getRawX()));
+            maxY = Math.max(maxY, (int) Math.ceil(v.getRawY()));
+            area += (v.getRawX() * next.getRawY()) - (next.getRawX() * v.getRawY());
+        }
+        minX = Math.max(minX, 0);
+        minY = Math.max(minY, 0);
+        maxX = Math.min(maxX, screenSize.getRawX().intValue() - 1);
+        maxY = Math.min(maxY, screenSize.getRawY().intValue() - 1);
+        area = Math.abs(area) / 2;
+        if ((maxX < minX) || (maxY < minY) || (area < 1)) {
+            return;
+        }
+        
+        int width = maxX - minX + 1;
+        int height = maxY - minY + 1;
+        double coverage = area / Math.max(1, screenSize.getRawX() * screenSize.getRawY());
+        
+        framesSinceUpdate++;
+        if ((reflection == null) || (framesSinceUpdate >= getUpdateInterval(coverage))) {
+            updateReflection(parentCamera, world,
+                    (int) Math.max(1, Math.round(width * Environment.mirrorResolutionScale)),
+                    (int) Math.max(1, Math.round(height * Environment.mirrorResolutionScale)));
+            framesSinceUpdate = 0;
+        }
+        
+        if (reflectionBounds != null) {
+            ImageTransformationUtility.transformImage(reflection, reflectionBounds, g2, screenSize.getRawX().intValue(), screenSize.getRawY().intValue(), parentBounds);
+        }
+    }
+    
+    /**
+     * Renders the reflection to the offscreen image.<br>
+     * The Camera is only fitted to the Mirror Pane again when the viewer or the Mirror Pane has changed since it was last fitted.
+     *
+     * @param parentCamera The Camera of the viewer.
+     * @param world        The bounds of the Mirror Pane in world space.
+     * @param width        The width to render the reflection at.
+     * @param height       The height to render the reflection at.
+     */
+    private void updateReflection(Camera parentCamera, List<Vector> world, int width, int height) {
         Vector viewer = parentCamera.getCameraPosition();
-        Vector virtual = viewer.minus(normal.scale(2 * viewer.dot(normal)));
-        camera.setLocation(CoordinateUtility.cartesianToSpherical(virtual));
+        long version = getSnapshot().getVersion();
+        if ((version != fittedVersion) || !viewer.equals(fittedViewer) || !normal.equals(fittedNormal)) {
+            camera.setOffset(getCenter());
+            Vector virtual = viewer.minus(normal.scale(2 * viewer.dot(normal)));
+            camera.setLocation(CoordinateUtility.cartesianToSpherical(virtual));
+            camera.fitToBounds(world);
+            
+            fittedViewer = viewer;
+            fittedNormal = normal;
+            fittedVersion = version;
+        }
         
-        if (!preparedForPerspective(this.perspective)) {
-            prePrepare(this.perspective);
-        }
-        camera.fitToObject(this);
-        prepare(this.perspective);
-        List<Vector> bounds = new ArrayList<>(getPrepared(this.perspective).subList(0, 4));
-        Camera.projectVectorsToCamera(this.perspective, bounds);
-        Camera.collapseVectorsToViewport(this.perspective, bounds);
-        Camera.scaleVectorsToScreen(this.perspective, bounds);
+        List<Vector> fitted = projectBounds(this.perspective, world);
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (Vector v : fitted) {
+            minX = Math.min(minX, v.getRawX());
+            minY = Math.min(minY, v.getRawY());
+            maxX = Math.max(maxX, v.getRawX());
+            maxY = Math.max(maxY, v.getRawY());
+        }
+        if (!((maxX - minX) > 0) || !((maxY - minY) > 0)) {
+            return;
+        }
         
+        //scale the screen so that the area of the viewport the Mirror Pane covers is the size of the reflection
+        Vector viewport = Camera.getViewport(this.perspective);
         Vector screenSize = Camera.getScreenSize(this.perspective);
-        BufferedImage reflection = new BufferedImage((int) Math.max(screenSize.getRawX(), 1), (int) Math.max(screenSize.getRawY(), 1), BufferedImage.TYPE_INT_RGB);
+        Camera.setScreenSize(this.perspective, new Vector(viewport.getRawX() * width / (maxX - minX), viewport.getRawY() * height / (maxY - minY), screenSize.getRawZ()));
+        camera.calculateCamera(this.perspective);
+        List<Vector> bounds = projectBounds(this.perspective, world);
+        Camera.scaleVectorsToScreen(this.perspective, bounds);
+        
+        int offsetX = Integer.MAX_VALUE;
+        int offsetY = Integer.MAX_VALUE;
+        for (Vector v : bounds) {
+            offsetX = Math.min(offsetX, v.getRawX().intValue());
+            offsetY = Math.min(offsetY, v.getRawY().intValue());
+        }
+        
+        if ((reflection == null) || (reflection.getWidth() < width) || (reflection.getHeight() < height)) {
+            reflection = new BufferedImage(Math.max(width, (reflection == null) ? 0 : reflection.getWidth()),
+                    Math.max(height, (reflection == null) ? 0 : reflection.getHeight()), BufferedImage.TYPE_INT_RGB);
+        }
         Graphics2D g2Reflection = reflection.createGraphics();
+        Scene scene = Camera.getScene(this.perspective);
+        if ((scene != null) && (scene.environment.background != null)) {
+            DrawUtility.setColor(g2Reflection, scene.environment.background);
+            DrawUtility.fillRect(g2Reflection, new IntVector(0, 0), width + 1, height + 1);
+        }
+        g2Reflection.translate(-offsetX, -offsetY);
         DrawUtility.setClip(g2Reflection, bounds);
         camera.render(g2Reflection);
         DrawUtility.dispose(g2Reflection);
         
-        if (!preparedForPerspective(this.parentPerspective)) {
-            prePrepare(this.parentPerspective);
+        reflectionBounds = new ArrayList<>(bounds.size());
+        for (Vector v : bounds) {
+            reflectionBounds.add(new Vector(v.getRawX() - offsetX, v.getRawY() - offsetY));
         }
-        prepare(this.parentPerspective);
-        List<Vector> parentBounds = new ArrayList<>(getPrepared(this.parentPerspective).subList(0, 4));
-        Camera.projectVectorsToCamera(this.parentPerspective, parentBounds);
-        Camera.collapseVectorsToViewport(this.parentPerspective, parentBounds);
-        Camera.scaleVectorsToScreen(this.parentPerspective, parentBounds);
-        
-        Shape saveClip = DrawUtility.getClip(g2);
-        DrawUtility.setClip(g2, parentBounds);
-        ImageTransformationUtility.transformImage(reflection, bounds, g2, Environment.screenWidth, Environment.screenHeight, parentBounds);
-        DrawUtility.setClip(g2, saveClip);
+    }
+    
+    /**
+     * Projects copies of a set of world space Vectors to the viewport of a perspective.
+     *
+     * @param perspective The perspective.
+     * @param world       The world space Vectors.
+     * @return The projected copies of the Vectors.
+     */
+    private static List<Vector> projectBounds(UUID perspective, List<Vector> world) {
+        List<Vector> bounds = new ArrayList<>(world.size());
+        for (Vector v : world) {
+            bounds.add(v.cloned());
+        }
+        Camera.projectVectorsToCamera(perspective, bounds);
+        Camera.collapseVectorsToViewport(perspective, bounds);
+        return bounds;
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the number of frames between updates of the reflection.
+     *
+     * @param coverage The fraction of the screen that the Mirror Pane covers.
+     * @return The number of frames between updates of the reflection.
+     */
+    private static int getUpdateInterval(double coverage) {
+        if (coverage >= Environment.mirrorFullRateCoverage) {
+            return 1;
+        }
+        return (int) Math.max(1, Math.min(Environment.mirrorMaxUpdateInterval, Math.ceil(Environment.mirrorFullRateCoverage / coverage)));
     }
     
     
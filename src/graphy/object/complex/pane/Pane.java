@@ -15,10 +15,10 @@ import java.util.UUID;
 
 import commons.graphics.DrawUtility;
 import commons.graphics.ImageTransformationUtility;
+import commons.graphics.Texture;
 import commons.math.component.vector.Vector;
 import commons.math.component.vector.Vector3;
 import graphy.main.Environment;
-import graphy.math.vector.JustificationUtil;
 import graphy.object.base.AbstractObject;
 import graphy.object.base.BaseObject;
 import graphy.object.base.polygon.Rectangle;
@@ -45,6 +45,11 @@ public abstract class Pane extends BaseObject {
      */
     public BufferedImage image;
     
+    /**
+     * The Texture of the image of the Pane.
+     */
+    protected volatile Texture texture;
+    
     
     //Constructors
     
@@ -75,29 +80,28 @@ public abstract class Pane extends BaseObject {
     @Override
     public java.util.List<BaseObject> prepare(UUID perspective) {
         List<BaseObject> preparedBases = new ArrayList<>();
-        List<Vector> perspectivePrepared = prepared.get(perspective);
+        List<Vector> perspectivePrepared = getPrepared(perspective);
         
-        perspectivePrepared.clear();
-        for (Vector vertex : vertices) {
-            perspectivePrepared.add(JustificationUtil.justify(vertex.cloned()));
+        if (!reusePrepared(perspective)) {
+            transformToWorld(getSnapshot().getVertices(), perspectivePrepared);
+            
+            perspectivePrepared.add(Vector.averageVector(perspectivePrepared));
+            perspectivePrepared.add(perspectivePrepared.get(0).midpoint(perspectivePrepared.get(1)));
+            perspectivePrepared.add(perspectivePrepared.get(1).midpoint(perspectivePrepared.get(2)));
+            perspectivePrepared.add(perspectivePrepared.get(2).midpoint(perspectivePrepared.get(3)));
+            perspectivePrepared.add(perspectivePrepared.get(3).midpoint(perspectivePrepared.get(0)));
+            perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(0)));
+            perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(1)));
+            perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(2)));
+            perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(3)));
+            perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(5)));
+            perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(6)));
+            perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(7)));
+            perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(8)));
+            
+            cachePrepared(perspective);
         }
         
-        perspectivePrepared.add(Vector.averageVector(perspectivePrepared));
-        perspectivePrepared.add(perspectivePrepared.get(0).midpoint(perspectivePrepared.get(1)));
-        perspectivePrepared.add(perspectivePrepared.get(1).midpoint(perspectivePrepared.get(2)));
-        perspectivePrepared.add(perspectivePrepared.get(2).midpoint(perspectivePrepared.get(3)));
-        perspectivePrepared.add(perspectivePrepared.get(3).midpoint(perspectivePrepared.get(0)));
-        perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(0)));
-        perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(1)));
-        perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(2)));
-        perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(3)));
-        perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(5)));
-        perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(6)));
-        perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(7)));
-        perspectivePrepared.add(perspectivePrepared.get(4).midpoint(perspectivePrepared.get(8)));
-        
-        performRotationTransformation(perspectivePrepared);
-        
         preparedBases.add(this);
         return preparedBases;
     }
@@ -114,7 +118,7 @@ public abstract class Pane extends BaseObject {
         DrawUtility.setColor(g2, getColor());
         switch (displayMode) {
             case VERTEX:
-                for (Vector v : prepared.get(perspective)) {
+                for (Vector v : getPrepared(perspective)) {
                     DrawUtility.drawPoint(g2, v);
                 }
                 break;
@@ -124,9 +128,9 @@ public abstract class Pane extends BaseObject {
             
             case EDGE:
                 for (int i = 1; i < 4; i++) {
-                    DrawUtility.drawLine(g2, prepared.get(perspective).get(i - 1), prepared.get(perspective).get(i));
+                    DrawUtility.drawLine(g2, getPrepared(perspective).get(i - 1), getPrepared(perspective).get(i));
                 }
-                DrawUtility.drawLine(g2, prepared.get(perspective).get(3), prepared.get(perspective).get(0));
+                DrawUtility.drawLine(g2, getPrepared(perspective).get(3), getPrepared(perspective).get(0));
                 
                 break;
         }
@@ -149,8 +153,9 @@ public abstract class Pane extends BaseObject {
      * @param perspective The perspective from which to draw the drawing to the Pane.
      */
     protected void draw(Graphics2D g2, UUID perspective) {
-        if (image != null) {
-            ImageTransformationUtility.transformImage(image, ImageTransformationUtility.getBoundsForImage(image), g2, Environment.screenWidth, Environment.screenHeight, prepared.get(perspective).subList(0, 4));
+        Texture texture = this.texture;
+        if (texture != null) {
+            ImageTransformationUtility.transformImage(texture, ImageTransformationUtility.getBoundsForImage(texture.getImage()), g2, Environment.screenWidth, Environment.screenHeight, getPrepared(perspective).subList(0, 4), Environment.textureFilter);
         }
     }
     
@@ -158,12 +163,24 @@ public abstract class Pane extends BaseObject {
     //Setters
     
     /**
-     * Sets the image of the Pane.
+     * Sets the image of the Pane.<br>
+     * The mipmap chain of the image is built when it is set, so an image that is shown repeatedly should be set through its Texture instead.
      *
      * @param image The image of the Pane.
+     * @see #setTexture(Texture)
      */
     public synchronized void setImage(BufferedImage image) {
-        this.image = image;
+        setTexture((image == null) ? null : new Texture(image, true, true));
+    }
+    
+    /**
+     * Sets the Texture of the image of the Pane.
+     *
+     * @param texture The Texture of the image of the Pane.
+     */
+    public synchronized void setTexture(Texture texture) {
+        this.texture = texture;
+        this.image = (texture == null) ? null : texture.getImage();
     }
     
 }
@@ -0,0 +1,389 @@
+/*
+ * File:    RawFrameCache.java
+ * Package: graphy.objects.complex.pane
+ * Author:  Zachary Gill
+ */
+
+package graphy.object.complex.pane;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Caches the decoded frames of a clip in a file of raw pixels, so that the clip can be opened again without decoding it.<br>
+ * The file starts with a header identifying the clip and the size of its frames, followed by a flag for each frame indicating whether it has been written,
+ * and then the pixels of each frame. Frames are read and written through memory mappings of the file, and only frames that have been decoded are written to it.
+ * The file is keyed by the names, sizes, and modification times of the frames of the clip, so a clip that changes is cached in a new file.<br>
+ * Cache files are named {@code <key>.frames} and share a directory, which is {@code graphy-frames} in the temporary directory of the system by default.
+ * Before a new cache file is created, the least recently used cache files in the directory are deleted until the new file fits within the maximum size of the directory,
+ * so the files of clips that have changed or are no longer played are eventually removed. A clip whose frames alone exceed the maximum size is not cached.
+ */
+public class RawFrameCache {
+    
+    //Constants
+    
+    /**
+     * The default directory to store Raw Frame Caches in, {@code graphy-frames} in the temporary directory of the system.
+     */
+    public static final File DEFAULT_DIRECTORY = new File(System.getProperty("java.io.tmpdir"), "graphy-frames");
+    
+    /**
+     * The default maximum total size of the Raw Frame Cache files in a directory in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 2L * 1024 * 1024 * 1024;
+    
+    /**
+     * The extension of Raw Frame Cache files.
+     */
+    private static final String EXTENSION = ".frames";
+    
+    /**
+     * The value identifying a Raw Frame Cache file.
+     */
+    private static final long MAGIC = 0x4752415048595246L;
+    
+    /**
+     * The version of the format of a Raw Frame Cache file.
+     */
+    private static final int VERSION = 1;
+    
+    /**
+     * The size of the header of a Raw Frame Cache file in bytes.
+     */
+    private static final int HEADER_SIZE = 32;
+    
+    
+    //Fields
+    
+    /**
+     * The file of the Raw Frame Cache.
+     */
+    private final File file;
+    
+    /**
+     * The key of the clip of the Raw Frame Cache.
+     */
+    private final long key;
+    
+    /**
+     * The number of frames of the clip of the Raw Frame Cache.
+     */
+    private final int frameCount;
+    
+    /**
+     * The maximum total size of the Raw Frame Cache files in the directory of the Raw Frame Cache in bytes.
+     */
+    private final long maxSize;
+    
+    /**
+     * The channel of the file of the Raw Frame Cache, or null if it is not open.
+     */
+    private volatile FileChannel channel = null;
+    
+    /**
+     * The flags indicating whether each frame has been written to the Raw Frame Cache.
+     */
+    private volatile MappedByteBuffer flags = null;
+    
+    /**
+     * The width of the frames of the Raw Frame Cache, or -1 if it is not known yet.
+     */
+    private volatile int width = -1;
+    
+    /**
+     * The height of the frames of the Raw Frame Cache, or -1 if it is not known yet.
+     */
+    private volatile int height = -1;
+    
+    /**
+     * A flag indicating whether or not the Raw Frame Cache has been closed.
+     */
+    private volatile boolean closed = false;
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Raw Frame Cache.<br>
+     * If a valid file for the clip already exists in the directory it is opened, otherwise it is created when the first frame is written.
+     *
+     * @param directory The directory to store the Raw Frame Cache in.
+     * @param frames    The files of the frames of the clip.
+     * @param maxSize   The maximum total size of the Raw Frame Cache files in the directory in bytes.
+     */
+    public RawFrameCache(File directory, List<File> frames, long maxSize) {
+        this.key = calculateKey(frames);
+        this.frameCount = frames.size();
+        this.maxSize = maxSize;
+        this.file = new File(directory, String.format("%016x", key) + EXTENSION);
+        
+        if (file.exists()) {
+            try {
+                open(false, 0, 0);
+            } catch (IOException ignored) { //replaced when the first frame is written
+            }
+        }
+    }
+    
+    /**
+     * The constructor for a Raw Frame Cache.
+     *
+     * @param directory The directory to store the Raw Frame Cache in.
+     * @param frames    The files of the frames of the clip.
+     * @see #RawFrameCache(File, List, long)
+     */
+    public RawFrameCache(File directory, List<File> frames) {
+        this(directory, frames, DEFAULT_MAX_SIZE);
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Reads a frame from the Raw Frame Cache.
+     *
+     * @param index The index of the frame.
+     * @return The frame, or null if it has not been written to the Raw Frame Cache.
+     */
+    public BufferedImage read(int index) {
+        final int width = this.width;
+        final int height = this.height;
+        if ((width < 0) || (height < 0)) {
+            return null;
+        }
+        final MappedByteBuffer flags = this.flags;
+        if ((flags == null) || (flags.get(index) == 0)) {
+            return null;
+        }
+        
+        try {
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            map(FileChannel.MapMode.READ_ONLY, index, width, height).asIntBuffer().get(data);
+            return image;
+        } catch (IOException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Writes a frame to the Raw Frame Cache.<br>
+     * Only frames with an integer RGB raster that are the same size as the first frame written to the Raw Frame Cache are written.
+     *
+     * @param index The index of the frame.
+     * @param image The frame.
+     */
+    public void write(int index, BufferedImage image) {
+        if (closed || (image.getType() != BufferedImage.TYPE_INT_RGB)) {
+            return;
+        }
+        
+        try {
+            if (this.width < 0) {
+                open(true, image.getWidth(), image.getHeight());
+            }
+            final int width = this.width;
+            final int height = this.height;
+            if ((image.getWidth() != width) || (image.getHeight() != height)) {
+                return;
+            }
+            
+            int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            map(FileChannel.MapMode.READ_WRITE, index, width, height).asIntBuffer().put(data);
+            final MappedByteBuffer flags = this.flags;
+            if (flags != null) {
+                flags.put(index, (byte) 1);
+            }
+        } catch (IOException ignored) {
+        }
+    }
+    
+    /**
+     * Opens the file of the Raw Frame Cache.<br>
+     * An existing file that does not match the clip is replaced if the file may be created.
+     *
+     * @param create      Whether or not to create the file if it does not exist or does not match the clip.
+     * @param frameWidth  The width of the frames, used when creating the file.
+     * @param frameHeight The height of the frames, used when creating the file.
+     * @throws IOException When the file could not be opened.
+     */
+    private synchronized void open(boolean create, int frameWidth, int frameHeight) throws IOException {
+        if (closed) {
+            throw new IOException("The Raw Frame Cache is closed: " + file.getAbsolutePath());
+        }
+        if (width >= 0) {
+            return;
+        }
+        if (create) {
+            File directory = file.getParentFile();
+            if ((directory != null) && !directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Unable to create the directory: " + directory.getAbsolutePath());
+            }
+        }
+        
+        boolean oversized = false;
+        try (RandomAccessFile raf = new RandomAccessFile(file, create ? "rw" : "r")) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            boolean valid = false;
+            if (raf.length() >= HEADER_SIZE) {
+                raf.getChannel().read(header, 0);
+                header.flip();
+                if ((header.getLong() == MAGIC) && (header.getInt() == VERSION) && (header.getLong() == key) && (header.getInt() == frameCount)) {
+                    frameWidth = header.getInt();
+                    frameHeight = header.getInt();
+                    valid = (raf.length() == getFrameOffset(frameCount, frameWidth, frameHeight));
+                }
+            }
+            
+            if (!valid) {
+                if (!create) {
+                    throw new IOException("The file does not match the clip: " + file.getAbsolutePath());
+                }
+                oversized = !trim(getFrameOffset(frameCount, frameWidth, frameHeight));
+            }
+            if (!valid && !oversized) {
+                header.clear();
+                header.putLong(MAGIC).putInt(VERSION).putLong(key).putInt(frameCount).putInt(frameWidth).putInt(frameHeight);
+                header.flip();
+                raf.setLength(0);
+                raf.setLength(getFrameOffset(frameCount, frameWidth, frameHeight));
+                raf.getChannel().write(header, 0);
+            }
+        }
+        
+        if (oversized) {
+            closed = true;
+            file.delete();
+            throw new IOException("The clip is larger than the maximum size of the cache: " + file.getAbsolutePath());
+        }
+        
+        file.setLastModified(System.currentTimeMillis());
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        flags = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE, frameCount);
+        height = frameHeight;
+        width = frameWidth;
+    }
+    
+    /**
+     * Deletes the least recently used Raw Frame Cache files in the directory of the Raw Frame Cache until a file of a certain size fits within its maximum size.<br>
+     * Files are ordered by their modification time, which is updated whenever a Raw Frame Cache file is opened.
+     *
+     * @param size The size of the file to make room for in bytes.
+     * @return Whether or not the file fits within the maximum size.
+     */
+    private boolean trim(long size) {
+        if (size > maxSize) {
+            return false;
+        }
+        
+        File[] entries = file.getParentFile().listFiles((dir, name) -> name.endsWith(EXTENSION) && !name.equals(file.getName()));
+        if (entries == null) {
+            return true;
+        }
+        
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+        long total = size + Arrays.stream(entries).mapToLong(File::length).sum();
+        for (File entry : entries) {
+            if (total <= maxSize) {
+                break;
+            }
+            long length = entry.length();
+            if (entry.delete()) {
+                total -= length;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Maps the pixels of a frame of the Raw Frame Cache.
+     *
+     * @param mode        The mode to map the pixels with.
+     * @param index       The index of the frame.
+     * @param frameWidth  The width of the frames.
+     * @param frameHeight The height of the frames.
+     * @return The mapped pixels of the frame.
+     * @throws IOException When the pixels could not be mapped.
+     */
+    private ByteBuffer map(FileChannel.MapMode mode, int index, int frameWidth, int frameHeight) throws IOException {
+        final FileChannel channel = this.channel;
+        if (channel == null) {
+            throw new IOException("The Raw Frame Cache is not open: " + file.getAbsolutePath());
+        }
+        long offset = getFrameOffset(index, frameWidth, frameHeight);
+        return channel.map(mode, offset, (long) frameWidth * frameHeight * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    /**
+     * Closes the Raw Frame Cache.
+     */
+    public synchronized void close() {
+        closed = true;
+        width = -1;
+        height = -1;
+        flags = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+            channel = null;
+        }
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the file of the Raw Frame Cache.
+     *
+     * @return The file of the Raw Frame Cache.
+     */
+    public File getFile() {
+        return file;
+    }
+    
+    /**
+     * Returns the offset of a frame in the file of the Raw Frame Cache.
+     *
+     * @param index       The index of the frame.
+     * @param frameWidth  The width of the frames.
+     * @param frameHeight The height of the frames.
+     * @return The offset of the frame in bytes.
+     */
+    private long getFrameOffset(int index, int frameWidth, int frameHeight) {
+        long flagsSize = ((frameCount + 7) / 8) * 8L;
+        return HEADER_SIZE + flagsSize + ((long) index * frameWidth * frameHeight * Integer.BYTES);
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Calculates the key of a clip from the names, sizes, and modification times of its frames.
+     *
+     * @param frames The files of the frames of the clip.
+     * @return The key of the clip.
+     */
+    private static long calculateKey(List<File> frames) {
+        long key = 0xCBF29CE484222325L;
+        for (File frame : frames) {
+            for (long value : new long[] {frame.getAbsolutePath().hashCode(), frame.length(), frame.lastModified()}) {
+                key = (key ^ value) * 0x100000001B3L;
+            }
+        }
+        return key;
+    }
+    
+}
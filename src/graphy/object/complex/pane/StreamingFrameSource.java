@@ -0,0 +1,262 @@
+/*
+ * File:    StreamingFrameSource.java
+ * Package: graphy.objects.complex.pane
+ * Author:  Zachary Gill
+ */
+
+package graphy.object.complex.pane;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.imageio.ImageIO;
+
+import commons.graphics.Texture;
+import commons.media.ImageUtility;
+import graphy.main.Scheduler;
+
+/**
+ * Defines a Frame Source that streams the frames of a clip from a directory of images.<br>
+ * Frames are decoded on demand on the worker threads of the Scheduler, and only a bounded number of the most recently used decoded frames are kept.
+ * If a cache directory is given, decoded frames are also written to a Raw Frame Cache there, so that opening the same clip again reads its frames from the cache instead of decoding them.
+ * The Raw Frame Cache stores uncompressed frames, so it is disabled unless a cache directory is given.
+ */
+public class StreamingFrameSource implements FrameSource {
+    
+    //Constants
+    
+    /**
+     * The default value of the maximum number of decoded frames to keep.
+     */
+    public static final int DEFAULT_CAPACITY = 32;
+    
+    
+    //Fields
+    
+    /**
+     * The files of the frames of the Streaming Frame Source, in order.
+     */
+    private final List<File> files;
+    
+    /**
+     * The maximum number of decoded frames to keep.
+     */
+    private final int capacity;
+    
+    /**
+     * The decoded frames of the Streaming Frame Source, by index, in the order they were last used.
+     */
+    private final Map<Integer, Texture> frames;
+    
+    /**
+     * The indices of the frames that are being decoded.
+     */
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * The Raw Frame Cache of the Streaming Frame Source, or null if decoded frames are not cached.
+     */
+    private final RawFrameCache rawCache;
+    
+    /**
+     * A flag indicating whether or not the Streaming Frame Source has been closed.
+     */
+    private volatile boolean closed = false;
+    
+    
+    //Constructors
+    
+    /**
+     * The constructor for a Streaming Frame Source.<br>
+     * The frames of the clip are the images in the directory, in order of their names.
+     *
+     * @param directory      The directory containing the frames of the clip.
+     * @param capacity       The maximum number of decoded frames to keep.
+     * @param cacheDirectory The directory to store the Raw Frame Cache of the clip in, such as {@link RawFrameCache#DEFAULT_DIRECTORY}, or null to not cache decoded frames.
+     */
+    public StreamingFrameSource(File directory, int capacity, File cacheDirectory) {
+        this.files = listFrames(directory);
+        this.capacity = Math.max(1, capacity);
+        this.frames = new LinkedHashMap<>(16, 0.75f, true);
+        this.rawCache = (cacheDirectory == null || files.isEmpty()) ? null : new RawFrameCache(cacheDirectory, files);
+    }
+    
+    /**
+     * The constructor for a Streaming Frame Source, without a Raw Frame Cache.
+     *
+     * @param directory The directory containing the frames of the clip.
+     * @param capacity  The maximum number of decoded frames to keep.
+     */
+    public StreamingFrameSource(File directory, int capacity) {
+        this(directory, capacity, null);
+    }
+    
+    /**
+     * The constructor for a Streaming Frame Source, without a Raw Frame Cache.
+     *
+     * @param directory The directory containing the frames of the clip.
+     */
+    public StreamingFrameSource(File directory) {
+        this(directory, DEFAULT_CAPACITY);
+    }
+    
+    
+    //Methods
+    
+    /**
+     * Returns a frame of the Streaming Frame Source.<br>
+     * If the frame is not decoded yet it is requested, and null is returned until it is.
+     *
+     * @param index The index of the frame.
+     * @return The frame, or null if it is not decoded yet.
+     */
+    @Override
+    public Texture getFrame(int index) {
+        Texture frame;
+        synchronized (frames) {
+            frame = frames.get(index);
+        }
+        if (frame == null) {
+            prefetch(index);
+        }
+        return frame;
+    }
+    
+    /**
+     * Requests a frame of the Streaming Frame Source to be decoded in the background, if it is not decoded or being decoded already.
+     *
+     * @param index The index of the frame.
+     */
+    @Override
+    public void prefetch(int index) {
+        if (closed || (index < 0) || (index >= files.size())) {
+            return;
+        }
+        synchronized (frames) {
+            if (frames.containsKey(index)) {
+                return;
+            }
+        }
+        if (pending.add(index)) {
+            Scheduler.submit(() -> decode(index));
+        }
+    }
+    
+    /**
+     * Decodes a frame of the Streaming Frame Source and keeps it, evicting the least recently used frame if the Streaming Frame Source is full.<br>
+     * A frame that cannot be decoded is kept as a blank frame, so that playback does not wait on it.
+     *
+     * @param index The index of the frame.
+     */
+    private void decode(int index) {
+        try {
+            if (closed) {
+                return;
+            }
+            
+            BufferedImage image = (rawCache == null) ? null : rawCache.read(index);
+            if (image == null) {
+                image = ImageUtility.loadImage(files.get(index));
+                if ((image != null) && (rawCache != null)) {
+                    rawCache.write(index, image);
+                }
+            }
+            if (image == null) {
+                image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+            }
+            
+            Texture frame = new Texture(image, true, false);
+            synchronized (frames) {
+                if (!closed) {
+                    frames.put(index, frame);
+                    while (frames.size() > capacity) {
+                        frames.remove(frames.keySet().iterator().next());
+                    }
+                }
+            }
+        } finally {
+            pending.remove(index);
+        }
+    }
+    
+    /**
+     * Closes the Streaming Frame Source and releases its decoded frames.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (frames) {
+            frames.clear();
+        }
+        if (rawCache != null) {
+            rawCache.close();
+        }
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the number of frames of the Streaming Frame Source.
+     *
+     * @return The number of frames of the Streaming Frame Source.
+     */
+    @Override
+    public int getFrameCount() {
+        return files.size();
+    }
+    
+    /**
+     * Returns the maximum number of decoded frames to keep.
+     *
+     * @return The maximum number of decoded frames to keep.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * Returns the number of decoded frames kept by the Streaming Frame Source.
+     *
+     * @return The number of decoded frames kept by the Streaming Frame Source.
+     */
+    public int getDecodedCount() {
+        synchronized (frames) {
+            return frames.size();
+        }
+    }
+    
+    
+    //Functions
+    
+    /**
+     * Lists the frames of a clip in a directory.
+     *
+     * @param directory The directory containing the frames of the clip.
+     * @return The image files in the directory, in order of their names.
+     */
+    private static List<File> listFrames(File directory) {
+        File[] entries = (directory == null) ? null : directory.listFiles();
+        if (entries == null) {
+            return new ArrayList<>();
+        }
+        
+        Set<String> suffixes = Arrays.stream(ImageIO.getReaderFileSuffixes())
+                .map(e -> e.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+        return Arrays.stream(entries)
+                .filter(File::isFile)
+                .filter(e -> suffixes.contains(e.getName().substring(e.getName().lastIndexOf('.') + 1).toLowerCase(Locale.ROOT)))
+                .sorted(Comparator.comparing(File::getName))
+                .collect(Collectors.toList());
+    }
+    
+}
@@ -7,20 +7,17 @@
 package graphy.object.complex.pane;
 
 import java.awt.Color;
-import java.awt.image.BufferedImage;
 import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
-import commons.media.ImageUtility;
+import commons.graphics.Texture;
 import graphy.main.Environment;
 import graphy.object.base.AbstractObject;
 import graphy.object.base.polygon.Rectangle;
 
 /**
- * Defines a Video Pane.
+ * Defines a Video Pane.<br>
+ * The frames of a Video Pane are read from a Frame Source as they are played, and the frames that will be played next are requested ahead of time.
  */
 public class VideoPane extends Pane {
     
@@ -41,6 +38,11 @@ public class VideoPane extends Pane {
      */
     public static final boolean DEFAULT_REVERSE_ON_COMPLETION = false;
     
+    /**
+     * The default value of the number of frames to request ahead of the frame being played.
+     */
+    public static final int DEFAULT_PREFETCH = 8;
+    
     
     //Fields
     
@@ -60,14 +62,20 @@ public class VideoPane extends Pane {
     protected boolean reverseOnCompletion;
     
     /**
-     * The directory containing the frames for the video of the Video Pane.
+     * The directory containing the frames for the video of the Video Pane, or null if the frames are not read from a directory.
      */
     protected File frameDirectory;
     
     /**
-     * The set of frames for the Video Pane.
+     * The source of the frames for the Video Pane.
+     */
+    protected FrameSource frameSource;
+    
+    /**
+     * The number of frames to request ahead of the frame being played.<br>
+     * This should be less than the number of decoded frames the Frame Source keeps, so that requested frames are not evicted before they are played.
      */
-    protected List<BufferedImage> frames = new ArrayList<>();
+    protected int prefetch = DEFAULT_PREFETCH;
     
     
     //Constructors
@@ -78,23 +86,40 @@ public class VideoPane extends Pane {
      * @param parent              The parent of the Video Pane.
      * @param color               The color of the Video Pane.
      * @param bounds              The bounds of the Video Pane.
-     * @param frameDirectory      The directory containing the frames for the Video Pane.
+     * @param frameSource         The source of the frames for the Video Pane.
      * @param fps                 The frames per second to run the Video Pane at.
      * @param loop                Whether or not to loop the Video Pane.
      * @param reverseOnCompletion Whether or not to reverse the Video Pane on completion.
      */
-    public VideoPane(AbstractObject parent, Color color, Rectangle bounds, File frameDirectory, int fps, boolean loop, boolean reverseOnCompletion) {
+    public VideoPane(AbstractObject parent, Color color, Rectangle bounds, FrameSource frameSource, int fps, boolean loop, boolean reverseOnCompletion) {
         super(parent, color, bounds);
         
-        this.frameDirectory = frameDirectory;
+        this.frameSource = frameSource;
         this.fps = fps;
         this.loop = loop;
         this.reverseOnCompletion = reverseOnCompletion;
         
-        loadFrames();
+        Environment.registerShutdownTask(frameSource::close);
         startVideo();
     }
     
+    /**
+     * The constructor for a Video Pane.
+     *
+     * @param parent              The parent of the Video Pane.
+     * @param color               The color of the Video Pane.
+     * @param bounds              The bounds of the Video Pane.
+     * @param frameDirectory      The directory containing the frames for the Video Pane.
+     * @param fps                 The frames per second to run the Video Pane at.
+     * @param loop                Whether or not to loop the Video Pane.
+     * @param reverseOnCompletion Whether or not to reverse the Video Pane on completion.
+     */
+    public VideoPane(AbstractObject parent, Color color, Rectangle bounds, File frameDirectory, int fps, boolean loop, boolean reverseOnCompletion) {
+        this(parent, color, bounds, new StreamingFrameSource(frameDirectory), fps, loop, reverseOnCompletion);
+        
+        this.frameDirectory = frameDirectory;
+    }
+    
     /**
      * The constructor for a Video Pane.
      *
@@ -138,29 +163,13 @@ public class VideoPane extends Pane {
     //Methods
     
     /**
-     * Loads the frames for the Video Pane from the frames directory.
-     */
-    private void loadFrames() {
-        File[] frameList = frameDirectory.listFiles();
-        if (frameList == null) {
-            return;
-        }
-        
-        for (File frameEntry : frameList) {
-            BufferedImage image = ImageUtility.loadImage(frameEntry);
-            if (image != null) {
-                frames.add(image);
-            }
-        }
-    }
-    
-    /**
-     * Starts the video for the Video Pane.
+     * Starts the video for the Video Pane.<br>
+     * A frame that has not been decoded yet when it is due is waited on rather than skipped.
      */
     private void startVideo() {
-        final AtomicInteger index = new AtomicInteger(-1);
-        final AtomicInteger step = new AtomicInteger(1);
+        final Playback playback = new Playback();
         final AtomicLong lastTime = new AtomicLong(0);
+        requestAhead(playback);
         
         Environment.addTask(() -> {
             long currentTime = Environment.currentTimeMillis();
@@ -168,24 +177,133 @@ public class VideoPane extends Pane {
             if (elapsedTime < (1000 / fps)) {
                 return;
             }
-            lastTime.set(currentTime);
             
-            index.addAndGet(step.get());
-            if (index.get() < 0 || index.get() > (frames.size() - 1)) {
+            Playback next = playback.copy();
+            int index = next.advance();
+            if (index < 0) {
+                return;
+            }
+            Texture frame = frameSource.getFrame(index);
+            if (frame == null) {
                 return;
             }
-            setImage(frames.get(index.get()));
-            if (index.get() == (frames.size() - 1)) {
+            
+            lastTime.set(currentTime);
+            playback.set(next);
+            setTexture(frame);
+            requestAhead(playback);
+        });
+    }
+    
+    /**
+     * Requests the frames that will be played next from the Frame Source.
+     *
+     * @param playback The current position of playback.
+     */
+    private void requestAhead(Playback playback) {
+        Playback ahead = playback.copy();
+        for (int i = 0; i < prefetch; i++) {
+            int index = ahead.advance();
+            if (index < 0) {
+                break;
+            }
+            frameSource.prefetch(index);
+        }
+    }
+    
+    
+    //Getters
+    
+    /**
+     * Returns the source of the frames for the Video Pane.
+     *
+     * @return The source of the frames for the Video Pane.
+     */
+    public FrameSource getFrameSource() {
+        return frameSource;
+    }
+    
+    
+    //Setters
+    
+    /**
+     * Sets the number of frames to request ahead of the frame being played.
+     *
+     * @param prefetch The number of frames to request ahead of the frame being played.
+     */
+    public void setPrefetch(int prefetch) {
+        this.prefetch = Math.max(0, prefetch);
+    }
+    
+    
+    //Inner Classes
+    
+    /**
+     * Defines a position of playback of the Video Pane.
+     */
+    private class Playback {
+        
+        //Fields
+        
+        /**
+         * The index of the frame that was played last.
+         */
+        private int index = -1;
+        
+        /**
+         * The direction of playback.
+         */
+        private int step = 1;
+        
+        
+        //Methods
+        
+        /**
+         * Advances playback to the next frame, honoring whether the Video Pane loops or reverses on completion.
+         *
+         * @return The index of the frame to play, or -1 if playback has finished.
+         */
+        private int advance() {
+            index += step;
+            if ((index < 0) || (index > (frameSource.getFrameCount() - 1))) {
+                return -1;
+            }
+            
+            int frame = index;
+            if (index == (frameSource.getFrameCount() - 1)) {
                 if (reverseOnCompletion) {
-                    step.set(-1);
+                    step = -1;
                 } else if (loop) {
-                    index.set(0);
+                    index = 0;
                 }
             }
-            if ((index.get() == 0) && (step.get() == -1) && loop) {
-                step.set(1);
+            if ((index == 0) && (step == -1) && loop) {
+                step = 1;
             }
-        });
+            return frame;
+        }
+        
+        /**
+         * Creates a copy of the position of playback.
+         *
+         * @return The copy of the position of playback.
+         */
+        private Playback copy() {
+            Playback copy = new Playback();
+            copy.set(this);
+            return copy;
+        }
+        
+        /**
+         * Moves playback to another position.
+         *
+         * @param other The other position of playback.
+         */
+        private void set(Playback other) {
+            index = other.index;
+            step = other.step;
+        }
+        
     }
     
 }
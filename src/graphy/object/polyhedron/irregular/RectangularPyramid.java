@@ -121,6 +121,7 @@ public class RectangularPyramid extends Object {
      */
     protected void recalculate() {
         this.center = apex.average(base.getVertices()[0].average(Arrays.copyOfRange(base.getVertices(), 1, base.getVertices().length - 1)));
+        invalidatePrepared();
         
         ((Triangle) components.get(0)).setPoints(
                 apex,
@@ -14,13 +14,22 @@ import commons.math.CoordinateUtility;
 import commons.math.component.vector.Vector;
 import graphy.main.Environment;
 import graphy.object.base.AbstractObject;
+import graphy.object.base.DetailedObject;
 import graphy.object.base.Object;
 import graphy.object.base.polygon.Triangle;
 
 /**
  * Defines a Holed Sphere.
  */
-public class HoledSphere extends Object {
+public class HoledSphere extends DetailedObject {
+    
+    //Constants
+    
+    /**
+     * The largest step with which a level of detail of a Holed Sphere is calculated.
+     */
+    public static final double COARSEST_STEP = Math.PI / 4;
+    
     
     //Fields
     
@@ -86,8 +95,23 @@ public class HoledSphere extends Object {
      */
     @Override
     protected void calculate() {
-        components.clear();
+        clearDetailLevels();
         
+        tessellate(addDetailLevel(), step);
+        for (double levelStep = step * 2; canAddDetailLevel() && (levelStep <= COARSEST_STEP + Environment.OMEGA); levelStep *= 2) {
+            tessellate(addDetailLevel(), levelStep);
+        }
+        
+        setVisible(visible);
+    }
+    
+    /**
+     * Calculates a level of detail of the Holed Sphere.
+     *
+     * @param level The level of detail to add the components to.
+     * @param step  The step with which to calculate the level of detail.
+     */
+    private void tessellate(Object level, double step) {
         int layer = 0;
         List<List<Vector>> vertices = new ArrayList<>();
         boolean offset = false;
@@ -103,11 +127,19 @@ public class HoledSphere extends Object {
         
         for (int i = 0; i < layer - 1; i++) {
             for (int j = 0; j < layer; j++) {
-                new Triangle(this, color, vertices.get(i).get(j), vertices.get(i + 1).get(j), vertices.get(i + 1).get((j + 1) % layer));
+                new Triangle(level, color, vertices.get(i).get(j), vertices.get(i + 1).get(j), vertices.get(i + 1).get((j + 1) % layer));
             }
         }
-        
-        setVisible(visible);
+    }
+    
+    /**
+     * Returns the size of the features of the finest level of detail of the Holed Sphere.
+     *
+     * @return The size of the features of the finest level of detail.
+     */
+    @Override
+    protected double getDetailSize() {
+        return radius * step;
     }
     
 }
@@ -14,13 +14,22 @@ import commons.math.CoordinateUtility;
 import commons.math.component.vector.Vector;
 import graphy.main.Environment;
 import graphy.object.base.AbstractObject;
+import graphy.object.base.DetailedObject;
 import graphy.object.base.Object;
 import graphy.object.base.polygon.Triangle;
 
 /**
  * Defines a Sphere.
  */
-public class Sphere extends Object {
+public class Sphere extends DetailedObject {
+    
+    //Constants
+    
+    /**
+     * The largest step with which a level of detail of a Sphere is calculated.
+     */
+    public static final double COARSEST_STEP = Math.PI / 4;
+    
     
     //Fields
     
@@ -119,8 +128,23 @@ public class Sphere extends Object {
      */
     @Override
     protected void calculate() {
-        components.clear();
+        clearDetailLevels();
         
+        tessellate(addDetailLevel(), step);
+        for (double levelStep = step * 2; canAddDetailLevel() && (levelStep <= COARSEST_STEP + Environment.OMEGA); levelStep *= 2) {
+            tessellate(addDetailLevel(), levelStep);
+        }
+        
+        setVisible(visible);
+    }
+    
+    /**
+     * Calculates a level of detail of the Sphere.
+     *
+     * @param level The level of detail to add the components to.
+     * @param step  The step with which to calculate the level of detail.
+     */
+    private void tessellate(Object level, double step) {
         int layer = 0;
         List<List<Vector>> vertices = new ArrayList<>();
         boolean offset = false;
@@ -136,16 +160,24 @@ public class Sphere extends Object {
         
         for (int i = 0; i < layer - 1; i++) {
             for (int j = 0; j < layer; j++) {
-                new Triangle(this, color, vertices.get(i).get(j), vertices.get(i + 1).get(j), vertices.get(i + 1).get((j + 1) % layer));
+                new Triangle(level, color, vertices.get(i).get(j), vertices.get(i + 1).get(j), vertices.get(i + 1).get((j + 1) % layer));
             }
         }
         for (int i = layer - 1; i > 0; i--) {
             for (int j = 0; j < layer; j++) {
-                Triangle t = new Triangle(this, color2, vertices.get(i).get(j), vertices.get(i - 1).get(j), vertices.get(i - 1).get((j == 0) ? layer - 1 : j - 1)); //(j == 0) ? layer - 1 : j - 1
+                Triangle t = new Triangle(level, color2, vertices.get(i).get(j), vertices.get(i - 1).get(j), vertices.get(i - 1).get((j == 0) ? layer - 1 : j - 1)); //(j == 0) ? layer - 1 : j - 1
             }
         }
-        
-        setVisible(visible);
+    }
+    
+    /**
+     * Returns the size of the features of the finest level of detail of the Sphere.
+     *
+     * @return The size of the features of the finest level of detail.
+     */
+    @Override
+    protected double getDetailSize() {
+        return radius * step;
     }
     
 }
@@ -9,6 +9,7 @@ package graphy.object.system;
 import java.awt.Color;
 
 import graphy.main.Environment;
+import graphy.main.TaskScheduler;
 import graphy.object.base.Object;
 import graphy.object.polyhedron.regular.platonic.Hexahedron;
 
@@ -28,7 +29,7 @@ public class Origin extends Object {
         Hexahedron origin = new Hexahedron(Environment.ORIGIN, Color.RED, 0.25);
         components.add(origin);
         
-        Environment.addTask(() -> origin.reposition(Environment.ORIGIN));
+        Environment.addTask(() -> origin.reposition(Environment.ORIGIN), TaskScheduler.Phase.CONSTRAINT);
     }
     
     